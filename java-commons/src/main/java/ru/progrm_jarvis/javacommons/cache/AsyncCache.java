@@ -0,0 +1,153 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Cache computing its values asynchronously.
+ * <p>
+ * Concurrent requests for the same key share the single computation of its value.
+ *
+ * @param <K> type of cache keys
+ * @param <V> type of cached values
+ *
+ * @apiNote computations which fail or result in {@code null} are not cached
+ */
+public interface AsyncCache<K, V> {
+
+    /**
+     * Gets the future of the value from the cache computing it on demand using the provided function
+     * on this cache's executor.
+     *
+     * @param key key by which to get the value from cache
+     * @param mappingFunction function used to create the value if there is no cached one
+     * @return future of the value associated with the specified key
+     *
+     * @throws NullPointerException if {@code key} is {@code null}
+     * @throws NullPointerException if {@code mappingFunction} is {@code null}
+     */
+    @NotNull CompletableFuture<V> get(@NonNull K key, @NonNull Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * Gets the future of the value from the cache computing it on demand using the provided asynchronous function.
+     *
+     * @param key key by which to get the value from cache
+     * @param mappingFunction function used to create the future of the value if there is no cached one,
+     * accepting the key and this cache's executor
+     * @return future of the value associated with the specified key
+     *
+     * @throws NullPointerException if {@code key} is {@code null}
+     * @throws NullPointerException if {@code mappingFunction} is {@code null}
+     */
+    @NotNull CompletableFuture<V> get(
+            @NonNull K key,
+            @NonNull BiFunction<? super K, ? super Executor, ? extends CompletableFuture<? extends V>> mappingFunction
+    );
+
+    /**
+     * Gets the future of the values from the cache computing the missing ones at once using the provided function
+     * on this cache's executor.
+     *
+     * @param keys keys by which to get the values from cache
+     * @param bulkLoader function used to create the values of all the keys for which there are no cached ones
+     * @return future of the map of the keys to the associated values, not containing the keys without values
+     *
+     * @throws NullPointerException if {@code keys} is {@code null}
+     * @throws NullPointerException if {@code bulkLoader} is {@code null}
+     */
+    @NotNull CompletableFuture<Map<K, V>> getAll(
+            @NonNull Iterable<? extends K> keys,
+            @NonNull Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> bulkLoader
+    );
+
+    /**
+     * Gets the snapshot of this cache's statistics.
+     *
+     * @return snapshot of this cache's statistics
+     *
+     * @apiNote the statistics are only recorded by the caches
+     * created by {@link CacheFactory#recordingStats() stats-recording cache factories}
+     */
+    default @NotNull CacheStats stats() {
+        return CacheStats.empty();
+    }
+
+    /**
+     * Creates an asynchronous cache which actually never performs caching.
+     *
+     * @param executor executor used for computation of the values
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return asynchronous cache which actually never performs caching
+     */
+    static <K, V> @NotNull AsyncCache<K, V> never(final @NonNull Executor executor) {
+        return new NeverAsyncCache<>(executor);
+    }
+
+    /**
+     * {@link AsyncCache} which never performs caching.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    final class NeverAsyncCache<K, V> implements AsyncCache<K, V> {
+
+        /**
+         * Executor used for computation of the values
+         */
+        @NotNull Executor executor;
+
+        @Override
+        public @NotNull CompletableFuture<V> get(final @NonNull K key,
+                                                 final @NonNull Function<? super K, ? extends V> mappingFunction) {
+            return CompletableFuture.supplyAsync(() -> mappingFunction.apply(key), executor);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<V> get(
+                final @NonNull K key,
+                final @NonNull BiFunction<? super K, ? super Executor, ? extends CompletableFuture<? extends V>>
+                        mappingFunction
+        ) {
+            return mappingFunction.apply(key, executor).thenApply(value -> value);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Map<K, V>> getAll(
+                final @NonNull Iterable<? extends K> keys,
+                final @NonNull Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> bulkLoader
+        ) {
+            final Set<K> keySet = new LinkedHashSet<>();
+            for (val key : keys) keySet.add(key);
+
+            return CompletableFuture.supplyAsync(() -> {
+                final Map<? extends K, ? extends V> loadedValues = bulkLoader.apply(
+                        Collections.unmodifiableSet(keySet)
+                );
+                final Map<K, V> values = new LinkedHashMap<>();
+                for (val key : keySet) {
+                    final V value;
+                    if ((value = loadedValues.get(key)) != null) values.put(key, value);
+                }
+
+                return values;
+            }, executor);
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package ru.progrm_jarvis.javacommons.cache;
 
 import lombok.NonNull;
+import lombok.val;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -12,8 +18,8 @@ import java.util.function.Function;
  * @param <K> type of cache keys
  * @param <V> type of cached values
  *
- * @apiNote currently <b>java-commons</b> does not implement its own functional cache,
- * it simply provides a universal interface and wrappers for known implementations
+ * @apiNote <b>java-commons</b> provides a universal interface and wrappers for known implementations
+ * along with a {@link ConcurrentHashMapCache dependency-free implementation}
  */
 @FunctionalInterface
 public interface Cache<K, V> {
@@ -30,6 +36,54 @@ public interface Cache<K, V> {
      */
     V get(@NonNull K key, @NonNull Function<? super K, ? extends V> mappingFunction);
 
+    /**
+     * Gets the values from the cache computing the missing ones at once using the provided function.
+     *
+     * @param keys keys by which to get the values from cache
+     * @param bulkLoader function used to create the values of all the keys for which there are no cached ones
+     * @return map of the keys to the associated values, not containing the keys without values
+     *
+     * @throws NullPointerException if {@code keys} is {@code null}
+     * @throws NullPointerException if {@code bulkLoader} is {@code null}
+     *
+     * @implSpec default implementation probes the cache by {@link #get(Object, Function) getting}
+     * each of the keys with a function returning {@code null}
+     * and then stores the {@link Map#get(Object) loaded values} of the missing ones by {@link #get(Object, Function)}
+     */
+    default @NotNull Map<K, V> getAll(
+            final @NonNull Iterable<? extends K> keys,
+            final @NonNull Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> bulkLoader
+    ) {
+        final Map<K, V> values = new LinkedHashMap<>();
+        final Set<K> missingKeys = new LinkedHashSet<>();
+        for (val key : keys) {
+            final V value;
+            if ((value = get(key, absentKey -> null)) == null) missingKeys.add(key);
+            else values.put(key, value);
+        }
+        if (missingKeys.isEmpty()) return values;
+
+        final Map<? extends K, ? extends V> loadedValues = bulkLoader.apply(Collections.unmodifiableSet(missingKeys));
+        for (val key : missingKeys) {
+            final V loadedValue;
+            if ((loadedValue = loadedValues.get(key)) != null) values.put(key, get(key, absentKey -> loadedValue));
+        }
+
+        return values;
+    }
+
+    /**
+     * Gets the snapshot of this cache's statistics.
+     *
+     * @return snapshot of this cache's statistics
+     *
+     * @apiNote the statistics are only recorded by the caches
+     * created by {@link CacheFactory#recordingStats() stats-recording cache factories}
+     */
+    default @NotNull CacheStats stats() {
+        return CacheStats.empty();
+    }
+
     /**
      * Creates a cache which actually never performs caching.
      *
@@ -2,7 +2,12 @@ package ru.progrm_jarvis.javacommons.cache;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.NonNull;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * Factory used for creation of generic {@link Cache caches}.
@@ -36,6 +41,108 @@ public interface CacheFactory {
      */
     <K, V> @NotNull Cache<K, V> softValuesCache();
 
+    /**
+     * Creates a new cache which holds at most the given number of entries
+     * evicting the ones which are least likely to be used again.
+     *
+     * @param maximumSize maximal number of entries in the cache
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return size-bounded cache
+     *
+     * @throws IllegalArgumentException if {@code maximumSize} is negative
+     * @throws UnsupportedOperationException if this factory does not support size-bounded caches
+     *
+     * @implSpec the default implementation always throws {@link UnsupportedOperationException}
+     */
+    default <K, V> @NotNull Cache<K, V> maximumSizeCache(
+            final @Range(from = 0, to = Long.MAX_VALUE) long maximumSize
+    ) {
+        throw new UnsupportedOperationException("Size-bounded caches are not supported by " + this);
+    }
+
+    /**
+     * Creates a new cache whose entries expire once the given duration passes since their creation.
+     *
+     * @param duration duration after which the entries expire
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return expiring cache
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative
+     * @throws UnsupportedOperationException if this factory does not support expiring caches
+     *
+     * @implSpec the default implementation always throws {@link UnsupportedOperationException}
+     */
+    default <K, V> @NotNull Cache<K, V> expireAfterWriteCache(final @NonNull Duration duration) {
+        throw new UnsupportedOperationException("Expiring caches are not supported by " + this);
+    }
+
+    /**
+     * Creates a new cache whose entries expire once the given duration passes since their last access.
+     *
+     * @param duration duration after which the entries expire
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return expiring cache
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative
+     * @throws UnsupportedOperationException if this factory does not support expiring caches
+     *
+     * @implSpec the default implementation always throws {@link UnsupportedOperationException}
+     */
+    default <K, V> @NotNull Cache<K, V> expireAfterAccessCache(final @NonNull Duration duration) {
+        throw new UnsupportedOperationException("Expiring caches are not supported by " + this);
+    }
+
+    /**
+     * Creates a new asynchronous cache computing its values using the given executor.
+     *
+     * @param executor executor used for computation of the values
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return asynchronous cache
+     *
+     * @throws UnsupportedOperationException if this factory does not support asynchronous caches
+     *
+     * @implSpec the default implementation always throws {@link UnsupportedOperationException}
+     */
+    default <K, V> @NotNull AsyncCache<K, V> asyncCache(final @NonNull Executor executor) {
+        throw new UnsupportedOperationException("Asynchronous caches are not supported by " + this);
+    }
+
+    /**
+     * Gets a cache factory which creates the same caches as this one but with their statistics being recorded.
+     *
+     * @return cache factory whose caches record their {@link Cache#stats() statistics}
+     *
+     * @throws UnsupportedOperationException if this factory does not support recording of the statistics
+     *
+     * @apiNote recording of the statistics adds overhead to the operations of the caches
+     * thus it is disabled by default
+     * @implSpec the default implementation always throws {@link UnsupportedOperationException}
+     */
+    default @NotNull CacheFactory recordingStats() {
+        throw new UnsupportedOperationException("Recording of statistics is not supported by " + this);
+    }
+
+    /**
+     * Gets a cache factory which creates the same caches as this one but notifying the given listener
+     * whenever an entry gets removed from them.
+     *
+     * @param removalListener listener to be notified about the removals, replacing the current one if any
+     * @return cache factory whose caches notify the given listener about the removals
+     *
+     * @throws UnsupportedOperationException if this factory does not support removal listeners
+     *
+     * @apiNote the listener is called with the keys and values of all caches created by the returned factory
+     * thus its type parameters should be the supertypes of theirs
+     * @implSpec the default implementation always throws {@link UnsupportedOperationException}
+     */
+    default @NotNull CacheFactory withRemovalListener(final @NonNull RemovalListener<?, ?> removalListener) {
+        throw new UnsupportedOperationException("Removal listeners are not supported by " + this);
+    }
+
     /**
      * Creates a cache factory which always creates {@link Cache#never() no-op caches}.
      *
@@ -70,5 +177,41 @@ public interface CacheFactory {
         public <K, V> @NotNull Cache<K, V> softValuesCache() {
             return Cache.never();
         }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> maximumSizeCache(final long maximumSize) {
+            if (maximumSize < 0) throw new IllegalArgumentException("Maximum size should be non-negative");
+
+            return Cache.never();
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> expireAfterWriteCache(final @NonNull Duration duration) {
+            if (duration.isNegative()) throw new IllegalArgumentException("Duration should be non-negative");
+
+            return Cache.never();
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> expireAfterAccessCache(final @NonNull Duration duration) {
+            if (duration.isNegative()) throw new IllegalArgumentException("Duration should be non-negative");
+
+            return Cache.never();
+        }
+
+        @Override
+        public <K, V> @NotNull AsyncCache<K, V> asyncCache(final @NonNull Executor executor) {
+            return AsyncCache.never(executor);
+        }
+
+        @Override
+        public @NotNull CacheFactory recordingStats() {
+            return this;
+        }
+
+        @Override
+        public @NotNull CacheFactory withRemovalListener(final @NonNull RemovalListener<?, ?> removalListener) {
+            return this; // nothing is ever cached thus nothing gets removed
+        }
     }
 }
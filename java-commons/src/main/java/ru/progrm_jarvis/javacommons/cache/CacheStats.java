@@ -0,0 +1,103 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Snapshot of the statistics of a {@link Cache cache}.
+ *
+ * @apiNote the values are only recorded by the caches created
+ * by {@link CacheFactory#recordingStats() stats-recording cache factories}
+ * with the exception of {@link #getEstimatedSize() estimated size} which is always available
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheStats {
+
+    /**
+     * Statistics with all values being zero
+     */
+    private static final @NotNull CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0);
+
+    /**
+     * Number of times the requested value was found in the cache.
+     */
+    long hitCount;
+
+    /**
+     * Number of times the requested value had to be computed.
+     */
+    long missCount;
+
+    /**
+     * Total number of nanoseconds spent computing the values.
+     */
+    long totalLoadTime;
+
+    /**
+     * Number of entries removed from the cache automatically.
+     */
+    long evictionCount;
+
+    /**
+     * Approximate number of entries in the cache.
+     */
+    long estimatedSize;
+
+    /**
+     * Creates cache statistics from the given values.
+     *
+     * @param hitCount number of times the requested value was found in the cache
+     * @param missCount number of times the requested value had to be computed
+     * @param totalLoadTime total number of nanoseconds spent computing the values
+     * @param evictionCount number of entries removed from the cache automatically
+     * @param estimatedSize approximate number of entries in the cache
+     * @return created cache statistics
+     */
+    public static @NotNull CacheStats of(final long hitCount,
+                                         final long missCount,
+                                         final long totalLoadTime,
+                                         final long evictionCount,
+                                         final long estimatedSize) {
+        return new CacheStats(hitCount, missCount, totalLoadTime, evictionCount, estimatedSize);
+    }
+
+    /**
+     * Gets the cache statistics with all values being zero.
+     *
+     * @return empty cache statistics
+     */
+    public static @NotNull CacheStats empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets the number of times the requested value was either found or computed.
+     *
+     * @return number of requests to the cache
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Gets the ratio of the requests which have found the value in the cache.
+     *
+     * @return ratio of hits to requests or {@code 1} if there were no requests
+     */
+    public double getHitRate() {
+        final long requestCount;
+        return (requestCount = getRequestCount()) == 0 ? 1 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Gets the average number of nanoseconds spent computing a single value.
+     *
+     * @return average time of value computation or {@code 0} if there were no computations
+     */
+    public double getAverageLoadPenalty() {
+        return missCount == 0 ? 0 : (double) totalLoadTime / missCount;
+    }
+}
@@ -1,11 +1,17 @@
 package ru.progrm_jarvis.javacommons.cache;
 
+import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Utility for creating commonly used caches depending on runtime capabilities.
- * If no cache is available then {@link Cache#never() no-op cache} is used.
+ * If Caffeine is not available then {@link ConcurrentHashMapCache built-in caches} are used.
  */
 @UtilityClass
 public class Caches {
@@ -13,13 +19,14 @@ public class Caches {
     /**
      * Factory used for creation of {@link Cache caches}.
      * This will try to be the best implementation available
-     * but will fallback to {@link CacheFactory#never() no-op} if none is available.
+     * but will fallback to {@link ConcurrentHashMapCache built-in implementation} if none is available.
      */
     private final @NotNull CacheFactory DEFAULT_FACTORY;
 
     static {
         final CacheFactory factory;
-        DEFAULT_FACTORY = (factory = CaffeineCache.tryCreateFactory()) == null ? CacheFactory.never() : factory;
+        DEFAULT_FACTORY = (factory = CaffeineCache.tryCreateFactory()) == null
+                ? ConcurrentHashMapCache.createFactory() : factory;
     }
 
     /**
@@ -63,4 +70,81 @@ public class Caches {
     public <K, V> @NotNull Cache<K, V> softValuesCache() {
         return DEFAULT_FACTORY.softValuesCache();
     }
+
+    /**
+     * Creates a new cache specialized for {@link Class} keys.
+     *
+     * @param <V> type of cached values
+     * @return class-keyed cache
+     *
+     * @see ClassValueCache#create() implementation details
+     */
+    public <V> @NotNull Cache<@NotNull Class<?>, V> classValueCache() {
+        return ClassValueCache.create();
+    }
+
+    /**
+     * Creates a new cache which holds at most the given number of entries.
+     *
+     * @param maximumSize maximal number of entries in the cache
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return size-bounded cache
+     *
+     * @throws IllegalArgumentException if {@code maximumSize} is negative
+     */
+    public <K, V> @NotNull Cache<K, V> maximumSizeCache(final @Range(from = 0, to = Long.MAX_VALUE) long maximumSize) {
+        return DEFAULT_FACTORY.maximumSizeCache(maximumSize);
+    }
+
+    /**
+     * Creates a new cache whose entries expire once the given duration passes since their creation.
+     *
+     * @param duration duration after which the entries expire
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return expiring cache
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative
+     */
+    public <K, V> @NotNull Cache<K, V> expireAfterWriteCache(final @NonNull Duration duration) {
+        return DEFAULT_FACTORY.expireAfterWriteCache(duration);
+    }
+
+    /**
+     * Creates a new cache whose entries expire once the given duration passes since their last access.
+     *
+     * @param duration duration after which the entries expire
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return expiring cache
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative
+     */
+    public <K, V> @NotNull Cache<K, V> expireAfterAccessCache(final @NonNull Duration duration) {
+        return DEFAULT_FACTORY.expireAfterAccessCache(duration);
+    }
+
+    /**
+     * Creates a new asynchronous cache computing its values using {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return asynchronous cache
+     */
+    public <K, V> @NotNull AsyncCache<K, V> asyncCache() {
+        return DEFAULT_FACTORY.asyncCache(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new asynchronous cache computing its values using the given executor.
+     *
+     * @param executor executor used for computation of the values
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     * @return asynchronous cache
+     */
+    public <K, V> @NotNull AsyncCache<K, V> asyncCache(final @NonNull Executor executor) {
+        return DEFAULT_FACTORY.asyncCache(executor);
+    }
 }
@@ -2,12 +2,21 @@ package ru.progrm_jarvis.javacommons.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AccessLevel;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
  * Utilities for creation of <a href="https://github.com/ben-manes/caffeine">Caffeine</a>-based
  * {@link CacheFactory cache factories}.
@@ -23,7 +32,7 @@ public class CaffeineCache {
     static {
         CacheFactory cacheFactory;
         try { // check if Caffeine is available
-            cacheFactory = new CaffeineCacheFactory(Caffeine::newBuilder);
+            cacheFactory = new CaffeineCacheFactory(Caffeine::newBuilder, false, null);
         } catch (final Throwable ignored) {
             cacheFactory = null;
         }
@@ -62,7 +71,17 @@ public class CaffeineCache {
         /**
          * Factory used for creation of {@link Caffeine} builder
          */
-        private @NotNull CaffeineBuilderFactory factory;
+        @NotNull CaffeineBuilderFactory factory;
+
+        /**
+         * Flag indicating whether the created caches should record their statistics
+         */
+        boolean recordStats;
+
+        /**
+         * Listener to be notified about the removals from the created caches
+         */
+        @Nullable RemovalListener<Object, Object> removalListener;
 
         /**
          * Wraps the provided {@link com.github.benmanes.caffeine.cache.Cache Caffeine Cache} into {@link Cache}.
@@ -75,22 +94,70 @@ public class CaffeineCache {
         private static <K, V> @NotNull Cache<K, V> wrap(
                 final @NotNull com.github.benmanes.caffeine.cache.Cache<K, V> caffeineCache
         ) {
-            return caffeineCache::get;
+            return new CaffeineCacheWrapper<>(caffeineCache);
+        }
+
+        /**
+         * Creates a {@link Caffeine} builder configured according to this factory.
+         *
+         * @return configured Caffeine builder
+         */
+        private @NotNull Caffeine<Object, Object> newBuilder() {
+            final Caffeine<Object, Object> builder = factory.newBuilder();
+            if (recordStats) builder.recordStats();
+
+            final RemovalListener<Object, Object> listener;
+            if ((listener = removalListener) != null) builder.removalListener(
+                    (key, value, cause) -> listener.onRemoval(key, value, RemovalCause.valueOf(cause.name()))
+            );
+
+            return builder;
         }
 
         @Override
         public <K, V> @NotNull Cache<K, V> weakKeysCache() {
-            return wrap(factory.newBuilder().weakKeys().build());
+            return wrap(newBuilder().weakKeys().build());
         }
 
         @Override
         public <K, V> @NotNull Cache<K, V> weakValuesCache() {
-            return wrap(factory.newBuilder().weakValues().build());
+            return wrap(newBuilder().weakValues().build());
         }
 
         @Override
         public <K, V> @NotNull Cache<K, V> softValuesCache() {
-            return wrap(factory.newBuilder().softValues().build());
+            return wrap(newBuilder().softValues().build());
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> maximumSizeCache(final long maximumSize) {
+            return wrap(newBuilder().maximumSize(maximumSize).build());
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> expireAfterWriteCache(final @NonNull Duration duration) {
+            return wrap(newBuilder().expireAfterWrite(duration).build());
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> expireAfterAccessCache(final @NonNull Duration duration) {
+            return wrap(newBuilder().expireAfterAccess(duration).build());
+        }
+
+        @Override
+        public <K, V> @NotNull AsyncCache<K, V> asyncCache(final @NonNull Executor executor) {
+            return new CaffeineAsyncCacheWrapper<>(newBuilder().executor(executor).buildAsync());
+        }
+
+        @Override
+        public @NotNull CacheFactory recordingStats() {
+            return recordStats ? this : new CaffeineCacheFactory(factory, true, removalListener);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") // the listener is only called with the entries of the caches it is meant for
+        public @NotNull CacheFactory withRemovalListener(final @NonNull RemovalListener<?, ?> removalListener) {
+            return new CaffeineCacheFactory(factory, recordStats, (RemovalListener<Object, Object>) removalListener);
         }
 
         /**
@@ -106,4 +173,96 @@ public class CaffeineCache {
             Caffeine<Object, Object> newBuilder();
         }
     }
+
+    /**
+     * {@link Cache} wrapping a {@link com.github.benmanes.caffeine.cache.Cache Caffeine Cache}.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class CaffeineCacheWrapper<K, V> implements Cache<K, V> {
+
+        /**
+         * Wrapped Caffeine Cache
+         */
+        @NotNull com.github.benmanes.caffeine.cache.Cache<K, V> cache;
+
+        @Override
+        public V get(final @NonNull K key, final @NonNull Function<? super K, ? extends V> mappingFunction) {
+            return cache.get(key, mappingFunction);
+        }
+
+        @Override
+        public @NotNull Map<K, V> getAll(
+                final @NonNull Iterable<? extends K> keys,
+                final @NonNull Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> bulkLoader
+        ) {
+            return cache.getAll(keys, bulkLoader);
+        }
+
+        @Override
+        public @NotNull CacheStats stats() {
+            return convertStats(cache);
+        }
+    }
+
+    /**
+     * {@link AsyncCache} wrapping a {@link com.github.benmanes.caffeine.cache.AsyncCache Caffeine Async Cache}.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class CaffeineAsyncCacheWrapper<K, V> implements AsyncCache<K, V> {
+
+        /**
+         * Wrapped Caffeine Async Cache
+         */
+        @NotNull com.github.benmanes.caffeine.cache.AsyncCache<K, V> cache;
+
+        @Override
+        public @NotNull CompletableFuture<V> get(final @NonNull K key,
+                                                 final @NonNull Function<? super K, ? extends V> mappingFunction) {
+            return cache.get(key, mappingFunction);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<V> get(
+                final @NonNull K key,
+                final @NonNull BiFunction<? super K, ? super Executor, ? extends CompletableFuture<? extends V>>
+                        mappingFunction
+        ) {
+            return cache.get(key, mappingFunction);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Map<K, V>> getAll(
+                final @NonNull Iterable<? extends K> keys,
+                final @NonNull Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> bulkLoader
+        ) {
+            return cache.getAll(keys, bulkLoader);
+        }
+
+        @Override
+        public @NotNull CacheStats stats() {
+            return convertStats(cache.synchronous());
+        }
+    }
+
+    /**
+     * Converts the statistics of the given {@link com.github.benmanes.caffeine.cache.Cache Caffeine Cache}.
+     *
+     * @param cache Caffeine Cache whose statistics should be converted
+     * @return converted statistics
+     */
+    private @NotNull CacheStats convertStats(final @NotNull com.github.benmanes.caffeine.cache.Cache<?, ?> cache) {
+        final com.github.benmanes.caffeine.cache.stats.CacheStats stats;
+        return CacheStats.of(
+                (stats = cache.stats()).hitCount(), stats.missCount(), stats.totalLoadTime(),
+                stats.evictionCount(), cache.estimatedSize()
+        );
+    }
 }
@@ -0,0 +1,77 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Utilities for creation of {@link ClassValue}-based {@link Cache caches} specialized for {@link Class} keys.
+ * <p>
+ * The values are stored within the key classes themselves thus the lookups do not involve hashing of the keys
+ * and the cached values never prevent the key classes from being unloaded.
+ *
+ * @apiNote the values stay cached for as long as their key classes are loaded
+ * thus they should not strongly reference the classes which are expected to get unloaded earlier than the keys
+ */
+@UtilityClass
+public class ClassValueCache {
+
+    /**
+     * Creates a new {@link ClassValue}-based cache.
+     *
+     * @param <V> type of cached values
+     * @return created cache
+     */
+    public <V> @NotNull Cache<@NotNull Class<?>, V> create() {
+        return new ClassValueBackedCache<>(new HolderClassValue<>());
+    }
+
+    /**
+     * {@link Cache} backed by {@link ClassValue}.
+     *
+     * @param <V> type of cached values
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class ClassValueBackedCache<V> implements Cache<@NotNull Class<?>, V> {
+
+        /**
+         * Class value providing the holders of the cached values
+         */
+        @NotNull ClassValue<@NotNull AtomicReference<V>> holders;
+
+        @Override
+        public V get(final @NonNull Class<?> key,
+                     final @NonNull Function<? super @NotNull Class<?>, ? extends V> mappingFunction) {
+            final AtomicReference<V> holder;
+            V value;
+            if ((value = (holder = holders.get(key)).get()) != null) return value;
+
+            // note: the value is computed outside of the class value so that the mapping function may use this cache
+            if ((value = mappingFunction.apply(key)) == null) return null;
+
+            return holder.compareAndSet(null, value) ? value : holder.get();
+        }
+    }
+
+    /**
+     * {@link ClassValue} computing empty holders of the cached values.
+     *
+     * @param <V> type of held values
+     *
+     * @apiNote this is a named class so that its instances do not capture any enclosing objects
+     */
+    private static final class HolderClassValue<V> extends ClassValue<@NotNull AtomicReference<V>> {
+
+        @Override
+        protected @NotNull AtomicReference<V> computeValue(final @NotNull Class<?> type) {
+            return new AtomicReference<>();
+        }
+    }
+}
@@ -0,0 +1,985 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.var;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Utilities for creation of dependency-free {@link CacheFactory cache factories}
+ * based on {@link ConcurrentHashMap} and {@link java.lang.ref.Reference references}.
+ *
+ * @implNote reclaimed entries are removed from the caches whenever they get accessed
+ * by draining the {@link ReferenceQueue reference queues}
+ */
+@UtilityClass
+public class ConcurrentHashMapCache {
+
+    /**
+     * Creates a {@link ConcurrentHashMap}-based cache factory.
+     *
+     * @return created cache factory
+     */
+    public @NotNull CacheFactory createFactory() {
+        return ConcurrentHashMapCacheFactory.INSTANCE;
+    }
+
+    /**
+     * {@link CacheFactory} backed by {@link ConcurrentHashMap}.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class ConcurrentHashMapCacheFactory implements CacheFactory {
+
+        /**
+         * Singleton instance of this cache factory.
+         */
+        private static final @NotNull CacheFactory INSTANCE = new ConcurrentHashMapCacheFactory(false, null);
+
+        /**
+         * Flag indicating whether the created caches should record their statistics
+         */
+        boolean recordStats;
+
+        /**
+         * Listener to be notified about the removals from the created caches
+         */
+        @Nullable RemovalListener<Object, Object> removalListener;
+
+        private @NotNull StatsCounter statsCounter() {
+            return recordStats ? StatsCounter.create() : StatsCounter.disabled();
+        }
+
+        /**
+         * Converts the duration to nanoseconds saturating it if it is too long to be represented so.
+         *
+         * @param duration non-negative duration to be converted
+         * @return number of nanoseconds in the duration or {@link Long#MAX_VALUE} if it is too long
+         */
+        private static long saturatedNanos(final @NotNull Duration duration) {
+            try {
+                return duration.toNanos();
+            } catch (final ArithmeticException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> weakKeysCache() {
+            return new WeakKeysCache<>(
+                    statsCounter(), removalListener, new ConcurrentHashMap<>(), new ReferenceQueue<>()
+            );
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> weakValuesCache() {
+            return new ReferenceValuesCache<>(
+                    statsCounter(), removalListener, new ConcurrentHashMap<>(), new ReferenceQueue<>(), WeakValue::new
+            );
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> softValuesCache() {
+            return new ReferenceValuesCache<>(
+                    statsCounter(), removalListener, new ConcurrentHashMap<>(), new ReferenceQueue<>(), SoftValue::new
+            );
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> maximumSizeCache(final long maximumSize) {
+            if (maximumSize < 0) throw new IllegalArgumentException("Maximum size should be non-negative");
+
+            return maximumSize == 0 ? Cache.never() : new MaximumSizeCache<>(
+                    statsCounter(), removalListener, new ConcurrentHashMap<>(), new LinkedHashMap<>(16, 0.75f, true),
+                    new FrequencySketch(maximumSize), new ReentrantLock(), maximumSize
+            );
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> expireAfterWriteCache(final @NonNull Duration duration) {
+            if (duration.isNegative()) throw new IllegalArgumentException("Duration should be non-negative");
+
+            return new ExpiringCache<>(
+                    statsCounter(), removalListener, new ConcurrentHashMap<>(), saturatedNanos(duration), false
+            );
+        }
+
+        @Override
+        public <K, V> @NotNull Cache<K, V> expireAfterAccessCache(final @NonNull Duration duration) {
+            if (duration.isNegative()) throw new IllegalArgumentException("Duration should be non-negative");
+
+            return new ExpiringCache<>(
+                    statsCounter(), removalListener, new ConcurrentHashMap<>(), saturatedNanos(duration), true
+            );
+        }
+
+        @Override
+        public @NotNull CacheFactory recordingStats() {
+            return recordStats ? this : new ConcurrentHashMapCacheFactory(true, removalListener);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") // the listener is only called with the entries of the caches it is meant for
+        public @NotNull CacheFactory withRemovalListener(final @NonNull RemovalListener<?, ?> removalListener) {
+            return new ConcurrentHashMapCacheFactory(recordStats, (RemovalListener<Object, Object>) removalListener);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @implNote the created cache never removes its loaded values
+         * thus the {@link #removalListener removal listener} is never notified by it
+         */
+        @Override
+        public <K, V> @NotNull AsyncCache<K, V> asyncCache(final @NonNull Executor executor) {
+            return new ConcurrentHashMapAsyncCache<>(statsCounter(), new ConcurrentHashMap<>(), executor);
+        }
+    }
+
+    /**
+     * Base for the caches of this implementation responsible for their statistics and removal notifications.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+    @FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+    private abstract static class AbstractCache<K, V> implements Cache<K, V> {
+
+        /**
+         * Counter of this cache's statistics
+         */
+        @NotNull StatsCounter stats;
+
+        /**
+         * Listener to be notified about the removals from this cache
+         */
+        @Nullable RemovalListener<Object, Object> removalListener;
+
+        /**
+         * Records the automatic removal of the entry notifying the listener about it.
+         *
+         * @param key key of the removed entry or {@code null} if it was reclaimed
+         * @param value value of the removed entry or {@code null} if it was reclaimed
+         * @param cause reason for which the entry was removed
+         */
+        protected void evicted(final @Nullable K key, final @Nullable V value, final @NotNull RemovalCause cause) {
+            stats.recordEviction();
+
+            final RemovalListener<Object, Object> listener;
+            if ((listener = removalListener) != null) listener.onRemoval(key, value, cause);
+        }
+
+        /**
+         * Gets the approximate number of entries in this cache.
+         *
+         * @return approximate number of entries in this cache
+         */
+        protected abstract long estimatedSize();
+
+        /**
+         * Gets the value currently associated with the key without recording any statistics.
+         *
+         * @param key key by which to get the value
+         * @return value associated with the key or {@code null} if there is none
+         */
+        protected abstract @Nullable V peek(@NotNull K key);
+
+        /**
+         * Stores the loaded value unless there already is one associated with the key
+         * without recording any statistics.
+         *
+         * @param key key with which the value should be associated
+         * @param value loaded value
+         * @return value associated with the key which may differ from the given one
+         */
+        protected abstract @NotNull V insert(@NotNull K key, @NotNull V value);
+
+        @Override
+        public @NotNull Map<K, V> getAll(
+                final @NonNull Iterable<? extends K> keys,
+                final @NonNull Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> bulkLoader
+        ) {
+            final Map<K, V> values = new LinkedHashMap<>();
+            final Set<K> missingKeys = new LinkedHashSet<>();
+            for (val key : keys) {
+                final V value;
+                if ((value = peek(key)) == null) missingKeys.add(key);
+                else {
+                    stats.recordHit();
+                    values.put(key, value);
+                }
+            }
+            if (missingKeys.isEmpty()) return values;
+
+            final long startTime = System.nanoTime();
+            final Map<? extends K, ? extends V> loadedValues = bulkLoader.apply(
+                    Collections.unmodifiableSet(missingKeys)
+            );
+            stats.recordLoadTime(System.nanoTime() - startTime);
+
+            for (val key : missingKeys) {
+                final V loadedValue;
+                if ((loadedValue = loadedValues.get(key)) != null) values.put(key, insert(key, loadedValue));
+            }
+            stats.recordMisses(missingKeys.size());
+
+            return values;
+        }
+
+        @Override
+        public @NotNull CacheStats stats() {
+            return stats.snapshot(estimatedSize());
+        }
+    }
+
+    /**
+     * Cache storing its keys {@link WeakReference weakly} and comparing them by identity.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class WeakKeysCache<K, V> extends AbstractCache<K, V> {
+
+        @NotNull ConcurrentMap<@NotNull WeakKey<K>, V> entries;
+        @NotNull ReferenceQueue<K> queue;
+
+        private WeakKeysCache(final @NotNull StatsCounter stats,
+                              final @Nullable RemovalListener<Object, Object> removalListener,
+                              final @NotNull ConcurrentMap<@NotNull WeakKey<K>, V> entries,
+                              final @NotNull ReferenceQueue<K> queue) {
+            super(stats, removalListener);
+
+            this.entries = entries;
+            this.queue = queue;
+        }
+
+        private void drainQueue() {
+            Reference<? extends K> reference;
+            while ((reference = queue.poll()) != null) {
+                final V value;
+                if ((value = entries.remove(reference)) != null) evicted(null, value, RemovalCause.COLLECTED);
+            }
+        }
+
+        @Override
+        public V get(final @NonNull K key, final @NonNull Function<? super K, ? extends V> mappingFunction) {
+            drainQueue();
+
+            V value;
+            if ((value = entries.get(new WeakKey<>(key, null))) != null) {
+                stats.recordHit();
+                return value;
+            }
+
+            // note: the value is computed outside of the map so that the mapping function may use this cache
+            return (value = stats.load(key, mappingFunction)) == null ? null : insert(key, value);
+        }
+
+        @Override
+        protected long estimatedSize() {
+            return entries.size();
+        }
+
+        @Override
+        protected @Nullable V peek(final @NotNull K key) {
+            return entries.get(new WeakKey<>(key, null));
+        }
+
+        @Override
+        protected @NotNull V insert(final @NotNull K key, final @NotNull V value) {
+            final V existingValue;
+            return (existingValue = entries.putIfAbsent(new WeakKey<>(key, queue), value)) == null
+                    ? value : existingValue;
+        }
+    }
+
+    /**
+     * Cache storing its values in {@link Reference references}.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class ReferenceValuesCache<K, V> extends AbstractCache<K, V> {
+
+        @NotNull ConcurrentMap<@NotNull K, @NotNull ValueReference<K, V>> entries;
+        @NotNull ReferenceQueue<V> queue;
+        @NotNull ValueReferenceFactory referenceFactory;
+
+        private ReferenceValuesCache(final @NotNull StatsCounter stats,
+                                     final @Nullable RemovalListener<Object, Object> removalListener,
+                                     final @NotNull ConcurrentMap<@NotNull K, @NotNull ValueReference<K, V>> entries,
+                                     final @NotNull ReferenceQueue<V> queue,
+                                     final @NotNull ValueReferenceFactory referenceFactory) {
+            super(stats, removalListener);
+
+            this.entries = entries;
+            this.queue = queue;
+            this.referenceFactory = referenceFactory;
+        }
+
+        @SuppressWarnings("unchecked") // only value references are enqueued
+        private void drainQueue() {
+            Reference<? extends V> reference;
+            while ((reference = queue.poll()) != null) {
+                final ValueReference<K, V> valueReference;
+                final K key;
+                if (entries.remove(key = (valueReference = (ValueReference<K, V>) reference).key(), valueReference)) {
+                    evicted(key, null, RemovalCause.COLLECTED);
+                }
+            }
+        }
+
+        @Override
+        public V get(final @NonNull K key, final @NonNull Function<? super K, ? extends V> mappingFunction) {
+            drainQueue();
+
+            ValueReference<K, V> reference;
+            V value;
+            if ((reference = entries.get(key)) != null && (value = reference.get()) != null) {
+                stats.recordHit();
+                return value;
+            }
+
+            // note: the value is computed outside of the map so that the mapping function may use this cache
+            return (value = stats.load(key, mappingFunction)) == null ? null : insert(key, value);
+        }
+
+        @Override
+        protected long estimatedSize() {
+            return entries.size();
+        }
+
+        @Override
+        protected @Nullable V peek(final @NotNull K key) {
+            final ValueReference<K, V> reference;
+            return (reference = entries.get(key)) == null ? null : reference.get();
+        }
+
+        @Override
+        protected @NotNull V insert(final @NotNull K key, final @NotNull V value) {
+            final ValueReference<K, V> newReference = referenceFactory.create(key, value, queue);
+            while (true) {
+                final ValueReference<K, V> reference;
+                if ((reference = entries.putIfAbsent(key, newReference)) == null) return value;
+
+                final V existingValue;
+                if ((existingValue = reference.get()) != null) return existingValue;
+                if (entries.replace(key, reference, newReference)) {
+                    evicted(key, null, RemovalCause.COLLECTED);
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Cache holding a limited number of entries.
+     * <p>
+     * Entries are kept in the order of their accesses, and once the cache is full a new entry is only admitted
+     * if it is accessed at least as frequently as the least recently used one which it then evicts.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     *
+     * @implNote this is a simplified form of <a href="https://arxiv.org/abs/1512.00727">TinyLFU</a> admission policy,
+     * the entries are read without locking while the accesses are recorded in a lossy buffer
+     * which gets drained under the lock once it fills up or whenever a loaded entry gets inserted
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class MaximumSizeCache<K, V> extends AbstractCache<K, V> {
+
+        /**
+         * Number of the accesses which may be recorded in the buffer before it gets drained, a power of two
+         */
+        private static final int READ_BUFFER_SIZE = 64;
+
+        /**
+         * Mask used to get the index of the access within the buffer
+         */
+        private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+        /**
+         * Entries of this cache
+         */
+        @NotNull ConcurrentMap<@NotNull K, @NotNull V> entries;
+
+        /**
+         * Entries of this cache ordered by their accesses
+         */
+        @NotNull LinkedHashMap<@NotNull K, @NotNull V> accessOrder;
+
+        /**
+         * Sketch estimating the popularity of the keys
+         */
+        @NotNull FrequencySketch sketch;
+
+        /**
+         * Keys whose accesses have not yet been recorded
+         */
+        @NotNull AtomicReferenceArray<K> readBuffer;
+
+        /**
+         * Number of the accesses ever written to {@link #readBuffer}
+         */
+        @NotNull AtomicLong readBufferWrites;
+
+        /**
+         * Lock guarding the modifications of {@link #entries}, {@link #accessOrder} and {@link #sketch}
+         */
+        @NotNull Lock lock;
+
+        /**
+         * Maximal number of entries in this cache
+         */
+        long maximumSize;
+
+        private MaximumSizeCache(final @NotNull StatsCounter stats,
+                                 final @Nullable RemovalListener<Object, Object> removalListener,
+                                 final @NotNull ConcurrentMap<@NotNull K, @NotNull V> entries,
+                                 final @NotNull LinkedHashMap<@NotNull K, @NotNull V> accessOrder,
+                                 final @NotNull FrequencySketch sketch,
+                                 final @NotNull Lock lock,
+                                 final long maximumSize) {
+            super(stats, removalListener);
+
+            this.entries = entries;
+            this.accessOrder = accessOrder;
+            this.sketch = sketch;
+            this.lock = lock;
+            this.maximumSize = maximumSize;
+            readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+            readBufferWrites = new AtomicLong();
+        }
+
+        /**
+         * Records the access to the given key draining the buffer if it is full and the lock is free.
+         *
+         * @param key accessed key
+         */
+        private void recordRead(final @NotNull K key) {
+            final int index;
+            readBuffer.lazySet(index = (int) readBufferWrites.getAndIncrement() & READ_BUFFER_MASK, key);
+
+            if (index == READ_BUFFER_MASK && lock.tryLock()) try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Applies the accesses recorded in the buffer to the sketch and to the order of the entries.
+         *
+         * @apiNote this should be called only while holding the lock
+         */
+        private void drainReadBuffer() {
+            final AtomicReferenceArray<K> thisReadBuffer = readBuffer;
+            for (var index = 0; index < READ_BUFFER_SIZE; index++) {
+                final K key;
+                if ((key = thisReadBuffer.getAndSet(index, null)) != null) {
+                    sketch.increment(key);
+                    accessOrder.get(key); // moves the entry to the end if it is present
+                }
+            }
+        }
+
+        @Override
+        public V get(final @NonNull K key, final @NonNull Function<? super K, ? extends V> mappingFunction) {
+            recordRead(key);
+
+            V value;
+            if ((value = entries.get(key)) != null) {
+                stats.recordHit();
+                return value;
+            }
+
+            // note: the value is computed outside of the lock so that the mapping function may use this cache
+            return (value = stats.load(key, mappingFunction)) == null ? null : insert(key, value);
+        }
+
+        @Override
+        protected long estimatedSize() {
+            return entries.size();
+        }
+
+        @Override
+        protected @Nullable V peek(final @NotNull K key) {
+            recordRead(key);
+
+            return entries.get(key);
+        }
+
+        @Override
+        protected @NotNull V insert(final @NotNull K key, final @NotNull V value) {
+            final Map.Entry<K, V> victim;
+            lock.lock();
+            try {
+                final V existingValue;
+                if ((existingValue = entries.get(key)) != null) return existingValue;
+
+                drainReadBuffer();
+                if (accessOrder.size() >= maximumSize) {
+                    val eldest = accessOrder.entrySet().iterator();
+                    if (sketch.frequency(key) < sketch.frequency((victim = eldest.next()).getKey())) return value;
+
+                    eldest.remove();
+                    entries.remove(victim.getKey());
+                } else victim = null;
+                accessOrder.put(key, value);
+                entries.put(key, value);
+            } finally {
+                lock.unlock();
+            }
+
+            // note: the listener is notified outside of the lock so that it may use this cache
+            if (victim != null) evicted(victim.getKey(), victim.getValue(), RemovalCause.SIZE);
+
+            return value;
+        }
+    }
+
+    /**
+     * Cache whose entries expire after the specified duration.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     *
+     * @implNote expired entries are removed once they get accessed
+     * and by the sweeps happening on access at most once per expiration duration
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class ExpiringCache<K, V> extends AbstractCache<K, V> {
+
+        @NotNull ConcurrentMap<@NotNull K, @NotNull ExpiringValue<V>> entries;
+
+        /**
+         * Duration in nanoseconds after which the entries expire
+         */
+        long expirationNanos;
+
+        /**
+         * Flag indicating whether the accesses to the entries prolong their lifetime
+         */
+        boolean expireAfterAccess;
+
+        /**
+         * Time in nanoseconds at which the next sweep of expired entries should happen
+         */
+        @NotNull AtomicLong nextSweepTime;
+
+        private ExpiringCache(final @NotNull StatsCounter stats,
+                              final @Nullable RemovalListener<Object, Object> removalListener,
+                              final @NotNull ConcurrentMap<@NotNull K, @NotNull ExpiringValue<V>> entries,
+                              final long expirationNanos,
+                              final boolean expireAfterAccess) {
+            super(stats, removalListener);
+
+            this.entries = entries;
+            this.expirationNanos = expirationNanos;
+            this.expireAfterAccess = expireAfterAccess;
+            nextSweepTime = new AtomicLong(System.nanoTime() + expirationNanos);
+        }
+
+        private void sweepIfNeeded(final long now) {
+            final long sweepTime;
+            if (now - (sweepTime = nextSweepTime.get()) < 0
+                    || !nextSweepTime.compareAndSet(sweepTime, now + expirationNanos)) return;
+
+            for (val entry : entries.entrySet()) {
+                final ExpiringValue<V> value;
+                final K key;
+                if ((value = entry.getValue()).isExpired(now, expirationNanos)
+                        && entries.remove(key = entry.getKey(), value)) evicted(key, value.value, RemovalCause.EXPIRED);
+            }
+        }
+
+        @Override
+        public V get(final @NonNull K key, final @NonNull Function<? super K, ? extends V> mappingFunction) {
+            final long now;
+            sweepIfNeeded(now = System.nanoTime());
+
+            ExpiringValue<V> entry;
+            if ((entry = entries.get(key)) != null) {
+                if (!entry.isExpired(now, expirationNanos)) {
+                    if (expireAfterAccess) entry.timestamp = now;
+                    stats.recordHit();
+
+                    return entry.value;
+                }
+                if (entries.remove(key, entry)) evicted(key, entry.value, RemovalCause.EXPIRED);
+            }
+
+            // note: the value is computed outside of the map so that the mapping function may use this cache
+            final V value;
+            return (value = stats.load(key, mappingFunction)) == null ? null : insert(key, value);
+        }
+
+        @Override
+        protected long estimatedSize() {
+            return entries.size();
+        }
+
+        @Override
+        protected @Nullable V peek(final @NotNull K key) {
+            final long now = System.nanoTime();
+            final ExpiringValue<V> entry;
+            if ((entry = entries.get(key)) == null || entry.isExpired(now, expirationNanos)) return null;
+
+            if (expireAfterAccess) entry.timestamp = now;
+            return entry.value;
+        }
+
+        @Override
+        protected @NotNull V insert(final @NotNull K key, final @NotNull V value) {
+            final long now = System.nanoTime();
+            final ExpiringValue<V> newEntry = new ExpiringValue<>(value, now);
+            while (true) {
+                final ExpiringValue<V> entry;
+                if ((entry = entries.putIfAbsent(key, newEntry)) == null) return value;
+                if (!entry.isExpired(now, expirationNanos)) return entry.value;
+                if (entries.replace(key, entry, newEntry)) {
+                    evicted(key, entry.value, RemovalCause.EXPIRED);
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Asynchronous cache storing the futures of its values.
+     *
+     * @param <K> type of cache keys
+     * @param <V> type of cached values
+     *
+     * @implNote the futures are removed from the cache once they fail or complete with {@code null}
+ * while the loaded values are never removed thus there is nothing to notify the removal listener about
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class ConcurrentHashMapAsyncCache<K, V> implements AsyncCache<K, V> {
+
+        @NotNull StatsCounter stats;
+        @NotNull ConcurrentMap<@NotNull K, @NotNull CompletableFuture<V>> entries;
+        @NotNull Executor executor;
+
+        /**
+         * Makes the given future get removed from this cache once it fails or completes with {@code null}.
+         *
+         * @param key key associated with the future
+         * @param future future to be removed once it fails or completes with {@code null}
+         */
+        private void removeUnlessLoaded(final @NotNull K key, final @NotNull CompletableFuture<V> future) {
+            future.whenComplete((value, throwable) -> {
+                if (value == null) entries.remove(key, future);
+            });
+        }
+
+        /**
+         * Gets the future of the value associated with the key or registers a new one completed by the given loader.
+         *
+         * @param key key by which to get the future of the value
+         * @param loader loader responsible for the completion of the new future
+         * @return future of the value associated with the key
+         */
+        private @NotNull CompletableFuture<V> getOrLoad(final @NotNull K key,
+                                                        final @NotNull Consumer<CompletableFuture<V>> loader) {
+            CompletableFuture<V> future;
+            final CompletableFuture<V> newFuture;
+            if ((future = entries.get(key)) != null
+                    || (future = entries.putIfAbsent(key, newFuture = new CompletableFuture<>())) != null) {
+                stats.recordHit();
+                return future;
+            }
+
+            stats.recordMisses(1);
+            removeUnlessLoaded(key, newFuture);
+            try {
+                loader.accept(newFuture);
+            } catch (final Throwable throwable) {
+                newFuture.completeExceptionally(throwable);
+            }
+
+            return newFuture;
+        }
+
+        @Override
+        public @NotNull CompletableFuture<V> get(final @NonNull K key,
+                                                 final @NonNull Function<? super K, ? extends V> mappingFunction) {
+            return getOrLoad(key, future -> executor.execute(() -> {
+                final long startTime = System.nanoTime();
+                try {
+                    future.complete(mappingFunction.apply(key));
+                } catch (final Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                } finally {
+                    stats.recordLoadTime(System.nanoTime() - startTime);
+                }
+            }));
+        }
+
+        @Override
+        public @NotNull CompletableFuture<V> get(
+                final @NonNull K key,
+                final @NonNull BiFunction<? super K, ? super Executor, ? extends CompletableFuture<? extends V>>
+                        mappingFunction
+        ) {
+            return getOrLoad(key, future -> {
+                final long startTime = System.nanoTime();
+                mappingFunction.apply(key, executor).whenComplete((value, throwable) -> {
+                    stats.recordLoadTime(System.nanoTime() - startTime);
+                    if (throwable == null) future.complete(value);
+                    else future.completeExceptionally(throwable);
+                });
+            });
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Map<K, V>> getAll(
+                final @NonNull Iterable<? extends K> keys,
+                final @NonNull Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> bulkLoader
+        ) {
+            final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>(), newFutures = new LinkedHashMap<>();
+            for (val key : keys) {
+                if (futures.containsKey(key)) continue;
+
+                CompletableFuture<V> future;
+                final CompletableFuture<V> newFuture;
+                if ((future = entries.get(key)) != null
+                        || (future = entries.putIfAbsent(key, newFuture = new CompletableFuture<>())) != null) {
+                    stats.recordHit();
+                    futures.put(key, future);
+                } else {
+                    removeUnlessLoaded(key, newFuture);
+                    futures.put(key, newFuture);
+                    newFutures.put(key, newFuture);
+                }
+            }
+
+            if (!newFutures.isEmpty()) {
+                stats.recordMisses(newFutures.size());
+                // note: all missing values are loaded at once while the concurrent requests share their futures
+                final Runnable bulkLoad = () -> {
+                    try {
+                        final long startTime = System.nanoTime();
+                        final Map<? extends K, ? extends V> loadedValues = bulkLoader.apply(
+                                Collections.unmodifiableSet(newFutures.keySet())
+                        );
+                        stats.recordLoadTime(System.nanoTime() - startTime);
+
+                        for (val entry : newFutures.entrySet()) entry.getValue().complete(
+                                loadedValues.get(entry.getKey())
+                        );
+                    } catch (final Throwable throwable) {
+                        for (val future : newFutures.values()) future.completeExceptionally(throwable);
+                    }
+                };
+                try {
+                    executor.execute(bulkLoad);
+                } catch (final Throwable throwable) {
+                    for (val future : newFutures.values()) future.completeExceptionally(throwable);
+                }
+            }
+
+            return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                    .thenApply(completed -> {
+                        final Map<K, V> values = new LinkedHashMap<>();
+                        for (val entry : futures.entrySet()) {
+                            final V value;
+                            if ((value = entry.getValue().join()) != null) values.put(entry.getKey(), value);
+                        }
+
+                        return values;
+                    });
+        }
+
+        @Override
+        public @NotNull CacheStats stats() {
+            return stats.snapshot(entries.size());
+        }
+    }
+
+    /**
+     * Value of {@link ExpiringCache} along with its timestamp.
+     *
+     * @param <V> type of the value
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class ExpiringValue<V> {
+
+        final @NotNull V value;
+
+        /**
+         * Time in nanoseconds since which the expiration of this value is counted
+         *
+         * @implNote data races on this field are benign as the accesses only prolong the lifetime of the value
+         */
+        volatile long timestamp;
+
+        private ExpiringValue(final @NotNull V value, final long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+
+        private boolean isExpired(final long now, final long expirationNanos) {
+            return now - timestamp >= expirationNanos;
+        }
+    }
+
+    /**
+     * Weak reference to the key comparing the referents by identity.
+     *
+     * @param <K> type of the key
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class WeakKey<K> extends WeakReference<K> {
+
+        /**
+         * Identity hash code of the referent
+         */
+        int hashCode;
+
+        private WeakKey(final @NotNull K key, final @Nullable ReferenceQueue<? super K> queue) {
+            super(key, queue);
+
+            hashCode = System.identityHashCode(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) return true;
+            if (!(object instanceof WeakKey<?>)) return false;
+
+            final Object referent;
+            return (referent = get()) != null && referent == ((WeakKey<?>) object).get();
+        }
+    }
+
+    /**
+     * Reference to the cached value which also knows its key.
+     *
+     * @param <K> type of the key
+     * @param <V> type of the value
+     */
+    private interface ValueReference<K, V> {
+
+        /**
+         * Gets the key associated with the value.
+         *
+         * @return key associated with the value
+         */
+        @NotNull K key();
+
+        /**
+         * Gets the referenced value.
+         *
+         * @return referenced value or {@code null} if it was reclaimed
+         */
+        @Nullable V get();
+    }
+
+    /**
+     * Factory of {@link ValueReference value references}.
+     */
+    @FunctionalInterface
+    private interface ValueReferenceFactory {
+
+        /**
+         * Creates a value reference.
+         *
+         * @param key key associated with the value
+         * @param value referenced value
+         * @param queue queue with which the reference should be registered
+         * @param <K> type of the key
+         * @param <V> type of the value
+         * @return created value reference
+         */
+        <K, V> @NotNull ValueReference<K, V> create(@NotNull K key,
+                                                    @NotNull V value,
+                                                    @NotNull ReferenceQueue<? super V> queue);
+    }
+
+    /**
+     * {@link ValueReference Value reference} based on {@link WeakReference}.
+     *
+     * @param <K> type of the key
+     * @param <V> type of the value
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class WeakValue<K, V> extends WeakReference<V> implements ValueReference<K, V> {
+
+        @NotNull K key;
+
+        private WeakValue(final @NotNull K key,
+                          final @NotNull V value,
+                          final @NotNull ReferenceQueue<? super V> queue) {
+            super(value, queue);
+
+            this.key = key;
+        }
+
+        @Override
+        public @NotNull K key() {
+            return key;
+        }
+    }
+
+    /**
+     * {@link ValueReference Value reference} based on {@link SoftReference}.
+     *
+     * @param <K> type of the key
+     * @param <V> type of the value
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class SoftValue<K, V> extends SoftReference<V> implements ValueReference<K, V> {
+
+        @NotNull K key;
+
+        private SoftValue(final @NotNull K key,
+                          final @NotNull V value,
+                          final @NotNull ReferenceQueue<? super V> queue) {
+            super(value, queue);
+
+            this.key = key;
+        }
+
+        @Override
+        public @NotNull K key() {
+            return key;
+        }
+    }
+}
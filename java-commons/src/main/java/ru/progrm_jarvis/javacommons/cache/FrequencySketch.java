@@ -0,0 +1,111 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <a href="https://en.wikipedia.org/wiki/Count%E2%80%93min_sketch">Count-min sketch</a>
+ * estimating the popularity of the keys within the recent history of accesses.
+ * <p>
+ * All counters get halved once the number of recorded accesses reaches the sample size
+ * so that the popularity of the keys which are no longer accessed decays over time.
+ *
+ * @apiNote this class is not thread-safe
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+final class FrequencySketch {
+
+    /**
+     * Number of hash functions, i.e. rows of the sketch
+     */
+    private static final int DEPTH = 4;
+
+    /**
+     * Maximal value of a single counter
+     */
+    private static final int MAX_COUNT = 15;
+
+    /**
+     * Seeds of the hash functions
+     */
+    private static final int @NotNull [] SEEDS = {0x97CB3127, 0xB0F4A861, 0x5C4F8E6B, 0x2B1E9F3D};
+
+    /**
+     * Counters of all rows stored contiguously
+     */
+    int @NotNull [] counters;
+
+    /**
+     * Mask used to get the index of the counter within a row
+     */
+    int rowMask;
+
+    /**
+     * Number of recorded accesses after which the counters get halved
+     */
+    int sampleSize;
+
+    /**
+     * Number of accesses recorded since the last halving
+     */
+    @NonFinal int accesses;
+
+    /**
+     * Creates a new frequency sketch for the cache of the given size.
+     *
+     * @param maximumSize maximal number of entries in the cache
+     */
+    FrequencySketch(final long maximumSize) {
+        final int width = Integer.highestOneBit((int) Math.min(Math.max(maximumSize, 16), 1 << 24) - 1) << 1;
+        counters = new int[width * DEPTH];
+        rowMask = width - 1;
+        sampleSize = (int) Math.min(10L * width, Integer.MAX_VALUE);
+    }
+
+    private int index(final int row, final int hash) {
+        int spread = (hash ^ SEEDS[row]) * 0x9E3779B9;
+        spread ^= spread >>> 16;
+
+        return row * (rowMask + 1) + (spread & rowMask);
+    }
+
+    /**
+     * Records the access to the given key.
+     *
+     * @param key accessed key
+     */
+    void increment(final @NotNull Object key) {
+        final int hash = key.hashCode();
+        final int[] thisCounters = counters;
+        for (var row = 0; row < DEPTH; row++) {
+            final int index;
+            if (thisCounters[index = index(row, hash)] < MAX_COUNT) thisCounters[index]++;
+        }
+
+        if (++accesses >= sampleSize) halve();
+    }
+
+    /**
+     * Estimates the number of recent accesses to the given key.
+     *
+     * @param key key whose popularity should be estimated
+     * @return estimated number of recent accesses
+     */
+    int frequency(final @NotNull Object key) {
+        final int hash = key.hashCode();
+        final int[] thisCounters = counters;
+        var frequency = MAX_COUNT;
+        for (var row = 0; row < DEPTH; row++) frequency = Math.min(frequency, thisCounters[index(row, hash)]);
+
+        return frequency;
+    }
+
+    private void halve() {
+        final int[] thisCounters = counters;
+        for (int i = 0, length = thisCounters.length; i < length; i++) thisCounters[i] >>>= 1;
+        accesses >>>= 1;
+    }
+}
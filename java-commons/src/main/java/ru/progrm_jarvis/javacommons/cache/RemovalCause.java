@@ -0,0 +1,41 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+/**
+ * Reason for which an entry was removed from a {@link Cache cache}.
+ */
+public enum RemovalCause {
+
+    /**
+     * The entry was removed explicitly.
+     */
+    EXPLICIT,
+
+    /**
+     * The value of the entry was replaced explicitly.
+     */
+    REPLACED,
+
+    /**
+     * The key or the value of the entry was reclaimed by the garbage collector.
+     */
+    COLLECTED,
+
+    /**
+     * The entry has expired.
+     */
+    EXPIRED,
+
+    /**
+     * The entry was evicted because of the size limit of the cache.
+     */
+    SIZE;
+
+    /**
+     * Checks if this cause corresponds to an automatic removal of the entry.
+     *
+     * @return {@code true} if the entry was removed automatically and {@code false} otherwise
+     */
+    public boolean isEviction() {
+        return this != EXPLICIT && this != REPLACED;
+    }
+}
@@ -0,0 +1,25 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Listener notified whenever an entry gets removed from a {@link Cache cache}.
+ *
+ * @param <K> type of cache keys
+ * @param <V> type of cached values
+ *
+ * @apiNote the listener may be called from any thread and should not block
+ */
+@FunctionalInterface
+public interface RemovalListener<K, V> {
+
+    /**
+     * Handles the removal of the entry.
+     *
+     * @param key key of the removed entry or {@code null} if it was reclaimed by the garbage collector
+     * @param value value of the removed entry or {@code null} if it was reclaimed by the garbage collector
+     * @param cause reason for which the entry was removed
+     */
+    void onRemoval(@Nullable K key, @Nullable V value, @NotNull RemovalCause cause);
+}
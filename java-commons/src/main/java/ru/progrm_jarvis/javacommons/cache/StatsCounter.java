@@ -0,0 +1,160 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Accumulator of the statistics of the built-in {@link Cache caches}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+abstract class StatsCounter {
+
+    /**
+     * Gets the counter which does not record anything.
+     *
+     * @return disabled stats counter
+     */
+    static @NotNull StatsCounter disabled() {
+        return Disabled.INSTANCE;
+    }
+
+    /**
+     * Creates a new counter recording the statistics.
+     *
+     * @return created stats counter
+     */
+    static @NotNull StatsCounter create() {
+        return new Enabled();
+    }
+
+    /**
+     * Records a cache hit.
+     */
+    abstract void recordHit();
+
+    /**
+     * Records a cache miss computing the value.
+     *
+     * @param key key for which the value should be computed
+     * @param mappingFunction function used to compute the value
+     * @param <K> type of the key
+     * @param <V> type of the value
+     * @return computed value
+     */
+    abstract <K, V> V load(K key, @NotNull Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * Records the given number of cache misses whose values get computed elsewhere.
+     *
+     * @param count number of cache misses
+     */
+    abstract void recordMisses(int count);
+
+    /**
+     * Records the time spent computing the values of the cache misses.
+     *
+     * @param loadTime number of nanoseconds spent computing the values
+     */
+    abstract void recordLoadTime(long loadTime);
+
+    /**
+     * Records an automatic removal of the entry.
+     */
+    abstract void recordEviction();
+
+    /**
+     * Creates a snapshot of the recorded statistics.
+     *
+     * @param estimatedSize approximate number of entries in the cache
+     * @return snapshot of the recorded statistics
+     */
+    abstract @NotNull CacheStats snapshot(long estimatedSize);
+
+    /**
+     * Stats counter which does not record anything.
+     */
+    private static final class Disabled extends StatsCounter {
+
+        /**
+         * Singleton instance of this stats counter
+         */
+        private static final @NotNull StatsCounter INSTANCE = new Disabled();
+
+        @Override
+        void recordHit() {}
+
+        @Override
+        <K, V> V load(final K key, final @NotNull Function<? super K, ? extends V> mappingFunction) {
+            return mappingFunction.apply(key);
+        }
+
+        @Override
+        void recordMisses(final int count) {}
+
+        @Override
+        void recordLoadTime(final long loadTime) {}
+
+        @Override
+        void recordEviction() {}
+
+        @Override
+        @NotNull CacheStats snapshot(final long estimatedSize) {
+            return CacheStats.of(0, 0, 0, 0, estimatedSize);
+        }
+    }
+
+    /**
+     * Stats counter based on {@link LongAdder long adders}.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class Enabled extends StatsCounter {
+
+        @NotNull LongAdder hitCount = new LongAdder(),
+                missCount = new LongAdder(),
+                totalLoadTime = new LongAdder(),
+                evictionCount = new LongAdder();
+
+        @Override
+        void recordHit() {
+            hitCount.increment();
+        }
+
+        @Override
+        <K, V> V load(final K key, final @NotNull Function<? super K, ? extends V> mappingFunction) {
+            missCount.increment();
+            final long startTime = System.nanoTime();
+            try {
+                return mappingFunction.apply(key);
+            } finally {
+                totalLoadTime.add(System.nanoTime() - startTime);
+            }
+        }
+
+        @Override
+        void recordMisses(final int count) {
+            missCount.add(count);
+        }
+
+        @Override
+        void recordLoadTime(final long loadTime) {
+            totalLoadTime.add(loadTime);
+        }
+
+        @Override
+        void recordEviction() {
+            evictionCount.increment();
+        }
+
+        @Override
+        @NotNull CacheStats snapshot(final long estimatedSize) {
+            return CacheStats.of(
+                    hitCount.sum(), missCount.sum(), totalLoadTime.sum(), evictionCount.sum(), estimatedSize
+            );
+        }
+    }
+}
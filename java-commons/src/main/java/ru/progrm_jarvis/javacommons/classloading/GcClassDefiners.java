@@ -15,6 +15,7 @@ import ru.progrm_jarvis.javacommons.unsafe.UnsafeInternals;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -52,6 +53,10 @@ public class GcClassDefiners {
      * Gets the default {@link ClassDefiner class definer}.
      *
      * @return the default optional {@link ClassDefiner class definer} wrapped
+     *
+     * @apiNote since Java 15 the classes are defined as hidden nestmates of the owner's lookup class
+     * thus they should be in its package and cannot be resolved by their names, even by the other defined classes,
+     * while each of them may still refer to itself
      */
     public @NotNull ClassDefiner getDefault() {
         return CLASS_DEFINER;
@@ -88,9 +93,13 @@ public class GcClassDefiners {
                 }
             }
 
+            final Object[] classOptions;
+            (classOptions = (Object[]) Array.newInstance(lookupClassOptionClass, 1))[0]
+                    = uncheckedEnumValueOf(lookupClassOptionClass, "NESTMATE");
+
             LOOKUP__DEFINE_HIDDEN_CLASS__METHOD_HANDLE = MethodHandles.insertArguments(methodHandle,
-                    1 /* virtual method thus `0` is for `this` */ + 2 /* 3rd argument */,
-                    uncheckedEnumValueOf(lookupClassOptionClass, "NESTMATE")
+                    1 /* virtual method thus `0` is for `this` */ + 1 /* 2nd argument */,
+                    false /* the class gets initialized on its first use */, classOptions
             );
         }
 
@@ -107,7 +116,7 @@ public class GcClassDefiners {
                 final @NotNull Lookup owner,
                 final byte @NotNull [] bytecode
         ) {
-            return (Class<?>) LOOKUP__DEFINE_HIDDEN_CLASS__METHOD_HANDLE.invokeExact(owner, bytecode);
+            return ((Lookup) LOOKUP__DEFINE_HIDDEN_CLASS__METHOD_HANDLE.invokeExact(owner, bytecode)).lookupClass();
         }
 
         @Override
@@ -21,7 +21,7 @@ public abstract class AbstractImmutableSet<E> implements Set<E> {
 
     @Override
     public boolean containsAll(final @NonNull Collection<?> collection) {
-        for (val element : collection) if (!collection.contains(element)) return false;
+        for (val element : collection) if (!contains(element)) return false;
         return true;
     }
 
@@ -0,0 +1,411 @@
+package ru.progrm_jarvis.javacommons.collection;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable {@link Map map} storing its keys and values in parallel arrays
+ * which are searched using linear probing.
+ * <p>
+ * Unlike {@link HashMap} this map does not allocate a node per entry
+ * which reduces its memory footprint and improves the locality of lookups.
+ * Neither keys nor values of this map can be {@code null} and its iteration order is unspecified.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class CompactImmutableMap<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * Empty map shared by all types
+     */
+    private static final @NotNull CompactImmutableMap<?, ?> EMPTY = new CompactImmutableMap<>(new Object[0], 0);
+
+    /**
+     * Keys of the table, {@code null} marks a free slot
+     */
+    Object @NotNull [] keys;
+
+    /**
+     * Values of the table stored at the same indices as their keys
+     */
+    Object @NotNull [] values;
+
+    /**
+     * Mask used to get the index of the slot by the hash
+     */
+    int mask;
+
+    /**
+     * Number of entries in this map
+     */
+    int size;
+
+    /**
+     * Hash-code of this map precomputed as it never changes
+     */
+    int hashCode;
+
+    /**
+     * Lazily initialized entry set view of this map
+     */
+    @NonFinal @Nullable Set<Entry<K, V>> entrySet;
+
+    /**
+     * Creates a new map from the given array of alternating keys and values.
+     *
+     * @param keyValuePairs non-null keys and values ordered as <i>key1, value1, key2, value2...</i>,
+     * the later values replace the earlier ones associated with the same keys
+     * @param pairCount number of key-value pairs in the array
+     */
+    private CompactImmutableMap(final Object @NotNull [] keyValuePairs, final int pairCount) {
+        final int capacity;
+        final Object[] thisKeys = keys = new Object[capacity = capacity(pairCount)],
+                thisValues = values = new Object[capacity];
+        final int thisMask = mask = capacity - 1;
+
+        var size = 0;
+        for (int i = 0, length = pairCount << 1; i < length; i += 2) {
+            final Object key = keyValuePairs[i];
+            var index = spread(key.hashCode()) & thisMask;
+            Object current;
+            while ((current = thisKeys[index]) != null && !current.equals(key)) index = (index + 1) & thisMask;
+
+            if (current == null) {
+                thisKeys[index] = key;
+                size++;
+            }
+            thisValues[index] = keyValuePairs[i + 1];
+        }
+        this.size = size;
+
+        var hashCode = 0;
+        for (var i = 0; i < capacity; i++) {
+            final Object key;
+            if ((key = thisKeys[i]) != null) hashCode += key.hashCode() ^ thisValues[i].hashCode();
+        }
+        this.hashCode = hashCode;
+    }
+
+    private static int capacity(final int size) {
+        return size <= 1 ? 2 : Integer.highestOneBit((size << 1) - 1) << 1;
+    }
+
+    /**
+     * Spreads the bits of the hash-code so that the keys differing only in high bits do not collide.
+     *
+     * @param hashCode hash-code of the key
+     * @return spread hash of the key
+     */
+    private static int spread(final int hashCode) {
+        final int hash = hashCode * 0x9E3779B9;
+
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Gets an empty compact immutable map.
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return empty compact immutable map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> @NotNull CompactImmutableMap<K, V> of() {
+        return (CompactImmutableMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Creates a compact immutable map containing the entries of the given map.
+     *
+     * @param map map whose entries should be copied
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return compact immutable map containing the entries of the given map
+     *
+     * @throws NullPointerException if any key or value of the given map is {@code null}
+     */
+    public static <K, V> @NotNull CompactImmutableMap<K, V> copyOf(final @NonNull Map<? extends K, ? extends V> map) {
+        if (map instanceof CompactImmutableMap) {
+            @SuppressWarnings("unchecked") val compactMap = (CompactImmutableMap<K, V>) map;
+            return compactMap;
+        }
+
+        return CompactImmutableMap.<K, V>builder(map.size()).putAll(map).build();
+    }
+
+    /**
+     * Creates a compact immutable map containing the given keys and values.
+     *
+     * @param keyValuePairs keys and values ordered as <i>key1, value1, key2, value2...</i>
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return compact immutable map containing the given keys and values
+     *
+     * @throws IllegalArgumentException if {@code keyValuePairs}'s length is odd
+     * @throws NullPointerException if any of the keys or values is {@code null}
+     *
+     * @apiNote the given array is not retained by the created map
+     */
+    static <K, V> @NotNull CompactImmutableMap<K, V> ofKeyValuePairs(final Object @NonNull [] keyValuePairs) {
+        final int length;
+        if ((length = keyValuePairs.length) % 2 != 0) throw new IllegalArgumentException(
+                "Key-Value pairs array should have an even number of elements"
+        );
+        for (val keyOrValue : keyValuePairs) if (keyOrValue == null) throw new NullPointerException(
+                "Keys and values should be non-null"
+        );
+
+        return length == 0 ? of() : new CompactImmutableMap<>(keyValuePairs, length >> 1);
+    }
+
+    /**
+     * Creates a builder of compact immutable maps.
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return created builder
+     */
+    public static <K, V> @NotNull Builder<K, V> builder() {
+        return new Builder<>(Builder.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates a builder of compact immutable maps.
+     *
+     * @param expectedSize expected number of entries
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return created builder
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public static <K, V> @NotNull Builder<K, V> builder(final int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Expected size should be non-negative");
+
+        return new Builder<>(expectedSize);
+    }
+
+    private int slot(final @Nullable Object key) {
+        if (key == null) return -1;
+
+        final Object[] thisKeys = keys;
+        final int thisMask = mask;
+
+        var index = spread(key.hashCode()) & thisMask;
+        Object current;
+        while ((current = thisKeys[index]) != null) {
+            if (current == key || current.equals(key)) return index;
+            index = (index + 1) & thisMask;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return slot(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final @Nullable Object value) {
+        if (value == null) return false;
+
+        for (val thisValue : values) if (thisValue != null && thisValue.equals(value)) return true;
+
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(final @Nullable Object key) {
+        final int slot;
+        return (slot = slot(key)) >= 0 ? (V) values[slot] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(final @Nullable Object key, final V defaultValue) {
+        final int slot;
+        return (slot = slot(key)) >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @apiNote this method performs no allocations
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final @NonNull BiConsumer<? super K, ? super V> action) {
+        final Object[] thisKeys = keys, thisValues = values;
+        for (int i = 0, length = thisKeys.length; i < length; i++) {
+            final Object key;
+            if ((key = thisKeys[i]) != null) action.accept((K) key, (V) thisValues[i]);
+        }
+    }
+
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        final Set<Entry<K, V>> thisEntrySet;
+        return (thisEntrySet = entrySet) == null ? entrySet = new EntrySet() : thisEntrySet;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Entry set view of this map.
+     */
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final @Nullable Object object) {
+            if (!(object instanceof Entry)) return false;
+
+            final Entry<?, ?> entry;
+            final int slot;
+            return (slot = slot((entry = (Entry<?, ?>) object).getKey())) >= 0 && values[slot].equals(entry.getValue());
+        }
+
+        @Override
+        public @NotNull Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    /**
+     * Iterator over the entries of this map.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        /**
+         * Index of the next occupied slot or the capacity if there is none
+         */
+        int index = nextSlot(0);
+
+        private int nextSlot(int index) {
+            final Object[] thisKeys = keys;
+            final int length = thisKeys.length;
+            while (index < length && thisKeys[index] == null) index++;
+
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            final int thisIndex;
+            if ((thisIndex = index) >= keys.length) throw new NoSuchElementException();
+
+            index = nextSlot(thisIndex + 1);
+
+            return new SimpleImmutableEntry<>((K) keys[thisIndex], (V) values[thisIndex]);
+        }
+    }
+
+    /**
+     * Builder of {@link CompactImmutableMap compact immutable maps}.
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     *
+     * @apiNote this class is not thread-safe
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static final class Builder<K, V> {
+
+        /**
+         * Default number of entries for which the builder gets allocated
+         */
+        private static final int DEFAULT_EXPECTED_SIZE = 8;
+
+        /**
+         * Keys and values put into this builder ordered as <i>key1, value1, key2, value2...</i>
+         */
+        Object @NotNull [] keyValuePairs;
+
+        /**
+         * Number of key-value pairs put into this builder
+         */
+        int pairCount;
+
+        private Builder(final int expectedSize) {
+            keyValuePairs = new Object[expectedSize << 1];
+        }
+
+        /**
+         * Puts the given entry into the built map replacing the value previously associated with the given key.
+         *
+         * @param key key of the entry
+         * @param value value of the entry
+         * @return this builder
+         */
+        public @NotNull Builder<K, V> put(final @NonNull K key, final @NonNull V value) {
+            final int index;
+            if ((index = pairCount << 1) == keyValuePairs.length) keyValuePairs = Arrays.copyOf(
+                    keyValuePairs, Math.max(DEFAULT_EXPECTED_SIZE << 1, index + (index >> 1) & ~1)
+            );
+
+            keyValuePairs[index] = key;
+            keyValuePairs[index + 1] = value;
+            pairCount++;
+
+            return this;
+        }
+
+        /**
+         * Puts all entries of the given map into the built map.
+         *
+         * @param map map whose entries should be put
+         * @return this builder
+         */
+        public @NotNull Builder<K, V> putAll(final @NonNull Map<? extends K, ? extends V> map) {
+            for (val entry : map.entrySet()) put(entry.getKey(), entry.getValue());
+
+            return this;
+        }
+
+        /**
+         * Builds the compact immutable map containing all put entries.
+         *
+         * @return created compact immutable map
+         */
+        public @NotNull CompactImmutableMap<K, V> build() {
+            return pairCount == 0 ? of() : new CompactImmutableMap<>(keyValuePairs, pairCount);
+        }
+    }
+}
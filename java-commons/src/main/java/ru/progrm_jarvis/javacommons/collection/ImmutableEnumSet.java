@@ -0,0 +1,454 @@
+package ru.progrm_jarvis.javacommons.collection;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.cache.Cache;
+import ru.progrm_jarvis.javacommons.cache.Caches;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Immutable {@link Set set} of enum constants represented as a bit-vector indexed by their {@link Enum#ordinal()}.
+ * <p>
+ * The elements are stored in a single {@code long} for enums of at most {@value Long#SIZE} constants
+ * and in a {@code long[]} otherwise so that membership checks take constant time.
+ * The iteration order is the natural order of the enum constants.
+ *
+ * @param <E> type of the enum
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class ImmutableEnumSet<E extends Enum<E>> extends AbstractImmutableSet<E> {
+
+    /**
+     * Cache of arrays of all enum constants by their enum types
+     */
+    private static final @NotNull Cache<@NotNull Class<?>, Enum<?> @NotNull []> UNIVERSES = Caches.classValueCache();
+
+    /**
+     * Binary logarithm of the number of bits in a word
+     */
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * Type of the enum
+     */
+    @NotNull Class<E> type;
+
+    /**
+     * All constants of the enum shared by all sets of this type
+     */
+    E @NotNull [] universe;
+
+    /**
+     * Bits of the elements if all constants of the enum fit into a single word
+     */
+    long word;
+
+    /**
+     * Bits of the elements if not all constants of the enum fit into a single word and {@code null} otherwise
+     */
+    long @Nullable [] words;
+
+    /**
+     * Number of elements in this set
+     */
+    int size;
+
+    /**
+     * Hash-code of this set precomputed as it never changes
+     */
+    int hashCode;
+
+    private ImmutableEnumSet(final @NotNull Class<E> type, final E @NotNull [] universe, final long @NotNull [] bits) {
+        this.type = type;
+        this.universe = universe;
+        if (universe.length <= Long.SIZE) {
+            word = bits.length == 0 ? 0 : bits[0];
+            words = null;
+        } else {
+            word = 0;
+            words = bits;
+        }
+
+        var size = 0;
+        var hashCode = 0;
+        for (var wordIndex = 0; wordIndex < bits.length; wordIndex++) {
+            long remaining;
+            size += Long.bitCount(remaining = bits[wordIndex]);
+            for (; remaining != 0; remaining &= remaining - 1) hashCode += universe[
+                    (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(remaining)
+                    ].hashCode();
+        }
+        this.size = size;
+        this.hashCode = hashCode;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> E @NotNull [] universe(final @NotNull Class<E> type) {
+        return (E[]) UNIVERSES.get(type, enumType -> {
+            final Object[] constants;
+            if ((constants = enumType.getEnumConstants()) == null) throw new IllegalArgumentException(
+                    enumType + " is not an enum"
+            );
+
+            return (Enum<?>[]) constants;
+        });
+    }
+
+    private static long @NotNull [] newBits(final int universeSize) {
+        return new long[(universeSize + Long.SIZE - 1) >>> WORD_SHIFT];
+    }
+
+    /**
+     * Creates an empty immutable enum set.
+     *
+     * @param type type of the enum
+     * @param <E> type of the enum
+     * @return empty immutable enum set
+     *
+     * @throws IllegalArgumentException if the type is not an enum
+     */
+    public static <E extends Enum<E>> @NotNull ImmutableEnumSet<E> noneOf(final @NonNull Class<E> type) {
+        final E[] universe;
+        return new ImmutableEnumSet<>(type, universe = universe(type), newBits(universe.length));
+    }
+
+    /**
+     * Creates an immutable enum set containing all constants of the enum.
+     *
+     * @param type type of the enum
+     * @param <E> type of the enum
+     * @return immutable enum set containing all constants of the enum
+     *
+     * @throws IllegalArgumentException if the type is not an enum
+     */
+    public static <E extends Enum<E>> @NotNull ImmutableEnumSet<E> allOf(final @NonNull Class<E> type) {
+        final E[] universe;
+        final int universeSize;
+        final long[] bits = newBits(universeSize = (universe = universe(type)).length);
+        Arrays.fill(bits, -1L);
+        final int tailBits;
+        if ((tailBits = universeSize & (Long.SIZE - 1)) != 0) bits[bits.length - 1] = (1L << tailBits) - 1;
+
+        return new ImmutableEnumSet<>(type, universe, bits);
+    }
+
+    /**
+     * Creates an immutable enum set containing the given constants.
+     *
+     * @param first first constant of the set
+     * @param rest other constants of the set
+     * @param <E> type of the enum
+     * @return immutable enum set containing the given constants
+     */
+    @SafeVarargs
+    public static <E extends Enum<E>> @NotNull ImmutableEnumSet<E> of(
+            final @NonNull E first, final E @NonNull ... rest
+    ) {
+        val builder = builder(first.getDeclaringClass()).add(first);
+        for (val element : rest) builder.add(element);
+
+        return builder.build();
+    }
+
+    /**
+     * Creates an immutable enum set containing the given constants.
+     *
+     * @param type type of the enum
+     * @param elements constants of the set
+     * @param <E> type of the enum
+     * @return immutable enum set containing the given constants
+     *
+     * @throws IllegalArgumentException if the type is not an enum
+     * @throws ClassCastException if any of the elements is not a constant of the given enum
+     */
+    public static <E extends Enum<E>> @NotNull ImmutableEnumSet<E> copyOf(
+            final @NonNull Class<E> type, final @NonNull Iterable<? extends E> elements
+    ) {
+        if (elements instanceof ImmutableEnumSet && ((ImmutableEnumSet<?>) elements).type == type) {
+            @SuppressWarnings("unchecked") val set = (ImmutableEnumSet<E>) elements;
+            return set;
+        }
+
+        return builder(type).addAll(elements).build();
+    }
+
+    /**
+     * Creates a builder of immutable enum sets.
+     *
+     * @param type type of the enum
+     * @param <E> type of the enum
+     * @return created builder
+     *
+     * @throws IllegalArgumentException if the type is not an enum
+     */
+    public static <E extends Enum<E>> @NotNull Builder<E> builder(final @NonNull Class<E> type) {
+        return new Builder<>(type, universe(type));
+    }
+
+    private int wordCount() {
+        final long[] thisWords;
+        return (thisWords = words) == null ? 1 : thisWords.length;
+    }
+
+    private long wordAt(final int index) {
+        final long[] thisWords;
+        return (thisWords = words) == null ? word : thisWords[index];
+    }
+
+    private boolean containsOrdinal(final int ordinal) {
+        final long[] thisWords;
+        return ((thisWords = words) == null ? word : thisWords[ordinal >>> WORD_SHIFT]) << ~ordinal < 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(final @Nullable Object object) {
+        if (!(object instanceof Enum)) return false;
+
+        final Class<?> objectType;
+        return ((objectType = object.getClass()) == type || objectType.getSuperclass() == type)
+                && containsOrdinal(((Enum<?>) object).ordinal());
+    }
+
+    @Override
+    public boolean containsAll(final @NonNull Collection<?> collection) {
+        if (collection instanceof ImmutableEnumSet) {
+            final ImmutableEnumSet<?> other;
+            if ((other = (ImmutableEnumSet<?>) collection).type != type) return other.isEmpty();
+
+            for (int i = 0, wordCount = wordCount(); i < wordCount; i++) {
+                if ((other.wordAt(i) & ~wordAt(i)) != 0) return false;
+            }
+
+            return true;
+        }
+
+        return super.containsAll(collection);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @apiNote this method performs no allocations
+     */
+    @Override
+    public void forEach(final @NonNull Consumer<? super E> action) {
+        final E[] thisUniverse = universe;
+        for (int wordIndex = 0, wordCount = wordCount(); wordIndex < wordCount; wordIndex++) {
+            final int offset = wordIndex << WORD_SHIFT;
+            for (var remaining = wordAt(wordIndex); remaining != 0; remaining &= remaining - 1) action.accept(
+                    thisUniverse[offset + Long.numberOfTrailingZeros(remaining)]
+            );
+        }
+    }
+
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        return new ElementIterator();
+    }
+
+    @Override
+    public Object @NotNull [] toArray() {
+        return toArray(new Object[size]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T @NotNull [] toArray(T @NonNull [] array) {
+        final int thisSize;
+        if (array.length < (thisSize = size)) array = (T[]) Array.newInstance(
+                array.getClass().getComponentType(), thisSize
+        );
+
+        final E[] thisUniverse = universe;
+        var index = 0;
+        for (int wordIndex = 0, wordCount = wordCount(); wordIndex < wordCount; wordIndex++) {
+            final int offset = wordIndex << WORD_SHIFT;
+            for (var remaining = wordAt(wordIndex); remaining != 0; remaining &= remaining - 1) array[index++]
+                    = (T) thisUniverse[offset + Long.numberOfTrailingZeros(remaining)];
+        }
+        if (array.length > thisSize) array[thisSize] = null;
+
+        return array;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (object == this) return true;
+
+        if (object instanceof ImmutableEnumSet) {
+            final ImmutableEnumSet<?> other;
+            if ((other = (ImmutableEnumSet<?>) object).type != type) return size == 0 && other.size == 0;
+
+            return word == other.word && Arrays.equals(words, other.words);
+        }
+
+        if (!(object instanceof Set)) return false;
+
+        final Set<?> other;
+        return (other = (Set<?>) object).size() == size && containsAll(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        val builder = new StringBuilder("[");
+        forEach(element -> {
+            if (builder.length() != 1) builder.append(", ");
+            builder.append(element);
+        });
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Iterator over the elements of this set.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private final class ElementIterator implements Iterator<E> {
+
+        /**
+         * Index of the current word
+         */
+        int wordIndex;
+
+        /**
+         * Bits of the current word which have not been iterated yet
+         */
+        long remaining = wordAt(0);
+
+        @Override
+        public boolean hasNext() {
+            while (remaining == 0) {
+                if (wordIndex + 1 >= wordCount()) return false;
+                remaining = wordAt(++wordIndex);
+            }
+
+            return true;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            final long thisRemaining;
+            remaining = (thisRemaining = remaining) & thisRemaining - 1;
+
+            return universe[(wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(thisRemaining)];
+        }
+    }
+
+    /**
+     * Mutable builder of {@link ImmutableEnumSet immutable enum sets}.
+     *
+     * @param <E> type of the enum
+     *
+     * @apiNote this class is not thread-safe
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static final class Builder<E extends Enum<E>> {
+
+        /**
+         * Type of the enum
+         */
+        @NotNull Class<E> type;
+
+        /**
+         * All constants of the enum
+         */
+        E @NotNull [] universe;
+
+        /**
+         * Bits of the added elements
+         */
+        long @NotNull [] bits;
+
+        private Builder(final @NotNull Class<E> type, final E @NotNull [] universe) {
+            this.type = type;
+            this.universe = universe;
+            bits = newBits(universe.length);
+        }
+
+        /**
+         * Adds the given constant to the built set.
+         *
+         * @param element constant to be added
+         * @return this builder
+         *
+         * @throws ClassCastException if the element is not a constant of this builder's enum
+         */
+        public @NotNull Builder<E> add(final @NonNull E element) {
+            if (element.getDeclaringClass() != type) throw new ClassCastException(
+                    element.getDeclaringClass() + " != " + type
+            );
+
+            final int ordinal = element.ordinal();
+            bits[ordinal >>> WORD_SHIFT] |= 1L << ordinal;
+
+            return this;
+        }
+
+        /**
+         * Adds the given constants to the built set.
+         *
+         * @param elements constants to be added
+         * @return this builder
+         *
+         * @throws ClassCastException if any of the elements is not a constant of this builder's enum
+         */
+        public @NotNull Builder<E> addAll(final @NonNull Iterable<? extends E> elements) {
+            for (val element : elements) add(element);
+
+            return this;
+        }
+
+        /**
+         * Adds all constants added to the given builder to the built set.
+         *
+         * @param other builder whose constants should be added
+         * @return this builder
+         *
+         * @throws ClassCastException if the other builder is of the different enum
+         * @apiNote this method takes time proportional to the number of the enum's constants
+         * and so is suitable for combining builders of parallel streams
+         */
+        public @NotNull Builder<E> addAll(final @NonNull Builder<E> other) {
+            if (other.type != type) throw new ClassCastException(other.type + " != " + type);
+
+            final long[] thisBits = bits, otherBits = other.bits;
+            for (var i = 0; i < thisBits.length; i++) thisBits[i] |= otherBits[i];
+
+            return this;
+        }
+
+        /**
+         * Builds the immutable enum set containing all added constants.
+         *
+         * @return created immutable enum set
+         */
+        public @NotNull ImmutableEnumSet<E> build() {
+            return new ImmutableEnumSet<>(type, universe, bits.clone());
+        }
+    }
+}
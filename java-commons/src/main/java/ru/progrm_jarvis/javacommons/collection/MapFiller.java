@@ -76,6 +76,19 @@ public interface MapFiller<K, V> {
      */
     @NotNull MapFiller<K, V> fillOrdered(final @NonNull Stream<@NotNull ? extends Pair<K, V>> entries);
 
+    /**
+     * Freezes the entries of the filled map into a compact immutable map.
+     *
+     * @return compact immutable map containing the entries of the filled map
+     *
+     * @throws NullPointerException if any key or value of the filled map is {@code null}
+     * @apiNote the created map does not reflect later changes of the filled map
+     * which thus may be a short-lived one
+     * @see CompactImmutableMap
+     */
+    default @NotNull CompactImmutableMap<K, V> toImmutableMap() {
+        return CompactImmutableMap.copyOf(map());
+    }
 
     /**
      * Creates new map filler from the map specified.
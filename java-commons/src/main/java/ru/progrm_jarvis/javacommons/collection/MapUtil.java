@@ -4,6 +4,7 @@ import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.val;
 import lombok.var;
+import org.jetbrains.annotations.NotNull;
 import ru.progrm_jarvis.javacommons.object.Pair;
 
 import java.util.Iterator;
@@ -188,6 +189,41 @@ public class MapUtil {
         return map;
     }
 
+    /**
+     * Creates a compact immutable map containing the values specified.
+     *
+     * @param keyValuePairs pairs of keys and values in order <i>key1, value1, key2, value2, key3, value3...</i>
+     * @param <K> type of keys
+     * @param <V> type of values
+     *
+     * @return compact immutable map containing the key-value pairs specified
+     * @throws IllegalArgumentException if {@code keyValuePairs}'s length is odd
+     * @throws NullPointerException if any of the keys or values is {@code null}
+     * @see CompactImmutableMap
+     */
+    public <K, V> @NotNull CompactImmutableMap<K, V> compactImmutableMap(final @NonNull Object... keyValuePairs) {
+        return CompactImmutableMap.ofKeyValuePairs(keyValuePairs);
+    }
+
+    /**
+     * Creates a compact immutable map containing the values specified.
+     *
+     * @param entries entries of the created map
+     * @param <K> type of keys
+     * @param <V> type of values
+     *
+     * @return compact immutable map containing the entries specified
+     * @throws NullPointerException if any of the keys or values is {@code null}
+     * @see CompactImmutableMap
+     */
+    @SafeVarargs
+    public <K, V> @NotNull CompactImmutableMap<K, V> compactImmutableMap(final @NonNull Pair<K, V>... entries) {
+        val builder = CompactImmutableMap.<K, V>builder(entries.length);
+        for (val entry : entries) builder.put(entry.getFirst(), entry.getSecond());
+
+        return builder.build();
+    }
+
     /**
      * Gets the value from the map otherwise returning the value created by using the provided supplier.
      * Unlike {@link Map#computeIfAbsent(Object, Function)} this does not store the newly computed value in the map.
@@ -0,0 +1,926 @@
+package ru.progrm_jarvis.javacommons.collection;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Persistent immutable {@link Map map} whose updates create new versions sharing structure with the old ones.
+ * <p>
+ * The entries are stored in a hash array mapped trie so that the lookups and the updates
+ * take <i>O(log<sub>32</sub>n)</i> time.
+ * Neither keys nor values of this map can be {@code null} and its iteration order is unspecified.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ *
+ * @implNote the trie follows the <i>CHAMP</i> layout: each node stores its inlined entries
+ * at the beginning of its array and its child nodes in reverse order at the end of it
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * Number of hash bits consumed by each level of the trie
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Mask used to get the index of the slot in the node
+     */
+    private static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * Maximal number of nodes on the path from the root to the entry
+     */
+    private static final int MAXIMAL_DEPTH = (Integer.SIZE + BITS - 1) / BITS + 1;
+
+    /**
+     * Node used as the root of empty maps
+     */
+    private static final @NotNull Node EMPTY_NODE = new BitmapNode(null, 0, 0, new Object[0]);
+
+    /**
+     * Empty map shared by all types
+     */
+    private static final @NotNull PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(EMPTY_NODE, 0);
+
+    /**
+     * Root node of the trie
+     */
+    @NotNull Node root;
+
+    /**
+     * Number of entries in this map
+     */
+    int size;
+
+    /**
+     * Lazily initialized entry set view of this map
+     */
+    @NonFinal @Nullable Set<Entry<K, V>> entrySet;
+
+    private PersistentHashMap(final @NotNull Node root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Gets an empty persistent map.
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return empty persistent map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> @NotNull PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Creates a persistent map containing the entries of the given map.
+     *
+     * @param map map whose entries should be copied
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return persistent map containing the entries of the given map
+     *
+     * @throws NullPointerException if any key or value of the given map is {@code null}
+     */
+    public static <K, V> @NotNull PersistentHashMap<K, V> copyOf(final @NonNull Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap) {
+            @SuppressWarnings("unchecked") val persistentMap = (PersistentHashMap<K, V>) map;
+            return persistentMap;
+        }
+
+        return PersistentHashMap.<K, V>builder().putAll(map).build();
+    }
+
+    /**
+     * Creates a builder of persistent maps.
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return created builder
+     */
+    public static <K, V> @NotNull Builder<K, V> builder() {
+        return new Builder<>(EMPTY_NODE, 0);
+    }
+
+    /**
+     * Creates a builder initially containing the entries of this map.
+     *
+     * @return created builder
+     *
+     * @apiNote the builder shares structure with this map copying the nodes only once they get modified
+     */
+    public @NotNull Builder<K, V> toBuilder() {
+        return new Builder<>(root, size);
+    }
+
+    /**
+     * Spreads the bits of the hash-code so that the keys differing only in high bits get distributed.
+     *
+     * @param key key whose hash should be computed
+     * @return spread hash of the key
+     */
+    private static int hash(final @NotNull Object key) {
+        final int hash = key.hashCode() * 0x9E3779B9;
+
+        return hash ^ hash >>> 16;
+    }
+
+    private static int bit(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return key != null && root.find(key, hash(key), 0) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(final @Nullable Object key) {
+        return key == null ? null : (V) root.find(key, hash(key), 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(final @Nullable Object key, final V defaultValue) {
+        final Object value;
+        return key == null || (value = root.find(key, hash(key), 0)) == null ? defaultValue : (V) value;
+    }
+
+    /**
+     * Creates a new version of this map with the given value associated with the given key.
+     *
+     * @param key key of the entry
+     * @param value value of the entry
+     * @return new version of this map or this map if it already contains the given entry
+     */
+    public @NotNull PersistentHashMap<K, V> plus(final @NonNull K key, final @NonNull V value) {
+        val change = new Change();
+        final Node thisRoot, newRoot;
+        if ((newRoot = (thisRoot = root).put(null, key, hash(key), value, 0, change)) == thisRoot) return this;
+
+        return new PersistentHashMap<>(newRoot, change.added ? size + 1 : size);
+    }
+
+    /**
+     * Creates a new version of this map without the entry associated with the given key.
+     *
+     * @param key key of the entry
+     * @return new version of this map or this map if it does not contain the given key
+     */
+    public @NotNull PersistentHashMap<K, V> minus(final @Nullable Object key) {
+        if (key == null) return this;
+
+        val change = new Change();
+        final Node newRoot = root.remove(null, key, hash(key), 0, change);
+        if (!change.removed) return this;
+
+        final int newSize;
+        return (newSize = size - 1) == 0 ? empty() : new PersistentHashMap<>(newRoot, newSize);
+    }
+
+    /**
+     * Creates a new version of this map with all entries of the given map put into it.
+     *
+     * @param map map whose entries should be put
+     * @return new version of this map
+     */
+    public @NotNull PersistentHashMap<K, V> plusAll(final @NonNull Map<? extends K, ? extends V> map) {
+        return map.isEmpty() ? this : toBuilder().putAll(map).build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @apiNote this method performs no allocations
+     */
+    @Override
+    public void forEach(final @NonNull BiConsumer<? super K, ? super V> action) {
+        root.forEach(action);
+    }
+
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        final Set<Entry<K, V>> thisEntrySet;
+        return (thisEntrySet = entrySet) == null ? entrySet = new EntrySet() : thisEntrySet;
+    }
+
+    /**
+     * Creates an iterator over the keys of this map.
+     *
+     * @return iterator over the keys of this map
+     */
+    @NotNull Iterator<K> keyIterator() {
+        return new TrieIterator<K>(root) {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected K element(final @NotNull Node node, final int index) {
+                return (K) node.key(index);
+            }
+        };
+    }
+
+    /**
+     * Holder of the information about the performed insertion or removal.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class Change {
+
+        /**
+         * Flag indicating whether the new entry was added rather than the value of the existing one replaced
+         */
+        boolean added;
+
+        /**
+         * Flag indicating whether the existing entry was removed
+         */
+        boolean removed;
+    }
+
+    /**
+     * Node of the trie.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+    private abstract static class Node {
+
+        /**
+         * Owner which may edit this node in place or {@code null} if this node is persistent
+         */
+        @Nullable Object owner;
+
+        /**
+         * Checks whether this node may be edited in place by the given owner.
+         *
+         * @param owner owner of the editable nodes or {@code null} if the nodes are persistent
+         * @return {@code true} if this node may be edited in place and {@code false} otherwise
+         */
+        protected final boolean isOwnedBy(final @Nullable Object owner) {
+            return owner != null && this.owner == owner;
+        }
+
+        /**
+         * Gets the number of entries inlined into this node.
+         *
+         * @return number of entries inlined into this node
+         */
+        protected abstract int payloadArity();
+
+        /**
+         * Gets the number of child nodes of this node.
+         *
+         * @return number of child nodes of this node
+         */
+        protected abstract int nodeArity();
+
+        protected abstract @NotNull Object key(int index);
+
+        protected abstract @NotNull Object value(int index);
+
+        protected abstract @NotNull Node node(int index);
+
+        /**
+         * Finds the value associated with the given key.
+         *
+         * @param key key of the entry
+         * @param hash spread hash of the key
+         * @param shift number of hash bits consumed by the upper levels
+         * @return value associated with the given key or {@code null} if there is none
+         */
+        protected abstract @Nullable Object find(@NotNull Object key, int hash, int shift);
+
+        /**
+         * Associates the given value with the given key.
+         *
+         * @param owner owner of the editable nodes or {@code null} if the nodes are persistent
+         * @param key key of the entry
+         * @param hash spread hash of the key
+         * @param value value of the entry
+         * @param shift number of hash bits consumed by the upper levels
+         * @param change holder of the information about the performed insertion
+         * @return updated node or this node if it already contains the given entry
+         */
+        protected abstract @NotNull Node put(@Nullable Object owner, @NotNull Object key, int hash,
+                                             @NotNull Object value, int shift, @NotNull Change change);
+
+        /**
+         * Removes the entry associated with the given key.
+         *
+         * @param owner owner of the editable nodes or {@code null} if the nodes are persistent
+         * @param key key of the entry
+         * @param hash spread hash of the key
+         * @param shift number of hash bits consumed by the upper levels
+         * @param change holder of the information about the performed removal
+         * @return updated node or this node if it does not contain the given key or has been edited in place
+         */
+        protected abstract @NotNull Node remove(@Nullable Object owner, @NotNull Object key, int hash, int shift,
+                                                @NotNull Change change);
+
+        @SuppressWarnings("unchecked")
+        protected final <K, V> void forEach(final @NotNull BiConsumer<? super K, ? super V> action) {
+            for (int i = 0, arity = payloadArity(); i < arity; i++) action.accept((K) key(i), (V) value(i));
+            for (int i = 0, arity = nodeArity(); i < arity; i++) node(i).<K, V>forEach(action);
+        }
+
+        /**
+         * Checks whether this node consists of exactly one inlined entry
+         * so that it should be inlined into its parent.
+         *
+         * @return {@code true} if this node should be inlined into its parent and {@code false} otherwise
+         */
+        protected final boolean isSingleEntry() {
+            return payloadArity() == 1 && nodeArity() == 0;
+        }
+    }
+
+    /**
+     * Node whose slots are addressed by the bitmaps of the hash fragments.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class BitmapNode extends Node {
+
+        /**
+         * Bitmap of the slots occupied by the inlined entries
+         */
+        int dataMap;
+
+        /**
+         * Bitmap of the slots occupied by the child nodes
+         */
+        int nodeMap;
+
+        /**
+         * Inlined keys and values ordered as <i>key1, value1, key2, value2...</i> followed by the child nodes
+         * in reverse order
+         */
+        Object @NotNull [] content;
+
+        private BitmapNode(final @Nullable Object owner, final int dataMap, final int nodeMap,
+                           final Object @NotNull [] content) {
+            super(owner);
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private int dataIndex(final int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeSlot(final int bit) {
+            return content.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        @Override
+        protected int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        protected int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        protected @NotNull Object key(final int index) {
+            return content[index << 1];
+        }
+
+        @Override
+        protected @NotNull Object value(final int index) {
+            return content[(index << 1) + 1];
+        }
+
+        @Override
+        protected @NotNull Node node(final int index) {
+            return (Node) content[content.length - 1 - index];
+        }
+
+        @Override
+        protected @Nullable Object find(final @NotNull Object key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                final int index = dataIndex(bit) << 1;
+                return key.equals(content[index]) ? content[index + 1] : null;
+            }
+            if ((nodeMap & bit) != 0) return ((Node) content[nodeSlot(bit)]).find(key, hash, shift + BITS);
+
+            return null;
+        }
+
+        @Override
+        protected @NotNull Node put(final @Nullable Object owner, final @NotNull Object key, final int hash,
+                                    final @NotNull Object value, final int shift, final @NotNull Change change) {
+            final int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                final int index = dataIndex(bit) << 1;
+                final Object currentKey;
+                if (key.equals(currentKey = content[index])) {
+                    if (content[index + 1] == value) return this;
+
+                    return withContent(owner, index + 1, value);
+                }
+
+                change.added = true;
+                return withDataMigratedToNode(owner, bit, index, merge(
+                        owner, currentKey, hash(currentKey), content[index + 1], key, hash, value, shift + BITS
+                ));
+            }
+            if ((nodeMap & bit) != 0) {
+                final int slot;
+                final Node node, newNode;
+                if ((newNode = (node = (Node) content[slot = nodeSlot(bit)])
+                        .put(owner, key, hash, value, shift + BITS, change)) == node) return this;
+
+                return withContent(owner, slot, newNode);
+            }
+
+            change.added = true;
+            return withInsertedEntry(owner, bit, key, value);
+        }
+
+        @Override
+        protected @NotNull Node remove(final @Nullable Object owner, final @NotNull Object key,
+                                       final int hash, final int shift, final @NotNull Change change) {
+            final int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                final int index = dataIndex(bit) << 1;
+                if (!key.equals(content[index])) return this;
+
+                change.removed = true;
+                if (nodeMap == 0 && content.length == 4) {
+                    // the remaining entry either becomes the root or gets inlined into the parent,
+                    // in the latter case the bitmap does not matter while for the root it is the one of level 0
+                    final int remaining = index == 0 ? 2 : 0;
+                    return new BitmapNode(
+                            owner, shift == 0 ? dataMap ^ bit : bit(hash, 0),
+                            0, new Object[]{content[remaining], content[remaining + 1]}
+                    );
+                }
+
+                return withRemovedEntry(owner, bit, index);
+            }
+            if ((nodeMap & bit) != 0) {
+                final int slot;
+                final Node node, newNode;
+                if ((newNode = (node = (Node) content[slot = nodeSlot(bit)])
+                        .remove(owner, key, hash, shift + BITS, change)) == node) return this;
+
+                if (newNode.isSingleEntry()) {
+                    // propagate the single entry up so that it gets inlined as high as possible
+                    if (dataMap == 0 && content.length == 1) return newNode;
+
+                    return withNodeMigratedToData(owner, bit, slot, newNode);
+                }
+
+                return withContent(owner, slot, newNode);
+            }
+
+            return this;
+        }
+
+        private @NotNull Node withContent(final @Nullable Object owner, final int index, final @NotNull Object value) {
+            if (isOwnedBy(owner)) {
+                content[index] = value;
+                return this;
+            }
+
+            val newContent = content.clone();
+            newContent[index] = value;
+
+            return new BitmapNode(owner, dataMap, nodeMap, newContent);
+        }
+
+        private @NotNull Node withInsertedEntry(final @Nullable Object owner, final int bit,
+                                                final @NotNull Object key, final @NotNull Object value) {
+            final int index = dataIndex(bit) << 1, length;
+            final Object[] thisContent, newContent = new Object[(length = (thisContent = content).length) + 2];
+            System.arraycopy(thisContent, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(thisContent, index, newContent, index + 2, length - index);
+
+            return new BitmapNode(owner, dataMap | bit, nodeMap, newContent);
+        }
+
+        private @NotNull Node withRemovedEntry(final @Nullable Object owner, final int bit, final int index) {
+            final int length;
+            final Object[] thisContent, newContent = new Object[(length = (thisContent = content).length) - 2];
+            System.arraycopy(thisContent, 0, newContent, 0, index);
+            System.arraycopy(thisContent, index + 2, newContent, index, length - index - 2);
+
+            return new BitmapNode(owner, dataMap ^ bit, nodeMap, newContent);
+        }
+
+        private @NotNull Node withDataMigratedToNode(final @Nullable Object owner, final int bit,
+                                                     final int index, final @NotNull Node node) {
+            final int length;
+            final Object[] thisContent, newContent = new Object[(length = (thisContent = content).length) - 1];
+            final int slot = nodeSlot(bit) - 1; // position in the new array which is one slot shorter
+            System.arraycopy(thisContent, 0, newContent, 0, index);
+            System.arraycopy(thisContent, index + 2, newContent, index, slot - index);
+            newContent[slot] = node;
+            System.arraycopy(thisContent, slot + 2, newContent, slot + 1, length - slot - 2);
+
+            return new BitmapNode(owner, dataMap ^ bit, nodeMap | bit, newContent);
+        }
+
+        private @NotNull Node withNodeMigratedToData(final @Nullable Object owner, final int bit,
+                                                     final int slot, final @NotNull Node node) {
+            final int index = dataIndex(bit) << 1, length;
+            final Object[] thisContent, newContent = new Object[(length = (thisContent = content).length) + 1];
+            System.arraycopy(thisContent, 0, newContent, 0, index);
+            newContent[index] = node.key(0);
+            newContent[index + 1] = node.value(0);
+            System.arraycopy(thisContent, index, newContent, index + 2, slot - index);
+            System.arraycopy(thisContent, slot + 1, newContent, slot + 2, length - slot - 1);
+
+            return new BitmapNode(owner, dataMap | bit, nodeMap ^ bit, newContent);
+        }
+
+        private static @NotNull Node merge(final @Nullable Object owner,
+                                           final @NotNull Object firstKey, final int firstHash,
+                                           final @NotNull Object firstValue,
+                                           final @NotNull Object secondKey, final int secondHash,
+                                           final @NotNull Object secondValue, final int shift) {
+            if (shift >= Integer.SIZE) return new CollisionNode(
+                    owner, firstHash, new Object[]{firstKey, firstValue, secondKey, secondValue}
+            );
+
+            final int firstFragment = (firstHash >>> shift) & MASK, secondFragment = (secondHash >>> shift) & MASK;
+            if (firstFragment == secondFragment) return new BitmapNode(
+                    owner, 0, 1 << firstFragment, new Object[]{merge(
+                    owner, firstKey, firstHash, firstValue, secondKey, secondHash, secondValue, shift + BITS
+            )}
+            );
+
+            return new BitmapNode(
+                    owner, 1 << firstFragment | 1 << secondFragment, 0, firstFragment < secondFragment
+                    ? new Object[]{firstKey, firstValue, secondKey, secondValue}
+                    : new Object[]{secondKey, secondValue, firstKey, firstValue}
+            );
+        }
+    }
+
+    /**
+     * Node storing the entries whose keys have equal hashes.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class CollisionNode extends Node {
+
+        /**
+         * Spread hash common to all keys of this node
+         */
+        int hash;
+
+        /**
+         * Keys and values ordered as <i>key1, value1, key2, value2...</i>
+         */
+        Object @NotNull [] content;
+
+        private CollisionNode(final @Nullable Object owner, final int hash, final Object @NotNull [] content) {
+            super(owner);
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(final @NotNull Object key) {
+            final Object[] thisContent = content;
+            for (int i = 0, length = thisContent.length; i < length; i += 2) if (key.equals(thisContent[i])) return i;
+
+            return -1;
+        }
+
+        @Override
+        protected int payloadArity() {
+            return content.length >> 1;
+        }
+
+        @Override
+        protected int nodeArity() {
+            return 0;
+        }
+
+        @Override
+        protected @NotNull Object key(final int index) {
+            return content[index << 1];
+        }
+
+        @Override
+        protected @NotNull Object value(final int index) {
+            return content[(index << 1) + 1];
+        }
+
+        @Override
+        protected @NotNull Node node(final int index) {
+            throw new IndexOutOfBoundsException("Collision node has no child nodes");
+        }
+
+        @Override
+        protected @Nullable Object find(final @NotNull Object key, final int hash, final int shift) {
+            final int index;
+            return (index = indexOf(key)) < 0 ? null : content[index + 1];
+        }
+
+        @Override
+        protected @NotNull Node put(final @Nullable Object owner, final @NotNull Object key, final int hash,
+                                    final @NotNull Object value, final int shift, final @NotNull Change change) {
+            final int index;
+            final Object[] thisContent = content;
+            if ((index = indexOf(key)) >= 0) {
+                if (thisContent[index + 1] == value) return this;
+
+                if (isOwnedBy(owner)) {
+                    thisContent[index + 1] = value;
+                    return this;
+                }
+
+                val newContent = thisContent.clone();
+                newContent[index + 1] = value;
+
+                return new CollisionNode(owner, hash, newContent);
+            }
+
+            change.added = true;
+            final int length;
+            val newContent = Arrays.copyOf(thisContent, (length = thisContent.length) + 2);
+            newContent[length] = key;
+            newContent[length + 1] = value;
+
+            return new CollisionNode(owner, hash, newContent);
+        }
+
+        @Override
+        protected @NotNull Node remove(final @Nullable Object owner, final @NotNull Object key,
+                                       final int hash, final int shift, final @NotNull Change change) {
+            final int index;
+            if ((index = indexOf(key)) < 0) return this;
+
+            change.removed = true;
+            final Object[] thisContent;
+            final int length;
+            if ((length = (thisContent = content).length) == 4) {
+                final int remaining = index == 0 ? 2 : 0;
+                return new BitmapNode(
+                        owner, bit(hash, 0), 0, new Object[]{thisContent[remaining], thisContent[remaining + 1]}
+                );
+            }
+
+            val newContent = new Object[length - 2];
+            System.arraycopy(thisContent, 0, newContent, 0, index);
+            System.arraycopy(thisContent, index + 2, newContent, index, length - index - 2);
+
+            return new CollisionNode(owner, hash, newContent);
+        }
+    }
+
+    /**
+     * Depth-first iterator over the entries of the trie.
+     *
+     * @param <T> type of the elements produced from the entries
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private abstract static class TrieIterator<T> implements Iterator<T> {
+
+        /**
+         * Nodes on the path from the root to the current one
+         */
+        final @NotNull Node @NotNull [] nodes = new Node[MAXIMAL_DEPTH];
+
+        /**
+         * Indices of the next child nodes to be visited for each node on the path
+         */
+        final int @NotNull [] childIndices = new int[MAXIMAL_DEPTH];
+
+        /**
+         * Number of nodes on the path
+         */
+        int depth;
+
+        /**
+         * Node whose inlined entries are being iterated
+         */
+        @NotNull Node payloadNode;
+
+        /**
+         * Index of the next inlined entry of the current node
+         */
+        int payloadIndex;
+
+        private TrieIterator(final @NotNull Node root) {
+            nodes[0] = payloadNode = root;
+            depth = 1;
+        }
+
+        /**
+         * Creates the element of this iterator from the inlined entry.
+         *
+         * @param node node containing the entry
+         * @param index index of the entry in the node
+         * @return created element
+         */
+        protected abstract T element(@NotNull Node node, int index);
+
+        @Override
+        public boolean hasNext() {
+            while (payloadIndex >= payloadNode.payloadArity()) {
+                // visit the next node in depth-first order
+                var depth = this.depth;
+                while (true) {
+                    if (depth == 0) {
+                        this.depth = 0;
+                        return false;
+                    }
+
+                    val parent = nodes[depth - 1];
+                    final int childIndex;
+                    if ((childIndex = childIndices[depth - 1]) < parent.nodeArity()) {
+                        childIndices[depth - 1] = childIndex + 1;
+                        nodes[depth] = payloadNode = parent.node(childIndex);
+                        childIndices[depth] = 0;
+                        this.depth = depth + 1;
+                        payloadIndex = 0;
+                        break;
+                    }
+                    depth--;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            return element(payloadNode, payloadIndex++);
+        }
+    }
+
+    /**
+     * Entry set view of this map.
+     */
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final @Nullable Object object) {
+            if (!(object instanceof Entry)) return false;
+
+            final Entry<?, ?> entry;
+            final Object key, value;
+            return (key = (entry = (Entry<?, ?>) object).getKey()) != null
+                    && (value = root.find(key, hash(key), 0)) != null && value.equals(entry.getValue());
+        }
+
+        @Override
+        public @NotNull Iterator<Entry<K, V>> iterator() {
+            return new TrieIterator<Entry<K, V>>(root) {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected Entry<K, V> element(final @NotNull Node node, final int index) {
+                    return new SimpleImmutableEntry<>((K) node.key(index), (V) node.value(index));
+                }
+            };
+        }
+    }
+
+    /**
+     * Transient builder of {@link PersistentHashMap persistent maps} editing its own nodes in place.
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     *
+     * @apiNote this class is not thread-safe
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static final class Builder<K, V> {
+
+        /**
+         * Owner of the nodes which may be edited in place, replaced once a map is built
+         */
+        @NotNull Object owner = new Object();
+
+        /**
+         * Root node of the trie
+         */
+        @NotNull Node root;
+
+        /**
+         * Number of entries in this builder
+         */
+        int size;
+
+        private Builder(final @NotNull Node root, final int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        /**
+         * Gets the number of entries in this builder.
+         *
+         * @return number of entries in this builder
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Gets the value associated with the given key.
+         *
+         * @param key key of the entry
+         * @return value associated with the given key or {@code null} if there is none
+         */
+        @SuppressWarnings("unchecked")
+        public @Nullable V get(final @Nullable Object key) {
+            return key == null ? null : (V) root.find(key, hash(key), 0);
+        }
+
+        /**
+         * Associates the given value with the given key replacing the previous one.
+         *
+         * @param key key of the entry
+         * @param value value of the entry
+         * @return this builder
+         */
+        public @NotNull Builder<K, V> put(final @NonNull K key, final @NonNull V value) {
+            val change = new Change();
+            root = root.put(owner, key, hash(key), value, 0, change);
+            if (change.added) size++;
+
+            return this;
+        }
+
+        /**
+         * Puts all entries of the given map.
+         *
+         * @param map map whose entries should be put
+         * @return this builder
+         */
+        public @NotNull Builder<K, V> putAll(final @NonNull Map<? extends K, ? extends V> map) {
+            for (val entry : map.entrySet()) put(entry.getKey(), entry.getValue());
+
+            return this;
+        }
+
+        /**
+         * Removes the entry associated with the given key.
+         *
+         * @param key key of the entry
+         * @return this builder
+         */
+        public @NotNull Builder<K, V> remove(final @Nullable Object key) {
+            if (key == null) return this;
+
+            val change = new Change();
+            root = root.remove(owner, key, hash(key), 0, change);
+            // owned nodes are edited in place so the identity of the root says nothing about the removal
+            if (change.removed) size--;
+
+            return this;
+        }
+
+        /**
+         * Builds the persistent map containing all entries of this builder.
+         *
+         * @return created persistent map
+         *
+         * @apiNote this builder stays usable and its later changes do not affect the built map
+         */
+        public @NotNull PersistentHashMap<K, V> build() {
+            final int thisSize;
+            if ((thisSize = size) == 0) return empty();
+
+            owner = new Object(); // the nodes now belong to the built map
+            return new PersistentHashMap<>(root, thisSize);
+        }
+    }
+}
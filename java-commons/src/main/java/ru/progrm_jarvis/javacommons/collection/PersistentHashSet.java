@@ -0,0 +1,240 @@
+package ru.progrm_jarvis.javacommons.collection;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Persistent immutable {@link Set set} whose updates create new versions sharing structure with the old ones.
+ * <p>
+ * The elements are stored as the keys of a {@link PersistentHashMap persistent map}
+ * so that the lookups and the updates take <i>O(log<sub>32</sub>n)</i> time.
+ * The elements of this set cannot be {@code null} and its iteration order is unspecified.
+ *
+ * @param <E> type of the elements
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class PersistentHashSet<E> extends AbstractSet<E> {
+
+    /**
+     * Empty set shared by all types
+     */
+    private static final @NotNull PersistentHashSet<?> EMPTY = new PersistentHashSet<>(PersistentHashMap.empty());
+
+    /**
+     * Map whose keys are the elements of this set
+     */
+    @NotNull PersistentHashMap<E, Boolean> map;
+
+    /**
+     * Gets an empty persistent set.
+     *
+     * @param <E> type of the elements
+     * @return empty persistent set
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> @NotNull PersistentHashSet<E> empty() {
+        return (PersistentHashSet<E>) EMPTY;
+    }
+
+    /**
+     * Creates a persistent set containing the given elements.
+     *
+     * @param elements elements of the set
+     * @param <E> type of the elements
+     * @return persistent set containing the given elements
+     *
+     * @throws NullPointerException if any of the elements is {@code null}
+     */
+    @SafeVarargs
+    public static <E> @NotNull PersistentHashSet<E> of(final E @NonNull ... elements) {
+        val builder = PersistentHashSet.<E>builder();
+        for (val element : elements) builder.add(element);
+
+        return builder.build();
+    }
+
+    /**
+     * Creates a persistent set containing the given elements.
+     *
+     * @param elements elements of the set
+     * @param <E> type of the elements
+     * @return persistent set containing the given elements
+     *
+     * @throws NullPointerException if any of the elements is {@code null}
+     */
+    public static <E> @NotNull PersistentHashSet<E> copyOf(final @NonNull Iterable<? extends E> elements) {
+        if (elements instanceof PersistentHashSet) {
+            @SuppressWarnings("unchecked") val set = (PersistentHashSet<E>) elements;
+            return set;
+        }
+
+        return PersistentHashSet.<E>builder().addAll(elements).build();
+    }
+
+    /**
+     * Creates a builder of persistent sets.
+     *
+     * @param <E> type of the elements
+     * @return created builder
+     */
+    public static <E> @NotNull Builder<E> builder() {
+        return new Builder<>(PersistentHashMap.builder());
+    }
+
+    /**
+     * Creates a builder initially containing the elements of this set.
+     *
+     * @return created builder
+     *
+     * @apiNote the builder shares structure with this set copying the nodes only once they get modified
+     */
+    public @NotNull Builder<E> toBuilder() {
+        return new Builder<>(map.toBuilder());
+    }
+
+    private static <E> @NotNull PersistentHashSet<E> fromMap(final @NotNull PersistentHashMap<E, Boolean> map) {
+        return map.isEmpty() ? empty() : new PersistentHashSet<>(map);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final @Nullable Object element) {
+        return map.containsKey(element);
+    }
+
+    /**
+     * Creates a new version of this set with the given element added to it.
+     *
+     * @param element element to be added
+     * @return new version of this set or this set if it already contains the given element
+     */
+    public @NotNull PersistentHashSet<E> plus(final @NonNull E element) {
+        final PersistentHashMap<E, Boolean> thisMap, newMap;
+        return (newMap = (thisMap = map).plus(element, Boolean.TRUE)) == thisMap
+                ? this : new PersistentHashSet<>(newMap);
+    }
+
+    /**
+     * Creates a new version of this set without the given element.
+     *
+     * @param element element to be removed
+     * @return new version of this set or this set if it does not contain the given element
+     */
+    public @NotNull PersistentHashSet<E> minus(final @Nullable Object element) {
+        final PersistentHashMap<E, Boolean> thisMap, newMap;
+        return (newMap = (thisMap = map).minus(element)) == thisMap ? this : fromMap(newMap);
+    }
+
+    @Override
+    public void forEach(final @NonNull Consumer<? super E> action) {
+        map.forEach((element, present) -> action.accept(element));
+    }
+
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        return map.keyIterator();
+    }
+
+    /**
+     * Transient builder of {@link PersistentHashSet persistent sets} editing its own nodes in place.
+     *
+     * @param <E> type of the elements
+     *
+     * @apiNote this class is not thread-safe
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static final class Builder<E> {
+
+        /**
+         * Builder of the map whose keys are the elements of the built set
+         */
+        @NotNull PersistentHashMap.Builder<E, Boolean> map;
+
+        /**
+         * Gets the number of elements in this builder.
+         *
+         * @return number of elements in this builder
+         */
+        public int size() {
+            return map.size();
+        }
+
+        /**
+         * Checks whether this builder contains the given element.
+         *
+         * @param element element to check
+         * @return {@code true} if this builder contains the given element and {@code false} otherwise
+         */
+        public boolean contains(final @Nullable Object element) {
+            return map.get(element) != null;
+        }
+
+        /**
+         * Adds the given element.
+         *
+         * @param element element to be added
+         * @return this builder
+         */
+        public @NotNull Builder<E> add(final @NonNull E element) {
+            map.put(element, Boolean.TRUE);
+
+            return this;
+        }
+
+        /**
+         * Adds all given elements.
+         *
+         * @param elements elements to be added
+         * @return this builder
+         */
+        public @NotNull Builder<E> addAll(final @NonNull Iterable<? extends E> elements) {
+            for (val element : elements) add(element);
+
+            return this;
+        }
+
+        /**
+         * Removes the given element.
+         *
+         * @param element element to be removed
+         * @return this builder
+         */
+        public @NotNull Builder<E> remove(final @Nullable Object element) {
+            map.remove(element);
+
+            return this;
+        }
+
+        /**
+         * Builds the persistent set containing all elements of this builder.
+         *
+         * @return created persistent set
+         *
+         * @apiNote this builder stays usable and its later changes do not affect the built set
+         */
+        public @NotNull PersistentHashSet<E> build() {
+            return fromMap(map.build());
+        }
+    }
+}
@@ -0,0 +1,563 @@
+package ru.progrm_jarvis.javacommons.collection;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Persistent immutable {@link List list} whose updates create new versions sharing structure with the old ones.
+ * <p>
+ * The elements are stored in a 32-way trie whose last (possibly incomplete) leaf is kept aside as a <i>tail</i>
+ * so that random access and the updates take <i>O(log<sub>32</sub>n)</i> time
+ * while appending to the end is amortized constant.
+ *
+ * @param <E> type of the elements
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Number of index bits consumed by each level of the trie
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Number of children of each node of the trie
+     */
+    private static final int WIDTH = 1 << BITS;
+
+    /**
+     * Mask used to get the index of the child in the node
+     */
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * Node used as the root of the vectors whose elements all fit into their tails
+     */
+    private static final @NotNull Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    /**
+     * Empty vector shared by all types
+     */
+    private static final @NotNull PersistentVector<?> EMPTY = new PersistentVector<>(
+            0, BITS, EMPTY_NODE, new Object[0]
+    );
+
+    /**
+     * Number of elements in this vector
+     */
+    int size;
+
+    /**
+     * Number of bits by which the index gets shifted at the root level
+     */
+    int shift;
+
+    /**
+     * Root node of the trie
+     */
+    @NotNull Node root;
+
+    /**
+     * Last leaf of this vector which is not yet stored in the trie, its length is equal to the number of its elements
+     */
+    Object @NotNull [] tail;
+
+    private PersistentVector(final int size, final int shift, final @NotNull Node root, final Object @NotNull [] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Gets an empty persistent vector.
+     *
+     * @param <E> type of the elements
+     * @return empty persistent vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> @NotNull PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Creates a persistent vector containing the given elements.
+     *
+     * @param elements elements of the vector
+     * @param <E> type of the elements
+     * @return persistent vector containing the given elements
+     */
+    @SafeVarargs
+    public static <E> @NotNull PersistentVector<E> of(final E @NonNull ... elements) {
+        val builder = PersistentVector.<E>builder();
+        for (val element : elements) builder.add(element);
+
+        return builder.build();
+    }
+
+    /**
+     * Creates a persistent vector containing the given elements.
+     *
+     * @param elements elements of the vector
+     * @param <E> type of the elements
+     * @return persistent vector containing the given elements
+     */
+    public static <E> @NotNull PersistentVector<E> copyOf(final @NonNull Iterable<? extends E> elements) {
+        if (elements instanceof PersistentVector) {
+            @SuppressWarnings("unchecked") val vector = (PersistentVector<E>) elements;
+            return vector;
+        }
+
+        return PersistentVector.<E>builder().addAll(elements).build();
+    }
+
+    /**
+     * Creates a builder of persistent vectors.
+     *
+     * @param <E> type of the elements
+     * @return created builder
+     */
+    public static <E> @NotNull Builder<E> builder() {
+        return PersistentVector.<E>empty().toBuilder();
+    }
+
+    /**
+     * Creates a builder initially containing the elements of this vector.
+     *
+     * @return created builder
+     *
+     * @apiNote the builder shares structure with this vector copying the nodes only once they get modified
+     */
+    public @NotNull Builder<E> toBuilder() {
+        return new Builder<>(size, shift, root, Arrays.copyOf(tail, WIDTH));
+    }
+
+    private static int tailOffset(final int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private static void checkIndex(final int index, final int size) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(
+                "Index " + index + " is out of bounds for size " + size
+        );
+    }
+
+    /**
+     * Gets the leaf containing the element at the given index.
+     *
+     * @param index valid index of the element
+     * @param size number of elements in the vector
+     * @param shift number of bits by which the index gets shifted at the root level
+     * @param root root node of the trie
+     * @param tail tail of the vector
+     * @return leaf containing the element at the given index
+     */
+    private static Object @NotNull [] leaf(final int index, final int size, final int shift,
+                                           final @NotNull Node root, final Object @NotNull [] tail) {
+        if (index >= tailOffset(size)) return tail;
+
+        var node = root;
+        for (var level = shift; level > 0; level -= BITS) node = (Node) node.array[(index >>> level) & MASK];
+
+        return node.array;
+    }
+
+    /**
+     * Gets the given node if it is owned by the given owner or its copy owned by it otherwise.
+     *
+     * @param owner owner of the editable nodes or {@code null} if the nodes are persistent
+     * @param node node to be edited
+     * @return node which may be edited in place
+     */
+    private static @NotNull Node editable(final @Nullable Object owner, final @NotNull Node node) {
+        return owner != null && node.owner == owner ? node : new Node(owner, node.array.clone());
+    }
+
+    private static @NotNull Node newPath(final @Nullable Object owner, final int level, final @NotNull Node node) {
+        if (level == 0) return node;
+
+        val path = new Node(owner, new Object[WIDTH]);
+        path.array[0] = newPath(owner, level - BITS, node);
+
+        return path;
+    }
+
+    private static @NotNull Node pushTail(final @Nullable Object owner, final int size, final int level,
+                                          final @NotNull Node parent, final @NotNull Node tailNode) {
+        val result = editable(owner, parent);
+        final int subIndex = ((size - 1) >>> level) & MASK;
+        final Object child;
+        result.array[subIndex] = level == BITS ? tailNode
+                : (child = result.array[subIndex]) == null ? newPath(owner, level - BITS, tailNode)
+                : pushTail(owner, size, level - BITS, (Node) child, tailNode);
+
+        return result;
+    }
+
+    private static @NotNull Node assoc(final @Nullable Object owner, final int level, final @NotNull Node node,
+                                       final int index, final @Nullable Object element) {
+        val result = editable(owner, node);
+        if (level == 0) result.array[index & MASK] = element;
+        else {
+            final int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(owner, level - BITS, (Node) result.array[subIndex], index, element);
+        }
+
+        return result;
+    }
+
+    private static @Nullable Node popTail(final int size, final int level, final @NotNull Node node) {
+        final int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            val child = popTail(size, level - BITS, (Node) node.array[subIndex]);
+            if (child == null && subIndex == 0) return null;
+
+            val result = new Node(null, node.array.clone());
+            result.array[subIndex] = child;
+
+            return result;
+        }
+        if (subIndex == 0) return null;
+
+        val result = new Node(null, node.array.clone());
+        result.array[subIndex] = null;
+
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        final int thisSize;
+        checkIndex(index, thisSize = size);
+
+        return (E) leaf(index, thisSize, shift, root, tail)[index & MASK];
+    }
+
+    /**
+     * Creates a new version of this vector with the given element appended to its end.
+     *
+     * @param element element to be appended
+     * @return new version of this vector
+     */
+    public @NotNull PersistentVector<E> plus(final @Nullable E element) {
+        final int thisSize;
+        final Object[] thisTail;
+        final int tailLength;
+        if ((tailLength = (thisTail = tail).length) < WIDTH) {
+            val newTail = Arrays.copyOf(thisTail, tailLength + 1);
+            newTail[tailLength] = element;
+
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        val tailNode = new Node(null, thisTail);
+        final int thisShift;
+        final Node newRoot;
+        if (((thisSize = size) >>> BITS) > (1 << (thisShift = shift))) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, thisShift, tailNode);
+
+            return new PersistentVector<>(thisSize + 1, thisShift + BITS, newRoot, new Object[]{element});
+        }
+
+        return new PersistentVector<>(
+                thisSize + 1, thisShift, pushTail(null, thisSize, thisShift, root, tailNode), new Object[]{element}
+        );
+    }
+
+    /**
+     * Creates a new version of this vector with the element at the given index replaced.
+     *
+     * @param index index of the element
+     * @param element element to be set
+     * @return new version of this vector
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public @NotNull PersistentVector<E> with(final int index, final @Nullable E element) {
+        final int thisSize;
+        checkIndex(index, thisSize = size);
+
+        if (index >= tailOffset(thisSize)) {
+            val newTail = tail.clone();
+            newTail[index & MASK] = element;
+
+            return new PersistentVector<>(thisSize, shift, root, newTail);
+        }
+
+        return new PersistentVector<>(thisSize, shift, assoc(null, shift, root, index, element), tail);
+    }
+
+    /**
+     * Creates a new version of this vector without its last element.
+     *
+     * @return new version of this vector
+     *
+     * @throws NoSuchElementException if this vector is empty
+     */
+    public @NotNull PersistentVector<E> withoutLast() {
+        final int thisSize;
+        if ((thisSize = size) == 0) throw new NoSuchElementException("Vector is empty");
+        if (thisSize == 1) return empty();
+
+        final Object[] thisTail;
+        final int tailLength;
+        if ((tailLength = (thisTail = tail).length) > 1) return new PersistentVector<>(
+                thisSize - 1, shift, root, Arrays.copyOf(thisTail, tailLength - 1)
+        );
+
+        final int thisShift;
+        final Node thisRoot;
+        val newTail = leaf(thisSize - 2, thisSize, thisShift = shift, thisRoot = root, thisTail);
+        var newRoot = popTail(thisSize, thisShift, thisRoot);
+        if (newRoot == null) newRoot = EMPTY_NODE;
+        if (thisShift > BITS && newRoot.array[1] == null) return new PersistentVector<>(
+                thisSize - 1, thisShift - BITS, (Node) newRoot.array[0], newTail
+        );
+
+        return new PersistentVector<>(thisSize - 1, thisShift, newRoot, newTail);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @apiNote this method performs no allocations
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final @NonNull Consumer<? super E> action) {
+        final int thisSize = size, thisShift = shift;
+        final Node thisRoot = root;
+        final Object[] thisTail = tail;
+        for (var leafStart = 0; leafStart < thisSize; leafStart += WIDTH) {
+            val leaf = leaf(leafStart, thisSize, thisShift, thisRoot, thisTail);
+            for (int i = 0, length = Math.min(WIDTH, thisSize - leafStart); i < length; i++) action.accept((E) leaf[i]);
+        }
+    }
+
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        return new VectorIterator();
+    }
+
+    /**
+     * Node of the trie.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class Node {
+
+        /**
+         * Owner which may edit this node in place or {@code null} if this node is persistent
+         */
+        @Nullable Object owner;
+
+        /**
+         * Children of this node or the elements if it is a leaf
+         */
+        Object @NotNull [] array;
+    }
+
+    /**
+     * Iterator over the elements of this vector.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private final class VectorIterator implements Iterator<E> {
+
+        /**
+         * Index of the next element
+         */
+        int index;
+
+        /**
+         * Leaf containing the next element
+         */
+        Object[] leaf;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            final int thisIndex;
+            if ((thisIndex = index) >= size) throw new NoSuchElementException();
+
+            if ((thisIndex & MASK) == 0) leaf = leaf(thisIndex, size, shift, root, tail);
+            index = thisIndex + 1;
+
+            return (E) leaf[thisIndex & MASK];
+        }
+    }
+
+    /**
+     * Transient builder of {@link PersistentVector persistent vectors} editing its own nodes in place.
+     *
+     * @param <E> type of the elements
+     *
+     * @apiNote this class is not thread-safe
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static final class Builder<E> {
+
+        /**
+         * Owner of the nodes which may be edited in place, replaced once a vector is built
+         */
+        @NotNull Object owner = new Object();
+
+        /**
+         * Number of elements in this builder
+         */
+        int size;
+
+        /**
+         * Number of bits by which the index gets shifted at the root level
+         */
+        int shift;
+
+        /**
+         * Root node of the trie
+         */
+        @NotNull Node root;
+
+        /**
+         * Last leaf of the trie which is always allocated for all its elements
+         */
+        Object @NotNull [] tail;
+
+        private Builder(final int size, final int shift, final @NotNull Node root, final Object @NotNull [] tail) {
+            this.size = size;
+            this.shift = shift;
+            this.root = root;
+            this.tail = tail;
+        }
+
+        /**
+         * Gets the number of elements in this builder.
+         *
+         * @return number of elements in this builder
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Gets the element at the given index.
+         *
+         * @param index index of the element
+         * @return element at the given index
+         *
+         * @throws IndexOutOfBoundsException if the index is out of bounds
+         */
+        @SuppressWarnings("unchecked")
+        public E get(final int index) {
+            final int thisSize;
+            checkIndex(index, thisSize = size);
+
+            return (E) leaf(index, thisSize, shift, root, tail)[index & MASK];
+        }
+
+        /**
+         * Appends the given element to the end of the built vector.
+         *
+         * @param element element to be appended
+         * @return this builder
+         */
+        public @NotNull Builder<E> add(final @Nullable E element) {
+            final int thisSize;
+            if ((thisSize = size) - tailOffset(thisSize) < WIDTH) {
+                tail[thisSize & MASK] = element;
+                size = thisSize + 1;
+
+                return this;
+            }
+
+            final Object thisOwner;
+            val tailNode = new Node(thisOwner = owner, tail);
+            (tail = new Object[WIDTH])[0] = element;
+
+            final int thisShift;
+            if ((thisSize >>> BITS) > (1 << (thisShift = shift))) {
+                val newRoot = new Node(thisOwner, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(thisOwner, thisShift, tailNode);
+                root = newRoot;
+                shift = thisShift + BITS;
+            } else root = pushTail(thisOwner, thisSize, thisShift, root, tailNode);
+            size = thisSize + 1;
+
+            return this;
+        }
+
+        /**
+         * Appends all given elements to the end of the built vector.
+         *
+         * @param elements elements to be appended
+         * @return this builder
+         */
+        public @NotNull Builder<E> addAll(final @NonNull Iterable<? extends E> elements) {
+            for (val element : elements) add(element);
+
+            return this;
+        }
+
+        /**
+         * Replaces the element at the given index.
+         *
+         * @param index index of the element
+         * @param element element to be set
+         * @return this builder
+         *
+         * @throws IndexOutOfBoundsException if the index is out of bounds
+         */
+        public @NotNull Builder<E> set(final int index, final @Nullable E element) {
+            final int thisSize;
+            checkIndex(index, thisSize = size);
+
+            if (index >= tailOffset(thisSize)) tail[index & MASK] = element;
+            else root = assoc(owner, shift, root, index, element);
+
+            return this;
+        }
+
+        /**
+         * Builds the persistent vector containing all elements of this builder.
+         *
+         * @return created persistent vector
+         *
+         * @apiNote this builder stays usable and its later changes do not affect the built vector
+         */
+        public @NotNull PersistentVector<E> build() {
+            final int thisSize;
+            if ((thisSize = size) == 0) return empty();
+
+            owner = new Object(); // the nodes now belong to the built vector
+            return new PersistentVector<>(
+                    thisSize, shift, root, Arrays.copyOf(tail, thisSize - tailOffset(thisSize))
+            );
+        }
+    }
+}
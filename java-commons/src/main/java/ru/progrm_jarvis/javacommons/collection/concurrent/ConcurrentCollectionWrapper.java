@@ -4,18 +4,22 @@ package ru.progrm_jarvis.javacommons.collection.concurrent;
 import lombok.NonNull;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Spliterator;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public class ConcurrentCollectionWrapper<E, W extends Collection<E>>
-        extends AbstractConcurrentSizedCollectionWrapper<W> implements Collection<E> {
+        extends AbstractConcurrentSizedCollectionWrapper<W> implements Collection<E>, ConcurrentIterable<E> {
 
     protected ConcurrentCollectionWrapper(final @NotNull W wrapped,
                                           final @NotNull Lock readLock,
@@ -31,6 +35,23 @@ public class ConcurrentCollectionWrapper<E, W extends Collection<E>>
         );
     }
 
+    /**
+     * Creates a concurrent collection wrapper whose locks report their contention to the given recorder.
+     *
+     * @param wrapped wrapped collection
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent collection wrapper
+     */
+    public static <E> @NotNull Collection<E> create(final @NonNull Collection<E> wrapped,
+                                                    final @NonNull LockContentionRecorder recorder) {
+        final ReadWriteLock lock;
+
+        return new ConcurrentCollectionWrapper<>(
+                wrapped, (lock = recorder.instrument(new ReentrantReadWriteLock())).readLock(), lock.writeLock()
+        );
+    }
+
     @Override
     protected int internalSize() {
         return wrapped.size();
@@ -56,6 +77,13 @@ public class ConcurrentCollectionWrapper<E, W extends Collection<E>>
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @apiNote the returned iterator is not guarded by the lock,
+     * {@link #snapshotIterator()} or {@link #weaklyConsistentIterator()} should be used instead
+     * if this collection may be modified concurrently
+     */
     @Override
     public @NotNull Iterator<E> iterator() {
         readLock.lock();
@@ -196,4 +224,33 @@ public class ConcurrentCollectionWrapper<E, W extends Collection<E>>
             readLock.unlock();
         }
     }
+
+    @Override
+    public @NotNull List<E> snapshot() {
+        readLock.lock();
+        try {
+            return new ArrayList<>(wrapped);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // the array only contains the elements
+    public @NotNull Iterator<E> snapshotIterator() {
+        final Object[] elements;
+        readLock.lock();
+        try {
+            elements = wrapped.toArray();
+        } finally {
+            readLock.unlock();
+        }
+
+        return ((List<E>) Arrays.asList(elements)).iterator();
+    }
+
+    @Override
+    public @NotNull Iterator<E> weaklyConsistentIterator() {
+        return new WeaklyConsistentIterator<>(readLock, wrapped, Function.identity());
+    }
 }
@@ -2,19 +2,30 @@ package ru.progrm_jarvis.javacommons.collection.concurrent;
 
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * An utility for creating concurrent {@link Collection} wrappers.
  *
  * @implNote concurrent wrappers delegate all operations to elements collections
  * yet performing precondition-checks ans using {@link ReadWriteLock}s
+ * while the {@code stamped} ones perform their reads optimistically
+ * using {@link java.util.concurrent.locks.StampedLock}
  */
 @UtilityClass
 public class ConcurrentCollections {
 
+    /**
+     * Default number of stripes used by {@link #stripedConcurrentMap(Supplier) striped maps}
+     */
+    private final int DEFAULT_STRIPE_COUNT = Math.min(Runtime.getRuntime().availableProcessors() * 4, 1 << 16);
+
     public <E> Collection<E> concurrentCollection(final @NonNull Collection<E> collection) {
         return ConcurrentCollectionWrapper.create(collection);
     }
@@ -42,4 +53,252 @@ public class ConcurrentCollections {
     public <K, V> Map<K, V> concurrentMap(final @NonNull Map<K, V> map) {
         return ConcurrentMapWrapper.create(map);
     }
+
+    /**
+     * Creates a concurrent collection wrapper whose locks report their contention to the given recorder.
+     *
+     * @param collection wrapped collection
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent collection wrapper
+     *
+     * @see LockContentionRecorder#create() creation of the recorder
+     */
+    public <E> Collection<E> concurrentCollection(final @NonNull Collection<E> collection,
+                                                  final @NonNull LockContentionRecorder recorder) {
+        return ConcurrentCollectionWrapper.create(collection, recorder);
+    }
+
+    /**
+     * Creates a concurrent list wrapper whose locks report their contention to the given recorder.
+     *
+     * @param list wrapped list
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent list wrapper
+     *
+     * @see LockContentionRecorder#create() creation of the recorder
+     */
+    public <E> List<E> concurrentList(final @NonNull List<E> list, final @NonNull LockContentionRecorder recorder) {
+        return ConcurrentListWrapper.create(list, recorder);
+    }
+
+    /**
+     * Creates a concurrent set wrapper whose locks report their contention to the given recorder.
+     *
+     * @param set wrapped set
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent set wrapper
+     *
+     * @see LockContentionRecorder#create() creation of the recorder
+     */
+    public <E> Set<E> concurrentSet(final @NonNull Set<E> set, final @NonNull LockContentionRecorder recorder) {
+        return ConcurrentSetWrapper.create(set, recorder);
+    }
+
+    /**
+     * Creates a concurrent set wrapper backed by the given map whose locks report their contention
+     * to the given recorder.
+     *
+     * @param map map backing the set
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent set wrapper
+     *
+     * @see LockContentionRecorder#create() creation of the recorder
+     */
+    public <E> Set<E> concurrentSetFromMap(final @NonNull Map<E, Boolean> map,
+                                           final @NonNull LockContentionRecorder recorder) {
+        return ConcurrentSetFromMapWrapper.create(map, recorder);
+    }
+
+    /**
+     * Creates a concurrent queue wrapper whose locks report their contention to the given recorder.
+     *
+     * @param queue wrapped queue
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent queue wrapper
+     *
+     * @see LockContentionRecorder#create() creation of the recorder
+     */
+    public <E> Queue<E> concurrentQueue(final @NonNull Queue<E> queue, final @NonNull LockContentionRecorder recorder) {
+        return ConcurrentQueueWrapper.create(queue, recorder);
+    }
+
+    /**
+     * Creates a concurrent deque wrapper whose locks report their contention to the given recorder.
+     *
+     * @param deque wrapped deque
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent deque wrapper
+     *
+     * @see LockContentionRecorder#create() creation of the recorder
+     */
+    public <E> Deque<E> concurrentDeque(final @NonNull Deque<E> deque, final @NonNull LockContentionRecorder recorder) {
+        return ConcurrentDequeWrapper.create(deque, recorder);
+    }
+
+    /**
+     * Creates a concurrent map wrapper whose locks report their contention to the given recorder.
+     *
+     * @param map wrapped map
+     * @param recorder recorder of the lock contention metrics
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @return created concurrent map wrapper
+     *
+     * @see LockContentionRecorder#create() creation of the recorder
+     */
+    public <K, V> Map<K, V> concurrentMap(final @NonNull Map<K, V> map,
+                                          final @NonNull LockContentionRecorder recorder) {
+        return ConcurrentMapWrapper.create(map, recorder);
+    }
+
+    public <E> Collection<E> stampedConcurrentCollection(final @NonNull Collection<E> collection) {
+        return StampedConcurrentCollectionWrapper.create(collection);
+    }
+
+    public <E> List<E> stampedConcurrentList(final @NonNull List<E> list) {
+        return StampedConcurrentListWrapper.create(list);
+    }
+
+    public <E> Set<E> stampedConcurrentSet(final @NonNull Set<E> set) {
+        return StampedConcurrentSetWrapper.create(set);
+    }
+
+    public <K, V> Map<K, V> stampedConcurrentMap(final @NonNull Map<K, V> map) {
+        return StampedConcurrentMapWrapper.create(map);
+    }
+
+    public <K, V> Map<K, V> stripedConcurrentMap(final int stripeCount,
+                                                 final @NonNull Supplier<? extends Map<K, V>> mapFactory) {
+        return StripedConcurrentMapWrapper.create(stripeCount, mapFactory);
+    }
+
+    public <K, V> Map<K, V> stripedConcurrentMap(final @NonNull Supplier<? extends Map<K, V>> mapFactory) {
+        return StripedConcurrentMapWrapper.create(DEFAULT_STRIPE_COUNT, mapFactory);
+    }
+
+    /**
+     * Performs the given action on the object wrapped by the given concurrent wrapper
+     * under a single acquisition of its write lock.
+     *
+     * @param wrapper concurrent wrapper created by this utility
+     * @param action action to be performed on the wrapped object
+     * @param <C> type of the wrapper which is also the type of the wrapped object
+     *
+     * @throws IllegalArgumentException if the given object is not a concurrent wrapper of an object of its own type
+     * @see ConcurrentWrapper#withWriteLock(Consumer) restrictions of the action
+     */
+    public <C> void withWriteLock(final @NonNull C wrapper, final @NonNull Consumer<? super C> action) {
+        concurrentWrapper(wrapper).withWriteLock(action);
+    }
+
+    /**
+     * Applies the given function to the object wrapped by the given concurrent wrapper
+     * under a single acquisition of its write lock.
+     *
+     * @param wrapper concurrent wrapper created by this utility
+     * @param function function to be applied to the wrapped object
+     * @param <C> type of the wrapper which is also the type of the wrapped object
+     * @param <R> type of the result
+     * @return result of the function
+     *
+     * @throws IllegalArgumentException if the given object is not a concurrent wrapper of an object of its own type
+     * @see ConcurrentWrapper#applyWithWriteLock(Function) restrictions of the function
+     */
+    public <C, R> R applyWithWriteLock(final @NonNull C wrapper,
+                                       final @NonNull Function<? super C, ? extends R> function) {
+        return concurrentWrapper(wrapper).applyWithWriteLock(function);
+    }
+
+    /**
+     * Applies the given function to the object wrapped by the given concurrent wrapper
+     * under a single acquisition of its read lock.
+     *
+     * @param wrapper concurrent wrapper created by this utility
+     * @param function function to be applied to the wrapped object, it should not modify it
+     * @param <C> type of the wrapper which is also the type of the wrapped object
+     * @param <R> type of the result
+     * @return result of the function
+     *
+     * @throws IllegalArgumentException if the given object is not a concurrent wrapper of an object of its own type
+     * @see ConcurrentWrapper#withReadLock(Function) restrictions of the function
+     */
+    public <C, R> R withReadLock(final @NonNull C wrapper, final @NonNull Function<? super C, ? extends R> function) {
+        return concurrentWrapper(wrapper).withReadLock(function);
+    }
+
+    /**
+     * Gets the given object as a concurrent wrapper of an object of the same type.
+     *
+     * @param wrapper concurrent wrapper created by this utility
+     * @param <C> type of the wrapper which is also the type of the wrapped object
+     * @return given object as a concurrent wrapper
+     *
+     * @throws IllegalArgumentException if the given object is not a concurrent wrapper of an object of its own type
+     */
+    @SuppressWarnings("unchecked") // the wrappers of collections and maps implement the type of the wrapped object
+    private <C> @NotNull ConcurrentWrapper<C> concurrentWrapper(final @NotNull C wrapper) {
+        // sets backed by maps are the only wrappers whose wrapped object is of another type
+        if (!(wrapper instanceof ConcurrentWrapper<?>) || wrapper instanceof ConcurrentSetFromMapWrapper<?, ?>) {
+            throw new IllegalArgumentException(wrapper.getClass() + " is not a concurrent wrapper of its own type");
+        }
+
+        return (ConcurrentWrapper<C>) wrapper;
+    }
+
+    /**
+     * Creates a copy of the current elements of the given collection.
+     *
+     * @param collection collection whose elements should be copied
+     * @param <E> type of elements
+     * @return new list containing the current elements of the collection
+     *
+     * @see ConcurrentIterable#snapshot() snapshot of concurrent wrappers
+     */
+    @SuppressWarnings("unchecked") // the type of elements is the same
+    public <E> @NotNull List<E> snapshot(final @NonNull Collection<E> collection) {
+        return collection instanceof ConcurrentIterable<?>
+                ? ((ConcurrentIterable<E>) collection).snapshot() : new ArrayList<>(collection);
+    }
+
+    /**
+     * Creates a copy of the current entries of the given map.
+     *
+     * @param map map whose entries should be copied
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @return new map containing the current entries of the map
+     *
+     * @see ConcurrentMapWrapper#snapshot() snapshot of concurrent map wrappers
+     */
+    @SuppressWarnings("unchecked") // the types of keys and values are the same
+    public <K, V> @NotNull Map<K, V> snapshot(final @NonNull Map<K, V> map) {
+        if (map instanceof ConcurrentMapWrapper<?, ?, ?>) return ((ConcurrentMapWrapper<K, V, ?>) map).snapshot();
+        if (map instanceof StripedConcurrentMapWrapper<?, ?>) {
+            return ((StripedConcurrentMapWrapper<K, V>) map).snapshot();
+        }
+
+        return new LinkedHashMap<>(map);
+    }
+
+    /**
+     * Creates an iterator over the given collection which tolerates concurrent modification.
+     *
+     * @param collection collection whose elements should be iterated
+     * @param <E> type of elements
+     * @return weakly consistent iterator for concurrent wrappers and iterator over a snapshot for other collections
+     *
+     * @see ConcurrentIterable#weaklyConsistentIterator() weakly consistent iterator of concurrent wrappers
+     */
+    @SuppressWarnings("unchecked") // the type of elements is the same
+    public <E> @NotNull Iterator<E> weaklyConsistentIterator(final @NonNull Collection<E> collection) {
+        return collection instanceof ConcurrentIterable<?>
+                ? ((ConcurrentIterable<E>) collection).weaklyConsistentIterator()
+                : Collections.unmodifiableList(new ArrayList<>(collection)).iterator();
+    }
 }
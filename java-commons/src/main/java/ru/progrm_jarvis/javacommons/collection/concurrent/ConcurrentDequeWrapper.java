@@ -26,6 +26,23 @@ public class ConcurrentDequeWrapper<E, W extends Deque<E>>
         );
     }
 
+    /**
+     * Creates a concurrent deque wrapper whose locks report their contention to the given recorder.
+     *
+     * @param wrapped wrapped deque
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent deque wrapper
+     */
+    public static <E> @NotNull Deque<E> create(final @NonNull Deque<E> wrapped,
+                                               final @NonNull LockContentionRecorder recorder) {
+        final ReadWriteLock lock;
+
+        return new ConcurrentDequeWrapper<>(
+                wrapped, (lock = recorder.instrument(new ReentrantReadWriteLock())).readLock(), lock.writeLock()
+        );
+    }
+
     @Override
     public void addFirst(final E e) {
         writeLock.lock();
@@ -0,0 +1,60 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link Iterable} whose elements can be safely traversed while it is being concurrently modified.
+ *
+ * @param <E> type of elements
+ *
+ * @apiNote {@link #iterator()} of concurrent wrappers is not guarded by their locks
+ * thus the methods of this interface should be used for traversal whenever concurrent modification is possible
+ */
+public interface ConcurrentIterable<E> extends Iterable<E> {
+
+    /**
+     * Creates a copy of the current elements.
+     *
+     * @return new list containing the current elements
+     *
+     * @implSpec the elements are copied under a single acquisition of the read lock
+     */
+    @NotNull List<E> snapshot();
+
+    /**
+     * Creates an iterator over the {@link #snapshot() snapshot} of the current elements.
+     *
+     * @return iterator over the current elements not supporting {@link Iterator#remove() removal}
+     */
+    @NotNull Iterator<E> snapshotIterator();
+
+    /**
+     * Creates an iterator which tolerates concurrent modification.
+     * <p>
+     * The elements are copied in chunks each under a separate acquisition of the read lock
+     * so that the writers are not blocked for the whole traversal and no full copy is made.
+     *
+     * @return iterator over the elements not supporting {@link Iterator#remove() removal}
+     *
+     * @apiNote the iterator never throws {@link ConcurrentModificationException}
+     * but, as the chunks are located by their positions, the elements may get skipped or repeated
+     * if the elements preceding them are concurrently inserted or removed
+     */
+    @NotNull Iterator<E> weaklyConsistentIterator();
+
+    /**
+     * Performs the given action for each element.
+     *
+     * @param action action to be performed for each element
+     *
+     * @implSpec the whole traversal happens under the read lock thus the action should not modify this object
+     */
+    @Override
+    void forEach(@NonNull Consumer<? super E> action);
+}
@@ -28,6 +28,23 @@ public class ConcurrentListWrapper<E, W extends List<E>> extends ConcurrentColle
         );
     }
 
+    /**
+     * Creates a concurrent list wrapper whose locks report their contention to the given recorder.
+     *
+     * @param wrapped wrapped list
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent list wrapper
+     */
+    public static <E> @NotNull List<E> create(final @NonNull List<E> wrapped,
+                                              final @NonNull LockContentionRecorder recorder) {
+        final ReadWriteLock lock;
+
+        return new ConcurrentListWrapper<>(
+                wrapped, (lock = recorder.instrument(new ReentrantReadWriteLock())).readLock(), lock.writeLock()
+        );
+    }
+
     @Override
     public boolean addAll(final int index, final @NonNull Collection<? extends E> elements) {
         if (index < 0) throw new IndexOutOfBoundsException("index should be positive");
@@ -6,7 +6,10 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
@@ -34,6 +37,24 @@ public class ConcurrentMapWrapper<K, V, W extends Map<K, V>>
         );
     }
 
+    /**
+     * Creates a concurrent map wrapper whose locks report their contention to the given recorder.
+     *
+     * @param wrapped wrapped map
+     * @param recorder recorder of the lock contention metrics
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @return created concurrent map wrapper
+     */
+    public static <K, V> @NotNull Map<K, V> create(final @NonNull Map<K, V> wrapped,
+                                                   final @NonNull LockContentionRecorder recorder) {
+        final ReadWriteLock lock;
+
+        return new ConcurrentMapWrapper<>(
+                wrapped, (lock = recorder.instrument(new ReentrantReadWriteLock())).readLock(), lock.writeLock()
+        );
+    }
+
     @Override
     protected int internalSize() {
         return wrapped.size();
@@ -250,4 +271,31 @@ public class ConcurrentMapWrapper<K, V, W extends Map<K, V>>
             writeLock.unlock();
         }
     }
+
+    /**
+     * Creates a copy of the current entries.
+     *
+     * @return new map containing the current entries
+     *
+     * @implSpec the entries are copied under a single acquisition of the read lock
+     */
+    public @NotNull Map<K, V> snapshot() {
+        readLock.lock();
+        try {
+            return new LinkedHashMap<>(wrapped);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Creates an iterator over the copies of the entries which tolerates concurrent modification.
+     *
+     * @return iterator over the immutable copies of the entries not supporting {@link Iterator#remove() removal}
+     *
+     * @see ConcurrentIterable#weaklyConsistentIterator() guarantees of the iterator
+     */
+    public @NotNull Iterator<Entry<K, V>> weaklyConsistentIterator() {
+        return new WeaklyConsistentIterator<>(readLock, wrapped.entrySet(), SimpleImmutableEntry::new);
+    }
 }
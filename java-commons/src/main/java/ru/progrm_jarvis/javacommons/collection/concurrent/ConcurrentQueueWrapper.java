@@ -25,6 +25,23 @@ public class ConcurrentQueueWrapper<E, W extends Queue<E>>
         );
     }
 
+    /**
+     * Creates a concurrent queue wrapper whose locks report their contention to the given recorder.
+     *
+     * @param wrapped wrapped queue
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent queue wrapper
+     */
+    public static <E> @NotNull Queue<E> create(final @NonNull Queue<E> wrapped,
+                                               final @NonNull LockContentionRecorder recorder) {
+        final ReadWriteLock lock;
+
+        return new ConcurrentQueueWrapper<>(
+                wrapped, (lock = recorder.instrument(new ReentrantReadWriteLock())).readLock(), lock.writeLock()
+        );
+    }
+
     @Override
     public boolean offer(final E e) {
         writeLock.lock();
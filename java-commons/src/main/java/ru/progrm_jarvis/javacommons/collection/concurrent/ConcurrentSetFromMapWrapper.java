@@ -11,10 +11,12 @@ import java.util.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
 public class ConcurrentSetFromMapWrapper<E, W extends Map<E, Boolean>>
-        extends AbstractConcurrentSizedCollectionWrapper<W> implements Set<E> {
+        extends AbstractConcurrentSizedCollectionWrapper<W> implements Set<E>, ConcurrentIterable<E> {
 
     @NotNull Set<@NonNull E> keySet;
 
@@ -34,6 +36,24 @@ public class ConcurrentSetFromMapWrapper<E, W extends Map<E, Boolean>>
         );
     }
 
+    /**
+     * Creates a concurrent set wrapper whose locks report their contention to the given recorder.
+     *
+     * @param wrapped wrapped map
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent set wrapper
+     */
+    public static <E> @NotNull Set<E> create(final @NonNull Map<E, Boolean> wrapped,
+                                             final @NonNull LockContentionRecorder recorder) {
+        final ReadWriteLock lock;
+
+        return new ConcurrentSetFromMapWrapper<>(
+                wrapped, wrapped.keySet(),
+                (lock = recorder.instrument(new ReentrantReadWriteLock())).readLock(), lock.writeLock()
+        );
+    }
+
     @Override
     protected int internalSize() {
         readLock.lock();
@@ -85,11 +105,57 @@ public class ConcurrentSetFromMapWrapper<E, W extends Map<E, Boolean>>
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @apiNote the returned iterator is not guarded by the lock,
+     * {@link #snapshotIterator()} or {@link #weaklyConsistentIterator()} should be used instead
+     * if this set may be modified concurrently
+     */
     @Override
     public @NotNull Iterator<E> iterator() {
         return keySet.iterator();
     }
 
+    @Override
+    public void forEach(final @NonNull Consumer<? super E> action) {
+        readLock.lock();
+        try {
+            keySet.forEach(action);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public @NotNull List<E> snapshot() {
+        readLock.lock();
+        try {
+            return new ArrayList<>(keySet);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // the array only contains the elements
+    public @NotNull Iterator<E> snapshotIterator() {
+        final Object[] elements;
+        readLock.lock();
+        try {
+            elements = keySet.toArray();
+        } finally {
+            readLock.unlock();
+        }
+
+        return ((List<E>) Arrays.asList(elements)).iterator();
+    }
+
+    @Override
+    public @NotNull Iterator<E> weaklyConsistentIterator() {
+        return new WeaklyConsistentIterator<>(readLock, keySet, Function.identity());
+    }
+
     @Override
     public Object @NotNull [] toArray() {
         readLock.lock();
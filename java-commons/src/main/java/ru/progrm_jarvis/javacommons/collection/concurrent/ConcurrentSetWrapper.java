@@ -23,4 +23,21 @@ public class ConcurrentSetWrapper<E, W extends Set<E>>
                 wrapped, (lock = new ReentrantReadWriteLock()).readLock(), lock.writeLock()
         );
     }
+
+    /**
+     * Creates a concurrent set wrapper whose locks report their contention to the given recorder.
+     *
+     * @param wrapped wrapped set
+     * @param recorder recorder of the lock contention metrics
+     * @param <E> type of elements
+     * @return created concurrent set wrapper
+     */
+    public static <E> @NotNull Set<E> create(final @NonNull Set<E> wrapped,
+                                             final @NonNull LockContentionRecorder recorder) {
+        final ReadWriteLock lock;
+
+        return new ConcurrentSetWrapper<>(
+                wrapped, (lock = recorder.instrument(new ReentrantReadWriteLock())).readLock(), lock.writeLock()
+        );
+    }
 }
@@ -2,12 +2,15 @@ package ru.progrm_jarvis.javacommons.collection.concurrent;
 
 
 import lombok.AccessLevel;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Base for all concurrent wrappers.
@@ -23,6 +26,64 @@ public class ConcurrentWrapper<W> {
     @NotNull W wrapped;
     @NotNull Lock readLock, writeLock;
 
+    /**
+     * Performs the given action on the wrapped object under a single acquisition of the write lock
+     * so that a compound update is atomic and does not pay for locking on each of its steps.
+     *
+     * @param action action to be performed on the wrapped object
+     *
+     * @apiNote the action should only access the wrapped object passed to it and should not let it escape;
+     * it also should not access this wrapper as its lock is not necessarily reentrant
+     */
+    public void withWriteLock(final @NonNull Consumer<? super W> action) {
+        writeLock.lock();
+        try {
+            action.accept(wrapped);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the given function to the wrapped object under a single acquisition of the write lock
+     * so that a compound update is atomic and does not pay for locking on each of its steps.
+     *
+     * @param function function to be applied to the wrapped object
+     * @param <R> type of the result
+     * @return result of the function
+     *
+     * @apiNote the function should only access the wrapped object passed to it and should not let it escape;
+     * it also should not access this wrapper as its lock is not necessarily reentrant
+     */
+    public <R> R applyWithWriteLock(final @NonNull Function<? super W, ? extends R> function) {
+        writeLock.lock();
+        try {
+            return function.apply(wrapped);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the given function to the wrapped object under a single acquisition of the read lock
+     * so that a compound read observes a consistent state and does not pay for locking on each of its steps.
+     *
+     * @param function function to be applied to the wrapped object, it should not modify it
+     * @param <R> type of the result
+     * @return result of the function
+     *
+     * @apiNote the function should only access the wrapped object passed to it and should not let it escape;
+     * it also should not access this wrapper as its lock is not necessarily reentrant
+     */
+    public <R> R withReadLock(final @NonNull Function<? super W, ? extends R> function) {
+        readLock.lock();
+        try {
+            return function.apply(wrapped);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,64 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+/**
+ * Figures describing the contention of the locks of concurrent wrappers.
+ *
+ * @apiNote all figures are accumulated since the creation or the last {@link #reset() reset}
+ * and are read without any synchronization thus they are only approximate under concurrent updates
+ */
+public interface LockContentionMetrics {
+
+    /**
+     * Gets the number of read lock acquisitions.
+     *
+     * @return number of read lock acquisitions
+     */
+    long readAcquisitions();
+
+    /**
+     * Gets the number of read lock acquisitions which had to wait for the lock.
+     *
+     * @return number of contended read lock acquisitions
+     */
+    long contendedReadAcquisitions();
+
+    /**
+     * Gets the total time spent waiting for the read lock.
+     *
+     * @return total time spent waiting for the read lock in nanoseconds
+     */
+    long readWaitNanos();
+
+    /**
+     * Gets the number of write lock acquisitions.
+     *
+     * @return number of write lock acquisitions
+     */
+    long writeAcquisitions();
+
+    /**
+     * Gets the number of write lock acquisitions which had to wait for the lock.
+     *
+     * @return number of contended write lock acquisitions
+     */
+    long contendedWriteAcquisitions();
+
+    /**
+     * Gets the total time spent waiting for the write lock.
+     *
+     * @return total time spent waiting for the write lock in nanoseconds
+     */
+    long writeWaitNanos();
+
+    /**
+     * Gets the maximal number of threads which were simultaneously waiting for the locks.
+     *
+     * @return maximal length of the lock queue
+     */
+    int maximalQueueLength();
+
+    /**
+     * Resets all figures to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,270 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Recorder of the {@link LockContentionMetrics lock contention metrics}
+ * which instruments the locks of the concurrent wrappers created with it.
+ * <p>
+ * A single recorder may be shared by multiple wrappers in which case their figures get aggregated.
+ *
+ * @apiNote the wrappers created without a recorder use their locks directly thus paying nothing for instrumentation
+ * @implNote the locks are first acquired by {@link Lock#tryLock()} and the time is only measured
+ * if this fails so that uncontended acquisitions only pay for incrementing their counters,
+ * {@link ReentrantReadWriteLock}s are only acquired this way if there are no queued threads
+ * as their {@link Lock#tryLock()} barges even where {@link Lock#lock()} would not,
+ * e.g. a non-fair read lock's one ignores the writer queued first, while other locks are used as is
+ */
+@ToString
+@NoArgsConstructor(staticName = "create")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class LockContentionRecorder implements LockContentionMetrics {
+
+    /**
+     * Counters of the read lock
+     */
+    @NotNull Counters read = new Counters();
+
+    /**
+     * Counters of the write lock
+     */
+    @NotNull Counters write = new Counters();
+
+    /**
+     * Number of threads currently waiting for the locks
+     */
+    @ToString.Exclude @NotNull AtomicInteger queueLength = new AtomicInteger();
+
+    /**
+     * Maximal number of threads which were simultaneously waiting for the locks
+     */
+    @NotNull AtomicInteger maximalQueueLength = new AtomicInteger();
+
+    /**
+     * Creates a read-write lock whose locks report to this recorder.
+     *
+     * @param lock lock to be instrumented
+     * @return instrumented lock delegating to the given one
+     */
+    public @NotNull ReadWriteLock instrument(final @NonNull ReadWriteLock lock) {
+        final ReentrantReadWriteLock queuedLock = lock instanceof ReentrantReadWriteLock
+                ? (ReentrantReadWriteLock) lock : null;
+        final Lock readLock = new InstrumentedLock(lock.readLock(), queuedLock, read),
+                writeLock = new InstrumentedLock(lock.writeLock(), queuedLock, write);
+
+        return new ReadWriteLock() {
+            @Override
+            public @NotNull Lock readLock() {
+                return readLock;
+            }
+
+            @Override
+            public @NotNull Lock writeLock() {
+                return writeLock;
+            }
+        };
+    }
+
+    @Override
+    public long readAcquisitions() {
+        return read.acquisitions.sum();
+    }
+
+    @Override
+    public long contendedReadAcquisitions() {
+        return read.contendedAcquisitions.sum();
+    }
+
+    @Override
+    public long readWaitNanos() {
+        return read.waitNanos.sum();
+    }
+
+    @Override
+    public long writeAcquisitions() {
+        return write.acquisitions.sum();
+    }
+
+    @Override
+    public long contendedWriteAcquisitions() {
+        return write.contendedAcquisitions.sum();
+    }
+
+    @Override
+    public long writeWaitNanos() {
+        return write.waitNanos.sum();
+    }
+
+    @Override
+    public int maximalQueueLength() {
+        return maximalQueueLength.get();
+    }
+
+    @Override
+    public void reset() {
+        read.reset();
+        write.reset();
+        maximalQueueLength.set(0);
+    }
+
+    /**
+     * Marks the current thread as waiting for the lock.
+     *
+     * @return time at which the thread has started waiting
+     */
+    private long enqueue() {
+        maximalQueueLength.accumulateAndGet(queueLength.incrementAndGet(), Math::max);
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the current thread as no longer waiting for the lock.
+     *
+     * @param counters counters of the lock
+     * @param startTime time at which the thread has started waiting
+     * @param acquired flag indicating whether the lock has been acquired
+     */
+    private void dequeue(final @NotNull Counters counters, final long startTime, final boolean acquired) {
+        counters.waitNanos.add(System.nanoTime() - startTime);
+        queueLength.decrementAndGet();
+        if (acquired) {
+            counters.acquisitions.increment();
+            counters.contendedAcquisitions.increment();
+        }
+    }
+
+    /**
+     * Counters of a single lock.
+     */
+    @ToString
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class Counters {
+
+        @NotNull LongAdder acquisitions = new LongAdder(),
+                contendedAcquisitions = new LongAdder(),
+                waitNanos = new LongAdder();
+
+        private void reset() {
+            acquisitions.reset();
+            contendedAcquisitions.reset();
+            waitNanos.reset();
+        }
+    }
+
+    /**
+     * Lock reporting its acquisitions to the recorder.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private final class InstrumentedLock implements Lock {
+
+        /**
+         * Lock to which the acquisitions are delegated
+         */
+        @NotNull Lock delegate;
+
+        /**
+         * Lock whose queue should be respected when acquiring the delegate
+         * or {@code null} if the delegate's {@link Lock#tryLock()} may be used as is
+         */
+        @Nullable ReentrantReadWriteLock queuedLock;
+
+        /**
+         * Counters of this lock
+         */
+        @NotNull Counters counters;
+
+        /**
+         * Acquires the delegate without waiting unless this would bypass the threads queued for the lock.
+         *
+         * @return {@code true} if the delegate has been acquired and {@code false} otherwise
+         */
+        private boolean tryLockUncontended() {
+            final ReentrantReadWriteLock thisQueuedLock;
+            if (((thisQueuedLock = queuedLock) == null || !thisQueuedLock.hasQueuedThreads()) && delegate.tryLock()) {
+                counters.acquisitions.increment();
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public void lock() {
+            if (tryLockUncontended()) return;
+
+            final long startTime = enqueue();
+            var acquired = false;
+            try {
+                delegate.lock();
+                acquired = true;
+            } finally {
+                dequeue(counters, startTime, acquired);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (tryLockUncontended()) return;
+
+            final long startTime = enqueue();
+            var acquired = false;
+            try {
+                delegate.lockInterruptibly();
+                acquired = true;
+            } finally {
+                dequeue(counters, startTime, acquired);
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (delegate.tryLock()) {
+                counters.acquisitions.increment();
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(final long time, final @NotNull TimeUnit unit) throws InterruptedException {
+            if (tryLockUncontended()) return true;
+
+            final long startTime = enqueue();
+            var acquired = false;
+            try {
+                return acquired = delegate.tryLock(time, unit);
+            } finally {
+                dequeue(counters, startTime, acquired);
+            }
+        }
+
+        @Override
+        public void unlock() {
+            delegate.unlock();
+        }
+
+        @Override
+        public @NotNull Condition newCondition() {
+            return delegate.newCondition();
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Utilities for performing reads under {@link StampedLock}'s optimistic read mode.
+ * <p>
+ * Each read is first performed without any locking and its result is only used if no write has happened meanwhile,
+ * otherwise the read is repeated under the read lock.
+ *
+ * @apiNote the readers should tolerate concurrent modification of the read object:
+ * they may observe its inconsistent state, in which case anything they throw is ignored,
+ * but they should neither modify the object nor loop indefinitely because of it,
+ * thus the wrappers only read {@link #isTolerant(Object) tolerant} objects optimistically
+ */
+@UtilityClass
+class OptimisticReads {
+
+    /**
+     * Checks whether the given object can be read optimistically.
+     *
+     * @param object object to be checked
+     * @return {@code true} if the reads of the object neither modify it nor loop indefinitely
+     * when it is concurrently modified and {@code false} otherwise
+     *
+     * @implNote only the exact standard classes whose reads walk bounded arrays and acyclic bins are tolerant,
+     * e.g. {@link java.util.LinkedHashMap} is not as its reads may reorder the entries
+     * and {@link java.util.TreeMap} is not as its reads may loop on a concurrently rebalanced tree
+     */
+    boolean isTolerant(final @NotNull Object object) {
+        final Class<?> type;
+        return (type = object.getClass()) == ArrayList.class || type == HashMap.class || type == HashSet.class;
+    }
+
+    /**
+     * Tests the given object optimistically.
+     *
+     * @param lock lock guarding the object
+     * @param object object to be read
+     * @param reader function reading the object
+     * @param <T> type of the object
+     * @return result of the read
+     */
+    <T> boolean test(final @NotNull StampedLock lock,
+                     final @NotNull T object,
+                     final @NotNull Predicate<? super T> reader) {
+        final long stamp;
+        if ((stamp = lock.tryOptimisticRead()) != 0L) {
+            try {
+                final boolean result = reader.test(object);
+                if (lock.validate(stamp)) return result;
+            } catch (final Throwable x) {
+                // the failure may be caused by a concurrent write, e.g. StackOverflowError on a torn structure
+                if (lock.validate(stamp)) throw x;
+            }
+        }
+
+        final long readStamp = lock.readLock();
+        try {
+            return reader.test(object);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Tests the given object against the argument optimistically.
+     *
+     * @param lock lock guarding the object
+     * @param object object to be read
+     * @param argument argument passed to the reader
+     * @param reader function reading the object
+     * @param <T> type of the object
+     * @param <A> type of the argument
+     * @return result of the read
+     */
+    <T, A> boolean test(final @NotNull StampedLock lock,
+                        final @NotNull T object,
+                        final A argument,
+                        final @NotNull BiPredicate<? super T, ? super A> reader) {
+        final long stamp;
+        if ((stamp = lock.tryOptimisticRead()) != 0L) {
+            try {
+                final boolean result = reader.test(object, argument);
+                if (lock.validate(stamp)) return result;
+            } catch (final Throwable x) {
+                // the failure may be caused by a concurrent write, e.g. StackOverflowError on a torn structure
+                if (lock.validate(stamp)) throw x;
+            }
+        }
+
+        final long readStamp = lock.readLock();
+        try {
+            return reader.test(object, argument);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Reads an {@code int} from the given object optimistically.
+     *
+     * @param lock lock guarding the object
+     * @param object object to be read
+     * @param reader function reading the object
+     * @param <T> type of the object
+     * @return result of the read
+     */
+    <T> int applyAsInt(final @NotNull StampedLock lock,
+                       final @NotNull T object,
+                       final @NotNull ToIntFunction<? super T> reader) {
+        final long stamp;
+        if ((stamp = lock.tryOptimisticRead()) != 0L) {
+            try {
+                final int result = reader.applyAsInt(object);
+                if (lock.validate(stamp)) return result;
+            } catch (final Throwable x) {
+                // the failure may be caused by a concurrent write, e.g. StackOverflowError on a torn structure
+                if (lock.validate(stamp)) throw x;
+            }
+        }
+
+        final long readStamp = lock.readLock();
+        try {
+            return reader.applyAsInt(object);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Reads an {@code int} from the given object by the argument optimistically.
+     *
+     * @param lock lock guarding the object
+     * @param object object to be read
+     * @param argument argument passed to the reader
+     * @param reader function reading the object
+     * @param <T> type of the object
+     * @param <A> type of the argument
+     * @return result of the read
+     */
+    <T, A> int applyAsInt(final @NotNull StampedLock lock,
+                          final @NotNull T object,
+                          final A argument,
+                          final @NotNull ToIntBiFunction<? super T, ? super A> reader) {
+        final long stamp;
+        if ((stamp = lock.tryOptimisticRead()) != 0L) {
+            try {
+                final int result = reader.applyAsInt(object, argument);
+                if (lock.validate(stamp)) return result;
+            } catch (final Throwable x) {
+                // the failure may be caused by a concurrent write, e.g. StackOverflowError on a torn structure
+                if (lock.validate(stamp)) throw x;
+            }
+        }
+
+        final long readStamp = lock.readLock();
+        try {
+            return reader.applyAsInt(object, argument);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Reads a value from the given object by the argument optimistically.
+     *
+     * @param lock lock guarding the object
+     * @param object object to be read
+     * @param argument argument passed to the reader
+     * @param reader function reading the object
+     * @param <T> type of the object
+     * @param <A> type of the argument
+     * @param <R> type of the result
+     * @return result of the read
+     */
+    <T, A, R> R apply(final @NotNull StampedLock lock,
+                      final @NotNull T object,
+                      final A argument,
+                      final @NotNull BiFunction<? super T, ? super A, ? extends R> reader) {
+        final long stamp;
+        if ((stamp = lock.tryOptimisticRead()) != 0L) {
+            try {
+                final R result = reader.apply(object, argument);
+                if (lock.validate(stamp)) return result;
+            } catch (final Throwable x) {
+                // the failure may be caused by a concurrent write, e.g. StackOverflowError on a torn structure
+                if (lock.validate(stamp)) throw x;
+            }
+        }
+
+        final long readStamp = lock.readLock();
+        try {
+            return reader.apply(object, argument);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Reads a value from the given object by the two arguments optimistically.
+     *
+     * @param lock lock guarding the object
+     * @param object object to be read
+     * @param firstArgument first argument passed to the reader
+     * @param secondArgument second argument passed to the reader
+     * @param reader function reading the object
+     * @param <T> type of the object
+     * @param <A> type of the first argument
+     * @param <B> type of the second argument
+     * @param <R> type of the result
+     * @return result of the read
+     */
+    <T, A, B, R> R apply(final @NotNull StampedLock lock,
+                         final @NotNull T object,
+                         final A firstArgument,
+                         final B secondArgument,
+                         final @NotNull BiArgumentReader<? super T, ? super A, ? super B, ? extends R> reader) {
+        final long stamp;
+        if ((stamp = lock.tryOptimisticRead()) != 0L) {
+            try {
+                final R result = reader.read(object, firstArgument, secondArgument);
+                if (lock.validate(stamp)) return result;
+            } catch (final Throwable x) {
+                // the failure may be caused by a concurrent write, e.g. StackOverflowError on a torn structure
+                if (lock.validate(stamp)) throw x;
+            }
+        }
+
+        final long readStamp = lock.readLock();
+        try {
+            return reader.read(object, firstArgument, secondArgument);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Reads a value from the given object by the index optimistically.
+     *
+     * @param lock lock guarding the object
+     * @param object object to be read
+     * @param index index passed to the reader
+     * @param reader function reading the object
+     * @param <T> type of the object
+     * @param <R> type of the result
+     * @return result of the read
+     */
+    <T, R> R applyAtIndex(final @NotNull StampedLock lock,
+                          final @NotNull T object,
+                          final int index,
+                          final @NotNull IndexedReader<? super T, ? extends R> reader) {
+        final long stamp;
+        if ((stamp = lock.tryOptimisticRead()) != 0L) {
+            try {
+                final R result = reader.read(object, index);
+                if (lock.validate(stamp)) return result;
+            } catch (final Throwable x) {
+                // the failure may be caused by a concurrent write, e.g. StackOverflowError on a torn structure
+                if (lock.validate(stamp)) throw x;
+            }
+        }
+
+        final long readStamp = lock.readLock();
+        try {
+            return reader.read(object, index);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Function reading a value from the object by the index.
+     *
+     * @param <T> type of the object
+     * @param <R> type of the result
+     */
+    @FunctionalInterface
+    interface IndexedReader<T, R> {
+
+        /**
+         * Reads the value from the object by the index.
+         *
+         * @param object object to be read
+         * @param index index by which to read the value
+         * @return read value
+         */
+        R read(T object, int index);
+    }
+
+    /**
+     * Function reading a value from the object by the two arguments.
+     *
+     * @param <T> type of the object
+     * @param <A> type of the first argument
+     * @param <B> type of the second argument
+     * @param <R> type of the result
+     */
+    @FunctionalInterface
+    interface BiArgumentReader<T, A, B, R> {
+
+        /**
+         * Reads the value from the object by the two arguments.
+         *
+         * @param object object to be read
+         * @param firstArgument first argument by which to read the value
+         * @param secondArgument second argument by which to read the value
+         * @return read value
+         */
+        R read(T object, A firstArgument, B secondArgument);
+    }
+}
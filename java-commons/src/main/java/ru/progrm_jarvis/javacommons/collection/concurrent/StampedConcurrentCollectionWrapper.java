@@ -0,0 +1,64 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@link ConcurrentCollectionWrapper} performing its reads under {@link StampedLock}'s optimistic read mode.
+ *
+ * @param <E> type of elements
+ * @param <W> type of wrapped collection
+ *
+ * @apiNote unlike {@link ConcurrentCollectionWrapper} this wrapper's lock is not reentrant
+ * @implNote {@link #contains(Object)}, {@link #containsAll(Collection)}, {@link #size()} and {@link #isEmpty()}
+ * are first performed without locking and are only repeated under the read lock if a write has happened meanwhile,
+ * this is only done if the wrapped collection is an {@link java.util.ArrayList} or a {@link java.util.HashSet}
+ * as other collections may not tolerate such reads
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+public class StampedConcurrentCollectionWrapper<E, W extends Collection<E>> extends ConcurrentCollectionWrapper<E, W> {
+
+    @NotNull StampedLock lock;
+
+    /**
+     * Flag indicating whether the wrapped collection is {@link OptimisticReads#isTolerant(Object) tolerant}
+     * to optimistic reads
+     */
+    boolean optimistic;
+
+    protected StampedConcurrentCollectionWrapper(final @NotNull W wrapped, final @NotNull StampedLock lock) {
+        super(wrapped, lock.asReadLock(), lock.asWriteLock());
+        this.lock = lock;
+        optimistic = OptimisticReads.isTolerant(wrapped);
+    }
+
+    public static <E> @NotNull Collection<E> create(final @NonNull Collection<E> wrapped) {
+        return new StampedConcurrentCollectionWrapper<>(wrapped, new StampedLock());
+    }
+
+    @Override
+    public int size() {
+        return optimistic ? OptimisticReads.applyAsInt(lock, wrapped, Collection::size) : super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return optimistic ? OptimisticReads.test(lock, wrapped, Collection::isEmpty) : super.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return optimistic ? OptimisticReads.test(lock, wrapped, o, Collection::contains) : super.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(final @NonNull Collection<?> elements) {
+        return optimistic
+                ? OptimisticReads.test(lock, wrapped, elements, Collection::containsAll) : super.containsAll(elements);
+    }
+}
@@ -0,0 +1,80 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@link ConcurrentListWrapper} performing its reads under {@link StampedLock}'s optimistic read mode.
+ *
+ * @param <E> type of elements
+ * @param <W> type of wrapped list
+ *
+ * @apiNote unlike {@link ConcurrentListWrapper} this wrapper's lock is not reentrant
+ * @implNote {@link #get(int)}, {@link #indexOf(Object)}, {@link #lastIndexOf(Object)}, {@link #contains(Object)},
+ * {@link #containsAll(Collection)}, {@link #size()} and {@link #isEmpty()} are first performed without locking
+ * and are only repeated under the read lock if a write has happened meanwhile,
+ * this is only done if the wrapped list is an {@link java.util.ArrayList} as other lists may not tolerate such reads
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+public class StampedConcurrentListWrapper<E, W extends List<E>> extends ConcurrentListWrapper<E, W> {
+
+    @NotNull StampedLock lock;
+
+    /**
+     * Flag indicating whether the wrapped list is {@link OptimisticReads#isTolerant(Object) tolerant}
+     * to optimistic reads
+     */
+    boolean optimistic;
+
+    protected StampedConcurrentListWrapper(final @NotNull W wrapped, final @NotNull StampedLock lock) {
+        super(wrapped, lock.asReadLock(), lock.asWriteLock());
+        this.lock = lock;
+        optimistic = OptimisticReads.isTolerant(wrapped);
+    }
+
+    public static <E> @NotNull List<E> create(final @NonNull List<E> wrapped) {
+        return new StampedConcurrentListWrapper<>(wrapped, new StampedLock());
+    }
+
+    @Override
+    public int size() {
+        return optimistic ? OptimisticReads.applyAsInt(lock, wrapped, Collection::size) : super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return optimistic ? OptimisticReads.test(lock, wrapped, Collection::isEmpty) : super.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return optimistic ? OptimisticReads.test(lock, wrapped, o, Collection::contains) : super.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(final @NonNull Collection<?> elements) {
+        return optimistic
+                ? OptimisticReads.test(lock, wrapped, elements, Collection::containsAll) : super.containsAll(elements);
+    }
+
+    @Override
+    public E get(final int index) {
+        return optimistic ? OptimisticReads.applyAtIndex(lock, wrapped, index, List::get) : super.get(index);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return optimistic ? OptimisticReads.applyAsInt(lock, wrapped, o, List::indexOf) : super.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        return optimistic ? OptimisticReads.applyAsInt(lock, wrapped, o, List::lastIndexOf) : super.lastIndexOf(o);
+    }
+}
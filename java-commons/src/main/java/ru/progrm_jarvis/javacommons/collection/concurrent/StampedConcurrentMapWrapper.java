@@ -0,0 +1,78 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@link ConcurrentMapWrapper} performing its reads under {@link StampedLock}'s optimistic read mode.
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ * @param <W> type of wrapped map
+ *
+ * @apiNote unlike {@link ConcurrentMapWrapper} this wrapper's lock is not reentrant
+ * thus the functions passed to its methods should not access it
+ * @implNote {@link #get(Object)}, {@link #getOrDefault(Object, Object)}, {@link #containsKey(Object)},
+ * {@link #containsValue(Object)}, {@link #size()} and {@link #isEmpty()} are first performed without locking
+ * and are only repeated under the read lock if a write has happened meanwhile,
+ * this is only done if the wrapped map is a {@link java.util.HashMap} as other maps may not tolerate such reads
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+public class StampedConcurrentMapWrapper<K, V, W extends Map<K, V>> extends ConcurrentMapWrapper<K, V, W> {
+
+    @NotNull StampedLock lock;
+
+    /**
+     * Flag indicating whether the wrapped map is {@link OptimisticReads#isTolerant(Object) tolerant}
+     * to optimistic reads
+     */
+    boolean optimistic;
+
+    protected StampedConcurrentMapWrapper(final @NotNull W wrapped, final @NotNull StampedLock lock) {
+        super(wrapped, lock.asReadLock(), lock.asWriteLock());
+        this.lock = lock;
+        optimistic = OptimisticReads.isTolerant(wrapped);
+    }
+
+    public static <K, V> @NotNull Map<K, V> create(final @NonNull Map<K, V> wrapped) {
+        return new StampedConcurrentMapWrapper<>(wrapped, new StampedLock());
+    }
+
+    @Override
+    public int size() {
+        return optimistic ? OptimisticReads.applyAsInt(lock, wrapped, Map::size) : super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return optimistic ? OptimisticReads.test(lock, wrapped, Map::isEmpty) : super.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return optimistic ? OptimisticReads.test(lock, wrapped, key, Map::containsKey) : super.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return optimistic
+                ? OptimisticReads.test(lock, wrapped, value, Map::containsValue) : super.containsValue(value);
+    }
+
+    @Override
+    public V get(final Object key) {
+        return optimistic ? OptimisticReads.apply(lock, wrapped, key, Map::get) : super.get(key);
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V defaultValue) {
+        return optimistic
+                ? OptimisticReads.apply(lock, wrapped, key, defaultValue, Map::getOrDefault)
+                : super.getOrDefault(key, defaultValue);
+    }
+}
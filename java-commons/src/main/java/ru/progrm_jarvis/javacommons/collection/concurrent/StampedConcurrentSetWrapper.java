@@ -0,0 +1,28 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@link ConcurrentSetWrapper} performing its reads under {@link StampedLock}'s optimistic read mode.
+ *
+ * @param <E> type of elements
+ * @param <W> type of wrapped set
+ *
+ * @apiNote unlike {@link ConcurrentSetWrapper} this wrapper's lock is not reentrant
+ * @see StampedConcurrentCollectionWrapper implementation details
+ */
+public class StampedConcurrentSetWrapper<E, W extends Set<E>>
+        extends StampedConcurrentCollectionWrapper<E, W> implements Set<E> {
+
+    protected StampedConcurrentSetWrapper(final @NotNull W wrapped, final @NotNull StampedLock lock) {
+        super(wrapped, lock);
+    }
+
+    public static <E> @NotNull Set<E> create(final @NonNull Set<E> wrapped) {
+        return new StampedConcurrentSetWrapper<>(wrapped, new StampedLock());
+    }
+}
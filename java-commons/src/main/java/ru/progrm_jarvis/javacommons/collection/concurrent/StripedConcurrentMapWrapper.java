@@ -0,0 +1,312 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Concurrent {@link Map} splitting its keys across independently locked {@link ConcurrentMapWrapper sub-maps}
+ * so that the operations on the keys of different stripes do not contend.
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ *
+ * @apiNote operations on single keys are atomic while the ones spanning the whole map
+ * (such as {@link #size()}, {@link #clear()} or iteration) are performed stripe by stripe
+ * thus they are only weakly consistent;
+ * iteration order is the one of the stripes so the order of the underlying maps is only preserved per stripe
+ * @implNote the stripes are iterated by their {@link ConcurrentMapWrapper#weaklyConsistentIterator()
+ * weakly consistent iterators} thus the iterated entries are immutable copies
+ * and removals via the iterator are only performed if the entry still has the iterated value
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+public class StripedConcurrentMapWrapper<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * Sub-maps holding the entries of this map
+     */
+    @NotNull ConcurrentMapWrapper<K, V, ?> @NotNull [] stripes;
+
+    /**
+     * Mask used to get the index of the stripe by the spread hash of the key
+     */
+    int stripeMask;
+
+    /**
+     * View of this map's entries
+     */
+    @NotNull Set<Entry<K, V>> entrySet;
+
+    @SuppressWarnings("unchecked") // generic array creation
+    protected StripedConcurrentMapWrapper(final int stripeCount,
+                                          final @NotNull Supplier<? extends Map<K, V>> mapFactory) {
+        val stripes = (ConcurrentMapWrapper<K, V, ?>[]) new ConcurrentMapWrapper<?, ?, ?>[stripeCount];
+        for (var index = 0; index < stripeCount; index++) {
+            final ReadWriteLock lock = new ReentrantReadWriteLock();
+            stripes[index] = new ConcurrentMapWrapper<>(
+                    Objects.requireNonNull(mapFactory.get(), "mapFactory should not create null maps"),
+                    lock.readLock(), lock.writeLock()
+            );
+        }
+
+        this.stripes = stripes;
+        stripeMask = stripeCount - 1;
+        entrySet = new EntrySet();
+    }
+
+    /**
+     * Creates a new striped concurrent map.
+     *
+     * @param stripeCount minimal number of stripes, rounded up to the power of two
+     * @param mapFactory factory used to create the sub-maps, each call should create a new empty map
+     * @param <K> type of keys
+     * @param <V> type of values
+     * @return created striped concurrent map
+     *
+     * @throws IllegalArgumentException if {@code stripeCount} is not positive or is too big
+     */
+    public static <K, V> @NotNull Map<K, V> create(final int stripeCount,
+                                                   final @NonNull Supplier<? extends Map<K, V>> mapFactory) {
+        if (stripeCount <= 0) throw new IllegalArgumentException("stripeCount should be positive");
+        if (stripeCount > 1 << 16) throw new IllegalArgumentException("stripeCount should be at most 65536");
+
+        return new StripedConcurrentMapWrapper<>(
+                stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1, mapFactory
+        );
+    }
+
+    /**
+     * Gets the stripe responsible for the given key.
+     *
+     * @param key key whose stripe should be found
+     * @return stripe responsible for the key
+     */
+    protected @NotNull ConcurrentMapWrapper<K, V, ?> stripe(final Object key) {
+        final int hash;
+        return stripes[((hash = Objects.hashCode(key)) ^ hash >>> 16) & stripeMask];
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (val stripe : stripes) size += stripe.size();
+
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (val stripe : stripes) if (!stripe.isEmpty()) return false;
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (val stripe : stripes) stripe.clear();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return stripe(key).containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        for (val stripe : stripes) if (stripe.containsValue(value)) return true;
+
+        return false;
+    }
+
+    @Override
+    public V get(final Object key) {
+        return stripe(key).get(key);
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V defaultValue) {
+        return stripe(key).getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        return stripe(key).put(key, value);
+    }
+
+    @Override
+    public V remove(final Object key) {
+        return stripe(key).remove(key);
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        return stripe(key).remove(key, value);
+    }
+
+    @Override
+    public void putAll(final @NonNull Map<? extends K, ? extends V> elements) {
+        for (val entry : elements.entrySet()) put(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        return stripe(key).putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean replace(final K key, final V oldValue, final V newValue) {
+        return stripe(key).replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(final K key, final V value) {
+        return stripe(key).replace(key, value);
+    }
+
+    @Override
+    public V computeIfAbsent(final K key, final @NonNull Function<? super K, ? extends V> mappingFunction) {
+        return stripe(key).computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(final K key,
+                              final @NonNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return stripe(key).computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(final K key, final @NonNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return stripe(key).compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(final K key, final @NonNull V value,
+                   final @NonNull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return stripe(key).merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void forEach(final @NonNull BiConsumer<? super K, ? super V> action) {
+        for (val stripe : stripes) stripe.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(final @NonNull BiFunction<? super K, ? super V, ? extends V> function) {
+        for (val stripe : stripes) stripe.replaceAll(function);
+    }
+
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * Creates a copy of the current entries.
+     *
+     * @return new map containing the current entries
+     *
+     * @implSpec the entries of each stripe are copied under a single acquisition of its read lock
+     * but the stripes are copied one by one
+     */
+    public @NotNull Map<K, V> snapshot() {
+        final Map<K, V> snapshot = new LinkedHashMap<>();
+        for (val stripe : stripes) snapshot.putAll(stripe.snapshot());
+
+        return snapshot;
+    }
+
+    /**
+     * View of the entries of all stripes.
+     */
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return StripedConcurrentMapWrapper.this.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return StripedConcurrentMapWrapper.this.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            StripedConcurrentMapWrapper.this.clear();
+        }
+
+        @Override
+        public @NotNull Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    /**
+     * Iterator over the entries of all stripes, one after another.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        /**
+         * Index of the stripe whose entries are being iterated
+         */
+        int stripeIndex;
+
+        /**
+         * Iterator over the entries of the current stripe
+         */
+        @NotNull Iterator<Entry<K, V>> stripeIterator = stripes[0].weaklyConsistentIterator();
+
+        /**
+         * Last returned entry or {@code null} if there is none which can be removed
+         */
+        Entry<K, V> lastEntry;
+
+        /**
+         * Stripe containing the last returned entry
+         */
+        ConcurrentMapWrapper<K, V, ?> lastStripe;
+
+        @Override
+        public boolean hasNext() {
+            while (!stripeIterator.hasNext()) {
+                if (++stripeIndex >= stripes.length) {
+                    stripeIndex = stripes.length - 1;
+                    return false;
+                }
+                stripeIterator = stripes[stripeIndex].weaklyConsistentIterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            lastStripe = stripes[stripeIndex];
+            return lastEntry = stripeIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            final Entry<K, V> entry;
+            if ((entry = lastEntry) == null) throw new IllegalStateException("next() has not been called");
+
+            // note: the entry is a copy so it is only removed if it has not been concurrently changed
+            lastStripe.remove(entry.getKey(), entry.getValue());
+            lastEntry = null;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+/**
+ * Iterator copying the elements of the guarded collection in chunks each under a separate acquisition of the lock.
+ *
+ * @implNote chunks of {@link RandomAccess random access} lists are of a fixed size
+ * while other collections have to be iterated from the start for each chunk thus their chunks double in size
+ * so that the whole iteration takes linear time and a logarithmic number of lock acquisitions
+ * at the cost of the lock being held for longer as the iteration progresses
+ *
+ * @param <T> type of the elements of the guarded collection
+ * @param <E> type of the iterated elements
+ *
+ * @see ConcurrentIterable#weaklyConsistentIterator() guarantees of this iterator
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+final class WeaklyConsistentIterator<T, E> implements Iterator<E> {
+
+    /**
+     * Number of elements of the first chunk
+     */
+    private static final int INITIAL_CHUNK_SIZE = 64;
+
+    /**
+     * Lock guarding the collection
+     */
+    final @NotNull Lock readLock;
+
+    /**
+     * Iterated collection
+     */
+    final @NotNull Collection<? extends T> collection;
+
+    /**
+     * Function used to copy the elements of the collection
+     */
+    final @NotNull Function<? super T, ? extends E> copier;
+
+    /**
+     * Position of the next chunk in the collection
+     */
+    int position;
+
+    /**
+     * Number of elements to be copied into the next chunk
+     */
+    int chunkSize = INITIAL_CHUNK_SIZE;
+
+    /**
+     * Elements of the current chunk
+     */
+    Object @NotNull [] chunk = new Object[0];
+
+    /**
+     * Index of the next element in the current chunk
+     */
+    int chunkIndex;
+
+    /**
+     * Flag indicating whether the end of the collection has been reached
+     */
+    boolean exhausted;
+
+    WeaklyConsistentIterator(final @NotNull Lock readLock,
+                             final @NotNull Collection<? extends T> collection,
+                             final @NotNull Function<? super T, ? extends E> copier) {
+        this.readLock = readLock;
+        this.collection = collection;
+        this.copier = copier;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (chunkIndex < chunk.length) return true;
+        if (exhausted) return false;
+
+        nextChunk();
+        return chunk.length != 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // the chunk only contains copied elements
+    public E next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        final Object[] thisChunk;
+        final E element = (E) (thisChunk = chunk)[chunkIndex];
+        thisChunk[chunkIndex++] = null; // allow the element to be reclaimed once iterated
+
+        return element;
+    }
+
+    private void nextChunk() {
+        final int chunkSize = this.chunkSize, position = this.position;
+        Object[] nextChunk;
+        var length = 0;
+        readLock.lock();
+        try {
+            if (collection instanceof List<?> && collection instanceof RandomAccess) {
+                final List<? extends T> list;
+                final int end;
+                if ((end = Math.min((list = (List<? extends T>) collection).size(), position + chunkSize)) > position) {
+                    nextChunk = new Object[end - position];
+                    for (val element : list.subList(position, end)) nextChunk[length++] = copier.apply(element);
+                } else nextChunk = new Object[0];
+            } else {
+                nextChunk = new Object[Math.max(Math.min(chunkSize, collection.size() - position), 0)];
+                val iterator = collection.iterator();
+                for (var skipped = 0; skipped < position && iterator.hasNext(); skipped++) iterator.next();
+                while (length < nextChunk.length && iterator.hasNext()) {
+                    nextChunk[length++] = copier.apply(iterator.next());
+                }
+
+                // the chunks grow as each of them requires iteration from the start
+                this.chunkSize = chunkSize > Integer.MAX_VALUE >> 1 ? Integer.MAX_VALUE : chunkSize << 1;
+            }
+        } finally {
+            readLock.unlock();
+        }
+
+        if (length < chunkSize) exhausted = true;
+        if (length != nextChunk.length) nextChunk = Arrays.copyOf(nextChunk, length);
+        this.position = position + length;
+        chunk = nextChunk;
+        chunkIndex = 0;
+    }
+}
@@ -0,0 +1,388 @@
+package ru.progrm_jarvis.javacommons.collection.primitive;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.util.function.IntIntConsumer;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map of {@code int} keys to {@code int} values storing its entries without boxing.
+ *
+ * @apiNote this class is not thread-safe
+ * @implNote linear probing is used for collision resolution
+ * and removed entries are backward-shifted so that no tombstones are left in the table
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class IntIntMap {
+
+    /**
+     * Keys of the table, {@code 0} marks a free slot
+     */
+    int @NotNull [] keys;
+
+    /**
+     * Values of the table stored at the same indices as their keys
+     */
+    int @NotNull [] values;
+
+    /**
+     * Mask used to get the index of the slot by the hash
+     */
+    int mask;
+
+    /**
+     * Number of entries after which the table should grow
+     */
+    int maximalFill;
+
+    /**
+     * Flag indicating whether the zero key is present in this map
+     */
+    boolean hasZeroKey;
+
+    /**
+     * Value associated with the zero key
+     */
+    int zeroValue;
+
+    /**
+     * Number of entries in this map
+     */
+    int size;
+
+    private IntIntMap(final int capacity) {
+        allocate(capacity);
+    }
+
+    /**
+     * Creates a new empty map.
+     *
+     * @return created map
+     */
+    public static @NotNull IntIntMap create() {
+        return create(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates a new empty map able to hold the given number of entries without rehashing.
+     *
+     * @param expectedSize expected number of entries
+     * @return created map
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public static @NotNull IntIntMap create(final int expectedSize) {
+        return new IntIntMap(PrimitiveHashing.capacity(expectedSize));
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        maximalFill = PrimitiveHashing.maximalFill(capacity);
+    }
+
+    /**
+     * Gets the number of entries in this map.
+     *
+     * @return number of entries in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this map contains no entries.
+     *
+     * @return {@code true} if this map is empty and {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Finds the slot of the given non-zero key.
+     *
+     * @param key non-zero key to look for
+     * @return index of the slot containing the key or {@code -(index + 1)} of the free slot where it should be put
+     */
+    private int slot(final int key) {
+        final int[] thisKeys = keys;
+        final int thisMask = mask;
+
+        var index = PrimitiveHashing.mix(key) & thisMask;
+        int current;
+        while ((current = thisKeys[index]) != 0) {
+            if (current == key) return index;
+            index = (index + 1) & thisMask;
+        }
+
+        return -(index + 1);
+    }
+
+    /**
+     * Checks if this map contains the given key.
+     *
+     * @param key key to check
+     * @return {@code true} if this map contains the given key and {@code false} otherwise
+     */
+    public boolean containsKey(final int key) {
+        return key == 0 ? hasZeroKey : slot(key) >= 0;
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key key whose value should be got
+     * @return value associated with the given key or {@code 0} if there is none
+     */
+    public int get(final int key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key key whose value should be got
+     * @param defaultValue value to be returned if there is no value associated with the given key
+     * @return value associated with the given key or {@code defaultValue} if there is none
+     */
+    public int getOrDefault(final int key, final int defaultValue) {
+        if (key == 0) return hasZeroKey ? zeroValue : defaultValue;
+
+        final int slot;
+        return (slot = slot(key)) >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Associates the given value with the given key.
+     *
+     * @param key key with which the value should be associated
+     * @param value value to be associated with the key
+     * @return value previously associated with the given key or {@code 0} if there was none
+     */
+    public int put(final int key, final int value) {
+        if (key == 0) {
+            final int previousValue = zeroValue;
+            zeroValue = value;
+            if (hasZeroKey) return previousValue;
+
+            hasZeroKey = true;
+            size++;
+            return 0;
+        }
+
+        final int slot;
+        if ((slot = slot(key)) >= 0) {
+            final int previousValue = values[slot];
+            values[slot] = value;
+
+            return previousValue;
+        }
+
+        insert(-slot - 1, key, value);
+
+        return 0;
+    }
+
+    /**
+     * Adds the given increment to the value associated with the given key.
+     *
+     * @param key key whose value should be incremented
+     * @param increment value to be added to the current value, {@code 0} is used if there is none
+     * @return new value associated with the given key
+     */
+    public int addTo(final int key, final int increment) {
+        if (key == 0) {
+            if (hasZeroKey) return zeroValue += increment;
+
+            hasZeroKey = true;
+            size++;
+            return zeroValue = increment;
+        }
+
+        final int slot;
+        if ((slot = slot(key)) >= 0) return values[slot] += increment;
+
+        insert(-slot - 1, key, increment);
+
+        return increment;
+    }
+
+    private void insert(final int index, final int key, final int value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > maximalFill) rehash(PrimitiveHashing.grownCapacity(keys.length));
+    }
+
+    /**
+     * Removes the value associated with the given key.
+     *
+     * @param key key whose value should be removed
+     * @return value previously associated with the given key or {@code 0} if there was none
+     */
+    public int remove(final int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return 0;
+
+            final int previousValue = zeroValue;
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return previousValue;
+        }
+
+        final int slot;
+        if ((slot = slot(key)) < 0) return 0;
+
+        final int previousValue = values[slot];
+        shiftKeys(slot);
+        size--;
+
+        return previousValue;
+    }
+
+    /**
+     * Fills the gap left by the removed entry by shifting the following entries of the same probe sequence.
+     *
+     * @param gap index of the slot whose entry was removed
+     */
+    private void shiftKeys(int gap) {
+        final int[] thisKeys = keys, thisValues = values;
+        final int thisMask = mask;
+
+        var index = gap;
+        while (true) {
+            index = (index + 1) & thisMask;
+
+            final int key;
+            if ((key = thisKeys[index]) == 0) {
+                thisKeys[gap] = 0;
+                thisValues[gap] = 0;
+                return;
+            }
+
+            final int ideal = PrimitiveHashing.mix(key) & thisMask;
+            if (gap <= index ? gap >= ideal || ideal > index : gap >= ideal && ideal > index) {
+                thisKeys[gap] = key;
+                thisValues[gap] = thisValues[index];
+                gap = index;
+            }
+        }
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldKeys = keys, oldValues = values;
+        allocate(capacity);
+
+        final int[] newKeys = keys, newValues = values;
+        final int newMask = mask;
+        for (int i = 0, length = oldKeys.length; i < length; i++) {
+            final int key;
+            if ((key = oldKeys[i]) == 0) continue;
+
+            var index = PrimitiveHashing.mix(key) & newMask;
+            while (newKeys[index] != 0) index = (index + 1) & newMask;
+            newKeys[index] = key;
+            newValues[index] = oldValues[i];
+        }
+    }
+
+    /**
+     * Removes all entries from this map.
+     */
+    public void clear() {
+        if (size == 0) return;
+
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for each entry of this map.
+     *
+     * @param action action to be performed for each entry
+     *
+     * @apiNote this method performs no allocations
+     */
+    public void forEach(final @NonNull IntIntConsumer action) {
+        if (hasZeroKey) action.accept(0, zeroValue);
+
+        final int[] thisKeys = keys, thisValues = values;
+        for (int i = 0, length = thisKeys.length; i < length; i++) {
+            final int key;
+            if ((key = thisKeys[i]) != 0) action.accept(key, thisValues[i]);
+        }
+    }
+
+    /**
+     * Gets the keys of this map.
+     *
+     * @return newly allocated array of this map's keys
+     */
+    public int @NotNull [] toKeyArray() {
+        final int[] keyArray = new int[size];
+        var index = 0;
+        if (hasZeroKey) index++; // the array is already filled with zeroes
+
+        final int[] thisKeys = keys;
+        for (int i = 0, length = thisKeys.length; i < length; i++) {
+            final int key;
+            if ((key = thisKeys[i]) != 0) keyArray[index++] = key;
+        }
+
+        return keyArray;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (object == this) return true;
+        if (!(object instanceof IntIntMap)) return false;
+
+        val other = (IntIntMap) object;
+        if (other.size != size || other.hasZeroKey != hasZeroKey
+                || hasZeroKey && zeroValue != other.zeroValue) return false;
+
+        final int[] thisKeys = keys, thisValues = values;
+        for (int i = 0, length = thisKeys.length; i < length; i++) {
+            final int key, otherSlot;
+            if ((key = thisKeys[i]) != 0 && ((otherSlot = other.slot(key)) < 0
+                    || thisValues[i] != other.values[otherSlot])) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        var hashCode = hasZeroKey ? zeroValue : 0;
+
+        final int[] thisKeys = keys, thisValues = values;
+        for (int i = 0, length = thisKeys.length; i < length; i++) {
+            final int key;
+            if ((key = thisKeys[i]) != 0) hashCode += key ^ thisValues[i];
+        }
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        val builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() != 1) builder.append(", ");
+            builder.append(key).append('=').append(value);
+        });
+
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,347 @@
+package ru.progrm_jarvis.javacommons.collection.primitive;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Resizable array-backed list of {@code int} elements storing them without boxing.
+ *
+ * @apiNote this class is not thread-safe
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class IntList {
+
+    /**
+     * Empty array shared by all lists allocated with no capacity
+     */
+    private static final int @NotNull [] EMPTY_ELEMENTS = new int[0];
+
+    /**
+     * Default capacity to which the list allocated with no capacity grows
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Maximal capacity of the list
+     */
+    private static final int MAXIMAL_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Array storing the elements of this list
+     */
+    int @NotNull [] elements;
+
+    /**
+     * Number of elements in this list
+     */
+    int size;
+
+    private IntList(final int @NotNull [] elements, final int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a new empty list.
+     *
+     * @return created list
+     */
+    public static @NotNull IntList create() {
+        return new IntList(EMPTY_ELEMENTS, 0);
+    }
+
+    /**
+     * Creates a new empty list with the given initial capacity.
+     *
+     * @param capacity initial capacity of the list
+     * @return created list
+     *
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public static @NotNull IntList create(final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity should be non-negative");
+
+        return new IntList(capacity == 0 ? EMPTY_ELEMENTS : new int[capacity], 0);
+    }
+
+    /**
+     * Creates a new list containing the given elements.
+     *
+     * @param elements elements of the list
+     * @return created list
+     */
+    public static @NotNull IntList of(final int @NonNull ... elements) {
+        return new IntList(elements.clone(), elements.length);
+    }
+
+    /**
+     * Gets the number of elements in this list.
+     *
+     * @return number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this list contains no elements.
+     *
+     * @return {@code true} if this list is empty and {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Ensures that this list can hold the given number of elements without reallocation.
+     *
+     * @param capacity minimal capacity of this list
+     */
+    public void ensureCapacity(final int capacity) {
+        final int length;
+        if (capacity > (length = elements.length)) elements = Arrays.copyOf(elements, Math.max(
+                capacity, (int) Math.min(Math.max((long) length + (length >> 1), DEFAULT_CAPACITY), MAXIMAL_CAPACITY)
+        ));
+    }
+
+    /**
+     * Reduces the capacity of this list to its size.
+     */
+    public void trimToSize() {
+        if (size != elements.length) elements = size == 0 ? EMPTY_ELEMENTS : Arrays.copyOf(elements, size);
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(
+                "Index " + index + " is out of bounds for size " + size
+        );
+    }
+
+    /**
+     * Gets the element at the given index.
+     *
+     * @param index index of the element
+     * @return element at the given index
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int get(final int index) {
+        checkIndex(index);
+
+        return elements[index];
+    }
+
+    /**
+     * Sets the element at the given index.
+     *
+     * @param index index of the element
+     * @param element element to be set
+     * @return element previously stored at the given index
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int set(final int index, final int element) {
+        checkIndex(index);
+
+        final int[] thisElements;
+        final int previousElement = (thisElements = elements)[index];
+        thisElements[index] = element;
+
+        return previousElement;
+    }
+
+    /**
+     * Appends the given element to the end of this list.
+     *
+     * @param element element to be appended
+     */
+    public void add(final int element) {
+        final int index;
+        if ((index = size) == elements.length) ensureCapacity(index + 1);
+
+        elements[index] = element;
+        size = index + 1;
+    }
+
+    /**
+     * Inserts the given element at the given index of this list.
+     *
+     * @param index index at which the element should be inserted
+     * @param element element to be inserted
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void add(final int index, final int element) {
+        final int thisSize;
+        if (index < 0 || index > (thisSize = size)) throw new IndexOutOfBoundsException(
+                "Index " + index + " is out of bounds for size " + size
+        );
+
+        if (thisSize == elements.length) ensureCapacity(thisSize + 1);
+
+        final int[] thisElements;
+        System.arraycopy(thisElements = elements, index, thisElements, index + 1, thisSize - index);
+        thisElements[index] = element;
+        size = thisSize + 1;
+    }
+
+    /**
+     * Appends all elements of the given list to the end of this list.
+     *
+     * @param other list whose elements should be appended
+     */
+    public void addAll(final @NonNull IntList other) {
+        final int otherSize, thisSize;
+        ensureCapacity((thisSize = size) + (otherSize = other.size));
+
+        System.arraycopy(other.elements, 0, elements, thisSize, otherSize);
+        size = thisSize + otherSize;
+    }
+
+    /**
+     * Removes the element at the given index of this list.
+     *
+     * @param index index of the element to be removed
+     * @return removed element
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int removeAt(final int index) {
+        checkIndex(index);
+
+        final int[] thisElements;
+        final int removedElement = (thisElements = elements)[index];
+        final int newSize;
+        System.arraycopy(thisElements, index + 1, thisElements, index, (newSize = size - 1) - index);
+        size = newSize;
+
+        return removedElement;
+    }
+
+    /**
+     * Gets the index of the first occurrence of the given element in this list.
+     *
+     * @param element element to look for
+     * @return index of the first occurrence of the given element or {@code -1} if there is none
+     */
+    public int indexOf(final int element) {
+        final int[] thisElements = elements;
+        for (int i = 0, thisSize = size; i < thisSize; i++) if (thisElements[i] == element) return i;
+
+        return -1;
+    }
+
+    /**
+     * Gets the index of the last occurrence of the given element in this list.
+     *
+     * @param element element to look for
+     * @return index of the last occurrence of the given element or {@code -1} if there is none
+     */
+    public int lastIndexOf(final int element) {
+        final int[] thisElements = elements;
+        for (var i = size - 1; i >= 0; i--) if (thisElements[i] == element) return i;
+
+        return -1;
+    }
+
+    /**
+     * Checks if this list contains the given element.
+     *
+     * @param element element to check
+     * @return {@code true} if this list contains the given element and {@code false} otherwise
+     */
+    public boolean contains(final int element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Removes all elements from this list keeping its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts this list in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Performs the given action for each element of this list in order.
+     *
+     * @param action action to be performed for each element
+     *
+     * @apiNote this method performs no allocations
+     */
+    public void forEach(final @NonNull IntConsumer action) {
+        final int[] thisElements = elements;
+        for (int i = 0, thisSize = size; i < thisSize; i++) action.accept(thisElements[i]);
+    }
+
+    /**
+     * Creates a stream of this list's elements.
+     *
+     * @return stream of this list's elements
+     *
+     * @apiNote the list should not be modified while the stream is in use
+     */
+    public @NotNull IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Gets the elements of this list.
+     *
+     * @return newly allocated array of this list's elements
+     */
+    public int @NotNull [] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (object == this) return true;
+        if (!(object instanceof IntList)) return false;
+
+        val other = (IntList) object;
+        final int thisSize;
+        if ((thisSize = size) != other.size) return false;
+
+        final int[] thisElements = elements, otherElements = other.elements;
+        for (var i = 0; i < thisSize; i++) if (thisElements[i] != otherElements[i]) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        var hashCode = 1;
+        final int[] thisElements = elements;
+        for (int i = 0, thisSize = size; i < thisSize; i++) hashCode = 31 * hashCode + thisElements[i];
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        val builder = new StringBuilder("[");
+        final int[] thisElements = elements;
+        for (int i = 0, thisSize = size; i < thisSize; i++) {
+            if (i != 0) builder.append(", ");
+            builder.append(thisElements[i]);
+        }
+
+        return builder.append(']').toString();
+    }
+}
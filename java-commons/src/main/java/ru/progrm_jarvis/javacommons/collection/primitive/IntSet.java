@@ -0,0 +1,302 @@
+package ru.progrm_jarvis.javacommons.collection.primitive;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Open-addressing hash set of {@code int} elements storing them without boxing.
+ *
+ * @apiNote this class is not thread-safe
+ * @implNote linear probing is used for collision resolution
+ * and removed elements are backward-shifted so that no tombstones are left in the table
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class IntSet {
+
+    /**
+     * Elements of the table, {@code 0} marks a free slot
+     */
+    int @NotNull [] elements;
+
+    /**
+     * Mask used to get the index of the slot by the hash
+     */
+    int mask;
+
+    /**
+     * Number of elements after which the table should grow
+     */
+    int maximalFill;
+
+    /**
+     * Flag indicating whether {@code 0} is present in this set
+     */
+    boolean hasZero;
+
+    /**
+     * Number of elements in this set
+     */
+    int size;
+
+    private IntSet(final int capacity) {
+        allocate(capacity);
+    }
+
+    /**
+     * Creates a new empty set.
+     *
+     * @return created set
+     */
+    public static @NotNull IntSet create() {
+        return create(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates a new empty set able to hold the given number of elements without rehashing.
+     *
+     * @param expectedSize expected number of elements
+     * @return created set
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public static @NotNull IntSet create(final int expectedSize) {
+        return new IntSet(PrimitiveHashing.capacity(expectedSize));
+    }
+
+    /**
+     * Creates a new set containing the given elements.
+     *
+     * @param elements elements of the set
+     * @return created set
+     */
+    public static @NotNull IntSet of(final int @NonNull ... elements) {
+        val set = create(elements.length);
+        for (val element : elements) set.add(element);
+
+        return set;
+    }
+
+    private void allocate(final int capacity) {
+        elements = new int[capacity];
+        mask = capacity - 1;
+        maximalFill = PrimitiveHashing.maximalFill(capacity);
+    }
+
+    /**
+     * Gets the number of elements in this set.
+     *
+     * @return number of elements in this set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this set contains no elements.
+     *
+     * @return {@code true} if this set is empty and {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Finds the slot of the given non-zero element.
+     *
+     * @param element non-zero element to look for
+     * @return index of the slot containing the element
+     * or {@code -(index + 1)} of the free slot where it should be put
+     */
+    private int slot(final int element) {
+        final int[] thisElements = elements;
+        final int thisMask = mask;
+
+        var index = PrimitiveHashing.mix(element) & thisMask;
+        int current;
+        while ((current = thisElements[index]) != 0) {
+            if (current == element) return index;
+            index = (index + 1) & thisMask;
+        }
+
+        return -(index + 1);
+    }
+
+    /**
+     * Checks if this set contains the given element.
+     *
+     * @param element element to check
+     * @return {@code true} if this set contains the given element and {@code false} otherwise
+     */
+    public boolean contains(final int element) {
+        return element == 0 ? hasZero : slot(element) >= 0;
+    }
+
+    /**
+     * Adds the given element to this set.
+     *
+     * @param element element to be added
+     * @return {@code true} if this set did not contain the given element and {@code false} otherwise
+     */
+    public boolean add(final int element) {
+        if (element == 0) {
+            if (hasZero) return false;
+
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        final int slot;
+        if ((slot = slot(element)) >= 0) return false;
+
+        elements[-slot - 1] = element;
+        if (++size > maximalFill) rehash(PrimitiveHashing.grownCapacity(elements.length));
+
+        return true;
+    }
+
+    /**
+     * Removes the given element from this set.
+     *
+     * @param element element to be removed
+     * @return {@code true} if this set contained the given element and {@code false} otherwise
+     */
+    public boolean remove(final int element) {
+        if (element == 0) {
+            if (!hasZero) return false;
+
+            hasZero = false;
+            size--;
+            return true;
+        }
+
+        final int slot;
+        if ((slot = slot(element)) < 0) return false;
+
+        shiftElements(slot);
+        size--;
+
+        return true;
+    }
+
+    /**
+     * Fills the gap left by the removed element by shifting the following elements of the same probe sequence.
+     *
+     * @param gap index of the slot whose element was removed
+     */
+    private void shiftElements(int gap) {
+        final int[] thisElements = elements;
+        final int thisMask = mask;
+
+        var index = gap;
+        while (true) {
+            index = (index + 1) & thisMask;
+
+            final int element;
+            if ((element = thisElements[index]) == 0) {
+                thisElements[gap] = 0;
+                return;
+            }
+
+            final int ideal = PrimitiveHashing.mix(element) & thisMask;
+            if (gap <= index ? gap >= ideal || ideal > index : gap >= ideal && ideal > index) {
+                thisElements[gap] = element;
+                gap = index;
+            }
+        }
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldElements = elements;
+        allocate(capacity);
+
+        final int[] newElements = elements;
+        final int newMask = mask;
+        for (final int element : oldElements) {
+            if (element == 0) continue;
+
+            var index = PrimitiveHashing.mix(element) & newMask;
+            while (newElements[index] != 0) index = (index + 1) & newMask;
+            newElements[index] = element;
+        }
+    }
+
+    /**
+     * Removes all elements from this set.
+     */
+    public void clear() {
+        if (size == 0) return;
+
+        Arrays.fill(elements, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for each element of this set.
+     *
+     * @param action action to be performed for each element
+     *
+     * @apiNote this method performs no allocations
+     */
+    public void forEach(final @NonNull IntConsumer action) {
+        if (hasZero) action.accept(0);
+
+        for (final int element : elements) if (element != 0) action.accept(element);
+    }
+
+    /**
+     * Gets the elements of this set.
+     *
+     * @return newly allocated array of this set's elements
+     */
+    public int @NotNull [] toArray() {
+        final int[] array = new int[size];
+        var index = 0;
+        if (hasZero) index++; // the array is already filled with zeroes
+
+        for (final int element : elements) if (element != 0) array[index++] = element;
+
+        return array;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (object == this) return true;
+        if (!(object instanceof IntSet)) return false;
+
+        val other = (IntSet) object;
+        if (other.size != size || other.hasZero != hasZero) return false;
+
+        for (final int element : elements) if (element != 0 && other.slot(element) < 0) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        var hashCode = 0;
+        for (final int element : elements) hashCode += element;
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        val builder = new StringBuilder("[");
+        forEach(element -> {
+            if (builder.length() != 1) builder.append(", ");
+            builder.append(element);
+        });
+
+        return builder.append(']').toString();
+    }
+}
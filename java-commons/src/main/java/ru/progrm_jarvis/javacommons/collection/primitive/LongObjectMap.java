@@ -0,0 +1,392 @@
+package ru.progrm_jarvis.javacommons.collection.primitive;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.util.function.LongObjConsumer;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * Open-addressing hash map of {@code long} keys to object values storing its keys without boxing.
+ *
+ * @param <V> type of the values
+ *
+ * @apiNote this class is not thread-safe
+ * @implNote linear probing is used for collision resolution
+ * and removed entries are backward-shifted so that no tombstones are left in the table
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class LongObjectMap<V> {
+
+    /**
+     * Keys of the table, {@code 0} marks a free slot
+     */
+    long @NotNull [] keys;
+
+    /**
+     * Values of the table stored at the same indices as their keys
+     */
+    Object @NotNull [] values;
+
+    /**
+     * Mask used to get the index of the slot by the hash
+     */
+    int mask;
+
+    /**
+     * Number of entries after which the table should grow
+     */
+    int maximalFill;
+
+    /**
+     * Flag indicating whether the zero key is present in this map
+     */
+    boolean hasZeroKey;
+
+    /**
+     * Value associated with the zero key
+     */
+    @Nullable Object zeroValue;
+
+    /**
+     * Number of entries in this map
+     */
+    int size;
+
+    private LongObjectMap(final int capacity) {
+        allocate(capacity);
+    }
+
+    /**
+     * Creates a new empty map.
+     *
+     * @param <V> type of the values
+     * @return created map
+     */
+    public static <V> @NotNull LongObjectMap<V> create() {
+        return create(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates a new empty map able to hold the given number of entries without rehashing.
+     *
+     * @param expectedSize expected number of entries
+     * @param <V> type of the values
+     * @return created map
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public static <V> @NotNull LongObjectMap<V> create(final int expectedSize) {
+        return new LongObjectMap<>(PrimitiveHashing.capacity(expectedSize));
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        maximalFill = PrimitiveHashing.maximalFill(capacity);
+    }
+
+    /**
+     * Gets the number of entries in this map.
+     *
+     * @return number of entries in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this map contains no entries.
+     *
+     * @return {@code true} if this map is empty and {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Finds the slot of the given non-zero key.
+     *
+     * @param key non-zero key to look for
+     * @return index of the slot containing the key or {@code -(index + 1)} of the free slot where it should be put
+     */
+    private int slot(final long key) {
+        final long[] thisKeys = keys;
+        final int thisMask = mask;
+
+        var index = PrimitiveHashing.mix(key) & thisMask;
+        long current;
+        while ((current = thisKeys[index]) != 0) {
+            if (current == key) return index;
+            index = (index + 1) & thisMask;
+        }
+
+        return -(index + 1);
+    }
+
+    /**
+     * Checks if this map contains the given key.
+     *
+     * @param key key to check
+     * @return {@code true} if this map contains the given key and {@code false} otherwise
+     */
+    public boolean containsKey(final long key) {
+        return key == 0 ? hasZeroKey : slot(key) >= 0;
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key key whose value should be got
+     * @return value associated with the given key or {@code null} if there is none
+     */
+    public @Nullable V get(final long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key key whose value should be got
+     * @param defaultValue value to be returned if there is no value associated with the given key
+     * @return value associated with the given key or {@code defaultValue} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(final long key, final V defaultValue) {
+        if (key == 0) return hasZeroKey ? (V) zeroValue : defaultValue;
+
+        final int slot;
+        return (slot = slot(key)) >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    /**
+     * Associates the given value with the given key.
+     *
+     * @param key key with which the value should be associated
+     * @param value value to be associated with the key
+     * @return value previously associated with the given key or {@code null} if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V put(final long key, final V value) {
+        if (key == 0) {
+            final Object previousValue = zeroValue;
+            zeroValue = value;
+            if (hasZeroKey) return (V) previousValue;
+
+            hasZeroKey = true;
+            size++;
+            return null;
+        }
+
+        final int slot;
+        if ((slot = slot(key)) >= 0) {
+            final Object previousValue = values[slot];
+            values[slot] = value;
+
+            return (V) previousValue;
+        }
+
+        final int index;
+        keys[index = -slot - 1] = key;
+        values[index] = value;
+        if (++size > maximalFill) rehash(PrimitiveHashing.grownCapacity(keys.length));
+
+        return null;
+    }
+
+    /**
+     * Gets the value associated with the given key computing it if there is none.
+     *
+     * @param key key whose value should be got
+     * @param mappingFunction function used to compute the value, {@code null} results are not stored
+     * @return value associated with the given key
+     */
+    public V computeIfAbsent(final long key, final @NonNull LongFunction<? extends V> mappingFunction) {
+        V value;
+        if ((value = get(key)) == null && (value = mappingFunction.apply(key)) != null) put(key, value);
+
+        return value;
+    }
+
+    /**
+     * Removes the value associated with the given key.
+     *
+     * @param key key whose value should be removed
+     * @return value previously associated with the given key or {@code null} if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(final long key) {
+        if (key == 0) {
+            if (!hasZeroKey) return null;
+
+            final Object previousValue = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            size--;
+            return (V) previousValue;
+        }
+
+        final int slot;
+        if ((slot = slot(key)) < 0) return null;
+
+        final Object previousValue = values[slot];
+        shiftKeys(slot);
+        size--;
+
+        return (V) previousValue;
+    }
+
+    /**
+     * Fills the gap left by the removed entry by shifting the following entries of the same probe sequence.
+     *
+     * @param gap index of the slot whose entry was removed
+     */
+    private void shiftKeys(int gap) {
+        final long[] thisKeys = keys;
+        final Object[] thisValues = values;
+        final int thisMask = mask;
+
+        var index = gap;
+        while (true) {
+            index = (index + 1) & thisMask;
+
+            final long key;
+            if ((key = thisKeys[index]) == 0) {
+                thisKeys[gap] = 0;
+                thisValues[gap] = null;
+                return;
+            }
+
+            final int ideal = PrimitiveHashing.mix(key) & thisMask;
+            if (gap <= index ? gap >= ideal || ideal > index : gap >= ideal && ideal > index) {
+                thisKeys[gap] = key;
+                thisValues[gap] = thisValues[index];
+                gap = index;
+            }
+        }
+    }
+
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+
+        final long[] newKeys = keys;
+        final Object[] newValues = values;
+        final int newMask = mask;
+        for (int i = 0, length = oldKeys.length; i < length; i++) {
+            final long key;
+            if ((key = oldKeys[i]) == 0) continue;
+
+            var index = PrimitiveHashing.mix(key) & newMask;
+            while (newKeys[index] != 0) index = (index + 1) & newMask;
+            newKeys[index] = key;
+            newValues[index] = oldValues[i];
+        }
+    }
+
+    /**
+     * Removes all entries from this map.
+     */
+    public void clear() {
+        if (size == 0) return;
+
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for each entry of this map.
+     *
+     * @param action action to be performed for each entry
+     *
+     * @apiNote this method performs no allocations
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final @NonNull LongObjConsumer<? super V> action) {
+        if (hasZeroKey) action.accept(0, (V) zeroValue);
+
+        final long[] thisKeys = keys;
+        final Object[] thisValues = values;
+        for (int i = 0, length = thisKeys.length; i < length; i++) {
+            final long key;
+            if ((key = thisKeys[i]) != 0) action.accept(key, (V) thisValues[i]);
+        }
+    }
+
+    /**
+     * Gets the keys of this map.
+     *
+     * @return newly allocated array of this map's keys
+     */
+    public long @NotNull [] toKeyArray() {
+        final long[] keyArray = new long[size];
+        var index = 0;
+        if (hasZeroKey) index++; // the array is already filled with zeroes
+
+        final long[] thisKeys = keys;
+        for (int i = 0, length = thisKeys.length; i < length; i++) {
+            final long key;
+            if ((key = thisKeys[i]) != 0) keyArray[index++] = key;
+        }
+
+        return keyArray;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (object == this) return true;
+        if (!(object instanceof LongObjectMap)) return false;
+
+        val other = (LongObjectMap<?>) object;
+        if (other.size != size || other.hasZeroKey != hasZeroKey
+                || hasZeroKey && !Objects.equals(zeroValue, other.zeroValue)) return false;
+
+        final long[] thisKeys = keys;
+        final Object[] thisValues = values;
+        for (int i = 0, length = thisKeys.length; i < length; i++) {
+            final long key;
+            final int otherSlot;
+            if ((key = thisKeys[i]) != 0 && ((otherSlot = other.slot(key)) < 0
+                    || !Objects.equals(thisValues[i], other.values[otherSlot]))) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        var hashCode = hasZeroKey ? Objects.hashCode(zeroValue) : 0;
+
+        final long[] thisKeys = keys;
+        final Object[] thisValues = values;
+        for (int i = 0, length = thisKeys.length; i < length; i++) {
+            final long key;
+            if ((key = thisKeys[i]) != 0) hashCode += Long.hashCode(key) ^ Objects.hashCode(thisValues[i]);
+        }
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        val builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() != 1) builder.append(", ");
+            builder.append(key).append('=').append(value);
+        });
+
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,769 @@
+package ru.progrm_jarvis.javacommons.collection.primitive;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.unsafe.UnsafeInternals;
+import ru.progrm_jarvis.javacommons.util.function.LongLongConsumer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Open-addressing hash map of {@code long} keys to {@code long} values storing its entries outside the Java heap
+ * either in {@link ByteBuffer#allocateDirect(int) direct buffers} or in {@link FileChannel#map memory-mapped files}.
+ * <p>
+ * The memory of the map gets released deterministically by {@link #close() closing} it
+ * after which any attempt to access its entries leads to {@link IllegalStateException}.
+ *
+ * @apiNote this class is not thread-safe
+ * @implNote linear probing is used for collision resolution
+ * and removed entries are backward-shifted so that no tombstones are left in the table;
+ * the table is split into segments of at most {@value #SEGMENT_SLOTS} slots
+ * so that its capacity is not limited by the maximal size of a single buffer
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class OffHeapLongLongMap implements Closeable {
+
+    /**
+     * Number of bytes occupied by a single slot (the key followed by the value)
+     */
+    private static final int SLOT_BYTES = 2 * Long.BYTES;
+
+    /**
+     * Binary logarithm of the number of slots in a single segment
+     */
+    private static final int SEGMENT_SHIFT = 22;
+
+    /**
+     * Maximal number of slots in a single segment
+     */
+    private static final long SEGMENT_SLOTS = 1L << SEGMENT_SHIFT;
+
+    /**
+     * Mask used to get the index of the slot within its segment
+     */
+    private static final long SEGMENT_MASK = SEGMENT_SLOTS - 1;
+
+    /**
+     * Minimal capacity of the table
+     */
+    private static final long MINIMAL_CAPACITY = 4;
+
+    /**
+     * Maximal capacity of the table
+     */
+    private static final long MAXIMAL_CAPACITY = 1L << 40;
+
+    /**
+     * Default number of entries for which the table gets allocated
+     */
+    private static final long DEFAULT_EXPECTED_SIZE = 1 << 10;
+
+    /**
+     * Byte order in which the entries are stored
+     */
+    private static final @NotNull ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * Number of bytes preceding the table in the mapped file
+     */
+    private static final int HEADER_BYTES = 64;
+
+    /**
+     * Magic number identifying the mapped files of this map
+     */
+    private static final int MAGIC = 0x4C4C4D31;
+
+    private static final int MAGIC_OFFSET = 0,
+            CAPACITY_OFFSET = 8,
+            SIZE_OFFSET = 16,
+            HAS_ZERO_KEY_OFFSET = 24,
+            ZERO_VALUE_OFFSET = 32;
+
+    /**
+     * File in which the table is stored or {@code null} if it is stored in direct buffers
+     */
+    final @Nullable Path file;
+
+    /**
+     * Channel of the {@link #file} or {@code null} if the table is stored in direct buffers
+     */
+    @Nullable FileChannel channel;
+
+    /**
+     * Mapped header of the {@link #file} or {@code null} if the table is stored in direct buffers
+     */
+    @Nullable MappedByteBuffer header;
+
+    /**
+     * Segments of the table or {@code null} if this map is closed, key {@code 0} marks a free slot
+     */
+    ByteBuffer @Nullable [] segments;
+
+    /**
+     * Number of slots in the table
+     */
+    long capacity;
+
+    /**
+     * Mask used to get the index of the slot by the hash
+     */
+    long mask;
+
+    /**
+     * Number of entries after which the table should grow
+     */
+    long maximalFill;
+
+    /**
+     * Flag indicating whether the zero key is present in this map
+     */
+    boolean hasZeroKey;
+
+    /**
+     * Value associated with the zero key
+     */
+    long zeroValue;
+
+    /**
+     * Number of entries in this map
+     */
+    long size;
+
+    private OffHeapLongLongMap(final @Nullable Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Creates a new empty map stored in direct buffers.
+     *
+     * @return created map
+     */
+    public static @NotNull OffHeapLongLongMap create() {
+        return create(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates a new empty map stored in direct buffers
+     * able to hold the given number of entries without rehashing.
+     *
+     * @param expectedSize expected number of entries
+     * @return created map
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too big
+     */
+    public static @NotNull OffHeapLongLongMap create(final long expectedSize) {
+        final long capacity;
+        val map = new OffHeapLongLongMap(null);
+        map.setTable(allocateSegments(capacity = capacity(expectedSize)), capacity);
+
+        return map;
+    }
+
+    /**
+     * Opens the map stored in the given file creating the file if it does not exist.
+     * <p>
+     * The entries are written directly to the mapped memory and the zero key is written to the header
+     * as soon as it changes while the size of the map is recounted whenever the file is opened
+     * so that the map stays consistent even if it was not {@link #close() closed} properly.
+     *
+     * @param file file in which the map is stored
+     * @param expectedSize expected number of entries, the existing map grows to it if needed
+     * @return opened map
+     *
+     * @throws IOException if the file cannot be mapped or is not a file of this map
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too big
+     */
+    public static @NotNull OffHeapLongLongMap mapped(
+            final @NonNull Path file, final long expectedSize
+    ) throws IOException {
+        val expectedCapacity = capacity(expectedSize);
+
+        val map = new OffHeapLongLongMap(file);
+        map.open(expectedCapacity);
+
+        final long capacity;
+        try {
+            // the recounted size may exceed the fill limit if the map was not closed properly
+            capacity = Math.max(expectedCapacity, capacity(map.size));
+        } catch (final IllegalArgumentException e) {
+            map.release();
+            throw e;
+        }
+        if (capacity > map.capacity) try {
+            map.rehash(capacity);
+        } catch (final UncheckedIOException e) {
+            map.release();
+            throw e.getCause();
+        }
+
+        return map;
+    }
+
+    private static long capacity(final long expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Expected size should be non-negative");
+        if (expectedSize >= MAXIMAL_CAPACITY - (MAXIMAL_CAPACITY >>> 2)) throw new IllegalArgumentException(
+                "Expected size should be less than " + (MAXIMAL_CAPACITY - (MAXIMAL_CAPACITY >>> 2))
+        );
+
+        return Math.max(MINIMAL_CAPACITY, Long.highestOneBit(((expectedSize << 2) / 3 + 1) - 1) << 1);
+    }
+
+    private static int segmentCount(final long capacity) {
+        return (int) Math.max(1, capacity >>> SEGMENT_SHIFT);
+    }
+
+    private static int segmentBytes(final long capacity) {
+        return (int) Math.min(capacity, SEGMENT_SLOTS) * SLOT_BYTES;
+    }
+
+    private static ByteBuffer @NotNull [] allocateSegments(final long capacity) {
+        final int segmentBytes = segmentBytes(capacity);
+        final ByteBuffer[] segments = new ByteBuffer[segmentCount(capacity)];
+        for (var i = 0; i < segments.length; i++) segments[i] = ByteBuffer.allocateDirect(segmentBytes)
+                .order(BYTE_ORDER);
+
+        return segments;
+    }
+
+    private static ByteBuffer @NotNull [] mapSegments(
+            final @NotNull FileChannel channel, final long capacity
+    ) throws IOException {
+        final int segmentBytes = segmentBytes(capacity);
+        final ByteBuffer[] segments = new ByteBuffer[segmentCount(capacity)];
+        for (var i = 0; i < segments.length; i++) segments[i] = channel.map(
+                FileChannel.MapMode.READ_WRITE, HEADER_BYTES + (long) i * segmentBytes, segmentBytes
+        ).order(BYTE_ORDER);
+
+        return segments;
+    }
+
+    private static @NotNull MappedByteBuffer mapHeader(final @NotNull FileChannel channel) throws IOException {
+        final MappedByteBuffer header;
+        (header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES)).order(BYTE_ORDER);
+
+        return header;
+    }
+
+    private void open(final long newCapacity) throws IOException {
+        assert file != null;
+
+        final FileChannel thisChannel = channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+        try {
+            final long fileSize;
+            if ((fileSize = thisChannel.size()) != 0 && fileSize < HEADER_BYTES) throw new IOException(
+                    "File " + file + " is too small to contain the map"
+            );
+
+            final MappedByteBuffer thisHeader = header = mapHeader(thisChannel);
+            if (fileSize == 0) {
+                size = 0;
+                hasZeroKey = false;
+                zeroValue = 0;
+                setTable(mapSegments(thisChannel, newCapacity), newCapacity);
+                writeHeader(thisHeader);
+            } else {
+                if (thisHeader.getInt(MAGIC_OFFSET) != MAGIC) throw new IOException(
+                        "File " + file + " does not contain the map"
+                );
+
+                final long storedCapacity = thisHeader.getLong(CAPACITY_OFFSET);
+                if (storedCapacity < MINIMAL_CAPACITY || storedCapacity > MAXIMAL_CAPACITY
+                        || Long.bitCount(storedCapacity) != 1
+                        || fileSize < HEADER_BYTES + storedCapacity * SLOT_BYTES) throw new IOException(
+                        "File " + file + " is corrupted"
+                );
+
+                hasZeroKey = thisHeader.get(HAS_ZERO_KEY_OFFSET) != 0;
+                zeroValue = thisHeader.getLong(ZERO_VALUE_OFFSET);
+                final ByteBuffer[] thisSegments;
+                setTable(thisSegments = mapSegments(thisChannel, storedCapacity), storedCapacity);
+                // the stored size is only updated on flush so it is stale if the map was not closed properly
+                size = countEntries(thisSegments, storedCapacity) + (hasZeroKey ? 1 : 0);
+            }
+        } catch (final IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    private static long countEntries(final ByteBuffer @NotNull [] segments, final long capacity) {
+        var count = 0L;
+        for (var slot = 0L; slot < capacity; slot++) if (keyAt(segments, slot) != 0) count++;
+
+        return count;
+    }
+
+    /**
+     * Writes the zero key to the header of the mapped file if this map is stored in one.
+     */
+    private void writeZeroKey() {
+        final MappedByteBuffer thisHeader;
+        if ((thisHeader = header) != null) thisHeader
+                .put(HAS_ZERO_KEY_OFFSET, hasZeroKey ? (byte) 1 : (byte) 0)
+                .putLong(ZERO_VALUE_OFFSET, zeroValue);
+    }
+
+    private void writeHeader(final @NotNull ByteBuffer header) {
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putLong(CAPACITY_OFFSET, capacity);
+        header.putLong(SIZE_OFFSET, size);
+        header.put(HAS_ZERO_KEY_OFFSET, hasZeroKey ? (byte) 1 : (byte) 0);
+        header.putLong(ZERO_VALUE_OFFSET, zeroValue);
+    }
+
+    private void setTable(final ByteBuffer @NotNull [] segments, final long capacity) {
+        this.segments = segments;
+        this.capacity = capacity;
+        mask = capacity - 1;
+        maximalFill = capacity - (capacity >>> 2);
+    }
+
+    private ByteBuffer @NotNull [] segments() {
+        final ByteBuffer[] thisSegments;
+        if ((thisSegments = segments) == null) throw new IllegalStateException("Map is closed");
+
+        return thisSegments;
+    }
+
+    private static long keyAt(final ByteBuffer @NotNull [] segments, final long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)].getLong((int) (slot & SEGMENT_MASK) * SLOT_BYTES);
+    }
+
+    private static long valueAt(final ByteBuffer @NotNull [] segments, final long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)]
+                .getLong((int) (slot & SEGMENT_MASK) * SLOT_BYTES + Long.BYTES);
+    }
+
+    private static void setValueAt(final ByteBuffer @NotNull [] segments, final long slot, final long value) {
+        segments[(int) (slot >>> SEGMENT_SHIFT)].putLong((int) (slot & SEGMENT_MASK) * SLOT_BYTES + Long.BYTES, value);
+    }
+
+    private static void setEntryAt(
+            final ByteBuffer @NotNull [] segments, final long slot, final long key, final long value
+    ) {
+        final int offset;
+        segments[(int) (slot >>> SEGMENT_SHIFT)]
+                .putLong(offset = (int) (slot & SEGMENT_MASK) * SLOT_BYTES, key)
+                .putLong(offset + Long.BYTES, value);
+    }
+
+    /**
+     * Gets the number of entries in this map.
+     *
+     * @return number of entries in this map
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Checks if this map contains no entries.
+     *
+     * @return {@code true} if this map is empty and {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of slots in the table of this map.
+     *
+     * @return capacity of this map
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Finds the slot of the given non-zero key.
+     *
+     * @param segments segments of the table
+     * @param key non-zero key to look for
+     * @return index of the slot containing the key or {@code -(index + 1)} of the free slot where it should be put
+     */
+    private long slot(final ByteBuffer @NotNull [] segments, final long key) {
+        final long thisMask = mask;
+
+        var index = PrimitiveHashing.mixWide(key) & thisMask;
+        long current;
+        while ((current = keyAt(segments, index)) != 0) {
+            if (current == key) return index;
+            index = (index + 1) & thisMask;
+        }
+
+        return -(index + 1);
+    }
+
+    /**
+     * Checks if this map contains the given key.
+     *
+     * @param key key to check
+     * @return {@code true} if this map contains the given key and {@code false} otherwise
+     *
+     * @throws IllegalStateException if this map is closed
+     */
+    public boolean containsKey(final long key) {
+        final ByteBuffer[] thisSegments = segments();
+
+        return key == 0 ? hasZeroKey : slot(thisSegments, key) >= 0;
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key key whose value should be got
+     * @return value associated with the given key or {@code 0} if there is none
+     *
+     * @throws IllegalStateException if this map is closed
+     */
+    public long get(final long key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key key whose value should be got
+     * @param defaultValue value to be returned if there is no value associated with the given key
+     * @return value associated with the given key or {@code defaultValue} if there is none
+     *
+     * @throws IllegalStateException if this map is closed
+     */
+    public long getOrDefault(final long key, final long defaultValue) {
+        final ByteBuffer[] thisSegments = segments();
+        if (key == 0) return hasZeroKey ? zeroValue : defaultValue;
+
+        final long slot;
+        return (slot = slot(thisSegments, key)) >= 0 ? valueAt(thisSegments, slot) : defaultValue;
+    }
+
+    /**
+     * Associates the given value with the given key.
+     *
+     * @param key key with which the value should be associated
+     * @param value value to be associated with the key
+     * @return value previously associated with the given key or {@code 0} if there was none
+     *
+     * @throws IllegalStateException if this map is closed
+     * @throws UncheckedIOException if the mapped file cannot be resized
+     */
+    public long put(final long key, final long value) {
+        final ByteBuffer[] thisSegments = segments();
+        if (key == 0) {
+            final long previousValue = zeroValue;
+            zeroValue = value;
+            if (hasZeroKey) {
+                writeZeroKey();
+                return previousValue;
+            }
+
+            hasZeroKey = true;
+            size++;
+            writeZeroKey();
+            return 0;
+        }
+
+        final long slot;
+        if ((slot = slot(thisSegments, key)) >= 0) {
+            final long previousValue = valueAt(thisSegments, slot);
+            setValueAt(thisSegments, slot, value);
+
+            return previousValue;
+        }
+
+        setEntryAt(thisSegments, -slot - 1, key, value);
+        if (++size > maximalFill) {
+            final long thisCapacity;
+            if ((thisCapacity = capacity) >= MAXIMAL_CAPACITY) throw new IllegalStateException("Map is too large");
+            rehash(thisCapacity << 1);
+        }
+
+        return 0;
+    }
+
+    /**
+     * Removes the value associated with the given key.
+     *
+     * @param key key whose value should be removed
+     * @return value previously associated with the given key or {@code 0} if there was none
+     *
+     * @throws IllegalStateException if this map is closed
+     */
+    public long remove(final long key) {
+        final ByteBuffer[] thisSegments = segments();
+        if (key == 0) {
+            if (!hasZeroKey) return 0;
+
+            final long previousValue = zeroValue;
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            writeZeroKey();
+            return previousValue;
+        }
+
+        final long slot;
+        if ((slot = slot(thisSegments, key)) < 0) return 0;
+
+        final long previousValue = valueAt(thisSegments, slot);
+        shiftKeys(thisSegments, slot);
+        size--;
+
+        return previousValue;
+    }
+
+    /**
+     * Fills the gap left by the removed entry by shifting the following entries of the same probe sequence.
+     *
+     * @param segments segments of the table
+     * @param gap index of the slot whose entry was removed
+     */
+    private void shiftKeys(final ByteBuffer @NotNull [] segments, long gap) {
+        final long thisMask = mask;
+
+        var index = gap;
+        while (true) {
+            index = (index + 1) & thisMask;
+
+            final long key;
+            if ((key = keyAt(segments, index)) == 0) {
+                setEntryAt(segments, gap, 0, 0);
+                return;
+            }
+
+            final long ideal = PrimitiveHashing.mixWide(key) & thisMask;
+            if (gap <= index ? gap >= ideal || ideal > index : gap >= ideal && ideal > index) {
+                setEntryAt(segments, gap, key, valueAt(segments, index));
+                gap = index;
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from this map keeping its capacity.
+     *
+     * @throws IllegalStateException if this map is closed
+     */
+    public void clear() {
+        final ByteBuffer[] thisSegments = segments();
+        if (size == 0) return;
+
+        for (val segment : thisSegments) for (int offset = 0, limit = segment.capacity(); offset < limit;
+                                              offset += Long.BYTES) segment.putLong(offset, 0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+        writeZeroKey();
+    }
+
+    /**
+     * Performs the given action for each entry of this map.
+     *
+     * @param action action to be performed for each entry
+     *
+     * @throws IllegalStateException if this map is closed
+     * @apiNote this method performs no allocations
+     */
+    public void forEach(final @NonNull LongLongConsumer action) {
+        final ByteBuffer[] thisSegments = segments();
+        if (hasZeroKey) action.accept(0, zeroValue);
+
+        for (var slot = 0L; slot < capacity; slot++) {
+            final long key;
+            if ((key = keyAt(thisSegments, slot)) != 0) action.accept(key, valueAt(thisSegments, slot));
+        }
+    }
+
+    /**
+     * Ensures that this map can hold the given number of entries without rehashing.
+     *
+     * @param expectedSize expected number of entries
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too big
+     * @throws IllegalStateException if this map is closed
+     * @throws UncheckedIOException if the mapped file cannot be resized
+     */
+    public void ensureCapacity(final long expectedSize) {
+        segments();
+
+        final long newCapacity;
+        if ((newCapacity = capacity(expectedSize)) > capacity) rehash(newCapacity);
+    }
+
+    /**
+     * Resizes the table of this map so that it fits the given number of entries
+     * which allows both growing and shrinking of the map.
+     *
+     * @param expectedSize expected number of entries
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is less than the size of this map or too big
+     * @throws IllegalStateException if this map is closed
+     * @throws UncheckedIOException if the mapped file cannot be resized
+     */
+    public void resize(final long expectedSize) {
+        segments();
+        if (expectedSize < size) throw new IllegalArgumentException(
+                "Expected size should not be less than the size of the map"
+        );
+
+        final long newCapacity;
+        if ((newCapacity = capacity(expectedSize)) != capacity) rehash(newCapacity);
+    }
+
+    private void rehash(final long newCapacity) {
+        final ByteBuffer[] oldSegments = segments();
+        final Path thisFile;
+        if ((thisFile = file) == null) {
+            final ByteBuffer[] newSegments;
+            transfer(oldSegments, newSegments = allocateSegments(newCapacity), newCapacity - 1);
+            setTable(newSegments, newCapacity);
+            free(oldSegments);
+        } else try {
+            remap(thisFile, oldSegments, newCapacity);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to resize map stored in " + thisFile, e);
+        }
+    }
+
+    private void transfer(
+            final ByteBuffer @NotNull [] oldSegments, final ByteBuffer @NotNull [] newSegments, final long newMask
+    ) {
+        for (var slot = 0L; slot < capacity; slot++) {
+            final long key;
+            if ((key = keyAt(oldSegments, slot)) == 0) continue;
+
+            var index = PrimitiveHashing.mixWide(key) & newMask;
+            while (keyAt(newSegments, index) != 0) index = (index + 1) & newMask;
+            setEntryAt(newSegments, index, key, valueAt(oldSegments, slot));
+        }
+    }
+
+    /**
+     * Rebuilds the table in a temporary file which then atomically replaces the file of this map.
+     *
+     * @param file file of this map
+     * @param oldSegments current segments of the table
+     * @param newCapacity capacity of the new table
+     *
+     * @throws IOException if an I/O error occurs in which case this map gets closed
+     * unless the original file is left intact
+     */
+    private void remap(
+            final @NotNull Path file, final ByteBuffer @NotNull [] oldSegments, final long newCapacity
+    ) throws IOException {
+        val temporaryFile = file.resolveSibling(file.getFileName() + ".resize");
+        try (val temporaryChannel = FileChannel.open(
+                temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE
+        )) {
+            final MappedByteBuffer temporaryHeader = mapHeader(temporaryChannel);
+            final ByteBuffer[] newSegments;
+            transfer(oldSegments, newSegments = mapSegments(temporaryChannel, newCapacity), newCapacity - 1);
+
+            final long oldCapacity = capacity;
+            capacity = newCapacity;
+            writeHeader(temporaryHeader);
+            capacity = oldCapacity;
+
+            force(temporaryHeader, newSegments);
+            free(newSegments);
+            UnsafeInternals.tryFreeDirectBuffer(temporaryHeader);
+        } catch (final IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+
+        release();
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        open(newCapacity);
+    }
+
+    private static void force(
+            final @NotNull MappedByteBuffer header, final ByteBuffer @NotNull [] segments
+    ) {
+        for (val segment : segments) ((MappedByteBuffer) segment).force();
+        header.force();
+    }
+
+    private static void free(final ByteBuffer @NotNull [] segments) {
+        for (val segment : segments) UnsafeInternals.tryFreeDirectBuffer(segment);
+    }
+
+    /**
+     * Writes the state of this map to its file if it is stored in one.
+     *
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if this map is closed
+     */
+    public void flush() throws IOException {
+        final ByteBuffer[] thisSegments = segments();
+
+        final MappedByteBuffer thisHeader;
+        if ((thisHeader = header) == null) return;
+
+        writeHeader(thisHeader);
+        force(thisHeader, thisSegments);
+        assert channel != null;
+        channel.force(true);
+    }
+
+    private void release() throws IOException {
+        final ByteBuffer[] thisSegments;
+        if ((thisSegments = segments) != null) {
+            segments = null;
+            free(thisSegments);
+        }
+
+        final MappedByteBuffer thisHeader;
+        if ((thisHeader = header) != null) {
+            header = null;
+            UnsafeInternals.tryFreeDirectBuffer(thisHeader);
+        }
+
+        final FileChannel thisChannel;
+        if ((thisChannel = channel) != null) {
+            channel = null;
+            thisChannel.close();
+        }
+    }
+
+    /**
+     * Closes this map flushing its state to its file if it is stored in one and releasing its memory.
+     *
+     * @throws IOException if an I/O error occurs
+     * @apiNote this method has no effect if this map is already closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (segments == null) return;
+
+        try {
+            flush();
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapLongLongMap{size=" + size + ", capacity=" + capacity
+                + (file == null ? "" : ", file=" + file) + (segments == null ? ", closed}" : "}");
+    }
+}
@@ -0,0 +1,100 @@
+package ru.progrm_jarvis.javacommons.collection.primitive;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utilities shared by the open-addressing hash tables of this package.
+ * <p>
+ * The tables use linear probing over power-of-two sized arrays in which {@code 0} marks a free slot
+ * so that the zero key (if present) is stored separately.
+ */
+@UtilityClass
+class PrimitiveHashing {
+
+    /**
+     * Default number of elements for which the table gets allocated
+     */
+    final int DEFAULT_EXPECTED_SIZE = 16;
+
+    /**
+     * Maximal capacity of the table
+     */
+    private final int MAXIMAL_CAPACITY = 1 << 30;
+
+    /**
+     * Spreads the bits of the given key so that the keys differing only in high bits do not collide.
+     *
+     * @param key key to be hashed
+     * @return hash of the key
+     */
+    int mix(final int key) {
+        final int hash = key * 0x9E3779B9;
+
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Spreads the bits of the given key so that the keys differing only in high bits do not collide.
+     *
+     * @param key key to be hashed
+     * @return hash of the key
+     */
+    int mix(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    /**
+     * Spreads the bits of the given key so that the keys differing only in high bits do not collide.
+     *
+     * @param key key to be hashed
+     * @return hash of the key suitable for the tables whose capacity exceeds the range of {@code int}
+     */
+    long mixWide(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+
+        return hash ^ hash >>> 32;
+    }
+
+    /**
+     * Computes the capacity of the table able to hold the given number of elements without rehashing.
+     *
+     * @param expectedSize expected number of elements
+     * @return power-of-two capacity of the table
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    int capacity(final int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Expected size should be non-negative");
+
+        final long minimalCapacity = Math.max(4L, ((long) expectedSize << 2) / 3 + 1);
+
+        return minimalCapacity >= MAXIMAL_CAPACITY
+                ? MAXIMAL_CAPACITY : Integer.highestOneBit((int) minimalCapacity - 1) << 1;
+    }
+
+    /**
+     * Computes the number of elements after which the table of the given capacity should grow.
+     *
+     * @param capacity capacity of the table
+     * @return maximal number of elements in the table of the given capacity
+     */
+    int maximalFill(final int capacity) {
+        return Math.min(capacity - 1, capacity - (capacity >>> 2));
+    }
+
+    /**
+     * Computes the capacity to which the table of the given capacity should grow.
+     *
+     * @param capacity current capacity of the table
+     * @return new capacity of the table
+     *
+     * @throws IllegalStateException if the table cannot grow
+     */
+    int grownCapacity(final int capacity) {
+        if (capacity >= MAXIMAL_CAPACITY) throw new IllegalStateException("Table is too large");
+
+        return capacity << 1;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Collections specialized for primitive types storing their elements without boxing.
+ */
+package ru.progrm_jarvis.javacommons.collection.primitive;
@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.val;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -109,21 +110,21 @@ public interface DataSerializer<T> {
      *
      * @throws IOException if an error happens while writing
      * @apiNote {@code expectedSize} is not required to actually be exact, it is just used for possible optimizations
-     * @implNote default implementation simply creates a new {@link ByteArrayOutputStream}
-     * wrapped in {@link DataOutputStream} and passes it to {@link #write(DataOutputStream, Object)}
+     * @implNote default implementation writes the object into a reusable thread-confined buffer
+     * using {@link #write(DataOutputStream, Object)} and copies its content into the resulting byte-array
      * @see #write(DataOutputStream, Object) stream equivalent of this method
      */
     default byte @NotNull [] toByteArray(
             final T object,
             final @Range(from = 1, to = Integer.MAX_VALUE) int expectedSize
     ) throws IOException {
-        // note: no need for buffering
-        try (val result = new ByteArrayOutputStream(expectedSize);
-             val output = new DataOutputStream(result)) {
-            write(output, object);
-            output.flush();
+        val buffer = EncodeBuffers.acquire(expectedSize);
+        try {
+            write(buffer.output(), object);
 
-            return result.toByteArray();
+            return buffer.toByteArray();
+        } finally {
+            buffer.release();
         }
     }
 
@@ -135,19 +136,20 @@ public interface DataSerializer<T> {
      *
      * @throws IOException if an error happens while writing
      * @apiNote alternative implementations may simply call to {@link #toByteArray(Object, int)} with specific size
-     * @implNote default implementation simply creates a new {@link ByteArrayOutputStream}
-     * wrapped in {@link DataOutputStream} and passes it to {@link #write(DataOutputStream, Object)}
+     * @implNote default implementation writes the object into a reusable thread-confined buffer
+     * using {@link #write(DataOutputStream, Object)} and copies its content into the resulting byte-array
      * @see #toByteArray(Object, int) variant accepting expected byte-array size
      * @see #write(DataOutputStream, Object) stream equivalent of this method
+     * @see #sizeLearning() variant learning the expected size
      */
     default byte @NotNull [] toByteArray(final T object) throws IOException {
-        // note: no need for buffering
-        try (val result = new ByteArrayOutputStream();
-             val output = new DataOutputStream(result)) {
-            write(output, object);
-            output.flush();
+        val buffer = EncodeBuffers.acquire(0);
+        try {
+            write(buffer.output(), object);
 
-            return result.toByteArray();
+            return buffer.toByteArray();
+        } finally {
+            buffer.release();
         }
     }
 
@@ -159,8 +161,6 @@ public interface DataSerializer<T> {
      * @return byte-array representation of the object
      *
      * @apiNote {@code expectedSize} is not required to actually be exact, it is just used for possible optimizations
-     * @implNote default implementation simply creates a new {@link ByteArrayOutputStream}
-     * wrapped in {@link DataOutputStream} and passes it to {@link #write(DataOutputStream, Object)}
      * @implNote delegates to {@link #toByteArray(Object, int)}
      * @implSpec should not be overridden
      * @see #write(DataOutputStream, Object) stream equivalent of this method
@@ -180,8 +180,6 @@ public interface DataSerializer<T> {
      * @return byte-array representation of the object
      *
      * @apiNote alternative implementations may simply call to {@link #toByteArray(Object, int)} with specific size
-     * @implNote default implementation simply creates a new {@link ByteArrayOutputStream}
-     * wrapped in {@link DataOutputStream} and passes it to {@link #write(DataOutputStream, Object)}
      * @implNote delegates to {@link #toByteArray(Object)}
      * @implSpec should not be overridden
      * @see #toByteArray(Object, int) variant accepting expected byte-array size
@@ -214,6 +212,19 @@ public interface DataSerializer<T> {
         return new OptionalDataSerializer<>(this);
     }
 
+    /**
+     * Crates a data serializer based on this one which learns the typical size of the encoded objects
+     * so that {@link #toByteArray(Object)} does not have to grow its buffer.
+     *
+     * @return size-learning equivalent of this data serializer
+     *
+     * @apiNote the created serializer is stateful thus it should be reused rather than created per call
+     * @implNote the learned size is passed as the expected size to {@link #toByteArray(Object, int)} of this serializer
+     */
+    default @NotNull DataSerializer<T> sizeLearning() {
+        return new SizeLearningDataSerializer<>(this);
+    }
+
     /**
      * Data serializer for nullable types.
      */
@@ -258,4 +269,62 @@ public interface DataSerializer<T> {
             return input.readBoolean() ? Optional.of(wrapped.read(input)) : Optional.empty();
         }
     }
+
+    /**
+     * Data serializer learning the typical size of the encoded objects.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    final class SizeLearningDataSerializer<T> implements DataSerializer<T> {
+
+        /**
+         * Binary logarithm of the number of encodings over which the size hint decays to a smaller size
+         */
+        private static final int SIZE_HINT_DECAY_SHIFT = 4;
+
+        @NotNull DataSerializer<T> wrapped;
+
+        /**
+         * Size hint tracking the upper envelope of the recently encoded sizes
+         *
+         * @implNote data races on this field are benign as it is only a hint
+         */
+        @NonFinal int sizeHint;
+
+        @Override
+        public void write(final @NotNull DataOutputStream output, final T object) throws IOException {
+            wrapped.write(output, object);
+        }
+
+        @Override
+        public T read(final @NotNull DataInputStream input) throws IOException {
+            return wrapped.read(input);
+        }
+
+        @Override
+        public T fromByteArray(final byte @NotNull [] byteArray) throws IOException {
+            return wrapped.fromByteArray(byteArray);
+        }
+
+        @Override
+        public byte @NotNull [] toByteArray(final T object, final int expectedSize) throws IOException {
+            return wrapped.toByteArray(object, expectedSize);
+        }
+
+        @Override
+        public byte @NotNull [] toByteArray(final T object) throws IOException {
+            final int hint;
+            val bytes = wrapped.toByteArray(object, Math.max(1, hint = sizeHint));
+
+            final int size;
+            sizeHint = (size = bytes.length) >= hint ? size : hint - ((hint - size) >>> SIZE_HINT_DECAY_SHIFT);
+
+            return bytes;
+        }
+
+        @Override
+        public @NotNull DataSerializer<T> sizeLearning() {
+            return this;
+        }
+    }
 }
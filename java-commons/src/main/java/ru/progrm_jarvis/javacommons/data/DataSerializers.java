@@ -4,13 +4,22 @@ import lombok.*;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+import ru.progrm_jarvis.javacommons.cache.Cache;
+import ru.progrm_jarvis.javacommons.cache.Caches;
+import ru.progrm_jarvis.javacommons.collection.primitive.*;
 import ru.progrm_jarvis.javacommons.util.UuidUtil;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Common {@link DataSerializer data serializers}.
@@ -101,6 +110,76 @@ public class DataSerializers {
         return StringDataSerializer.INSTANCE;
     }
 
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link String}
+     * which uses standard UTF-8 encoding prefixed with the length of the encoded string.
+     *
+     * @return data serializer for {@link String}
+     *
+     * @apiNote unlike {@link #stringDataSerializer()} this one does not limit the length of the encoded string
+     * @implNote ASCII-only strings are marked as such so that they get copied in bulk when being read
+     */
+    public @NotNull DataSerializer<@NotNull String> utf8StringDataSerializer() {
+        return Utf8StringDataSerializer.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link String}
+     * which encodes the strings of the given dictionary as their indices in it.
+     * Other strings are encoded as by {@link #utf8StringDataSerializer()}.
+     *
+     * @param dictionary strings which should be encoded as their indices, order of which should be stable
+     * @return data serializer for {@link String}
+     *
+     * @throws IllegalArgumentException if the dictionary contains duplicate strings
+     * @apiNote strings of the dictionary are read as the same instances as the ones provided in it
+     */
+    public @NotNull DataSerializer<@NotNull String> dictionaryStringDataSerializer(
+            final @NonNull List<@NotNull String> dictionary
+    ) {
+        final int size;
+        val indices = new HashMap<String, Integer>(size = dictionary.size());
+        val strings = new String[size];
+        for (var index = 0; index < size; index++) {
+            final String string;
+            if (indices.putIfAbsent(string = dictionary.get(index), index) != null)
+                throw new IllegalArgumentException("Dictionary contains duplicate string: " + string);
+            strings[index] = string;
+        }
+
+        return new DictionaryStringDataSerializer(indices, strings);
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link String}
+     * which deduplicates the read strings using the given pool.
+     *
+     * @param serializer serializer used for actual serialization of the strings
+     * @param pool pool mapping the strings to their canonical instances
+     * @return data serializer for {@link String}
+     *
+     * @apiNote the pool should be thread-safe if the serializer is used concurrently
+     */
+    public @NotNull DataSerializer<@NotNull String> internedStringDataSerializer(
+            final @NonNull DataSerializer<@NotNull String> serializer,
+            final @NonNull Map<@NotNull String, @NotNull String> pool
+    ) {
+        return new InternedStringDataSerializer(serializer, pool);
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link String}
+     * which uses {@link #utf8StringDataSerializer() UTF-8 encoding} and deduplicates the read strings.
+     *
+     * @return data serializer for {@link String}
+     *
+     * @apiNote the created serializer retains all the strings read by it
+     * so it should only be used for payloads with limited set of distinct strings
+     */
+    public @NotNull DataSerializer<@NotNull String> internedStringDataSerializer() {
+        return internedStringDataSerializer(utf8StringDataSerializer(), new ConcurrentHashMap<>());
+    }
+
     /**
      * Creates a {@link DataSerializer data serializer} for {@link UUID}.
      *
@@ -174,6 +253,56 @@ public class DataSerializers {
         return collectionDataSerializer(HashSet::new, elementSerializer);
     }
 
+    /**
+     * Creates a {@link DataSerializer data serializer} for the given {@link Collection collection} type
+     * which splits the collection into chunks encoded and decoded in parallel.
+     * <p>
+     * Each chunk is prefixed with the number of its elements and the length of its encoded form.
+     *
+     * @param collectionFactory factory used for creation of collections
+     * @param elementSerializer serializer used for elements' serialization, should be thread-safe
+     * @param chunkSize maximal number of elements in a single chunk
+     * @param pool pool on which the chunks get encoded and decoded
+     * @param <C> the type of the collection
+     * @param <T> the type of the collection's elements
+     *
+     * @return data serializer for the given {@link Collection collection} type
+     *
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     * @apiNote collections of at most {@code chunkSize} elements are serialized on the calling thread
+     */
+    public <C extends Collection<T>, T> @NotNull DataSerializer<@NotNull C> chunkedCollectionDataSerializer(
+            final DataSerializers.@NonNull SizeAwareFactory<C> collectionFactory,
+            final @NonNull DataSerializer<T> elementSerializer,
+            final @Range(from = 1, to = Integer.MAX_VALUE) int chunkSize,
+            final @NonNull ForkJoinPool pool
+    ) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size should be positive");
+
+        return new ChunkedCollectionDataSerializer<>(collectionFactory, elementSerializer, chunkSize, pool);
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link List}
+     * which splits the list into chunks encoded and decoded in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param elementSerializer serializer used for elements' serialization, should be thread-safe
+     * @param <T> the type of the list's elements
+     *
+     * @return data serializer for {@link List}
+     *
+     * @apiNote there are no specific guarantees for the given list
+     * @see #chunkedCollectionDataSerializer(SizeAwareFactory, DataSerializer, int, ForkJoinPool) for details
+     */
+    public <T> @NotNull DataSerializer<@NotNull List<T>> chunkedListDataSerializer(
+            final @NonNull DataSerializer<T> elementSerializer
+    ) {
+        return chunkedCollectionDataSerializer(
+                ArrayList::new, elementSerializer, ChunkedCollectionDataSerializer.DEFAULT_CHUNK_SIZE,
+                ForkJoinPool.commonPool()
+        );
+    }
+
     /**
      * Creates a {@link DataSerializer data serializer} for the given {@link Map map} type.
      *
@@ -212,8 +341,247 @@ public class DataSerializers {
         return mapDataSerializer(HashMap::new, keySerializer, valueSerializer);
     }
 
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link IntList}.
+     *
+     * @return data serializer for {@link IntList}
+     */
+    public @NotNull DataSerializer<@NotNull IntList> intListDataSerializer() {
+        return IntListDataSerializer.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link LongList}.
+     *
+     * @return data serializer for {@link LongList}
+     */
+    public @NotNull DataSerializer<@NotNull LongList> longListDataSerializer() {
+        return LongListDataSerializer.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link IntSet}.
+     *
+     * @return data serializer for {@link IntSet}
+     */
+    public @NotNull DataSerializer<@NotNull IntSet> intSetDataSerializer() {
+        return IntSetDataSerializer.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link IntIntMap}.
+     *
+     * @return data serializer for {@link IntIntMap}
+     */
+    public @NotNull DataSerializer<@NotNull IntIntMap> intIntMapDataSerializer() {
+        return IntIntMapDataSerializer.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link IntObjectMap}.
+     *
+     * @param valueSerializer serializer used for values' serialization
+     * @param <V> the type of the maps' values
+     *
+     * @return data serializer for {@link IntObjectMap}
+     */
+    public <V> @NotNull DataSerializer<@NotNull IntObjectMap<V>> intObjectMapDataSerializer(
+            final @NonNull DataSerializer<V> valueSerializer
+    ) {
+        return new IntObjectMapDataSerializer<>(valueSerializer);
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link LongObjectMap}.
+     *
+     * @param valueSerializer serializer used for values' serialization
+     * @param <V> the type of the maps' values
+     *
+     * @return data serializer for {@link LongObjectMap}
+     */
+    public <V> @NotNull DataSerializer<@NotNull LongObjectMap<V>> longObjectMapDataSerializer(
+            final @NonNull DataSerializer<V> valueSerializer
+    ) {
+        return new LongObjectMapDataSerializer<>(valueSerializer);
+    }
+
+    @SneakyThrows(IOException.class)
+    private void writeIntUnchecked(final @NotNull DataOutputStream out, final int value) {
+        out.writeInt(value);
+    }
+
+    @SneakyThrows(IOException.class)
+    private void writeLongUnchecked(final @NotNull DataOutputStream out, final long value) {
+        out.writeLong(value);
+    }
+
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class IntListDataSerializer implements DataSerializer<@NotNull IntList> {
+
+        private static final @NotNull DataSerializer<@NotNull IntList> INSTANCE = new IntListDataSerializer();
+
+        @Override
+        public void write(final @NotNull DataOutputStream out, final @NotNull IntList list) throws IOException {
+            final int size;
+            out.writeInt(size = list.size());
+            for (var i = 0; i < size; i++) out.writeInt(list.get(i));
+        }
+
+        @Override
+        public @NotNull IntList read(final @NotNull DataInputStream in) throws IOException {
+            final int size;
+            val list = IntList.create(size = in.readInt());
+            for (var i = 0; i < size; i++) list.add(in.readInt());
+
+            return list;
+        }
+    }
+
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class LongListDataSerializer implements DataSerializer<@NotNull LongList> {
+
+        private static final @NotNull DataSerializer<@NotNull LongList> INSTANCE = new LongListDataSerializer();
+
+        @Override
+        public void write(final @NotNull DataOutputStream out, final @NotNull LongList list) throws IOException {
+            final int size;
+            out.writeInt(size = list.size());
+            for (var i = 0; i < size; i++) out.writeLong(list.get(i));
+        }
+
+        @Override
+        public @NotNull LongList read(final @NotNull DataInputStream in) throws IOException {
+            final int size;
+            val list = LongList.create(size = in.readInt());
+            for (var i = 0; i < size; i++) list.add(in.readLong());
+
+            return list;
+        }
+    }
+
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class IntSetDataSerializer implements DataSerializer<@NotNull IntSet> {
+
+        private static final @NotNull DataSerializer<@NotNull IntSet> INSTANCE = new IntSetDataSerializer();
+
+        @Override
+        public void write(final @NotNull DataOutputStream out, final @NotNull IntSet set) throws IOException {
+            out.writeInt(set.size());
+            set.forEach(element -> writeIntUnchecked(out, element));
+        }
+
+        @Override
+        public @NotNull IntSet read(final @NotNull DataInputStream in) throws IOException {
+            final int size;
+            val set = IntSet.create(size = in.readInt());
+            for (var i = 0; i < size; i++) set.add(in.readInt());
+
+            return set;
+        }
+    }
+
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class IntIntMapDataSerializer implements DataSerializer<@NotNull IntIntMap> {
+
+        private static final @NotNull DataSerializer<@NotNull IntIntMap> INSTANCE = new IntIntMapDataSerializer();
+
+        @Override
+        public void write(final @NotNull DataOutputStream out, final @NotNull IntIntMap map) throws IOException {
+            out.writeInt(map.size());
+            map.forEach((key, value) -> {
+                writeIntUnchecked(out, key);
+                writeIntUnchecked(out, value);
+            });
+        }
+
+        @Override
+        public @NotNull IntIntMap read(final @NotNull DataInputStream in) throws IOException {
+            final int size;
+            val map = IntIntMap.create(size = in.readInt());
+            for (var i = 0; i < size; i++) map.put(in.readInt(), in.readInt());
+
+            return map;
+        }
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class IntObjectMapDataSerializer<V> implements DataSerializer<@NotNull IntObjectMap<V>> {
+
+        @NotNull DataSerializer<V> valueSerializer;
+
+        @Override
+        public void write(final @NotNull DataOutputStream out, final @NotNull IntObjectMap<V> map) throws IOException {
+            out.writeInt(map.size());
+            map.forEach((key, value) -> {
+                writeIntUnchecked(out, key);
+                valueSerializer.writeUnchecked(out, value);
+            });
+        }
+
+        @Override
+        public @NotNull IntObjectMap<V> read(final @NotNull DataInputStream in) throws IOException {
+            final int size;
+            final IntObjectMap<V> map = IntObjectMap.create(size = in.readInt());
+            for (var i = 0; i < size; i++) map.put(in.readInt(), valueSerializer.read(in));
+
+            return map;
+        }
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class LongObjectMapDataSerializer<V> implements DataSerializer<@NotNull LongObjectMap<V>> {
+
+        @NotNull DataSerializer<V> valueSerializer;
+
+        @Override
+        public void write(
+                final @NotNull DataOutputStream out, final @NotNull LongObjectMap<V> map
+        ) throws IOException {
+            out.writeInt(map.size());
+            map.forEach((key, value) -> {
+                writeLongUnchecked(out, key);
+                valueSerializer.writeUnchecked(out, value);
+            });
+        }
+
+        @Override
+        public @NotNull LongObjectMap<V> read(final @NotNull DataInputStream in) throws IOException {
+            final int size;
+            final LongObjectMap<V> map = LongObjectMap.create(size = in.readInt());
+            for (var i = 0; i < size; i++) map.put(in.readLong(), valueSerializer.read(in));
+
+            return map;
+        }
+    }
+
+    /**
+     * Creates a {@link DataSerializer data serializer} for {@link OffHeapLongLongMap}.
+     *
+     * @return data serializer for {@link OffHeapLongLongMap}
+     *
+     * @apiNote the written data is a snapshot of the map's entries
+     * and the read maps are always stored in direct buffers
+     */
+    public @NotNull DataSerializer<@NotNull OffHeapLongLongMap> offHeapLongLongMapDataSerializer() {
+        return OffHeapLongLongMapDataSerializer.INSTANCE;
+    }
+
     /* *************************************************** Enums *************************************************** */
 
+    /**
+     * Cache of {@link #namedEnumDataSerializer(Class) named enum data serializers} by enum types
+     */
+    private final @NotNull Cache<@NotNull Class<?>, @NotNull DataSerializer<?>> NAMED_ENUM_DATA_SERIALIZERS
+            = Caches.classValueCache();
+
+    /**
+     * Cache of {@link #ordinalEnumDataSerializer(Class) ordinal enum data serializers} by enum types
+     */
+    private final @NotNull Cache<@NotNull Class<?>, @NotNull DataSerializer<?>> ORDINAL_ENUM_DATA_SERIALIZERS
+            = Caches.classValueCache();
+
     /**
      * Creates a {@link DataSerializer data serializer} for the given {@link Enum enum} type
      * which will implement <i>stable</i> serialization which will rely on enum names.
@@ -222,8 +590,28 @@ public class DataSerializers {
      * @param <E> the type of the enum
      *
      * @return {@link DataSerializer data serializer} for the given {@link Enum enum} type
+     *
+     * @implNote the serializers are cached per enum type
      */
+    @SuppressWarnings("unchecked") // the serializers are cached by their enum types
     public <E extends Enum<E>> DataSerializer<@NotNull E> namedEnumDataSerializer(final @NonNull Class<E> enumType) {
+        return (DataSerializer<E>) NAMED_ENUM_DATA_SERIALIZERS.get(
+                enumType, type -> createNamedEnumDataSerializer(enumType)
+        );
+    }
+
+    /**
+     * Creates a new {@link DataSerializer data serializer} for the given {@link Enum enum} type
+     * which will implement <i>stable</i> serialization which will rely on enum names.
+     *
+     * @param enumType class object representing the enum type
+     * @param <E> the type of the enum
+     *
+     * @return created {@link DataSerializer data serializer} for the given {@link Enum enum} type
+     */
+    private <E extends Enum<E>> DataSerializer<@NotNull E> createNamedEnumDataSerializer(
+            final @NotNull Class<E> enumType
+    ) {
         final E[] enumValues;
         final int length;
         val map = new HashMap<String, E>(length = (enumValues = enumType.getEnumConstants()).length);
@@ -243,8 +631,28 @@ public class DataSerializers {
      * @param <E> the type of the enum
      *
      * @return {@link DataSerializer data serializer} for the given {@link Enum enum} type
+     *
+     * @implNote the serializers are cached per enum type
      */
+    @SuppressWarnings("unchecked") // the serializers are cached by their enum types
     public <E extends Enum<E>> DataSerializer<@NotNull E> ordinalEnumDataSerializer(final @NonNull Class<E> enumType) {
+        return (DataSerializer<E>) ORDINAL_ENUM_DATA_SERIALIZERS.get(
+                enumType, type -> createOrdinalEnumDataSerializer(enumType)
+        );
+    }
+
+    /**
+     * Creates a new {@link DataSerializer data serializer} for the given {@link Enum enum} type
+     * which will implement <i>unstable</i> serialization which will rely on enum ordinal.
+     *
+     * @param enumType class object representing the enum type
+     * @param <E> the type of the enum
+     *
+     * @return created {@link DataSerializer data serializer} for the given {@link Enum enum} type
+     */
+    private <E extends Enum<E>> DataSerializer<@NotNull E> createOrdinalEnumDataSerializer(
+            final @NotNull Class<E> enumType
+    ) {
         final E[] enumConstants;
         final int enumConstantsLength;
         if ((enumConstantsLength = (enumConstants = enumType.getEnumConstants()).length)
@@ -626,6 +1034,186 @@ public class DataSerializers {
         }
     }
 
+    /**
+     * Serializer of strings using standard UTF-8 encoding.
+     * <p>
+     * Each string is prefixed with an {@code int} header
+     * which is either the length of an ASCII-only string or the bitwise complement of the length
+     * of the string's UTF-8 representation.
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Utf8StringDataSerializer implements DataSerializer<@NotNull String> {
+
+        private static final @NotNull DataSerializer<@NotNull String> INSTANCE = new Utf8StringDataSerializer();
+
+        /**
+         * Size of the header preceding the string's bytes
+         */
+        private static final int HEADER_SIZE = Integer.BYTES;
+
+        /**
+         * Creates the header of the string.
+         *
+         * @param string encoded string
+         * @param bytes UTF-8 representation of the string
+         * @return header of the string
+         */
+        private static int header(final @NotNull String string, final byte @NotNull [] bytes) {
+            final int length;
+            // note: UTF-8 representation is of the same length only if all characters are ASCII
+            return (length = bytes.length) == string.length() ? length : ~length;
+        }
+
+        /**
+         * Decodes the string from the given bytes.
+         *
+         * @param header header of the string
+         * @param bytes array containing the string's bytes
+         * @param offset offset of the string's bytes in the array
+         * @return decoded string
+         */
+        private static @NotNull String decode(final int header, final byte @NotNull [] bytes, final int offset) {
+            // note: ISO-8859-1 decoding is a simple copy for ASCII-only bytes
+            return header >= 0
+                    ? new String(bytes, offset, header, StandardCharsets.ISO_8859_1)
+                    : new String(bytes, offset, ~header, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(final @NotNull DataOutputStream out, final @NotNull String string) throws IOException {
+            final byte[] bytes;
+            out.writeInt(header(string, bytes = string.getBytes(StandardCharsets.UTF_8)));
+            out.write(bytes);
+        }
+
+        @Override
+        public @NotNull String read(final @NotNull DataInputStream in) throws IOException {
+            final int header;
+            final byte[] bytes;
+            in.readFully(bytes = new byte[(header = in.readInt()) >= 0 ? header : ~header]);
+
+            return decode(header, bytes, 0);
+        }
+
+        @Override
+        public @NotNull String fromByteArray(final byte @NotNull [] byteArray) throws IOException {
+            final int length;
+            if ((length = byteArray.length) < HEADER_SIZE) throw new IOException(
+                    "Byte array should be of length at least " + HEADER_SIZE
+            );
+
+            final int header;
+            if (((header = byteArray[0] << 24
+                    | (byteArray[1] & 0xFF) << 16
+                    | (byteArray[2] & 0xFF) << 8
+                    | byteArray[3] & 0xFF) >= 0 ? header : ~header) != length - HEADER_SIZE) throw new IOException(
+                    "Byte array length does not match the encoded string's length"
+            );
+
+            return decode(header, byteArray, HEADER_SIZE);
+        }
+
+        @Override
+        public byte @NotNull [] toByteArray(final @NotNull String string, final int expectedSize) {
+            return toByteArray(string);
+        }
+
+        @Override
+        public byte @NotNull [] toByteArray(final @NotNull String string) {
+            final byte[] bytes;
+            final int header = header(string, bytes = string.getBytes(StandardCharsets.UTF_8)), length;
+            val result = new byte[HEADER_SIZE + (length = bytes.length)];
+            result[0] = (byte) (header >>> 24 & 0xFF);
+            result[1] = (byte) (header >>> 16 & 0xFF);
+            result[2] = (byte) (header >>> 8 & 0xFF);
+            result[3] = (byte) (header & 0xFF);
+            System.arraycopy(bytes, 0, result, HEADER_SIZE, length);
+
+            return result;
+        }
+    }
+
+    /**
+     * Serializer of strings encoding the known ones as their indices in the dictionary.
+     * <p>
+     * Each string is prefixed with an {@code int} tag which is either the index of the string in the dictionary
+     * or {@code -1} followed by the {@link Utf8StringDataSerializer UTF-8 representation} of the string.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class DictionaryStringDataSerializer implements DataSerializer<@NotNull String> {
+
+        /**
+         * Tag of a string which is not present in the dictionary
+         */
+        private static final int ABSENT_TAG = -1;
+
+        private static final @NotNull DataSerializer<@NotNull String> FALLBACK = Utf8StringDataSerializer.INSTANCE;
+
+        @NotNull Map<@NotNull String, @NotNull Integer> indices;
+        @NotNull String @NotNull [] strings;
+
+        @Override
+        public void write(final @NotNull DataOutputStream out, final @NotNull String string) throws IOException {
+            final Integer index;
+            if ((index = indices.get(string)) == null) {
+                out.writeInt(ABSENT_TAG);
+                FALLBACK.write(out, string);
+            } else out.writeInt(index);
+        }
+
+        @Override
+        public @NotNull String read(final @NotNull DataInputStream in) throws IOException {
+            final int tag;
+            if ((tag = in.readInt()) == ABSENT_TAG) return FALLBACK.read(in);
+
+            final String[] thisStrings;
+            if ((thisStrings = strings).length <= tag || tag < 0) throw new IOException(
+                    "Dictionary index (" + tag + ") exceeds its limit (" + thisStrings.length + ')'
+            );
+
+            return thisStrings[tag];
+        }
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class InternedStringDataSerializer implements DataSerializer<@NotNull String> {
+
+        @NotNull DataSerializer<@NotNull String> serializer;
+        @NotNull Map<@NotNull String, @NotNull String> pool;
+
+        @Override
+        public void write(final @NotNull DataOutputStream out, final @NotNull String string) throws IOException {
+            serializer.write(out, string);
+        }
+
+        @Override
+        public @NotNull String read(final @NotNull DataInputStream in) throws IOException {
+            final String string;
+            final String pooled;
+            return (pooled = pool.putIfAbsent(string = serializer.read(in), string)) == null ? string : pooled;
+        }
+
+        @Override
+        public @NotNull String fromByteArray(final byte @NotNull [] byteArray) throws IOException {
+            final String string;
+            final String pooled;
+            return (pooled = pool.putIfAbsent(string = serializer.fromByteArray(byteArray), string)) == null
+                    ? string : pooled;
+        }
+
+        @Override
+        public byte @NotNull [] toByteArray(final @NotNull String string, final int expectedSize) throws IOException {
+            return serializer.toByteArray(string, expectedSize);
+        }
+
+        @Override
+        public byte @NotNull [] toByteArray(final @NotNull String string) throws IOException {
+            return serializer.toByteArray(string);
+        }
+    }
+
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     private static final class UuidDataSerializer implements DataSerializer<@NotNull UUID> {
 
@@ -686,6 +1274,133 @@ public class DataSerializers {
         }
     }
 
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class ChunkedCollectionDataSerializer<C extends Collection<T>, T>
+            implements DataSerializer<@NotNull C> {
+
+        /**
+         * Default maximal number of elements in a single chunk
+         */
+        private static final int DEFAULT_CHUNK_SIZE = 1 << 12;
+
+        DataSerializers.@NotNull SizeAwareFactory<C> collectionFactory;
+        @NotNull DataSerializer<T> elementSerializer;
+        int chunkSize;
+        @NotNull ForkJoinPool pool;
+
+        @Override
+        public void write(final @NotNull DataOutputStream out, final @NotNull C collection) throws IOException {
+            final Object[] elements;
+            final int size, chunkSize;
+            out.writeInt(size = (elements = collection.toArray()).length);
+            final int chunkCount;
+            out.writeInt(chunkCount = (size + (chunkSize = this.chunkSize) - 1) / chunkSize);
+
+            if (chunkCount == 1) {
+                val chunk = new ChunkEncodeTask<>(elementSerializer, elements, 0, size).compute();
+                out.writeInt(size);
+                out.writeInt(chunk.length);
+                out.write(chunk);
+            } else {
+                val tasks = new ArrayList<ChunkEncodeTask<T>>(chunkCount);
+                for (var from = 0; from < size; from += chunkSize) tasks.add(new ChunkEncodeTask<>(
+                        elementSerializer, elements, from, Math.min(from + chunkSize, size)
+                ));
+                for (val task : tasks) pool.execute(task);
+
+                for (val task : tasks) {
+                    val chunk = task.join();
+                    out.writeInt(task.to - task.from);
+                    out.writeInt(chunk.length);
+                    out.write(chunk);
+                }
+            }
+        }
+
+        @Override
+        public @NotNull C read(final @NotNull DataInputStream in) throws IOException {
+            final int size = in.readInt(), chunkCount = in.readInt();
+
+            val tasks = new ArrayList<ChunkDecodeTask<T>>(chunkCount);
+            for (var i = 0; i < chunkCount; i++) {
+                final int elementCount = in.readInt();
+                final byte[] chunk;
+                in.readFully(chunk = new byte[in.readInt()]);
+                tasks.add(new ChunkDecodeTask<>(elementSerializer, chunk, elementCount));
+            }
+            if (chunkCount > 1) for (val task : tasks) pool.execute(task);
+
+            val collection = collectionFactory.create(size);
+            for (val task : tasks) {
+                // note: single chunk gets decoded on the current thread
+                for (val element : chunkCount > 1 ? task.join() : task.compute()) collection.add(element);
+            }
+
+            return collection;
+        }
+
+        /**
+         * Task encoding a chunk of elements.
+         *
+         * @param <T> type of encoded elements
+         */
+        @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+        @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+        private static final class ChunkEncodeTask<T> extends RecursiveTask<byte @NotNull []> {
+
+            private static final long serialVersionUID = 0L;
+
+            @NotNull DataSerializer<T> elementSerializer;
+            @NotNull Object @NotNull [] elements;
+            int from, to;
+
+            @Override
+            @SneakyThrows(IOException.class)
+            @SuppressWarnings("unchecked") // elements originate from the collection of `T`
+            protected byte @NotNull [] compute() {
+                val buffer = EncodeBuffers.acquire(0);
+                try {
+                    final DataOutputStream output = buffer.output();
+                    final Object[] thisElements = elements;
+                    for (int i = from, to = this.to; i < to; i++) elementSerializer.write(output, (T) thisElements[i]);
+
+                    return buffer.toByteArray();
+                } finally {
+                    buffer.release();
+                }
+            }
+        }
+
+        /**
+         * Task decoding a chunk of elements.
+         *
+         * @param <T> type of decoded elements
+         */
+        @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+        @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+        private static final class ChunkDecodeTask<T> extends RecursiveTask<@NotNull List<T>> {
+
+            private static final long serialVersionUID = 0L;
+
+            @NotNull DataSerializer<T> elementSerializer;
+            byte @NotNull [] chunk;
+            int elementCount;
+
+            @Override
+            @SneakyThrows(IOException.class)
+            protected @NotNull List<T> compute() {
+                final int elementCount;
+                val elements = new ArrayList<T>(elementCount = this.elementCount);
+                try (val input = new DataInputStream(new ByteArrayInputStream(chunk))) {
+                    for (var i = 0; i < elementCount; i++) elements.add(elementSerializer.read(input));
+                }
+
+                return elements;
+            }
+        }
+    }
+
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
     @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
     private static final class MapDataSerializer<M extends Map<K, V>, K, V> implements DataSerializer<@NotNull M> {
@@ -714,6 +1429,46 @@ public class DataSerializers {
         }
     }
 
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class OffHeapLongLongMapDataSerializer implements DataSerializer<@NotNull OffHeapLongLongMap> {
+
+        private static final @NotNull DataSerializer<@NotNull OffHeapLongLongMap> INSTANCE
+                = new OffHeapLongLongMapDataSerializer();
+
+        /**
+         * Maximal number of entries for which the map gets preallocated,
+         * bigger maps grow while being read so that the untrusted size cannot cause a huge allocation
+         */
+        private static final long MAXIMAL_PREALLOCATED_SIZE = 1 << 16;
+
+        @Override
+        public void write(
+                final @NotNull DataOutputStream out, final @NotNull OffHeapLongLongMap map
+        ) throws IOException {
+            out.writeLong(map.size());
+            map.forEach((key, value) -> {
+                writeLongUnchecked(out, key);
+                writeLongUnchecked(out, value);
+            });
+        }
+
+        @Override
+        public @NotNull OffHeapLongLongMap read(final @NotNull DataInputStream in) throws IOException {
+            final long size;
+            if ((size = in.readLong()) < 0) throw new IOException("Map size should be non-negative but is " + size);
+
+            val map = OffHeapLongLongMap.create(Math.min(size, MAXIMAL_PREALLOCATED_SIZE));
+            try {
+                for (var i = 0L; i < size; i++) map.put(in.readLong(), in.readLong());
+            } catch (final IOException | RuntimeException e) {
+                map.close();
+                throw e;
+            }
+
+            return map;
+        }
+    }
+
     /* *************************************************** Enums *************************************************** */
 
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -0,0 +1,112 @@
+package ru.progrm_jarvis.javacommons.data;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+
+/**
+ * Pool of thread-confined buffers used for encoding of data into byte-arrays.
+ */
+@UtilityClass
+class EncodeBuffers {
+
+    /**
+     * Initial capacity of a newly created buffer
+     */
+    private final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Maximal capacity of a buffer which may be retained by the pool after its use
+     */
+    private final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    /**
+     * Buffers confined to their threads
+     */
+    private final @NotNull ThreadLocal<@NotNull EncodeBuffer> BUFFERS = ThreadLocal.withInitial(EncodeBuffer::new);
+
+    /**
+     * Acquires the buffer which should later be {@link EncodeBuffer#release() released}.
+     *
+     * @param expectedSize expected number of bytes to be written into the buffer
+     * @return acquired buffer
+     *
+     * @apiNote a new buffer gets created if the thread's buffer is already acquired, i.e. on reentrant encoding
+     */
+    @NotNull EncodeBuffer acquire(final int expectedSize) {
+        EncodeBuffer buffer;
+        if ((buffer = BUFFERS.get()).acquired) buffer = new EncodeBuffer();
+
+        buffer.acquired = true;
+        buffer.ensureCapacity(expectedSize);
+
+        return buffer;
+    }
+
+    /**
+     * Reusable byte-array output stream.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    static final class EncodeBuffer extends ByteArrayOutputStream {
+
+        /**
+         * Data output writing into this buffer
+         */
+        final @NotNull DataOutputStream output;
+
+        /**
+         * Flag indicating whether this buffer is currently in use
+         */
+        boolean acquired;
+
+        private EncodeBuffer() {
+            super(INITIAL_CAPACITY);
+
+            output = new DataOutputStream(this);
+        }
+
+        /**
+         * Gets the data output writing into this buffer.
+         *
+         * @return data output writing into this buffer
+         */
+        @NotNull DataOutputStream output() {
+            return output;
+        }
+
+        /**
+         * Ensures that this empty buffer can hold the given number of bytes without growing.
+         *
+         * @param capacity minimal required capacity
+         */
+        private void ensureCapacity(final int capacity) {
+            if (capacity > buf.length) buf = new byte[capacity];
+        }
+
+        /**
+         * Gets the content of this buffer as a byte-array.
+         *
+         * @return byte-array holding the content of this buffer
+         *
+         * @implNote the underlying array is returned without copying if it is exactly filled
+         * and too big to be retained as it is then not reused by this buffer after its {@link #release() release}
+         */
+        @Override
+        public synchronized byte @NotNull [] toByteArray() {
+            return count == buf.length && count > MAX_RETAINED_CAPACITY ? buf : super.toByteArray();
+        }
+
+        /**
+         * Releases this buffer so that it can be reused.
+         */
+        void release() {
+            reset();
+            if (buf.length > MAX_RETAINED_CAPACITY) buf = new byte[INITIAL_CAPACITY];
+            acquired = false;
+        }
+    }
+}
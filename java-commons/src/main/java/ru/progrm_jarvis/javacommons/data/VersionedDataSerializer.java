@@ -0,0 +1,238 @@
+package ru.progrm_jarvis.javacommons.data;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+import ru.progrm_jarvis.javacommons.lazy.Lazy;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link DataSerializer Data serializer} prefixing the data with the version of its layout
+ * so that the data written by previous versions of the serializer can still be read.
+ *
+ * <p>The data is always written using the serializer of the current version
+ * while the data of previous versions is read using their registered {@link LegacyReader legacy readers}
+ * which are only created once needed.</p>
+ *
+ * <p>The version is written as an unsigned variable-length integer
+ * thus versions in range {@code [0; 127]} take a single byte.</p>
+ *
+ * @param <T> type of serialized data
+ *
+ * @implNote reading data of the current version takes a single comparison
+ * if the current version is in range {@code [0; 127]}
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class VersionedDataSerializer<T> implements DataSerializer<T> {
+
+    /**
+     * Tag meaning that the current version does not fit into a single byte
+     */
+    private static final int NO_SINGLE_BYTE_TAG = -1;
+
+    /**
+     * Encoded version tag of the current version
+     */
+    byte @NotNull [] currentVersionTag;
+
+    /**
+     * Single byte representing the current version or {@link #NO_SINGLE_BYTE_TAG} if there is none
+     */
+    int currentVersionSingleByteTag;
+
+    /**
+     * Version of the layout written by {@link #currentSerializer}
+     */
+    int currentVersion;
+
+    /**
+     * Serializer of the current version
+     */
+    @NotNull DataSerializer<T> currentSerializer;
+
+    /**
+     * Lazily created readers of previous versions by the versions
+     */
+    @NotNull Map<@NotNull Integer, @NotNull Lazy<@NotNull LegacyReader<? extends T>>> legacyReaders;
+
+    /**
+     * Creates a new builder of the versioned data serializer.
+     *
+     * @param currentVersion version of the layout written by the given serializer
+     * @param currentSerializer serializer of the current version
+     * @param <T> type of serialized data
+     * @return created builder
+     *
+     * @throws IllegalArgumentException if {@code currentVersion} is negative
+     */
+    public static <T> @NotNull Builder<T> builder(final @Range(from = 0, to = Integer.MAX_VALUE) int currentVersion,
+                                                  final @NonNull DataSerializer<T> currentSerializer) {
+        checkVersion(currentVersion);
+
+        return new Builder<>(currentVersion, currentSerializer, new HashMap<>());
+    }
+
+    private static void checkVersion(final int version) {
+        if (version < 0) throw new IllegalArgumentException("Version should be non-negative");
+    }
+
+    /**
+     * Encodes the version as an unsigned variable-length integer.
+     *
+     * @param version encoded version
+     * @return encoded version tag
+     */
+    private static byte @NotNull [] encodeVersion(int version) {
+        val buffer = new byte[5];
+        var length = 0;
+        while ((version & ~0x7F) != 0) {
+            buffer[length++] = (byte) (version & 0x7F | 0x80);
+            version >>>= 7;
+        }
+        buffer[length++] = (byte) version;
+
+        val tag = new byte[length];
+        System.arraycopy(buffer, 0, tag, 0, length);
+
+        return tag;
+    }
+
+    /**
+     * Reads the rest of the version encoded as an unsigned variable-length integer.
+     *
+     * @param in input from which the version should be read
+     * @param firstByte first byte of the encoded version
+     * @return decoded version
+     *
+     * @throws IOException if an error happens while reading the version
+     */
+    private static int decodeVersion(final @NotNull DataInputStream in, final int firstByte) throws IOException {
+        var version = firstByte & 0x7F;
+        var currentByte = firstByte;
+        for (var shift = 7; (currentByte & 0x80) != 0; shift += 7) {
+            if (shift > 28) throw new IOException("Version tag is too long");
+            version |= ((currentByte = in.readUnsignedByte()) & 0x7F) << shift;
+        }
+
+        return version;
+    }
+
+    @Override
+    public void write(final @NotNull DataOutputStream output, final T object) throws IOException {
+        output.write(currentVersionTag);
+        currentSerializer.write(output, object);
+    }
+
+    @Override
+    public T read(final @NotNull DataInputStream input) throws IOException {
+        final int firstByte;
+        if ((firstByte = input.readUnsignedByte()) == currentVersionSingleByteTag) return currentSerializer.read(input);
+
+        return readSlowly(input, firstByte);
+    }
+
+    private T readSlowly(final @NotNull DataInputStream input, final int firstByte) throws IOException {
+        final int version;
+        if ((version = decodeVersion(input, firstByte)) == currentVersion) return currentSerializer.read(input);
+
+        final Lazy<LegacyReader<? extends T>> reader;
+        if ((reader = legacyReaders.get(version)) == null) throw new IOException(
+                "Unsupported version " + version + " (current version is " + currentVersion + ')'
+        );
+
+        return reader.get().read(input);
+    }
+
+    /**
+     * Reader of data written by one of the previous versions of the serializer.
+     *
+     * @param <T> type of read data
+     */
+    @FunctionalInterface
+    public interface LegacyReader<T> {
+
+        /**
+         * Reads the object from the given input stream.
+         *
+         * @param input input from which the object should be read
+         * @return read object
+         *
+         * @throws IOException if an error happens while reading
+         */
+        T read(@NotNull DataInputStream input) throws IOException;
+    }
+
+    /**
+     * Builder of {@link VersionedDataSerializer}.
+     *
+     * @param <T> type of serialized data
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static final class Builder<T> {
+
+        /**
+         * Version of the layout written by {@link #currentSerializer}
+         */
+        int currentVersion;
+
+        /**
+         * Serializer of the current version
+         */
+        @NotNull DataSerializer<T> currentSerializer;
+
+        /**
+         * Lazily created readers of previous versions by the versions
+         */
+        @NotNull Map<@NotNull Integer, @NotNull Lazy<@NotNull LegacyReader<? extends T>>> legacyReaders;
+
+        /**
+         * Registers the reader of the given previous version.
+         *
+         * @param version version of the data read by the reader
+         * @param readerFactory factory of the reader which will only be called once the reader is needed
+         * @return this builder
+         *
+         * @throws IllegalArgumentException if {@code version} is negative
+         * @throws IllegalArgumentException if {@code version} is the current version
+         * @throws IllegalArgumentException if there is already a reader registered for the given version
+         */
+        public @NotNull Builder<T> legacyReader(
+                final @Range(from = 0, to = Integer.MAX_VALUE) int version,
+                final @NonNull Supplier<? extends @NotNull LegacyReader<? extends T>> readerFactory
+        ) {
+            checkVersion(version);
+            if (version == currentVersion) throw new IllegalArgumentException(
+                    "Version " + version + " is the current version"
+            );
+            if (legacyReaders.putIfAbsent(version, Lazy.createThreadSafe(readerFactory)) != null)
+                throw new IllegalArgumentException("There is already a reader registered for version " + version);
+
+            return this;
+        }
+
+        /**
+         * Builds the versioned data serializer.
+         *
+         * @return created versioned data serializer
+         */
+        public @NotNull DataSerializer<T> build() {
+            final int currentVersion;
+            final byte[] currentVersionTag;
+            return new VersionedDataSerializer<>(
+                    currentVersionTag = encodeVersion(currentVersion = this.currentVersion),
+                    currentVersionTag.length == 1 ? currentVersionTag[0] : NO_SINGLE_BYTE_TAG,
+                    currentVersion, currentSerializer, Collections.unmodifiableMap(new HashMap<>(legacyReaders))
+            );
+        }
+    }
+}
@@ -0,0 +1,471 @@
+package ru.progrm_jarvis.javacommons.data.log;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+import ru.progrm_jarvis.javacommons.data.DataSerializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RecordLog Record log} storing its records in memory-mapped segment files.
+ *
+ * <p>Each segment is a file named after the offset of its first record
+ * which is mapped into memory entirely once it is opened.
+ * Records are stored as their {@link DataSerializer#toByteArray(Object) serialized form}
+ * prefixed with its length so that offsets of the records are their logical positions in the log.</p>
+ *
+ * <p>Appends are serialized while reads do not require any synchronization.</p>
+ *
+ * @param <T> type of stored records
+ *
+ * @implNote mapped segments are released by the garbage collector once this log is closed
+ * as there is no portable way to unmap them explicitly
+ */
+@ToString(onlyExplicitlyIncluded = true)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class MappedRecordLog<T> implements RecordLog<T> {
+
+    /**
+     * Default size of a single segment
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * Size of the header preceding each record
+     */
+    private static final int HEADER_SIZE = Integer.BYTES;
+
+    /**
+     * Suffix of segment files' names
+     */
+    private static final @NotNull String SEGMENT_FILE_SUFFIX = ".segment";
+
+    /**
+     * Pattern of segment files' names
+     */
+    private static final @NotNull Pattern SEGMENT_FILE_NAME_PATTERN = Pattern.compile("\\d{20}\\.segment");
+
+    /**
+     * Directory containing the segment files
+     */
+    @ToString.Include
+    @NotNull Path directory;
+
+    /**
+     * Serializer used for records' (de)serialization
+     */
+    @NotNull DataSerializer<T> serializer;
+
+    /**
+     * Size of newly created segments
+     */
+    @ToString.Include
+    int segmentSize;
+
+    /**
+     * Number of appends after which the log gets forced, {@code 0} to disable automatic forcing
+     */
+    @ToString.Include
+    int forceBatchSize;
+
+    /**
+     * Segments of this log by their base offsets
+     */
+    @NotNull NavigableMap<@NotNull Long, @NotNull Segment> segments;
+
+    /**
+     * Lock guarding appends
+     */
+    @NotNull Lock appendLock;
+
+    /**
+     * Segments which are no longer active but have not been forced yet
+     */
+    @NotNull List<@NotNull Segment> unforcedSegments;
+
+    /**
+     * Segment to which the records get appended
+     */
+    @NonFinal @NotNull Segment activeSegment;
+
+    /**
+     * Offset following the last record of this log
+     */
+    @NonFinal volatile long endOffset;
+
+    /**
+     * Number of appends since the last force
+     */
+    @NonFinal int unforcedAppends;
+
+    /**
+     * Flag indicating whether this log is closed
+     */
+    @NonFinal volatile boolean closed;
+
+    private MappedRecordLog(final @NotNull Path directory,
+                            final @NotNull DataSerializer<T> serializer,
+                            final int segmentSize,
+                            final int forceBatchSize,
+                            final @NotNull NavigableMap<@NotNull Long, @NotNull Segment> segments,
+                            final @NotNull Segment activeSegment) {
+        this.directory = directory;
+        this.serializer = serializer;
+        this.segmentSize = segmentSize;
+        this.forceBatchSize = forceBatchSize;
+        this.segments = segments;
+        this.activeSegment = activeSegment;
+        this.appendLock = new ReentrantLock();
+        this.unforcedSegments = new ArrayList<>();
+
+        endOffset = activeSegment.baseOffset + activeSegment.position;
+    }
+
+    /**
+     * Opens the record log stored in the given directory creating it if needed.
+     *
+     * @param directory directory containing the segment files of the log
+     * @param serializer serializer used for records' (de)serialization
+     * @param segmentSize size of newly created segments in bytes
+     * @param forceBatchSize number of appends after which the log gets {@link #force() forced},
+     * {@code 0} to only force it explicitly
+     * @param <T> type of stored records
+     * @return opened record log
+     *
+     * @throws IOException if an error happens while opening the log
+     * @throws IllegalArgumentException if {@code segmentSize} is too small to hold any record
+     * @throws IllegalArgumentException if {@code forceBatchSize} is negative
+     * @apiNote if {@code forceBatchSize} is positive then the log also gets forced
+     * whenever a new segment is started and when the log gets closed
+     */
+    public static <T> @NotNull RecordLog<T> open(
+            final @NonNull Path directory,
+            final @NonNull DataSerializer<T> serializer,
+            final @Range(from = HEADER_SIZE + 1, to = Integer.MAX_VALUE) int segmentSize,
+            final @Range(from = 0, to = Integer.MAX_VALUE) int forceBatchSize
+    ) throws IOException {
+        if (segmentSize <= HEADER_SIZE) throw new IllegalArgumentException(
+                "Segment size should be greater than " + HEADER_SIZE
+        );
+        if (forceBatchSize < 0) throw new IllegalArgumentException("Force batch size should be non-negative");
+
+        Files.createDirectories(directory);
+
+        final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+        try (val files = Files.newDirectoryStream(directory, MappedRecordLog::isSegmentFile)) {
+            for (val file : files) {
+                final String fileName;
+                val baseOffset = Long.parseLong((fileName = file.getFileName().toString()).substring(
+                        0, fileName.length() - SEGMENT_FILE_SUFFIX.length()
+                ));
+                segments.put(baseOffset, Segment.map(file, baseOffset, (int) Files.size(file)));
+            }
+        }
+
+        final Segment activeSegment;
+        {
+            final Map.Entry<Long, Segment> lastEntry;
+            if ((lastEntry = segments.lastEntry()) == null) segments.put(0L, activeSegment = Segment.map(
+                    segmentFile(directory, 0), 0, segmentSize
+            ));
+            else (activeSegment = lastEntry.getValue()).recoverPosition();
+        }
+
+        return new MappedRecordLog<>(directory, serializer, segmentSize, forceBatchSize, segments, activeSegment);
+    }
+
+    /**
+     * Opens the record log stored in the given directory creating it if needed.
+     * The log will use {@link #DEFAULT_SEGMENT_SIZE default segment size}
+     * and will only be {@link #force() forced} explicitly.
+     *
+     * @param directory directory containing the segment files of the log
+     * @param serializer serializer used for records' (de)serialization
+     * @param <T> type of stored records
+     * @return opened record log
+     *
+     * @throws IOException if an error happens while opening the log
+     */
+    public static <T> @NotNull RecordLog<T> open(final @NonNull Path directory,
+                                                 final @NonNull DataSerializer<T> serializer) throws IOException {
+        return open(directory, serializer, DEFAULT_SEGMENT_SIZE, 0);
+    }
+
+    private static boolean isSegmentFile(final @NotNull Path file) {
+        return SEGMENT_FILE_NAME_PATTERN.matcher(file.getFileName().toString()).matches();
+    }
+
+    private static @NotNull Path segmentFile(final @NotNull Path directory, final long baseOffset) {
+        return directory.resolve(String.format("%020d", baseOffset) + SEGMENT_FILE_SUFFIX);
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("Record log is closed");
+    }
+
+    private void checkOffset(final long offset) {
+        if (offset < 0 || offset >= endOffset) throw new IllegalArgumentException(
+                "Offset " + offset + " is out of bounds [0; " + endOffset + ')'
+        );
+    }
+
+    @Override
+    public long append(final T record) throws IOException {
+        val bytes = serializer.toByteArray(record);
+        final int recordSize;
+        if ((recordSize = HEADER_SIZE + bytes.length) > segmentSize) throw new IOException(
+                "Record of size " + recordSize + " does not fit into segment of size " + segmentSize
+        );
+
+        appendLock.lock();
+        try {
+            ensureOpen();
+
+            var segment = activeSegment;
+            final long offset;
+            if (segment.position + recordSize > segment.buffer.capacity()) {
+                if (forceBatchSize == 0) unforcedSegments.add(segment); // will be forced by the explicit force
+                else {
+                    segment.buffer.force();
+                    unforcedAppends = 0;
+                }
+
+                segments.put(offset = endOffset, activeSegment = segment = Segment.map(
+                        segmentFile(directory, offset), offset, segmentSize
+                ));
+            } else offset = endOffset;
+
+            segment.write(bytes);
+            endOffset = offset + recordSize;
+
+            if (forceBatchSize != 0 && ++unforcedAppends >= forceBatchSize) {
+                segment.buffer.force();
+                unforcedAppends = 0;
+            }
+
+            return offset;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public T read(final long offset) throws IOException {
+        ensureOpen();
+        checkOffset(offset);
+
+        final Map.Entry<Long, Segment> entry;
+        if ((entry = segments.floorEntry(offset)) == null) throw new IllegalArgumentException(
+                "There is no segment containing offset " + offset
+        );
+
+        return serializer.fromByteArray(entry.getValue().read((int) (offset - entry.getKey())));
+    }
+
+    @Override
+    public @NotNull Cursor<T> cursor(final long offset) {
+        ensureOpen();
+        if (offset != endOffset) checkOffset(offset);
+
+        return new SequentialCursor(offset);
+    }
+
+    @Override
+    public long endOffset() {
+        return endOffset;
+    }
+
+    @Override
+    public void force() throws IOException {
+        appendLock.lock();
+        try {
+            ensureOpen();
+
+            for (val segment : unforcedSegments) segment.buffer.force();
+            unforcedSegments.clear();
+            activeSegment.buffer.force();
+            unforcedAppends = 0;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (closed) return;
+
+            closed = true;
+            if (forceBatchSize != 0) activeSegment.buffer.force();
+            segments.clear();
+            unforcedSegments.clear();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Memory-mapped segment of the log.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class Segment {
+
+        /**
+         * Offset of the first record of this segment
+         */
+        long baseOffset;
+
+        /**
+         * Buffer to which this segment is mapped
+         */
+        @NotNull MappedByteBuffer buffer;
+
+        /**
+         * Position at which the next record will be written, only meaningful for the active segment
+         */
+        @NonFinal int position;
+
+        /**
+         * Maps the given segment file into memory creating it if needed.
+         *
+         * @param file segment file
+         * @param baseOffset offset of the first record of the segment
+         * @param size size of the mapped region
+         * @return mapped segment
+         *
+         * @throws IOException if an error happens while mapping the file
+         */
+        private static @NotNull Segment map(final @NotNull Path file,
+                                            final long baseOffset,
+                                            final int size) throws IOException {
+            // note: the mapping stays valid once the channel is closed
+            try (val channel = FileChannel.open(
+                    file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+            )) {
+                return new Segment(baseOffset, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+
+        /**
+         * Finds the end of the written records by scanning their headers.
+         *
+         * @implNote headers store the record's length incremented by one
+         * so that zero bytes (which are the initial content of a segment) mark its end
+         */
+        private void recoverPosition() {
+            val buffer = this.buffer;
+            final int capacity = buffer.capacity();
+            var position = 0;
+            while (position + HEADER_SIZE <= capacity) {
+                final int header;
+                if ((header = buffer.getInt(position)) <= 0
+                        || header - 1 > capacity - position - HEADER_SIZE) break;
+
+                position += HEADER_SIZE + header - 1;
+            }
+            this.position = position;
+        }
+
+        /**
+         * Writes the record at the current position of this segment.
+         *
+         * @param bytes serialized record
+         */
+        private void write(final byte @NotNull [] bytes) {
+            final int position;
+            final ByteBuffer view;
+            (view = buffer.duplicate()).position((position = this.position) + HEADER_SIZE);
+            view.put(bytes);
+            // note: the header is written after the payload so that an incomplete record is never recovered
+            buffer.putInt(position, bytes.length + 1);
+
+            this.position = position + HEADER_SIZE + bytes.length;
+        }
+
+        /**
+         * Reads the serialized record at the given position of this segment.
+         *
+         * @param position position of the record in this segment
+         * @return serialized record
+         *
+         * @throws IOException if there is no valid record at the given position
+         */
+        private byte @NotNull [] read(final int position) throws IOException {
+            final ByteBuffer view;
+            final int capacity;
+            if (position > (capacity = (view = buffer.duplicate()).capacity()) - HEADER_SIZE) throw new IOException(
+                    "There is no record at position " + position + " of segment " + baseOffset
+            );
+
+            final int header;
+            if ((header = view.getInt(position)) <= 0 || header - 1 > capacity - position - HEADER_SIZE)
+                throw new IOException("There is no record at position " + position + " of segment " + baseOffset);
+
+            val bytes = new byte[header - 1];
+            view.position(position + HEADER_SIZE);
+            view.get(bytes);
+
+            return bytes;
+        }
+    }
+
+    /**
+     * Cursor reading the records of this log one by one.
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private final class SequentialCursor implements Cursor<T> {
+
+        /**
+         * Offset of the next record
+         */
+        long offset;
+
+        @Override
+        public boolean hasNext() {
+            return offset < endOffset;
+        }
+
+        @Override
+        public long offset() {
+            return offset;
+        }
+
+        @Override
+        public T next() throws IOException {
+            final long offset;
+            if ((offset = this.offset) >= endOffset) throw new NoSuchElementException("There are no more records");
+            ensureOpen();
+
+            final Map.Entry<Long, Segment> entry;
+            if ((entry = segments.floorEntry(offset)) == null) throw new IllegalStateException(
+                    "There is no segment containing offset " + offset
+            );
+
+            val bytes = entry.getValue().read((int) (offset - entry.getKey()));
+            this.offset = offset + HEADER_SIZE + bytes.length;
+
+            return serializer.fromByteArray(bytes);
+        }
+    }
+}
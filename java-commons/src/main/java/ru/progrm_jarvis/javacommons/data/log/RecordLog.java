@@ -0,0 +1,112 @@
+package ru.progrm_jarvis.javacommons.data.log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Append-only log of records.
+ * Each record is identified by its <i>offset</i> which is assigned once the record gets appended
+ * and which can later be used for random access to it.
+ *
+ * @param <T> type of stored records
+ */
+public interface RecordLog<T> extends Closeable {
+
+    /**
+     * Appends the given record to the end of this log.
+     *
+     * @param record record to be appended
+     * @return offset of the appended record
+     *
+     * @throws IOException if an error happens while writing the record
+     * @throws IllegalStateException if this log is closed
+     */
+    @Range(from = 0, to = Long.MAX_VALUE) long append(T record) throws IOException;
+
+    /**
+     * Reads the record at the given offset.
+     *
+     * @param offset offset of the record as returned by {@link #append(Object)}
+     * @return record at the given offset
+     *
+     * @throws IOException if an error happens while reading the record
+     * @throws IllegalArgumentException if {@code offset} is out of this log's bounds
+     * @throws IllegalStateException if this log is closed
+     */
+    T read(@Range(from = 0, to = Long.MAX_VALUE) long offset) throws IOException;
+
+    /**
+     * Creates a cursor for sequential reading of this log's records starting from the given offset.
+     *
+     * @param offset offset of the first record to be read by the created cursor
+     * @return cursor starting at the given offset
+     *
+     * @throws IllegalArgumentException if {@code offset} is out of this log's bounds
+     * @throws IllegalStateException if this log is closed
+     */
+    @NotNull Cursor<T> cursor(@Range(from = 0, to = Long.MAX_VALUE) long offset);
+
+    /**
+     * Creates a cursor for sequential reading of all this log's records.
+     *
+     * @return cursor starting at the beginning of this log
+     *
+     * @throws IllegalStateException if this log is closed
+     */
+    default @NotNull Cursor<T> cursor() {
+        return cursor(0);
+    }
+
+    /**
+     * Gets the offset at which the next appended record will be placed.
+     *
+     * @return offset following the last record of this log
+     */
+    @Range(from = 0, to = Long.MAX_VALUE) long endOffset();
+
+    /**
+     * Forces all appended records to be written to the underlying storage device.
+     *
+     * @throws IOException if an error happens while forcing the records
+     * @throws IllegalStateException if this log is closed
+     */
+    void force() throws IOException;
+
+    /**
+     * Cursor used for sequential reading of records.
+     *
+     * @param <T> type of read records
+     *
+     * @apiNote cursors observe records appended after their creation
+     */
+    interface Cursor<T> {
+
+        /**
+         * Checks if there is a record available for reading.
+         *
+         * @return {@code true} if there is a record available for reading and {@code false} otherwise
+         */
+        boolean hasNext();
+
+        /**
+         * Gets the offset of the record which will be read next.
+         *
+         * @return offset of the next record
+         */
+        @Range(from = 0, to = Long.MAX_VALUE) long offset();
+
+        /**
+         * Reads the next record advancing this cursor.
+         *
+         * @return read record
+         *
+         * @throws IOException if an error happens while reading the record
+         * @throws NoSuchElementException if there is no record available for reading
+         */
+        T next() throws IOException;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Persistent logs of records serialized using {@link ru.progrm_jarvis.javacommons.data.DataSerializer}.
+ */
+package ru.progrm_jarvis.javacommons.data.log;
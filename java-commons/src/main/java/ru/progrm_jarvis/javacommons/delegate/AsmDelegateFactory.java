@@ -284,10 +284,11 @@ public final class AsmDelegateFactory extends CachingGeneratingDelegateFactory {
          * Shared cache instance to be used by {@link Singleton#INSTANCE}
          * and all instances created via SPI {@link AsmDelegateFactory#AsmDelegateFactory()}.
          *
-         * @apiNote  classes are GC-friendly loaded so they may be effectively weakly-referenced
+         * @apiNote factories are stored within the wrapped classes themselves
+         * so that they do not prevent those from being unloaded
          */
         private final @NotNull Cache<@NotNull Class<?>, @NotNull DelegateWrapperFactory<?>> INSTANCE
-                = Caches.weakKeysCache();
+                = Caches.classValueCache();
     }
 
     @UtilityClass
@@ -72,8 +72,61 @@ public class InvokeUtil {
      */
     public final @NotNull MethodType SUPPLIER_OBJECT__METHOD_TYPE = methodType(Supplier.class, Object.class);
 
-    // because there is no need to GC lookups which may be expansive to create
-    private final @NonNull Cache<@NotNull Class<?>, @NotNull Lookup> LOOKUPS = Caches.softValuesCache();
+    /**
+     * Method type of signature: <code>{@link Object}({@link Object})</code>
+     */
+    private final @NotNull MethodType OBJECT_OBJECT__METHOD_TYPE = methodType(Object.class, Object.class);
+    /**
+     * Method type of signature: <code>{@code void}({@link Object}, {@link Object})</code>
+     */
+    private final @NotNull MethodType VOID_OBJECT_OBJECT__METHOD_TYPE
+            = methodType(void.class, Object.class, Object.class);
+
+    // lookups are stored within the classes themselves as they may be expansive to create
+    private final @NonNull Cache<@NotNull Class<?>, @NotNull Lookup> LOOKUPS = Caches.classValueCache();
+
+    /**
+     * Factories of {@link Runnable runnables} of signature <code>{@link Runnable}()</code> by the invoked methods
+     */
+    private final @NotNull Cache<@NotNull Method, @NotNull MethodHandle> STATIC_RUNNABLE_FACTORIES
+            = Caches.softValuesCache();
+
+    /**
+     * Factories of {@link Supplier suppliers} of signature <code>{@link Supplier}()</code> by the invoked methods
+     */
+    private final @NotNull Cache<@NotNull Method, @NotNull MethodHandle> STATIC_SUPPLIER_FACTORIES
+            = Caches.softValuesCache();
+
+    /**
+     * Factories of {@link Supplier suppliers} of signature <code>{@link Supplier}()</code>
+     * by the invoked constructors
+     */
+    private final @NotNull Cache<@NotNull Constructor<?>, @NotNull MethodHandle> CONSTRUCTOR_SUPPLIER_FACTORIES
+            = Caches.softValuesCache();
+
+    /**
+     * Factories of {@link Runnable runnables} bound to their targets
+     * of signature <code>{@link Runnable}({@link Object})</code> by the invoked methods
+     */
+    private final @NotNull Cache<@NotNull Method, @NotNull MethodHandle> BOUND_RUNNABLE_FACTORIES
+            = Caches.softValuesCache();
+
+    /**
+     * Factories of {@link Supplier suppliers} bound to their targets
+     * of signature <code>{@link Supplier}({@link Object})</code> by the invoked methods
+     */
+    private final @NotNull Cache<@NotNull Method, @NotNull MethodHandle> BOUND_SUPPLIER_FACTORIES
+            = Caches.softValuesCache();
+
+    /**
+     * Getter-{@link MethodHandle method handles} with the types erased to {@link Object} by their fields
+     */
+    private final @NotNull Cache<@NotNull Field, @NotNull MethodHandle> ERASED_GETTERS = Caches.softValuesCache();
+
+    /**
+     * Setter-{@link MethodHandle method handles} with the types erased to {@link Object} by their fields
+     */
+    private final @NotNull Cache<@NotNull Field, @NotNull MethodHandle> ERASED_SETTERS = Caches.softValuesCache();
 
     /**
      * Lookup factory which delegated its calls to {@link InvokeUtil#lookup(Class)}
@@ -168,13 +221,22 @@ public class InvokeUtil {
         Check.hasNoParameters(method);
         Check.isStatic(method);
 
-        val lookup = lookup(method.getDeclaringClass());
+        final MethodHandle factory = STATIC_RUNNABLE_FACTORIES.get(method, checkedMethod -> {
+            val lookup = lookup(checkedMethod.getDeclaringClass());
+            try {
+                return metafactory(
+                        lookup, RUNNABLE_FUNCTIONAL_METHOD_NAME, RUNNABLE__METHOD_TYPE,
+                        VOID__METHOD_TYPE, lookup.unreflect(checkedMethod), VOID__METHOD_TYPE
+                ).getTarget();
+            } catch (final Throwable x) {
+                throw new RuntimeException(
+                        "An exception occurred while trying to convert method " + checkedMethod + " to Runnable", x
+                );
+            }
+        });
+
         try {
-            val methodHandle = lookup.unreflect(method);
-            return (Runnable) metafactory(
-                    lookup, RUNNABLE_FUNCTIONAL_METHOD_NAME, RUNNABLE__METHOD_TYPE,
-                    VOID__METHOD_TYPE, methodHandle, VOID__METHOD_TYPE
-            ).getTarget().invokeExact();
+            return (Runnable) factory.invokeExact();
         } catch (final Throwable x) {
             throw new RuntimeException(
                     "An exception occurred while trying to convert method " + method + " to Runnable", x
@@ -195,17 +257,27 @@ public class InvokeUtil {
         Check.hasNoParameters(method);
         Check.isNotStatic(method);
 
-        val lookup = lookup(method.getDeclaringClass());
+        final MethodHandle factory = BOUND_RUNNABLE_FACTORIES.get(method, checkedMethod -> {
+            final Class<?> declaringClass;
+            val lookup = lookup(declaringClass = checkedMethod.getDeclaringClass());
+            try {
+                return metafactory(
+                        lookup, RUNNABLE_FUNCTIONAL_METHOD_NAME,
+                        RUNNABLE_OBJECT__METHOD_TYPE.changeParameterType(0, declaringClass),
+                        VOID__METHOD_TYPE, lookup.unreflect(checkedMethod), VOID__METHOD_TYPE
+                ).getTarget().asType(RUNNABLE_OBJECT__METHOD_TYPE);
+            } catch (final Throwable x) {
+                throw new RuntimeException(
+                        "An exception occurred while trying to convert method " + checkedMethod + " to Runnable", x
+                );
+            }
+        });
+
         try {
-            val methodHandle = lookup.unreflect(method);
-            return (Runnable) metafactory(
-                    lookup, RUNNABLE_FUNCTIONAL_METHOD_NAME,
-                    RUNNABLE_OBJECT__METHOD_TYPE.changeParameterType(0, target.getClass()),
-                    VOID__METHOD_TYPE, methodHandle, VOID__METHOD_TYPE
-            ).getTarget().invoke(target);
+            return (Runnable) factory.invokeExact(target);
         } catch (final Throwable x) {
             throw new RuntimeException(
-                    "An exception occurred while trying to convert method " + method + " to Runnable", x
+                    "An exception occurred while trying to bind Runnable of method " + method + " to " + target, x
             );
         }
     }
@@ -223,13 +295,23 @@ public class InvokeUtil {
         Check.hasNoParameters(method);
         Check.isStatic(method);
 
-        val lookup = lookup(method.getDeclaringClass());
+        final MethodHandle factory = STATIC_SUPPLIER_FACTORIES.get(method, checkedMethod -> {
+            val lookup = lookup(checkedMethod.getDeclaringClass());
+            try {
+                val methodHandle = lookup.unreflect(checkedMethod);
+                return metafactory(
+                        lookup, SUPPLIER_FUNCTIONAL_METHOD_NAME, SUPPLIER__METHOD_TYPE,
+                        OBJECT__METHOD_TYPE, methodHandle, methodHandle.type()
+                ).getTarget();
+            } catch (final Throwable x) {
+                throw new RuntimeException(
+                        "An exception occurred while trying to convert method " + checkedMethod + " to Supplier", x
+                );
+            }
+        });
+
         try {
-            val methodHandle = lookup.unreflect(method);
-            return Unchecked.cast((Supplier<?>) metafactory(
-                    lookup, SUPPLIER_FUNCTIONAL_METHOD_NAME, SUPPLIER__METHOD_TYPE,
-                    OBJECT__METHOD_TYPE, methodHandle, methodHandle.type()
-            ).getTarget().invokeExact());
+            return Unchecked.cast((Supplier<?>) factory.invokeExact());
         } catch (final Throwable x) {
             throw new RuntimeException(
                     "An exception occurred while trying to convert method " + method + " to Supplier", x
@@ -251,17 +333,28 @@ public class InvokeUtil {
         Check.hasNoParameters(method);
         Check.isNotStatic(method);
 
-        val lookup = lookup(method.getDeclaringClass());
+        final MethodHandle factory = BOUND_SUPPLIER_FACTORIES.get(method, checkedMethod -> {
+            final Class<?> declaringClass;
+            val lookup = lookup(declaringClass = checkedMethod.getDeclaringClass());
+            try {
+                return metafactory(
+                        lookup, SUPPLIER_FUNCTIONAL_METHOD_NAME,
+                        SUPPLIER_OBJECT__METHOD_TYPE.changeParameterType(0, declaringClass),
+                        OBJECT__METHOD_TYPE, lookup.unreflect(checkedMethod),
+                        OBJECT__METHOD_TYPE.changeReturnType(checkedMethod.getReturnType())
+                ).getTarget().asType(SUPPLIER_OBJECT__METHOD_TYPE);
+            } catch (final Throwable x) {
+                throw new RuntimeException(
+                        "An exception occurred while trying to convert method " + checkedMethod + " to Supplier", x
+                );
+            }
+        });
+
         try {
-            val methodHandle = lookup.unreflect(method);
-            return Unchecked.cast((Supplier<?>) metafactory(
-                    lookup, SUPPLIER_FUNCTIONAL_METHOD_NAME,
-                    SUPPLIER_OBJECT__METHOD_TYPE.changeParameterType(0, target.getClass()),
-                    OBJECT__METHOD_TYPE, methodHandle, OBJECT__METHOD_TYPE.changeReturnType(method.getReturnType())
-            ).getTarget().invoke(target));
+            return Unchecked.cast((Supplier<?>) factory.invokeExact(target));
         } catch (final Throwable x) {
             throw new RuntimeException(
-                    "An exception occurred while trying to convert method " + method + " to Supplier", x
+                    "An exception occurred while trying to bind Supplier of method " + method + " to " + target, x
             );
         }
     }
@@ -277,13 +370,22 @@ public class InvokeUtil {
     public <T> @NotNull Supplier<T> toSupplier(final @NonNull Constructor<T> constructor) {
         Check.hasNoParameters(constructor);
 
-        val lookup = lookup(constructor.getDeclaringClass());
+        final MethodHandle factory = CONSTRUCTOR_SUPPLIER_FACTORIES.get(constructor, checkedConstructor -> {
+            val lookup = lookup(checkedConstructor.getDeclaringClass());
+            try {
+                val methodHandle = lookup.unreflectConstructor(checkedConstructor);
+                return metafactory(
+                        lookup, SUPPLIER_FUNCTIONAL_METHOD_NAME, SUPPLIER__METHOD_TYPE,
+                        OBJECT__METHOD_TYPE, methodHandle, methodHandle.type()
+                ).getTarget();
+            } catch (final Throwable x) {
+                throw new RuntimeException("An exception occurred while trying to convert constructor "
+                        + checkedConstructor + " to Supplier", x);
+            }
+        });
+
         try {
-            val methodHandle = lookup.unreflectConstructor(constructor);
-            return Unchecked.cast((Supplier<?>) metafactory(
-                    lookup, SUPPLIER_FUNCTIONAL_METHOD_NAME, SUPPLIER__METHOD_TYPE,
-                    OBJECT__METHOD_TYPE, methodHandle, methodHandle.type()
-            ).getTarget().invokeExact());
+            return Unchecked.cast((Supplier<?>) factory.invokeExact());
         } catch (final Throwable x) {
             throw new RuntimeException(
                     "An exception occurred while trying to convert constructor " + constructor + " to Supplier", x
@@ -327,21 +429,18 @@ public class InvokeUtil {
      * @param <V> type of field value
      * @return supplier getting the value of the field
      * @throws IllegalArgumentException if the given field is static
+     * @throws IllegalArgumentException if the given target is not an instance of the field's declaring class
      */
     @SuppressWarnings("unchecked") // cast of the value
     public <V> @NotNull Supplier<V> toBoundGetterSupplier(final @NonNull Field field, final @NonNull Object target) {
         Check.isNotStatic(field);
+        Check.isInstance(field, target);
 
-        final MethodHandle methodHandle;
-        try {
-            methodHandle = lookup(field.getDeclaringClass()).unreflectGetter(field).bindTo(target);
-        } catch (final IllegalAccessException e) {
-            throw new RuntimeException("Unable to create a MethodHandle for getter of field " + field, e);
-        }
+        final MethodHandle methodHandle = ERASED_GETTERS.get(field, InvokeUtil::createErasedGetterMethodHandle);
 
         return () -> {
             try {
-                return (V) methodHandle.invoke();
+                return (V) methodHandle.invokeExact(target);
             } catch (final Throwable throwable) {
                 throw new RuntimeException(throwable);
             }
@@ -405,28 +504,17 @@ public class InvokeUtil {
      * @param <V> type of field value
      * @return consumer setting the value of the field
      * @throws IllegalArgumentException if the given field is static
+     * @throws IllegalArgumentException if the given target is not an instance of the field's declaring class
      */
     public <V> @NotNull Consumer<V> toBoundSetterConsumer(final @NonNull Field field, final @NonNull Object target) {
-        final MethodHandle methodHandle;
-        if (Modifier.isFinal(Check.isNotStatic(field))) {
-            val accessible = field.isAccessible();
-            field.setAccessible(true);
-            try {
-                methodHandle = lookup(field.getDeclaringClass()).unreflectSetter(field).bindTo(target);
-            } catch (final IllegalAccessException e) {
-                throw new RuntimeException("Unable to create a MethodHandle for setter of field " + field, e);
-            } finally {
-                field.setAccessible(accessible);
-            }
-        } else try {
-            methodHandle = lookup(field.getDeclaringClass()).unreflectSetter(field).bindTo(target);
-        } catch (final IllegalAccessException e) {
-            throw new RuntimeException("Unable to create a MethodHandle for setter of field " + field, e);
-        }
+        Check.isNotStatic(field);
+        Check.isInstance(field, target);
+
+        final MethodHandle methodHandle = ERASED_SETTERS.get(field, InvokeUtil::createErasedSetterMethodHandle);
 
         return value -> {
             try {
-                methodHandle.invoke(value);
+                methodHandle.invokeExact(target, (Object) value);
             } catch (final Throwable throwable) {
                 throw new RuntimeException(throwable);
             }
@@ -454,6 +542,35 @@ public class InvokeUtil {
         };
     }
 
+    /**
+     * Creates a getter-{@link MethodHandle} of the given non-static field
+     * of signature <code>{@link Object}({@link Object})</code>.
+     *
+     * @param field non-static field for which to create the method handle
+     * @return created method handle
+     */
+    private @NotNull MethodHandle createErasedGetterMethodHandle(final @NotNull Field field) {
+        final MethodHandle methodHandle;
+        try {
+            methodHandle = lookup(field.getDeclaringClass()).unreflectGetter(field);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException("Unable to create a MethodHandle for getter of field " + field, e);
+        }
+
+        return methodHandle.asType(OBJECT_OBJECT__METHOD_TYPE);
+    }
+
+    /**
+     * Creates a setter-{@link MethodHandle} of the given non-static field
+     * of signature <code>{@code void}({@link Object}, {@link Object})</code>.
+     *
+     * @param field non-static field for which to create the method handle
+     * @return created method handle
+     */
+    private @NotNull MethodHandle createErasedSetterMethodHandle(final @NotNull Field field) {
+        return createSetterMethodHandle(field, field.getModifiers()).asType(VOID_OBJECT_OBJECT__METHOD_TYPE);
+    }
+
     private @NotNull MethodHandle createSetterMethodHandle(final @NonNull Field field, final int modifiers) {
         final MethodHandle methodHandle;
         if (Modifier.isFinal(modifiers)) {
@@ -527,6 +644,13 @@ public class InvokeUtil {
 
             return modifiers;
         }
+
+        private void isInstance(final @NotNull Field field, final @NotNull Object target) {
+            final Class<?> declaringClass;
+            if (!(declaringClass = field.getDeclaringClass()).isInstance(target)) throw new IllegalArgumentException(
+                    "Target should be an instance of " + declaringClass + " but it is of " + target.getClass()
+            );
+        }
     }
 
     @UtilityClass
@@ -14,6 +14,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -63,6 +64,24 @@ public class UnsafeInternals {
      */
     private final @Nullable MethodHandle UNSAFE__GET_OBJECT__METHOD_HANDLE;
 
+    /**
+     * Method handle of {@code Unsafe invokeCleaner(}{@link ByteBuffer}{@code )} method
+     * being {@code null} if this method is unavailable.
+     */
+    private final @Nullable MethodHandle UNSAFE__INVOKE_CLEANER__METHOD_HANDLE;
+
+    /**
+     * Method handle of {@code DirectBuffer cleaner()} method adapted to accept {@link ByteBuffer}
+     * being {@code null} if this method is unavailable.
+     */
+    private final @Nullable MethodHandle DIRECT_BUFFER__CLEANER__METHOD_HANDLE;
+
+    /**
+     * Method handle of {@code Cleaner clean()} method adapted to accept {@link Object}
+     * being {@code null} if this method is unavailable.
+     */
+    private final @Nullable MethodHandle CLEANER__CLEAN__METHOD_HANDLE;
+
     static {
         { // sun.misc.Unsafe or jdk.internal.misc.Unsafe
             // note: sun.misc variant has higher priority as it has the higher chances to be available
@@ -75,6 +94,7 @@ public class UnsafeInternals {
                 UNSAFE__STATIC_FIELD_BASE__METHOD_HANDLE = null;
                 UNSAFE__STATIC_FIELD_OFFSET__METHOD_HANDLE = null;
                 UNSAFE__GET_OBJECT__METHOD_HANDLE = null;
+                UNSAFE__INVOKE_CLEANER__METHOD_HANDLE = null;
             } else { // there is a (poss
                 UNSAFE_CLASS_NAME = UNSAFE_CLASS.getName();
 
@@ -103,6 +123,7 @@ public class UnsafeInternals {
                     UNSAFE__STATIC_FIELD_BASE__METHOD_HANDLE = null;
                     UNSAFE__STATIC_FIELD_OFFSET__METHOD_HANDLE = null;
                     UNSAFE__GET_OBJECT__METHOD_HANDLE = null;
+                    UNSAFE__INVOKE_CLEANER__METHOD_HANDLE = null;
                 } else {
                     val lookup = MethodHandles.lookup();
 
@@ -115,8 +136,32 @@ public class UnsafeInternals {
                     UNSAFE__GET_OBJECT__METHOD_HANDLE = tryCreateUnsafeMethodHandle(
                             lookup, "getObject", methodType(Object.class, Object.class, long.class), theUnsafe
                     );
+                    // note: this method is only available since Java 9
+                    UNSAFE__INVOKE_CLEANER__METHOD_HANDLE = tryCreateUnsafeMethodHandle(
+                            lookup, "invokeCleaner", methodType(void.class, ByteBuffer.class), theUnsafe
+                    );
+                }
+            }
+        }
+        { // sun.nio.ch.DirectBuffer and sun.misc.Cleaner used prior to Java 9
+            MethodHandle cleanerMethodHandle = null, cleanMethodHandle = null;
+            val directBufferClass = ClassLoadingUtil.getNullableClass("sun.nio.ch.DirectBuffer");
+            val cleanerClass = ClassLoadingUtil.getNullableClass("sun.misc.Cleaner");
+            if (UNSAFE__INVOKE_CLEANER__METHOD_HANDLE == null && directBufferClass != null && cleanerClass != null) {
+                val lookup = MethodHandles.publicLookup();
+                try {
+                    cleanerMethodHandle = lookup
+                            .findVirtual(directBufferClass, "cleaner", methodType(cleanerClass))
+                            .asType(methodType(Object.class, ByteBuffer.class));
+                    cleanMethodHandle = lookup
+                            .findVirtual(cleanerClass, "clean", methodType(void.class))
+                            .asType(methodType(void.class, Object.class));
+                } catch (final NoSuchMethodException | IllegalAccessException e) {
+                    cleanerMethodHandle = cleanMethodHandle = null;
                 }
             }
+            DIRECT_BUFFER__CLEANER__METHOD_HANDLE = cleanerMethodHandle;
+            CLEANER__CLEAN__METHOD_HANDLE = cleanMethodHandle;
         }
         { // jdk.internal.reflect.MagicAccessorImpl
             MAGIC_ACCESSOR_IMPL_CLASS = ClassLoadingUtil.getClass("jdk.internal.reflect.MagicAccessorImpl")
@@ -161,4 +206,36 @@ public class UnsafeInternals {
                         (long) UNSAFE__STATIC_FIELD_OFFSET__METHOD_HANDLE.invokeExact(field)
                 ));
     }
+
+    /**
+     * Frees the memory of the direct buffer without waiting for it to be garbage-collected if it is possible.
+     *
+     * @param buffer direct buffer whose memory should be freed
+     * @return {@code true} if the memory was freed
+     * and {@code false} if this unsafe feature is unavailable or the buffer does not own its memory
+     *
+     * @throws IllegalArgumentException if the buffer is not direct
+     * @apiNote neither the buffer nor any of its views should be accessed after the memory gets freed
+     */
+    @SneakyThrows // calls to `MethodHandle#invokeExact(...)`
+    public boolean tryFreeDirectBuffer(final @NonNull ByteBuffer buffer) {
+        if (!buffer.isDirect()) throw new IllegalArgumentException("Buffer " + buffer + " is not direct");
+
+        if (UNSAFE__INVOKE_CLEANER__METHOD_HANDLE != null) {
+            try {
+                UNSAFE__INVOKE_CLEANER__METHOD_HANDLE.invokeExact(buffer);
+            } catch (final IllegalArgumentException e) { // the buffer is a slice or a duplicate
+                return false;
+            }
+            return true;
+        }
+
+        if (DIRECT_BUFFER__CLEANER__METHOD_HANDLE == null || CLEANER__CLEAN__METHOD_HANDLE == null) return false;
+
+        final Object cleaner;
+        if ((cleaner = (Object) DIRECT_BUFFER__CLEANER__METHOD_HANDLE.invokeExact(buffer)) == null) return false;
+        CLEANER__CLEAN__METHOD_HANDLE.invokeExact(cleaner);
+
+        return true;
+    }
 }
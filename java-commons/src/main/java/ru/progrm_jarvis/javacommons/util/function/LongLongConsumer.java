@@ -0,0 +1,38 @@
+package ru.progrm_jarvis.javacommons.util.function;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Represents an operation that accepts two {@code long} arguments and returns no result.
+ * This is the primitive type specialization of {@link BiConsumer} for {@code long}.
+ *
+ * @see BiConsumer non-primitive generic equivalent
+ */
+@FunctionalInterface
+public interface LongLongConsumer {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param first the first input argument
+     * @param second the second input argument
+     */
+    void accept(long first, long second);
+
+    /**
+     * Returns a composed consumer that performs, in sequence, this operation followed by the {@code after} operation.
+     *
+     * @param after the operation to perform after this operation
+     * @return a composed operator that first performs this operation and then the provided one
+     * @throws NullPointerException if {@code after} is {@code null}
+     */
+    default @NotNull LongLongConsumer andThen(final @NonNull LongLongConsumer after) {
+        return (first, second) -> {
+            accept(first, second);
+            after.accept(first, second);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package ru.progrm_jarvis.javacommons.util.function;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Represents an operation that accepts a {@code long} and an object arguments and returns no result.
+ * This is the primitive type specialization of {@link BiConsumer} for {@code long} as its first argument.
+ *
+ * @param <T> the type of the object argument
+ *
+ * @see BiConsumer non-primitive generic equivalent
+ */
+@FunctionalInterface
+public interface LongObjConsumer<T> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param value the first input argument
+     * @param object the second input argument
+     */
+    void accept(long value, T object);
+
+    /**
+     * Returns a composed consumer that performs, in sequence, this operation followed by the {@code after} operation.
+     *
+     * @param after the operation to perform after this operation
+     * @return a composed operator that first performs this operation and then the provided one
+     * @throws NullPointerException if {@code after} is {@code null}
+     */
+    default @NotNull LongObjConsumer<T> andThen(final @NonNull LongObjConsumer<? super T> after) {
+        return (value, object) -> {
+            accept(value, object);
+            after.accept(value, object);
+        };
+    }
+}
@@ -4,6 +4,7 @@ import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.collection.ImmutableEnumSet;
 import ru.progrm_jarvis.javacommons.util.TypeHints;
 
 import java.util.Map;
@@ -77,4 +78,19 @@ public class AutoEnumCollectors {
     public <E extends Enum<E>> Collector<E, ?, Set<E>> toEnumSet(final @Nullable E @NonNull ... typeHint) {
         return EnumCollectors.toEnumSet(TypeHints.resolve(typeHint));
     }
+
+    /**
+     * Returns a {@link Collector} that accumulates the input elements into a new {@link ImmutableEnumSet}.
+     *
+     * @param typeHint array used for enum-type discovery
+     * @param <E> type of the enum
+     * @return a collector collecting all its elements into an immutable enum-set
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public <E extends Enum<E>> @NotNull Collector<E, ?, @NotNull ImmutableEnumSet<E>> toImmutableEnumSet(
+            final @Nullable E @NonNull ... typeHint
+    ) {
+        return EnumCollectors.toImmutableEnumSet(TypeHints.resolve(typeHint));
+    }
 }
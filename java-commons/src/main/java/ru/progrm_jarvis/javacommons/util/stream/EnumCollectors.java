@@ -4,6 +4,7 @@ import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.collection.ImmutableEnumSet;
 import ru.progrm_jarvis.javacommons.util.TypeHints;
 import ru.progrm_jarvis.javacommons.util.TypeHints.TypeHint;
 
@@ -173,6 +174,42 @@ public class EnumCollectors {
         return toEnumSet(TypeHints.resolve(typeHint));
     }
 
+    /**
+     * Returns a {@link Collector} that accumulates the input elements into a new {@link ImmutableEnumSet}.
+     *
+     * @param type type object of the enum
+     * @param <E> type of the enum
+     * @return a collector collecting all its elements into an immutable enum-set
+     *
+     * @apiNote partial results of parallel streams are combined by merging their bit-vectors
+     */
+    public <E extends Enum<E>> @NotNull Collector<E, ?, @NotNull ImmutableEnumSet<E>> toImmutableEnumSet(
+            final @NonNull Class<E> type
+    ) {
+        return Collector.of(
+                () -> ImmutableEnumSet.builder(type),
+                ImmutableEnumSet.Builder::add,
+                ImmutableEnumSet.Builder::addAll,
+                ImmutableEnumSet.Builder::build,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a {@link Collector} that accumulates the input elements into a new {@link ImmutableEnumSet}.
+     *
+     * @param typeHint array used for enum-type discovery
+     * @param <E> type of the enum
+     * @return a collector collecting all its elements into an immutable enum-set
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public <E extends Enum<E>> @NotNull Collector<E, ?, @NotNull ImmutableEnumSet<E>> toImmutableEnumSet(
+            @TypeHint final @Nullable E @NonNull ... typeHint
+    ) {
+        return toImmutableEnumSet(TypeHints.resolve(typeHint));
+    }
+
     /**
      * Returns a default merger for use with <i>to-map</i> collectors
      * which throws {@link IllegalStateException} on duplicate values.
@@ -19,7 +19,9 @@ module ru.progrm_jarvis.javacommons {
     exports ru.progrm_jarvis.javacommons.classloading.extension;
     exports ru.progrm_jarvis.javacommons.collection;
     exports ru.progrm_jarvis.javacommons.collection.concurrent;
+    exports ru.progrm_jarvis.javacommons.collection.primitive;
     exports ru.progrm_jarvis.javacommons.data;
+    exports ru.progrm_jarvis.javacommons.data.log;
     exports ru.progrm_jarvis.javacommons.delegate;
     exports ru.progrm_jarvis.javacommons.invoke;
     exports ru.progrm_jarvis.javacommons.io.wrapper;
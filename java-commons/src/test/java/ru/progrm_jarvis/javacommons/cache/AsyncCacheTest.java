@@ -0,0 +1,108 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncCacheTest {
+
+    static @NotNull Stream<@NotNull Arguments> provideCacheFactories() {
+        return Stream.of(
+                Arguments.of(ConcurrentHashMapCache.createFactory()),
+                Arguments.of(CaffeineCache.createFactory())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCacheFactories")
+    void testConcurrentRequestsShareLoad(final @NotNull CacheFactory factory) throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final AsyncCache<String, Integer> cache = factory.asyncCache(executor);
+            val loads = new AtomicInteger();
+            val latch = new CountDownLatch(1);
+
+            final CompletableFuture<Integer> first = cache.get("key", key -> {
+                loads.incrementAndGet();
+                try {
+                    latch.await();
+                } catch (final InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return key.length();
+            });
+            final CompletableFuture<Integer> second = cache.get("key", key -> {
+                loads.incrementAndGet();
+                return -1;
+            });
+            latch.countDown();
+
+            assertEquals(3, first.join());
+            assertEquals(3, second.join());
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCacheFactories")
+    void testFailedLoadIsNotCached(final @NotNull CacheFactory factory) {
+        final AsyncCache<String, Integer> cache = factory.asyncCache(Runnable::run);
+
+        assertThrows(CompletionException.class, () -> cache.get("key", key -> {
+            throw new IllegalStateException("Expected failure");
+        }).join());
+        assertEquals(3, cache.get("key", String::length).join());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCacheFactories")
+    void testAsyncMappingFunction(final @NotNull CacheFactory factory) {
+        final AsyncCache<String, Integer> cache = factory.asyncCache(Runnable::run);
+
+        assertEquals(3, cache.get("key", (key, executor) -> CompletableFuture.supplyAsync(
+                key::length, executor
+        )).join());
+        assertEquals(3, cache.get("key", key -> -1).join());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCacheFactories")
+    void testGetAll(final @NotNull CacheFactory factory) {
+        final AsyncCache<String, Integer> cache = factory.asyncCache(Runnable::run);
+        assertEquals(1, cache.get("a", String::length).join());
+
+        val requestedKeys = new HashSet<Object>();
+        final Map<String, Integer> values = cache.getAll(Arrays.asList("a", "bb", "ccc", "missing"), keys -> {
+            requestedKeys.addAll(keys);
+            final Map<String, Integer> loaded = new HashMap<>();
+            for (val key : keys) if (!key.equals("missing")) loaded.put(key, key.length());
+            return loaded;
+        }).join();
+
+        assertEquals(new HashSet<>(Arrays.asList("bb", "ccc", "missing")), requestedKeys);
+        val expected = new HashMap<String, Integer>();
+        expected.put("a", 1);
+        expected.put("bb", 2);
+        expected.put("ccc", 3);
+        assertEquals(expected, values);
+        assertEquals(2, cache.get("bb", key -> -1).join());
+    }
+}
@@ -0,0 +1,40 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CacheFactoryTest {
+
+    @Test
+    void testOptionalCachesAreUnsupportedByDefault() {
+        val factory = new CacheFactory() {
+            @Override
+            public <K, V> @NotNull Cache<K, V> weakKeysCache() {
+                return Cache.never();
+            }
+
+            @Override
+            public <K, V> @NotNull Cache<K, V> weakValuesCache() {
+                return Cache.never();
+            }
+
+            @Override
+            public <K, V> @NotNull Cache<K, V> softValuesCache() {
+                return Cache.never();
+            }
+        };
+
+        assertThrows(UnsupportedOperationException.class, () -> factory.maximumSizeCache(16));
+        assertThrows(UnsupportedOperationException.class, () -> factory.expireAfterWriteCache(Duration.ofMinutes(1)));
+        assertThrows(UnsupportedOperationException.class, () -> factory.expireAfterAccessCache(Duration.ofMinutes(1)));
+        assertThrows(UnsupportedOperationException.class, () -> factory.asyncCache(ForkJoinPool.commonPool()));
+        assertThrows(UnsupportedOperationException.class, factory::recordingStats);
+        assertThrows(UnsupportedOperationException.class, () -> factory.withRemovalListener((key, value, cause) -> {}));
+    }
+}
@@ -0,0 +1,32 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineCacheTest {
+
+    @Test
+    void testCaching() {
+        final Cache<String, Object> cache = CaffeineCache.createFactory().weakKeysCache();
+
+        val value = cache.get("key", k -> new Object());
+        assertSame(value, cache.get("key", k -> new Object()));
+    }
+
+    @Test
+    void testStats() {
+        final Cache<String, Object> cache = CaffeineCache.createFactory().recordingStats().maximumSizeCache(16);
+
+        cache.get("foo", k -> new Object());
+        cache.get("foo", k -> new Object());
+        cache.get("bar", k -> new Object());
+
+        val stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(2, stats.getEstimatedSize());
+        assertTrue(stats.getTotalLoadTime() > 0);
+    }
+}
@@ -0,0 +1,53 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassValueCacheTest {
+
+    @Test
+    void testCaching() {
+        final Cache<Class<?>, Object> cache = ClassValueCache.create();
+        val computations = new AtomicInteger();
+
+        val value = cache.get(String.class, type -> {
+            computations.incrementAndGet();
+            return new Object();
+        });
+        assertSame(value, cache.get(String.class, type -> {
+            computations.incrementAndGet();
+            return new Object();
+        }));
+        assertNotSame(value, cache.get(Integer.class, type -> new Object()));
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    void testCachesAreIndependent() {
+        final Cache<Class<?>, String> first = ClassValueCache.create(), second = ClassValueCache.create();
+
+        assertEquals("first", first.get(String.class, type -> "first"));
+        assertEquals("second", second.get(String.class, type -> "second"));
+        assertEquals("first", first.get(String.class, type -> fail("Value should be cached")));
+    }
+
+    @Test
+    void testNullValuesAreNotCached() {
+        final Cache<Class<?>, String> cache = ClassValueCache.create();
+
+        assertNull(cache.get(String.class, type -> null));
+        assertEquals("value", cache.get(String.class, type -> "value"));
+    }
+
+    @Test
+    void testReentrantComputation() {
+        final Cache<Class<?>, String> cache = ClassValueCache.create();
+
+        assertEquals("Integer", cache.get(String.class, type -> cache.get(Integer.class, Class::getSimpleName)));
+        assertEquals("Integer", cache.get(Integer.class, type -> fail("Value should be cached")));
+    }
+}
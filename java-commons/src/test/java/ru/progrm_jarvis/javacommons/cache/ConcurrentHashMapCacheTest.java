@@ -0,0 +1,284 @@
+package ru.progrm_jarvis.javacommons.cache;
+
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentHashMapCacheTest {
+
+    static @NotNull Stream<@NotNull Arguments> provideCaches() {
+        val factory = ConcurrentHashMapCache.createFactory();
+
+        return Stream.of(
+                Arguments.of(factory.<String, Object>weakKeysCache()),
+                Arguments.of(factory.<String, Object>weakValuesCache()),
+                Arguments.of(factory.<String, Object>softValuesCache()),
+                Arguments.of(factory.<String, Object>maximumSizeCache(16)),
+                Arguments.of(factory.<String, Object>expireAfterWriteCache(Duration.ofMinutes(1))),
+                Arguments.of(factory.<String, Object>expireAfterAccessCache(Duration.ofMinutes(1)))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCaches")
+    void testCaching(final @NotNull Cache<String, Object> cache) {
+        val computations = new AtomicInteger();
+        val key = "key";
+
+        val value = cache.get(key, k -> {
+            computations.incrementAndGet();
+            return new Object();
+        });
+        assertSame(value, cache.get(key, k -> {
+            computations.incrementAndGet();
+            return new Object();
+        }));
+        assertEquals(1, computations.get());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCaches")
+    void testNullValuesAreNotCached(final @NotNull Cache<String, Object> cache) {
+        val computations = new AtomicInteger();
+
+        assertNull(cache.get("key", k -> {
+            computations.incrementAndGet();
+            return null;
+        }));
+        assertNotNull(cache.get("key", k -> {
+            computations.incrementAndGet();
+            return new Object();
+        }));
+        assertEquals(2, computations.get());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCaches")
+    void testReentrantComputation(final @NotNull Cache<String, Object> cache) {
+        val value = cache.get("outer", k -> cache.get("inner", String::length));
+        assertEquals(5, value);
+        assertEquals(5, cache.get("inner", k -> fail("Value should be cached")));
+    }
+
+    @Test
+    void testMaximumSizeCacheIsBounded() {
+        final Cache<Integer, Object> cache = ConcurrentHashMapCache.createFactory().maximumSizeCache(4);
+        val computations = new AtomicInteger();
+
+        for (var i = 0; i < 100; i++) cache.get(i, k -> {
+            computations.incrementAndGet();
+            return new Object();
+        });
+        assertEquals(100, computations.get());
+
+        var cached = 0;
+        for (var i = 0; i < 100; i++) if (cache.get(i, k -> null) != null) cached++;
+        assertTrue(cached <= 4, "At most 4 entries should be cached");
+    }
+
+    @Test
+    void testMaximumSizeCacheKeepsPopularKeys() {
+        final Cache<Integer, Object> cache = ConcurrentHashMapCache.createFactory().maximumSizeCache(4);
+
+        val popular = cache.get(-1, k -> new Object());
+        for (var i = 0; i < 100; i++) {
+            assertSame(popular, cache.get(-1, k -> new Object()));
+            cache.get(i, k -> new Object());
+        }
+    }
+
+    @Test
+    void testZeroMaximumSizeCacheDoesNotCache() {
+        final Cache<String, Object> cache = ConcurrentHashMapCache.createFactory().maximumSizeCache(0);
+
+        assertNotSame(cache.get("key", k -> new Object()), cache.get("key", k -> new Object()));
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentHashMapCache.createFactory().maximumSizeCache(-1));
+    }
+
+    @Test
+    void testMaximumSizeCacheConcurrentAccesses() throws Exception {
+        final Cache<Integer, Integer> cache = ConcurrentHashMapCache.createFactory().maximumSizeCache(64);
+        val executor = Executors.newFixedThreadPool(4);
+        try {
+            val tasks = new ArrayList<Future<?>>();
+            for (var thread = 0; thread < 4; thread++) tasks.add(executor.submit(() -> {
+                for (var i = 0; i < 100_000; i++) {
+                    final int key = i % 128;
+                    assertEquals(key * 2, cache.get(key, k -> k * 2));
+                }
+            }));
+
+            for (val task : tasks) task.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var cached = 0;
+        for (var i = 0; i < 128; i++) if (cache.get(i, k -> null) != null) cached++;
+        assertTrue(cached <= 64, "At most 64 entries should be cached");
+    }
+
+    @Test
+    void testExpiringCachesAcceptEternalDuration() {
+        val factory = ConcurrentHashMapCache.createFactory();
+        final Cache<String, Object> writeCache = factory.expireAfterWriteCache(ChronoUnit.FOREVER.getDuration()),
+                accessCache = factory.expireAfterAccessCache(ChronoUnit.FOREVER.getDuration());
+
+        val value = writeCache.get("key", k -> new Object());
+        assertSame(value, writeCache.get("key", k -> new Object()));
+        assertSame(value, accessCache.get("key", k -> value));
+        assertSame(value, accessCache.get("key", k -> new Object()));
+    }
+
+    @Test
+    void testExpireAfterWriteCache() throws InterruptedException {
+        final Cache<String, Object> cache = ConcurrentHashMapCache.createFactory()
+                .expireAfterWriteCache(Duration.ofMillis(50));
+
+        val value = cache.get("key", k -> new Object());
+        assertSame(value, cache.get("key", k -> new Object()));
+
+        Thread.sleep(100);
+        assertNotSame(value, cache.get("key", k -> new Object()));
+    }
+
+    @Test
+    void testExpireAfterAccessCache() throws InterruptedException {
+        final Cache<String, Object> cache = ConcurrentHashMapCache.createFactory()
+                .expireAfterAccessCache(Duration.ofMillis(200));
+
+        val value = cache.get("key", k -> new Object());
+        for (var i = 0; i < 5; i++) {
+            Thread.sleep(50);
+            assertSame(value, cache.get("key", k -> new Object()));
+        }
+
+        Thread.sleep(400);
+        assertNotSame(value, cache.get("key", k -> new Object()));
+    }
+
+    @Test
+    void testStats() {
+        final Cache<String, Object> cache = ConcurrentHashMapCache.createFactory().recordingStats().weakKeysCache();
+
+        cache.get("foo", k -> new Object());
+        cache.get("foo", k -> new Object());
+        cache.get("foo", k -> new Object());
+        cache.get("bar", k -> new Object());
+
+        val stats = cache.stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(2, stats.getEstimatedSize());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void testStatsAreNotRecordedByDefault() {
+        final Cache<String, Object> cache = ConcurrentHashMapCache.createFactory().weakKeysCache();
+
+        cache.get("foo", k -> new Object());
+        cache.get("foo", k -> new Object());
+
+        val stats = cache.stats();
+        assertEquals(0, stats.getRequestCount());
+        assertEquals(1, stats.getEstimatedSize());
+    }
+
+    @Test
+    void testSizeEvictionIsReported() {
+        val removals = new ArrayList<String>();
+        final Cache<Integer, Object> cache = ConcurrentHashMapCache.createFactory()
+                .recordingStats()
+                .withRemovalListener((key, value, cause) -> removals.add(key + "=" + cause))
+                .maximumSizeCache(1);
+
+        cache.get(1, k -> new Object());
+        cache.get(2, k -> new Object());
+
+        assertEquals(Collections.singletonList("1=SIZE"), removals);
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void testTypedRemovalListener() {
+        val removedKeys = new ArrayList<Integer>();
+        final RemovalListener<Integer, String> listener = (key, value, cause) -> {
+            assertEquals(Integer.toString(key), value);
+            removedKeys.add(key);
+        };
+        final Cache<Integer, String> cache = ConcurrentHashMapCache.createFactory()
+                .withRemovalListener(listener)
+                .maximumSizeCache(1);
+
+        cache.get(1, Object::toString);
+        cache.get(2, Object::toString);
+
+        assertEquals(Collections.singletonList(1), removedKeys);
+    }
+
+    @Test
+    void testExpirationIsReported() throws InterruptedException {
+        val removals = new ArrayList<RemovalCause>();
+        final Cache<String, Object> cache = ConcurrentHashMapCache.createFactory()
+                .withRemovalListener((key, value, cause) -> {
+                    assertEquals("key", key);
+                    assertEquals(1, value);
+                    removals.add(cause);
+                })
+                .expireAfterWriteCache(Duration.ofMillis(10));
+
+        cache.get("key", k -> 1);
+        Thread.sleep(50);
+        cache.get("key", k -> 2);
+
+        assertEquals(Collections.singletonList(RemovalCause.EXPIRED), removals);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCaches")
+    void testGetAll(final @NotNull Cache<String, Object> cache) {
+        val cached = cache.get("cached", k -> new Object());
+
+        val requestedKeys = new ArrayList<Object>();
+        val values = cache.getAll(Arrays.asList("cached", "loaded", "missing"), keys -> {
+            requestedKeys.addAll(keys);
+            return Collections.singletonMap("loaded", 42);
+        });
+
+        assertEquals(Arrays.asList("loaded", "missing"), requestedKeys);
+        assertEquals(2, values.size());
+        assertSame(cached, values.get("cached"));
+        assertEquals(42, values.get("loaded"));
+        assertEquals(42, cache.get("loaded", k -> fail("Value should be cached")));
+    }
+
+    @Test
+    void testGetAllStats() {
+        final Cache<String, Object> cache = ConcurrentHashMapCache.createFactory().recordingStats().weakKeysCache();
+        cache.get("cached", k -> 1);
+
+        cache.getAll(Arrays.asList("cached", "loaded", "missing"), keys -> Collections.singletonMap("loaded", 2));
+
+        val stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+    }
+}
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -18,6 +19,41 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class GcClassDefinersTest {
 
+    @Test
+    void testDefineClasses() throws IOException, CannotCompileException, ReflectiveOperationException {
+        val pool = ClassPool.getDefault();
+        val bytecodes = new byte[2][];
+        for (var i = 0; i < bytecodes.length; i++) {
+            val clazz = pool.makeClass(GcClassDefinersTest.class.getName() + "$DefinedClass" + i);
+            // the class refers to itself by its name as the generated delegates and text models do
+            clazz.addField(CtField.make("private static int calls;", clazz));
+            clazz.addMethod(CtNewMethod.make("public int call() {return ++calls + " + i + ";}", clazz));
+            clazz.addConstructor(CtNewConstructor.make(new CtClass[0], new CtClass[0], clazz));
+            bytecodes[i] = clazz.toBytecode();
+            clazz.detach();
+        }
+
+        Method isHidden; // available since Java 15 along with hidden classes
+        try {
+            isHidden = Class.class.getMethod("isHidden");
+        } catch (final NoSuchMethodException e) {
+            isHidden = null;
+        }
+
+        val classes = GcClassDefiners.getDefault().defineClasses(MethodHandles.lookup(), bytecodes);
+        for (var i = 0; i < classes.length; i++) {
+            val definedClass = classes[i];
+            if (isHidden != null) assertThat(isHidden.invoke(definedClass), equalTo(true));
+
+            val instance = definedClass.getDeclaredConstructor().newInstance();
+            val call = definedClass.getDeclaredMethod("call");
+            assertThat(call.invoke(instance), equalTo(1 + i));
+            assertThat(call.invoke(instance), equalTo(2 + i));
+
+            assertThrows(ClassNotFoundException.class, () -> Class.forName(definedClass.getName()));
+        }
+    }
+
     @Test
     @SuppressWarnings("CallToSystemGC")
     @EnabledIfSystemProperty(named = "test.gc.always-respects-System.gc()", matches = "true|yes|\\+|1|enabled")
@@ -0,0 +1,109 @@
+package ru.progrm_jarvis.javacommons.collection;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.javacommons.object.Pair;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactImmutableMapTest {
+
+    @Test
+    void testEmptyMap() {
+        val map = CompactImmutableMap.<String, Integer>builder().build();
+
+        assertSame(CompactImmutableMap.of(), map);
+        assertTrue(map.isEmpty());
+        assertNull(map.get("foo"));
+        assertNull(map.get(null));
+        assertFalse(map.entrySet().iterator().hasNext());
+        assertEquals(new HashMap<>(), map);
+        assertEquals(0, map.hashCode());
+    }
+
+    @Test
+    void testBuilderReplacesValues() {
+        val map = CompactImmutableMap.<String, Integer>builder(1)
+                .put("one", 1)
+                .put("two", 2)
+                .put("one", 11)
+                .put("three", 3)
+                .build();
+
+        assertEquals(3, map.size());
+        assertEquals(11, map.get("one"));
+        assertEquals(2, map.get("two"));
+        assertEquals(3, map.get("three"));
+        assertNull(map.get("four"));
+        assertEquals(4, map.getOrDefault("four", 4));
+        assertTrue(map.containsKey("two"));
+        assertFalse(map.containsKey(null));
+        assertTrue(map.containsValue(3));
+        assertFalse(map.containsValue(1));
+        assertTrue(map.entrySet().contains(new SimpleImmutableEntry<>("one", 11)));
+        assertFalse(map.entrySet().contains(new SimpleImmutableEntry<>("one", 1)));
+
+        assertThrows(NullPointerException.class, () -> CompactImmutableMap.builder().put("key", null));
+        assertThrows(NullPointerException.class, () -> CompactImmutableMap.builder().put(null, "value"));
+    }
+
+    @Test
+    void testImmutability() {
+        val map = CompactImmutableMap.copyOf(MapUtil.fillMap(new HashMap<>(), "a", 1, "b", 2));
+
+        assertThrows(UnsupportedOperationException.class, () -> map.put("c", 3));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(3));
+        assertSame(map, CompactImmutableMap.copyOf(map));
+    }
+
+    @Test
+    void testRandomContentMatchesHashMap() {
+        val random = new Random(42);
+        val expected = new HashMap<Integer, Long>();
+        val builder = CompactImmutableMap.<Integer, Long>builder();
+        for (var i = 0; i < 10_000; i++) {
+            // small range to have both colliding and replaced keys
+            final int key = random.nextInt(5_000) << (random.nextBoolean() ? 16 : 0);
+            final long value = random.nextLong();
+            expected.put(key, value);
+            builder.put(key, value);
+        }
+        val map = builder.build();
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        for (val entry : expected.entrySet()) assertEquals(entry.getValue(), map.get(entry.getKey()));
+
+        val iterated = new HashMap<Integer, Long>();
+        map.forEach(iterated::put);
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void testMapUtilAndMapFiller() {
+        val expected = new HashMap<String, Integer>();
+        expected.put("one", 1);
+        expected.put("two", 2);
+
+        assertEquals(expected, MapUtil.compactImmutableMap("one", 1, "two", 2));
+        assertEquals(expected, MapUtil.compactImmutableMap(Pair.of("one", 1), Pair.of("two", 2)));
+        assertThrows(IllegalArgumentException.class, () -> MapUtil.compactImmutableMap("one", 1, "two"));
+        assertThrows(NullPointerException.class, () -> MapUtil.compactImmutableMap("one", null));
+
+        final Map<String, Integer> frozen = MapFiller.from(new HashMap<String, Integer>())
+                .put("one", 1)
+                .put("two", 2)
+                .toImmutableMap();
+        assertEquals(expected, frozen);
+    }
+}
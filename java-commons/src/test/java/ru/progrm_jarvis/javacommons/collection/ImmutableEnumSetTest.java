@@ -0,0 +1,145 @@
+package ru.progrm_jarvis.javacommons.collection;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.javacommons.util.stream.EnumCollectors;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableEnumSetTest {
+
+    @Test
+    void testSmallEnumSet() {
+        val set = ImmutableEnumSet.of(TimeUnit.SECONDS, TimeUnit.NANOSECONDS, TimeUnit.SECONDS);
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains(TimeUnit.SECONDS));
+        assertTrue(set.contains(TimeUnit.NANOSECONDS));
+        assertFalse(set.contains(TimeUnit.DAYS));
+        assertFalse(set.contains("SECONDS"));
+        assertFalse(set.contains(null));
+
+        assertEquals(Arrays.asList(TimeUnit.NANOSECONDS, TimeUnit.SECONDS), new ArrayList<>(set));
+        assertEquals(EnumSet.of(TimeUnit.SECONDS, TimeUnit.NANOSECONDS), set);
+        assertEquals(set, EnumSet.of(TimeUnit.SECONDS, TimeUnit.NANOSECONDS));
+        assertEquals(EnumSet.of(TimeUnit.SECONDS, TimeUnit.NANOSECONDS).hashCode(), set.hashCode());
+        assertEquals("[NANOSECONDS, SECONDS]", set.toString());
+
+        assertThrows(UnsupportedOperationException.class, () -> set.add(TimeUnit.DAYS));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testConstantSpecificClassBodies() {
+        val set = ImmutableEnumSet.allOf(TestEnum.class);
+
+        assertTrue(set.contains(TestEnum.BAZ));
+        assertEquals(EnumSet.allOf(TestEnum.class), set);
+        assertTrue(ImmutableEnumSet.noneOf(TestEnum.class).isEmpty());
+        assertEquals(ImmutableEnumSet.noneOf(TestEnum.class), ImmutableEnumSet.noneOf(TimeUnit.class));
+    }
+
+    @Test
+    void testLargeEnumSet() {
+        final Set<LargeEnum> expected = EnumSet.noneOf(LargeEnum.class);
+        for (val element : LargeEnum.values()) if (element.ordinal() % 3 == 0) expected.add(element);
+
+        val set = ImmutableEnumSet.copyOf(LargeEnum.class, expected);
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+        for (val element : LargeEnum.values()) assertEquals(expected.contains(element), set.contains(element));
+
+        val iterated = new ArrayList<LargeEnum>();
+        set.forEach(iterated::add);
+        assertEquals(new ArrayList<>(expected), iterated);
+
+        assertArrayEquals(expected.toArray(), set.toArray());
+        assertArrayEquals(expected.toArray(new LargeEnum[0]), set.toArray(new LargeEnum[0]));
+
+        val all = ImmutableEnumSet.allOf(LargeEnum.class);
+        assertEquals(LargeEnum.values().length, all.size());
+        assertTrue(all.containsAll(set));
+        assertFalse(set.containsAll(all));
+        assertSame(set, ImmutableEnumSet.copyOf(LargeEnum.class, set));
+    }
+
+    @Test
+    void testToArray() {
+        val set = ImmutableEnumSet.of(TestEnum.BAR, TestEnum.BAZ);
+
+        val sameSized = new TestEnum[2];
+        assertSame(sameSized, set.toArray(sameSized));
+        assertArrayEquals(new TestEnum[]{TestEnum.BAR, TestEnum.BAZ}, sameSized);
+
+        val bigger = new TestEnum[]{TestEnum.FOO, TestEnum.FOO, TestEnum.FOO};
+        assertSame(bigger, set.toArray(bigger));
+        assertArrayEquals(new TestEnum[]{TestEnum.BAR, TestEnum.BAZ, null}, bigger);
+
+        //noinspection SuspiciousToArrayCall wrong-typed array
+        assertThrows(ArrayStoreException.class, () -> set.toArray(new String[0]));
+    }
+
+    @Test
+    void testIterator() {
+        val iterator = ImmutableEnumSet.of(LargeEnum.E0, LargeEnum.E64, LargeEnum.E99).iterator();
+
+        assertEquals(LargeEnum.E0, iterator.next());
+        assertEquals(LargeEnum.E64, iterator.next());
+        assertTrue(iterator.hasNext());
+        assertEquals(LargeEnum.E99, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testParallelCollector() {
+        val set = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(i -> LargeEnum.values()[i % 97])
+                .collect(EnumCollectors.toImmutableEnumSet(LargeEnum.class));
+
+        assertEquals(97, set.size());
+        assertEquals(
+                Arrays.stream(LargeEnum.values()).limit(97).collect(Collectors.toSet()), set
+        );
+    }
+
+    @Test
+    void testBuilderRejectsForeignConstants() {
+        @SuppressWarnings("unchecked") val builder = (ImmutableEnumSet.Builder<TimeUnit>) (ImmutableEnumSet.Builder<?>)
+                ImmutableEnumSet.builder(TestEnum.class);
+        @SuppressWarnings("unchecked") val enumClass = (Class<TestEnum>) (Class<?>) Enum.class;
+
+        assertThrows(ClassCastException.class, () -> builder.add(TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> ImmutableEnumSet.builder(enumClass));
+    }
+
+    @SuppressWarnings("unused")
+    private enum TestEnum {
+        FOO, BAR,
+        BAZ {
+            @Override
+            public String toString() {
+                return "baz";
+            }
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private enum LargeEnum {
+        E0, E1, E2, E3, E4, E5, E6, E7, E8, E9, E10, E11, E12, E13, E14, E15, E16, E17, E18, E19,
+        E20, E21, E22, E23, E24, E25, E26, E27, E28, E29, E30, E31, E32, E33, E34, E35, E36, E37, E38, E39,
+        E40, E41, E42, E43, E44, E45, E46, E47, E48, E49, E50, E51, E52, E53, E54, E55, E56, E57, E58, E59,
+        E60, E61, E62, E63, E64, E65, E66, E67, E68, E69, E70, E71, E72, E73, E74, E75, E76, E77, E78, E79,
+        E80, E81, E82, E83, E84, E85, E86, E87, E88, E89, E90, E91, E92, E93, E94, E95, E96, E97, E98, E99
+    }
+}
@@ -0,0 +1,241 @@
+package ru.progrm_jarvis.javacommons.collection;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentCollectionsTest {
+
+    @Test
+    void testVectorMatchesArrayList() {
+        val expected = new ArrayList<Integer>();
+        var vector = PersistentVector.<Integer>empty();
+        for (var i = 0; i < 40_000; i++) {
+            expected.add(i);
+            vector = vector.plus(i);
+        }
+        assertEquals(expected, vector);
+        assertEquals(expected.hashCode(), vector.hashCode());
+
+        val random = new Random(42);
+        for (var i = 0; i < 1_000; i++) {
+            final int index = random.nextInt(expected.size()), value = random.nextInt();
+            expected.set(index, value);
+            vector = vector.with(index, value);
+        }
+        assertEquals(expected, vector);
+
+        val collected = new ArrayList<Integer>();
+        vector.forEach(collected::add);
+        assertEquals(expected, collected);
+
+        while (!expected.isEmpty()) {
+            if (expected.size() % 997 == 0) assertEquals(expected, vector);
+            expected.remove(expected.size() - 1);
+            vector = vector.withoutLast();
+        }
+        assertSame(PersistentVector.empty(), vector);
+        assertThrows(NoSuchElementException.class, vector::withoutLast);
+    }
+
+    @Test
+    void testVectorVersionsShareNothingObservable() {
+        val original = PersistentVector.copyOf(IntStream.range(0, 2_000).boxed().collect(Collectors.toList()));
+        val updated = original.with(5, -5).with(1_999, -1_999).plus(2_000);
+
+        assertEquals(2_000, original.size());
+        assertEquals(5, original.get(5));
+        assertEquals(1_999, original.get(1_999));
+        assertEquals(2_001, updated.size());
+        assertEquals(-5, updated.get(5));
+        assertEquals(-1_999, updated.get(1_999));
+        assertEquals(2_000, updated.get(2_000));
+        assertThrows(IndexOutOfBoundsException.class, () -> original.get(2_000));
+        assertThrows(UnsupportedOperationException.class, () -> original.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> original.set(0, 1));
+    }
+
+    @Test
+    void testVectorBuilder() {
+        val builder = PersistentVector.<String>builder();
+        for (var i = 0; i < 1_100; i++) builder.add(Integer.toString(i));
+        val first = builder.build();
+
+        builder.set(0, "zero").set(1_099, "last").add("extra");
+        val second = builder.build();
+
+        assertEquals(1_100, first.size());
+        assertEquals("0", first.get(0));
+        assertEquals("1099", first.get(1_099));
+        assertEquals(1_101, second.size());
+        assertEquals("zero", second.get(0));
+        assertEquals("last", second.get(1_099));
+        assertEquals("extra", second.get(1_100));
+
+        val third = first.toBuilder().set(500, "half").build();
+        assertEquals("500", first.get(500));
+        assertEquals("half", third.get(500));
+        assertEquals(Arrays.asList("a", null, "c"), PersistentVector.of("a", null, "c"));
+    }
+
+    @Test
+    void testMapMatchesHashMap() {
+        val random = new Random(42);
+        val expected = new HashMap<Integer, Integer>();
+        var map = PersistentHashMap.<Integer, Integer>empty();
+        for (var i = 0; i < 50_000; i++) {
+            final int key = random.nextInt(10_000);
+            if (random.nextInt(4) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                final int value = random.nextInt();
+                expected.put(key, value);
+                map = map.plus(key, value);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        val iterated = new HashMap<Integer, Integer>();
+        map.forEach(iterated::put);
+        assertEquals(expected, iterated);
+        assertEquals(expected.keySet(), map.keySet());
+
+        for (val key : expected.keySet()) map = map.minus(key);
+        assertSame(PersistentHashMap.empty(), map);
+    }
+
+    @Test
+    void testMapCollisions() {
+        val keys = new ArrayList<CollidingKey>();
+        for (var i = 0; i < 100; i++) keys.add(new CollidingKey(i % 3, i));
+
+        val builder = PersistentHashMap.<CollidingKey, Integer>builder();
+        for (val key : keys) builder.put(key, key.id);
+        var map = builder.build();
+
+        assertEquals(100, map.size());
+        for (val key : keys) assertEquals(key.id, map.get(key));
+        // distinct but equal keys should be found in the collision nodes
+        for (val key : keys) assertEquals(key.id, map.get(new CollidingKey(key.group, key.id)));
+        assertFalse(map.containsKey(new CollidingKey(0, 100)));
+        assertEquals(99, map.minus(new CollidingKey(1, 1)).size());
+
+        val original = map;
+        for (var i = 0; i < 99; i++) {
+            map = map.minus(keys.get(i));
+            assertEquals(99 - i, map.size());
+            assertEquals(99, map.get(keys.get(99)));
+        }
+        assertEquals(Collections.singletonMap(keys.get(99), 99), map);
+        assertEquals(100, original.size());
+        for (val key : keys) assertEquals(key.id, original.get(key));
+    }
+
+    @Test
+    void testBuilderRemovesManyKeys() {
+        val builder = PersistentHashMap.<Integer, Integer>builder();
+        for (var i = 0; i < 1000; i++) builder.put(i, i);
+        for (var i = 0; i < 500; i++) builder.remove(i);
+        builder.remove(-1);
+        assertEquals(500, builder.size());
+
+        val map = builder.build();
+        assertEquals(500, map.size());
+        assertEquals(500, map.entrySet().stream().count());
+        for (var i = 0; i < 1000; i++) assertEquals(i < 500 ? null : i, map.get(i));
+
+        val setBuilder = PersistentHashSet.<Integer>builder();
+        for (var i = 0; i < 100; i++) setBuilder.add(i);
+        for (var i = 0; i < 100; i++) setBuilder.remove(i);
+
+        val set = setBuilder.build();
+        assertEquals(0, set.size());
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    void testMapVersionsAndBuilder() {
+        val original = PersistentHashMap.<String, Integer>builder().put("a", 1).put("b", 2).build();
+        val updated = original.plus("c", 3).plus("a", 10).minus("b");
+
+        assertEquals(2, original.size());
+        assertEquals(1, original.get("a"));
+        assertEquals(2, original.get("b"));
+        assertEquals(2, updated.size());
+        assertEquals(10, updated.get("a"));
+        assertNull(updated.get("b"));
+        assertSame(original, original.plus("a", 1));
+        assertSame(original, original.minus("z"));
+
+        val builder = original.toBuilder().put("d", 4).remove("a");
+        val built = builder.build();
+        builder.put("e", 5);
+        assertEquals(2, built.size());
+        assertNull(built.get("e"));
+        assertEquals(3, builder.size());
+        assertEquals(2, original.size());
+
+        assertThrows(NullPointerException.class, () -> original.plus(null, 1));
+        assertThrows(UnsupportedOperationException.class, () -> original.put("z", 26));
+    }
+
+    @Test
+    void testSet() {
+        val random = new Random(42);
+        val expected = new HashSet<Integer>();
+        var set = PersistentHashSet.<Integer>empty();
+        for (var i = 0; i < 20_000; i++) {
+            final int element = random.nextInt(5_000);
+            if (random.nextBoolean()) {
+                expected.add(element);
+                set = set.plus(element);
+            } else {
+                expected.remove(element);
+                set = set.minus(element);
+            }
+        }
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(expected, new HashSet<>(set));
+
+        val frozen = PersistentHashSet.of(1, 2, 3);
+        assertSame(frozen, frozen.plus(2));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4)), frozen.toBuilder().add(4).build());
+        assertEquals(3, frozen.size());
+    }
+
+    @RequiredArgsConstructor
+    private static final class CollidingKey {
+
+        final int group;
+
+        final int id;
+
+        @Override
+        public boolean equals(final Object object) {
+            if (object == this) return true;
+            if (!(object instanceof CollidingKey)) return false;
+
+            final CollidingKey other;
+            return group == (other = (CollidingKey) object).group && id == other.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return group;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentBatchOperationsTest {
+
+    @Test
+    void testBatchOperations() {
+        val list = ConcurrentCollections.concurrentList(new ArrayList<String>());
+
+        ConcurrentCollections.withWriteLock(list, wrapped -> {
+            wrapped.add("foo");
+            wrapped.add("bar");
+        });
+        assertEquals(Arrays.asList("foo", "bar"), list);
+        assertEquals("foo", ConcurrentCollections.applyWithWriteLock(list, wrapped -> wrapped.remove(0)));
+        assertEquals(1, (int) ConcurrentCollections.withReadLock(list, List::size));
+
+        val map = ConcurrentCollections.stampedConcurrentMap(new HashMap<String, Integer>());
+        ConcurrentCollections.withWriteLock(map, wrapped -> {
+            for (var i = 0; i < 10; i++) wrapped.put(Integer.toString(i), i);
+        });
+        assertEquals(45, (int) ConcurrentCollections.withReadLock(
+                map, wrapped -> wrapped.values().stream().mapToInt(Integer::intValue).sum()
+        ));
+    }
+
+    @Test
+    void testCompoundUpdatesAreAtomic() throws Exception {
+        val map = ConcurrentCollections.concurrentMap(new HashMap<String, Integer>());
+        ConcurrentCollections.withWriteLock(map, wrapped -> {
+            wrapped.put("first", 0);
+            wrapped.put("second", 0);
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            val futures = new ArrayList<Future<?>>();
+            for (var thread = 0; thread < 2; thread++) futures.add(executor.submit(() -> {
+                for (var i = 0; i < 10_000; i++) ConcurrentCollections.withWriteLock(map, wrapped -> {
+                    wrapped.merge("first", 1, Integer::sum);
+                    wrapped.merge("second", 1, Integer::sum);
+                });
+            }));
+            for (var thread = 0; thread < 2; thread++) futures.add(executor.submit(() -> {
+                for (var i = 0; i < 10_000; i++) {
+                    final boolean consistent = ConcurrentCollections.withReadLock(
+                            map, wrapped -> wrapped.get("first").equals(wrapped.get("second"))
+                    );
+                    assertTrue(consistent);
+                }
+            }));
+
+            for (val future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(20_000, (int) ConcurrentCollections.withReadLock(map, wrapped -> wrapped.get("first")));
+    }
+
+    @Test
+    void testBatchOperationsRequireConcurrentWrapper() {
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentCollections.withWriteLock(
+                new ArrayList<String>(), wrapped -> wrapped.add("foo")
+        ));
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentCollections.withReadLock(
+                ConcurrentCollections.concurrentSetFromMap(new HashMap<String, Boolean>()), Set::size
+        ));
+    }
+}
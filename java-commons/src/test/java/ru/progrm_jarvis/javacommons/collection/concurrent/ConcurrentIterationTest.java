@@ -0,0 +1,127 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentIterationTest {
+
+    static @NotNull Stream<@NotNull Arguments> provideCollections() {
+        return Stream.of(
+                Arguments.of(ConcurrentCollections.concurrentList(new ArrayList<>())),
+                Arguments.of(ConcurrentCollections.concurrentCollection(new ArrayDeque<>())),
+                Arguments.of(ConcurrentCollections.concurrentSet(new LinkedHashSet<>())),
+                Arguments.of(ConcurrentCollections.concurrentSetFromMap(new LinkedHashMap<>())),
+                Arguments.of(ConcurrentCollections.stampedConcurrentList(new LinkedList<>()))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCollections")
+    void testIteration(final @NotNull Collection<Integer> collection) {
+        val expected = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        collection.addAll(expected);
+
+        assertEquals(expected, ConcurrentCollections.snapshot(collection));
+
+        val fromSnapshot = new ArrayList<Integer>();
+        ((ConcurrentIterable<Integer>) collection).snapshotIterator().forEachRemaining(fromSnapshot::add);
+        assertEquals(expected, fromSnapshot);
+
+        val weaklyConsistent = new ArrayList<Integer>();
+        val iterator = ConcurrentCollections.weaklyConsistentIterator(collection);
+        iterator.forEachRemaining(weaklyConsistent::add);
+        assertEquals(expected, weaklyConsistent);
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        val forEach = new ArrayList<Integer>();
+        collection.forEach(forEach::add);
+        assertEquals(expected, forEach);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCollections")
+    void testIterationOfEmptyCollection(final @NotNull Collection<Integer> collection) {
+        assertTrue(ConcurrentCollections.snapshot(collection).isEmpty());
+        assertFalse(ConcurrentCollections.weaklyConsistentIterator(collection).hasNext());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCollections")
+    void testWeaklyConsistentIterationDuringModification(final @NotNull Collection<Integer> collection)
+            throws Exception {
+        for (var i = 0; i < 10_000; i++) collection.add(i);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        val stopped = new AtomicBoolean();
+        try {
+            final Future<?> writer = executor.submit(() -> {
+                var next = 10_000;
+                while (!stopped.get()) {
+                    collection.add(next++);
+                    collection.remove(next - 5_000);
+                }
+            });
+
+            for (var round = 0; round < 10; round++) {
+                val iterator = ConcurrentCollections.weaklyConsistentIterator(collection);
+                while (iterator.hasNext()) assertNotNull(iterator.next());
+            }
+            stopped.set(true);
+            writer.get(10, TimeUnit.SECONDS);
+        } finally {
+            stopped.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSequentialListChunksGrow() {
+        val recorder = LockContentionRecorder.create();
+        val list = ConcurrentCollections.concurrentList(new LinkedList<Integer>(), recorder);
+        val expected = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        list.addAll(expected);
+
+        val iterated = new ArrayList<Integer>();
+        val acquisitions = recorder.readAcquisitions();
+        ConcurrentCollections.weaklyConsistentIterator(list).forEachRemaining(iterated::add);
+        assertEquals(expected, iterated);
+        assertTrue(recorder.readAcquisitions() - acquisitions <= 16, "Chunks should double in size");
+    }
+
+    @Test
+    void testMapIteration() {
+        val map = ConcurrentCollections.concurrentMap(new TreeMap<Integer, String>());
+        for (var i = 0; i < 500; i++) map.put(i, Integer.toString(i));
+
+        assertEquals(map, ConcurrentCollections.snapshot(map));
+
+        val iterated = new TreeMap<Integer, String>();
+        val iterator = ((ConcurrentMapWrapper<Integer, String, ?>) map).weaklyConsistentIterator();
+        while (iterator.hasNext()) {
+            val entry = iterator.next();
+            iterated.put(entry.getKey(), entry.getValue());
+        }
+        assertEquals(map, iterated);
+
+        val striped = ConcurrentCollections.<Integer, String>stripedConcurrentMap(4, HashMap::new);
+        striped.putAll(map);
+        assertEquals(map, ConcurrentCollections.snapshot(striped));
+    }
+}
@@ -0,0 +1,139 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockContentionRecorderTest {
+
+    @Test
+    void testUncontendedAcquisitions() {
+        val recorder = LockContentionRecorder.create();
+        val map = ConcurrentCollections.concurrentMap(new HashMap<String, Integer>(), recorder);
+
+        map.put("one", 1);
+        map.put("two", 2);
+        assertEquals(1, map.get("one"));
+        assertTrue(map.containsKey("two"));
+
+        assertEquals(2, recorder.writeAcquisitions());
+        assertEquals(2, recorder.readAcquisitions());
+        assertEquals(0, recorder.contendedWriteAcquisitions());
+        assertEquals(0, recorder.contendedReadAcquisitions());
+        assertEquals(0, recorder.readWaitNanos());
+        assertEquals(0, recorder.maximalQueueLength());
+
+        recorder.reset();
+        assertEquals(0, recorder.writeAcquisitions());
+        assertEquals(0, recorder.readAcquisitions());
+    }
+
+    @Test
+    void testContendedAcquisitions() throws Exception {
+        val recorder = LockContentionRecorder.create();
+        val list = ConcurrentCollections.concurrentList(new ArrayList<Integer>(), recorder);
+
+        final int waiters = 3;
+        val locked = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(waiters + 1);
+        try {
+            val holder = executor.submit(() -> ConcurrentCollections.withWriteLock(list, wrapped -> {
+                locked.countDown();
+                // keep the lock until all waiters queue up
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (recorder.maximalQueueLength() < waiters && System.nanoTime() < deadline) Thread.yield();
+                wrapped.add(0);
+            }));
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+            val futures = new ArrayList<Future<?>>();
+            for (var i = 0; i < waiters; i++) {
+                final int element = i + 1;
+                futures.add(executor.submit(
+                        () -> ConcurrentCollections.withWriteLock(list, wrapped -> wrapped.add(element))
+                ));
+            }
+
+            holder.get(30, TimeUnit.SECONDS);
+            for (val future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(waiters + 1, recorder.writeAcquisitions());
+        assertEquals(waiters, recorder.contendedWriteAcquisitions());
+        assertTrue(recorder.writeWaitNanos() > 0);
+        assertEquals(waiters, recorder.maximalQueueLength());
+        assertEquals(waiters + 1, (int) ConcurrentCollections.withReadLock(list, List::size));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testQueuedLockIsNotBarged(final boolean fair) throws Exception {
+        val recorder = LockContentionRecorder.create();
+        val queuedLock = new ReentrantReadWriteLock(fair);
+        val lock = recorder.instrument(queuedLock);
+
+        val written = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        queuedLock.readLock().lock();
+        try {
+            val writer = executor.submit(() -> {
+                lock.writeLock().lock();
+                written.set(true);
+                lock.writeLock().unlock();
+            });
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!queuedLock.hasQueuedThreads() && System.nanoTime() < deadline) Thread.yield();
+
+            // the reader should queue up after the writer instead of sharing the read lock which is held
+            val reader = executor.submit(() -> {
+                lock.readLock().lock();
+                try {
+                    return written.get();
+                } finally {
+                    lock.readLock().unlock();
+                }
+            });
+            while (queuedLock.getQueueLength() < 2 && System.nanoTime() < deadline) Thread.yield();
+            queuedLock.readLock().unlock();
+
+            writer.get(30, TimeUnit.SECONDS);
+            assertTrue(reader.get(30, TimeUnit.SECONDS));
+        } finally {
+            if (queuedLock.getReadHoldCount() != 0) queuedLock.readLock().unlock();
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, recorder.contendedWriteAcquisitions());
+        assertEquals(1, recorder.contendedReadAcquisitions());
+    }
+
+    @Test
+    void testSharedRecorderAggregates() {
+        val recorder = LockContentionRecorder.create();
+        final Map<String, Integer> first = ConcurrentCollections.concurrentMap(new HashMap<>(), recorder),
+                second = ConcurrentCollections.concurrentMap(new HashMap<>(), recorder);
+
+        first.put("a", 1);
+        second.put("b", 2);
+
+        assertEquals(2, recorder.writeAcquisitions());
+    }
+}
@@ -0,0 +1,115 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StampedConcurrentWrappersTest {
+
+    @Test
+    void testListOperations() {
+        val list = ConcurrentCollections.stampedConcurrentList(new ArrayList<String>());
+        assertTrue(list.isEmpty());
+
+        list.add("foo");
+        list.add("bar");
+        list.add("foo");
+
+        assertEquals(3, list.size());
+        assertFalse(list.isEmpty());
+        assertEquals("bar", list.get(1));
+        assertEquals(0, list.indexOf("foo"));
+        assertEquals(2, list.lastIndexOf("foo"));
+        assertTrue(list.contains("bar"));
+        assertTrue(list.containsAll(Arrays.asList("foo", "bar")));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    @Test
+    void testSetOperations() {
+        val set = ConcurrentCollections.stampedConcurrentSet(new HashSet<Integer>());
+
+        assertTrue(set.add(1));
+        assertFalse(set.add(1));
+        assertTrue(set.contains(1));
+        assertEquals(Collections.singleton(1), set);
+        assertTrue(set.remove(1));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void testMapOperations() {
+        val map = ConcurrentCollections.stampedConcurrentMap(new HashMap<String, Integer>());
+
+        map.put("one", 1);
+        map.put("null", null);
+
+        assertEquals(1, map.get("one"));
+        assertNull(map.get("two"));
+        assertEquals(2, map.getOrDefault("two", 2));
+        assertNull(map.getOrDefault("null", 2));
+        assertTrue(map.containsKey("null"));
+        assertTrue(map.containsValue(1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testIntolerantMapOperations() {
+        val map = ConcurrentCollections.stampedConcurrentMap(new LinkedHashMap<String, Integer>(16, 0.75F, true));
+
+        map.put("one", 1);
+        map.put("two", 2);
+
+        assertEquals(1, map.get("one"));
+        assertEquals(3, map.getOrDefault("three", 3));
+        assertTrue(map.containsKey("two"));
+        assertEquals(Arrays.asList("two", "one"), new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    void testTolerance() {
+        assertTrue(OptimisticReads.isTolerant(new ArrayList<>()));
+        assertTrue(OptimisticReads.isTolerant(new HashSet<>()));
+        assertTrue(OptimisticReads.isTolerant(new HashMap<>()));
+        assertFalse(OptimisticReads.isTolerant(new LinkedList<>()));
+        assertFalse(OptimisticReads.isTolerant(new LinkedHashMap<>()));
+        assertFalse(OptimisticReads.isTolerant(new TreeMap<>()));
+        assertFalse(OptimisticReads.isTolerant(new ArrayList<Object>() {}));
+    }
+
+    @Test
+    void testConcurrentReadsObserveConsistentState() throws Exception {
+        val map = ConcurrentCollections.stampedConcurrentMap(new HashMap<Integer, Integer>());
+        val executor = Executors.newFixedThreadPool(4);
+        val stopped = new AtomicBoolean();
+        try {
+            val readers = new ArrayList<Future<?>>();
+            for (var thread = 0; thread < 3; thread++) readers.add(executor.submit(() -> {
+                while (!stopped.get()) for (var key = 0; key < 1024; key++) {
+                    final Integer value;
+                    if ((value = map.get(key)) != null) assertEquals(key * 2, value.intValue());
+                }
+            }));
+
+            for (var round = 0; round < 64; round++) {
+                for (var key = 0; key < 1024; key++) map.put(key, key * 2);
+                map.clear();
+            }
+            stopped.set(true);
+
+            for (val reader : readers) reader.get(10, TimeUnit.SECONDS);
+        } finally {
+            stopped.set(true);
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ru.progrm_jarvis.javacommons.collection.concurrent;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedConcurrentMapWrapperTest {
+
+    @Test
+    void testMapOperations() {
+        final Map<String, Integer> map = ConcurrentCollections.stripedConcurrentMap(4, TreeMap::new);
+        assertTrue(map.isEmpty());
+
+        for (var i = 0; i < 100; i++) map.put(Integer.toString(i), i);
+        assertEquals(100, map.size());
+        assertEquals(42, map.get("42"));
+        assertTrue(map.containsKey("99"));
+        assertTrue(map.containsValue(7));
+        assertEquals(-1, map.getOrDefault("missing", -1));
+
+        assertEquals(1, map.merge("1", 10, Integer::sum) - 10);
+        assertEquals(11, map.get("1"));
+        assertEquals(42, map.remove("42"));
+        assertFalse(map.containsKey("42"));
+
+        val expected = new HashMap<String, Integer>();
+        for (var i = 0; i < 100; i++) if (i != 42) expected.put(Integer.toString(i), i == 1 ? 11 : i);
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        map.entrySet().removeIf(entry -> entry.getValue() % 2 == 0);
+        assertEquals(50, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    void testNullKey() {
+        final Map<String, Integer> map = ConcurrentCollections.stripedConcurrentMap(3, HashMap::new);
+
+        map.put(null, 1);
+        assertEquals(1, map.get(null));
+        assertTrue(map.containsKey(null));
+    }
+
+    @Test
+    void testInvalidStripeCount() {
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentCollections.stripedConcurrentMap(0, HashMap::new));
+    }
+
+    @Test
+    void testConcurrentWriters() throws Exception {
+        final Map<Integer, Integer> map = ConcurrentCollections.stripedConcurrentMap(HashMap::new);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            val writers = new ArrayList<Future<?>>();
+            for (var thread = 0; thread < 4; thread++) {
+                final int offset = thread * 10_000;
+                writers.add(executor.submit(() -> {
+                    for (var key = offset; key < offset + 10_000; key++) map.merge(key % 1000, 1, Integer::sum);
+                }));
+            }
+            for (val writer : writers) writer.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1000, map.size());
+        for (val value : map.values()) assertEquals(40, value);
+    }
+
+    @Test
+    void testIterationDuringConcurrentWrites() throws Exception {
+        final Map<Integer, Integer> map = ConcurrentCollections.stripedConcurrentMap(2, HashMap::new);
+        for (var key = 0; key < 1000; key++) map.put(key, key);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            val writer = executor.submit(() -> {
+                for (var key = 1000; key < 200_000; key++) {
+                    map.put(key, key);
+                    map.remove(key - 500);
+                }
+            });
+            while (!writer.isDone()) {
+                // iteration should not fail while the stripes are being modified
+                for (val entry : map.entrySet()) assertEquals(entry.getKey(), entry.getValue());
+                assertNotNull(map.toString());
+            }
+            writer.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testIteratorRemoval() {
+        final Map<Integer, Integer> map = ConcurrentCollections.stripedConcurrentMap(4, HashMap::new);
+        for (var key = 0; key < 100; key++) map.put(key, key);
+
+        val iterator = map.entrySet().iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            val entry = iterator.next();
+            // the entry which has been concurrently changed should not be removed
+            if (entry.getKey() == 7) map.put(7, -7);
+            iterator.remove();
+        }
+
+        assertEquals(Collections.singletonMap(7, -7), map);
+    }
+}
@@ -0,0 +1,171 @@
+package ru.progrm_jarvis.javacommons.collection.primitive;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.progrm_jarvis.javacommons.data.DataSerializers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLongLongMapTest {
+
+    @Test
+    void testMatchesHashMap() throws IOException {
+        try (val map = OffHeapLongLongMap.create(0)) {
+            val random = new Random(42);
+            final Map<Long, Long> expected = new HashMap<>();
+
+            for (var i = 0; i < 50_000; i++) {
+                final long key = random.nextInt(4096) - 2048, value = random.nextLong();
+                switch (random.nextInt(3)) {
+                    case 0: {
+                        final Long previousValue = expected.put(key, value);
+                        assertEquals(previousValue == null ? 0 : previousValue, map.put(key, value));
+                        break;
+                    }
+                    case 1: {
+                        final Long previousValue = expected.remove(key);
+                        assertEquals(previousValue == null ? 0 : previousValue, map.remove(key));
+                        break;
+                    }
+                    default: {
+                        assertEquals(expected.containsKey(key), map.containsKey(key));
+                        assertEquals(expected.getOrDefault(key, -1L), map.getOrDefault(key, -1));
+                    }
+                }
+                assertEquals(expected.size(), map.size());
+            }
+
+            final Map<Long, Long> iterated = new HashMap<>();
+            map.forEach((key, value) -> assertNull(iterated.put(key, value)));
+            assertEquals(expected, iterated);
+        }
+    }
+
+    @Test
+    void testCapacityControl() throws IOException {
+        try (val map = OffHeapLongLongMap.create(0)) {
+            assertEquals(4, map.capacity());
+
+            map.ensureCapacity(1000);
+            val capacity = map.capacity();
+            assertTrue(capacity >= 1000);
+            for (var i = 1L; i <= 1000; i++) map.put(i * 31, i);
+            assertEquals(capacity, map.capacity());
+
+            assertThrows(IllegalArgumentException.class, () -> map.resize(999));
+            for (var i = 1L; i <= 990; i++) map.remove(i * 31);
+            map.resize(10);
+            assertTrue(map.capacity() < capacity);
+            for (var i = 991L; i <= 1000; i++) assertEquals(i, map.get(i * 31));
+
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertFalse(map.containsKey(31 * 1000));
+        }
+    }
+
+    @Test
+    void testClosedMapIsInaccessible() throws IOException {
+        val map = OffHeapLongLongMap.create();
+        map.put(1, 2);
+        map.close();
+        map.close();
+
+        assertThrows(IllegalStateException.class, () -> map.get(1));
+        assertThrows(IllegalStateException.class, () -> map.put(1, 2));
+        assertThrows(IllegalStateException.class, () -> map.forEach((key, value) -> fail("Map is closed")));
+    }
+
+    @Test
+    void testMappedMapIsPersisted(final @TempDir Path directory) throws IOException {
+        val file = directory.resolve("index");
+        try (val map = OffHeapLongLongMap.mapped(file, 16)) {
+            for (var i = 0L; i < 10_000; i++) map.put(i, i * i);
+            assertTrue(map.capacity() >= 10_000);
+        }
+
+        try (val map = OffHeapLongLongMap.mapped(file, 0)) {
+            assertEquals(10_000, map.size());
+            assertTrue(map.containsKey(0));
+            for (var i = 0L; i < 10_000; i++) assertEquals(i * i, map.get(i));
+
+            map.remove(0);
+            map.put(-1, 1);
+        }
+
+        try (val map = OffHeapLongLongMap.mapped(file, 0)) {
+            assertEquals(10_000, map.size());
+            assertFalse(map.containsKey(0));
+            assertEquals(1, map.get(-1));
+        }
+        assertFalse(Files.exists(directory.resolve("index.resize")));
+    }
+
+    @Test
+    void testMappedMapRecountsSizeAfterCrash(final @TempDir Path directory) throws IOException {
+        val file = directory.resolve("index");
+        try (val map = OffHeapLongLongMap.mapped(file, 1000)) {
+            for (var i = 0L; i < 1000; i++) map.put(i, -i);
+        }
+        // simulate the stored size not being flushed
+        try (val channel = FileChannel.open(file, WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES), 16);
+        }
+
+        try (val map = OffHeapLongLongMap.mapped(file, 0)) {
+            assertEquals(1000, map.size());
+            assertTrue(map.containsKey(0));
+
+            for (var i = 1000L; i < 5000; i++) map.put(i, -i);
+            assertEquals(5000, map.size());
+            for (var i = 0L; i < 5000; i++) assertEquals(-i, map.get(i));
+        }
+    }
+
+    @Test
+    void testMappedMapRejectsForeignFiles(final @TempDir Path directory) throws IOException {
+        val file = directory.resolve("foreign");
+        Files.write(file, new byte[128]);
+
+        assertThrows(IOException.class, () -> OffHeapLongLongMap.mapped(file, 0));
+    }
+
+    @Test
+    void testDataSerializer() throws IOException {
+        val serializer = DataSerializers.offHeapLongLongMapDataSerializer();
+        try (val map = OffHeapLongLongMap.create()) {
+            for (var i = -500L; i < 500; i++) map.put(i << 40, i);
+
+            try (val copy = serializer.fromByteArray(serializer.toByteArray(map))) {
+                assertEquals(map.size(), copy.size());
+                map.forEach((key, value) -> assertEquals(value, copy.get(key)));
+            }
+        }
+    }
+
+    @Test
+    void testDataSerializerRejectsInvalidSize() {
+        val serializer = DataSerializers.offHeapLongLongMapDataSerializer();
+
+        assertThrows(IOException.class, () -> serializer.fromByteArray(
+                ByteBuffer.allocate(Long.BYTES).putLong(-1).array()
+        ));
+        // the declared size should not be preallocated
+        assertThrows(IOException.class, () -> serializer.fromByteArray(
+                ByteBuffer.allocate(Long.BYTES).putLong(Long.MAX_VALUE >>> 4).array()
+        ));
+    }
+}
@@ -0,0 +1,160 @@
+package ru.progrm_jarvis.javacommons.collection.primitive;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveHashCollectionsTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 64, 1024})
+    void testIntIntMapMatchesHashMap(final int keyRange) {
+        val random = new Random(keyRange);
+        val map = IntIntMap.create();
+        final Map<Integer, Integer> expected = new HashMap<>();
+
+        for (var i = 0; i < 10_000; i++) {
+            final int key = random.nextInt(keyRange) - keyRange / 2, value = random.nextInt();
+            switch (random.nextInt(4)) {
+                case 0: {
+                    assertEquals(expected.getOrDefault(key, 0), map.put(key, value));
+                    expected.put(key, value);
+                    break;
+                }
+                case 1: {
+                    assertEquals(expected.getOrDefault(key, 0), map.remove(key));
+                    expected.remove(key);
+                    break;
+                }
+                case 2: {
+                    assertEquals(expected.merge(key, value, Integer::sum), map.addTo(key, value));
+                    break;
+                }
+                default: {
+                    assertEquals(expected.containsKey(key), map.containsKey(key));
+                    assertEquals(expected.getOrDefault(key, -1), map.getOrDefault(key, -1));
+                }
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        final Map<Integer, Integer> iterated = new HashMap<>();
+        map.forEach((key, value) -> assertNull(iterated.put(key, value)));
+        assertEquals(expected, iterated);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected.size(), map.toKeyArray().length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 64, 1024})
+    void testIntObjectMapMatchesHashMap(final int keyRange) {
+        val random = new Random(keyRange);
+        final IntObjectMap<String> map = IntObjectMap.create(0);
+        final Map<Integer, String> expected = new HashMap<>();
+
+        for (var i = 0; i < 10_000; i++) {
+            final int key = random.nextInt(keyRange) - keyRange / 2;
+            final String value = Integer.toString(random.nextInt());
+            switch (random.nextInt(3)) {
+                case 0: {
+                    assertEquals(expected.put(key, value), map.put(key, value));
+                    break;
+                }
+                case 1: {
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                }
+                default: assertEquals(expected.get(key), map.get(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        final Map<Integer, String> iterated = new HashMap<>();
+        map.forEach((key, value) -> assertNull(iterated.put(key, value)));
+        assertEquals(expected, iterated);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    void testLongObjectMap() {
+        final LongObjectMap<String> map = LongObjectMap.create();
+        for (var i = 0; i < 1000; i++) map.put((long) i << 32, Integer.toString(i));
+        assertEquals(1000, map.size());
+
+        for (var i = 0; i < 1000; i += 2) assertEquals(Integer.toString(i), map.remove((long) i << 32));
+        assertEquals(500, map.size());
+        for (var i = 0; i < 1000; i++) assertEquals(i % 2 == 0 ? null : Integer.toString(i), map.get((long) i << 32));
+
+        assertEquals("computed", map.computeIfAbsent(-1, key -> "computed"));
+        assertEquals("computed", map.computeIfAbsent(-1, key -> fail("Value should be present")));
+        assertNull(map.computeIfAbsent(-2, key -> null));
+        assertFalse(map.containsKey(-2));
+    }
+
+    @Test
+    void testZeroKey() {
+        final IntObjectMap<String> map = IntObjectMap.create();
+        assertFalse(map.containsKey(0));
+        assertNull(map.put(0, "zero"));
+        assertTrue(map.containsKey(0));
+        assertEquals("zero", map.get(0));
+        assertArrayEquals(new int[]{0}, map.toKeyArray());
+        assertEquals("{0=zero}", map.toString());
+        assertEquals("zero", map.remove(0));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testMapEquality() {
+        val first = IntIntMap.create();
+        val second = IntIntMap.create(1000);
+        for (var i = 0; i < 100; i++) {
+            first.put(i, i * i);
+            second.put(99 - i, (99 - i) * (99 - i));
+        }
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        second.put(0, 1);
+        assertNotEquals(first, second);
+
+        first.clear();
+        assertTrue(first.isEmpty());
+        assertEquals(0, first.get(42));
+    }
+
+    @Test
+    void testIntSet() {
+        val random = new Random(42);
+        val set = IntSet.create();
+        final Set<Integer> expected = new HashSet<>();
+
+        for (var i = 0; i < 10_000; i++) {
+            final int element = random.nextInt(256) - 128;
+            if (random.nextBoolean()) assertEquals(expected.add(element), set.add(element));
+            else assertEquals(expected.remove(element), set.remove(element));
+            assertEquals(expected.size(), set.size());
+        }
+
+        final Set<Integer> iterated = new HashSet<>();
+        set.forEach(element -> assertTrue(iterated.add(element)));
+        assertEquals(expected, iterated);
+        assertEquals(expected.hashCode(), set.hashCode());
+
+        val array = set.toArray();
+        Arrays.sort(array);
+        assertEquals(IntSet.of(array), set);
+    }
+
+    @Test
+    void testNegativeExpectedSize() {
+        assertThrows(IllegalArgumentException.class, () -> IntIntMap.create(-1));
+        assertThrows(IllegalArgumentException.class, () -> IntSet.create(-1));
+    }
+}
@@ -0,0 +1,85 @@
+package ru.progrm_jarvis.javacommons.collection.primitive;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveListsTest {
+
+    @Test
+    void testIntListOperations() {
+        val list = IntList.create();
+        for (var i = 0; i < 100; i++) list.add(i);
+        assertEquals(100, list.size());
+        assertEquals(42, list.get(42));
+
+        list.add(0, -1);
+        assertEquals(-1, list.get(0));
+        assertEquals(0, list.indexOf(-1));
+        assertEquals(101, list.size());
+
+        assertEquals(-1, list.removeAt(0));
+        assertEquals(50, list.set(50, 500));
+        assertEquals(50, list.indexOf(500));
+        assertEquals(-1, list.indexOf(50));
+        assertFalse(list.contains(50));
+
+        list.add(500);
+        assertEquals(100, list.lastIndexOf(500));
+
+        list.sort();
+        assertEquals(500, list.get(list.size() - 1));
+        assertEquals(list.stream().sum(), Arrays.stream(list.toArray()).sum());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testIntListBounds() {
+        val list = IntList.of(1, 2, 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> IntList.create(-1));
+
+        list.add(3, 4);
+        assertEquals("[1, 2, 3, 4]", list.toString());
+    }
+
+    @Test
+    void testIntListEquality() {
+        val first = IntList.of(1, 2, 3);
+        val second = IntList.create(100);
+        second.addAll(first);
+        second.trimToSize();
+
+        assertEquals(first, second);
+        assertEquals(Arrays.asList(1, 2, 3).hashCode(), first.hashCode());
+
+        second.add(4);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void testLongListForEach() {
+        val list = LongList.create(0);
+        for (var i = 0L; i < 1000; i++) list.add(i << 32);
+
+        final List<Long> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertEquals(1000, iterated.size());
+        for (var i = 0; i < 1000; i++) assertEquals((long) i << 32, iterated.get(i));
+
+        assertEquals(Arrays.asList(1L, 2L).hashCode(), LongList.of(1, 2).hashCode());
+        assertArrayEquals(new long[]{1, 2}, LongList.of(1, 2).toArray());
+    }
+}
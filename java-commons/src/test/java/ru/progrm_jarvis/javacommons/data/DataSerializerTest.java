@@ -0,0 +1,114 @@
+package ru.progrm_jarvis.javacommons.data;
+
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class DataSerializerTest {
+
+    @Test
+    void testSizeLearning() throws IOException {
+        val serializer = DataSerializers.listDataSerializer(DataSerializers.utf8StringDataSerializer());
+        val sizeLearning = serializer.sizeLearning();
+
+        for (var i = 0; i < 100; i++) {
+            val list = Arrays.asList("Hello", "world", Integer.toString(i), new String(new char[i * 10]));
+
+            val bytes = sizeLearning.toByteArray(list);
+            assertArrayEquals(serializer.toByteArray(list), bytes);
+            assertEquals(list, sizeLearning.fromByteArray(bytes));
+        }
+    }
+
+    @Test
+    void testSizeLearningOfLargeObjects() throws IOException {
+        val serializer = DataSerializers.utf8StringDataSerializer();
+        val sizeLearning = serializer.sizeLearning();
+
+        byte[] previousBytes = null;
+        for (var i = 0; i < 10; i++) {
+            val chars = new char[100_000 + (i & 1)];
+            Arrays.fill(chars, (char) ('a' + i));
+            val string = new String(chars);
+
+            val bytes = sizeLearning.toByteArray(string);
+            assertArrayEquals(serializer.toByteArray(string), bytes);
+            assertEquals(string, sizeLearning.fromByteArray(bytes));
+            // the returned arrays should not be reused by the following encodings
+            if (previousBytes != null) {
+                assertNotSame(previousBytes, bytes);
+                assertEquals('a' + i - 1, previousBytes[previousBytes.length - 1]);
+            }
+            previousBytes = bytes;
+        }
+    }
+
+    @Test
+    void testSizeLearningUsesWrappedToByteArray() throws IOException {
+        val serializer = new DataSerializer<@NotNull String>() {
+
+            @Override
+            public void write(final @NotNull DataOutputStream output, final @NotNull String object) throws IOException {
+                output.writeUTF(object);
+            }
+
+            @Override
+            public @NotNull String read(final @NotNull DataInputStream input) throws IOException {
+                return input.readUTF();
+            }
+
+            @Override
+            public byte @NotNull [] toByteArray(final @NotNull String object, final int expectedSize) {
+                return new byte[]{0, 1, 'A'};
+            }
+        };
+
+        assertArrayEquals(new byte[]{0, 1, 'A'}, serializer.sizeLearning().toByteArray("Hello world"));
+    }
+
+    @Test
+    void testReentrantToByteArray() throws IOException {
+        val elementSerializer = DataSerializers.utf8StringDataSerializer();
+        // serializer which encodes its elements into byte-arrays while its own byte-array is being encoded
+        val serializer = new DataSerializer<@NotNull List<@NotNull String>>() {
+
+            @Override
+            public void write(final @NotNull DataOutputStream output,
+                              final @NotNull List<@NotNull String> object) throws IOException {
+                output.writeInt(object.size());
+                for (val element : object) {
+                    val bytes = elementSerializer.toByteArray(element);
+                    output.writeInt(bytes.length);
+                    output.write(bytes);
+                }
+            }
+
+            @Override
+            public @NotNull List<@NotNull String> read(final @NotNull DataInputStream input) throws IOException {
+                val result = new String[input.readInt()];
+                for (var i = 0; i < result.length; i++) {
+                    val bytes = new byte[input.readInt()];
+                    input.readFully(bytes);
+                    result[i] = elementSerializer.fromByteArray(bytes);
+                }
+
+                return Arrays.asList(result);
+            }
+        };
+
+        val list = Arrays.asList("foo", "bar", "baz");
+        assertEquals(list, serializer.fromByteArray(serializer.toByteArray(list)));
+        assertEquals(list, serializer.fromByteArray(serializer.sizeLearning().toByteArray(list)));
+    }
+}
@@ -0,0 +1,186 @@
+package ru.progrm_jarvis.javacommons.data;
+
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import ru.progrm_jarvis.javacommons.collection.primitive.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSerializersTest {
+
+    static @NotNull Stream<@NotNull String> provideStrings() {
+        final char[] longChars;
+        Arrays.fill(longChars = new char[100_000], 'ж');
+
+        return Stream.of(
+                "", "Hello world", "Привет, мир", "😀 emoji", "latin-1: éÿ", new String(longChars)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStrings")
+    void testUtf8StringDataSerializer(final @NotNull String string) throws IOException {
+        val serializer = DataSerializers.utf8StringDataSerializer();
+
+        assertEquals(string, serializer.fromByteArray(serializer.toByteArray(string)));
+
+        val output = new ByteArrayOutputStream();
+        try (val dataOutput = new DataOutputStream(output)) {
+            serializer.write(dataOutput, string);
+            serializer.write(dataOutput, string);
+        }
+        assertArrayEquals(serializer.toByteArray(string), Arrays.copyOf(output.toByteArray(), output.size() / 2));
+
+        try (val dataInput = new DataInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            assertEquals(string, serializer.read(dataInput));
+            assertEquals(string, serializer.read(dataInput));
+        }
+    }
+
+    @Test
+    void testUtf8StringDataSerializerRejectsInvalidLength() throws IOException {
+        val serializer = DataSerializers.utf8StringDataSerializer();
+
+        val bytes = serializer.toByteArray("foo");
+        assertThrows(IOException.class, () -> serializer.fromByteArray(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(IOException.class, () -> serializer.fromByteArray(new byte[2]));
+    }
+
+    @Test
+    void testDictionaryStringDataSerializer() throws IOException {
+        val foo = new String(new char[]{'f', 'o', 'o'});
+        val serializer = DataSerializers.dictionaryStringDataSerializer(Arrays.asList(foo, "bar"));
+
+        assertSame(foo, serializer.fromByteArray(serializer.toByteArray("foo")));
+        assertEquals(Integer.BYTES, serializer.toByteArray("bar").length);
+        assertEquals("baz", serializer.fromByteArray(serializer.toByteArray("baz")));
+
+        assertThrows(IllegalArgumentException.class, () -> DataSerializers.dictionaryStringDataSerializer(
+                Arrays.asList("foo", "foo")
+        ));
+    }
+
+    @Test
+    void testInternedStringDataSerializer() throws IOException {
+        val serializer = DataSerializers.internedStringDataSerializer();
+
+        val bytes = serializer.toByteArray("Hello world");
+        val first = serializer.fromByteArray(bytes);
+        assertEquals("Hello world", first);
+        assertSame(first, serializer.fromByteArray(bytes));
+
+        val list = DataSerializers.listDataSerializer(serializer)
+                .fromByteArray(DataSerializers.listDataSerializer(serializer).toByteArray(
+                        Collections.nCopies(3, "Hello world")
+                ));
+        for (val element : list) assertSame(first, element);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 1000})
+    void testChunkedCollectionDataSerializer(final int size) throws IOException {
+        final DataSerializer<List<String>> serializer = DataSerializers.chunkedCollectionDataSerializer(
+                ArrayList::new, DataSerializers.utf8StringDataSerializer(), 8, ForkJoinPool.commonPool()
+        );
+
+        val list = IntStream.range(0, size).mapToObj(Integer::toString).collect(Collectors.toList());
+        assertEquals(list, serializer.fromByteArray(serializer.toByteArray(list)));
+    }
+
+    @Test
+    void testChunkedCollectionDataSerializerPropagatesErrors() throws IOException {
+        val serializer = DataSerializers.chunkedListDataSerializer(DataSerializers.stringDataSerializer());
+
+        final char[] tooLongChars;
+        Arrays.fill(tooLongChars = new char[1 << 16], 'x');
+        assertThrows(IOException.class, () -> serializer.toByteArray(Collections.nCopies(
+                10_000, new String(tooLongChars)
+        )));
+    }
+
+    @Test
+    void testEnumDataSerializersAreCached() throws IOException {
+        assertSame(
+                DataSerializers.namedEnumDataSerializer(TimeUnit.class),
+                DataSerializers.namedEnumDataSerializer(TimeUnit.class)
+        );
+        assertSame(
+                DataSerializers.ordinalEnumDataSerializer(TimeUnit.class),
+                DataSerializers.ordinalEnumDataSerializer(TimeUnit.class)
+        );
+
+        val serializer = DataSerializers.namedEnumDataSerializer(TimeUnit.class);
+        assertEquals(TimeUnit.SECONDS, serializer.fromByteArray(serializer.toByteArray(TimeUnit.SECONDS)));
+    }
+
+    @Test
+    void testPrimitiveCollectionDataSerializers() throws IOException {
+        val intList = IntList.of(3, 1, 4, 1, 5, 9, 2, 6);
+        val intListSerializer = DataSerializers.intListDataSerializer();
+        assertEquals(intList, intListSerializer.fromByteArray(intListSerializer.toByteArray(intList)));
+
+        val longList = LongList.of(Long.MIN_VALUE, 0, Long.MAX_VALUE);
+        val longListSerializer = DataSerializers.longListDataSerializer();
+        assertEquals(longList, longListSerializer.fromByteArray(longListSerializer.toByteArray(longList)));
+
+        val intSet = IntSet.of(0, -1, 1, 1 << 20);
+        val intSetSerializer = DataSerializers.intSetDataSerializer();
+        assertEquals(intSet, intSetSerializer.fromByteArray(intSetSerializer.toByteArray(intSet)));
+
+        val intIntMap = IntIntMap.create();
+        for (var i = -100; i < 100; i++) intIntMap.put(i, i * 31);
+        val intIntMapSerializer = DataSerializers.intIntMapDataSerializer();
+        assertEquals(intIntMap, intIntMapSerializer.fromByteArray(intIntMapSerializer.toByteArray(intIntMap)));
+
+        final IntObjectMap<String> intObjectMap = IntObjectMap.create();
+        intObjectMap.put(0, "zero");
+        intObjectMap.put(42, "answer");
+        val intObjectMapSerializer = DataSerializers.intObjectMapDataSerializer(
+                DataSerializers.utf8StringDataSerializer()
+        );
+        assertEquals(
+                intObjectMap, intObjectMapSerializer.fromByteArray(intObjectMapSerializer.toByteArray(intObjectMap))
+        );
+
+        final LongObjectMap<String> longObjectMap = LongObjectMap.create();
+        longObjectMap.put(Long.MAX_VALUE, "max");
+        val longObjectMapSerializer = DataSerializers.longObjectMapDataSerializer(
+                DataSerializers.utf8StringDataSerializer()
+        );
+        assertEquals(
+                longObjectMap, longObjectMapSerializer.fromByteArray(longObjectMapSerializer.toByteArray(longObjectMap))
+        );
+    }
+
+    @Test
+    void testPrimitiveCollectionDataSerializerPropagatesErrors() {
+        final IntObjectMap<String> map = IntObjectMap.create();
+        final char[] tooLongChars;
+        Arrays.fill(tooLongChars = new char[1 << 16], 'x');
+        map.put(1, new String(tooLongChars));
+
+        assertThrows(IOException.class, () -> DataSerializers.intObjectMapDataSerializer(
+                DataSerializers.stringDataSerializer()
+        ).toByteArray(map));
+    }
+}
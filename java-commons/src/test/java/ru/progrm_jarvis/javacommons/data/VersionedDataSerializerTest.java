@@ -0,0 +1,63 @@
+package ru.progrm_jarvis.javacommons.data;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedDataSerializerTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 127, 128, 300, 1 << 21, Integer.MAX_VALUE})
+    void testCurrentVersion(final int version) throws IOException {
+        val serializer = VersionedDataSerializer.builder(version, DataSerializers.intDataSerializer()).build();
+
+        val bytes = serializer.toByteArray(42);
+        assertEquals(42, serializer.fromByteArray(bytes));
+        if (version < 128) assertEquals(Integer.BYTES + 1, bytes.length);
+    }
+
+    @Test
+    void testLegacyVersions() throws IOException {
+        val legacyReaderCreations = new AtomicInteger();
+        val oldSerializer = VersionedDataSerializer.builder(1, DataSerializers.intDataSerializer()).build();
+        val olderSerializer = VersionedDataSerializer.builder(200, DataSerializers.stringDataSerializer()).build();
+        val serializer = VersionedDataSerializer.builder(2, DataSerializers.longDataSerializer())
+                .legacyReader(1, () -> {
+                    legacyReaderCreations.incrementAndGet();
+                    return input -> (long) input.readInt();
+                })
+                .legacyReader(200, () -> input -> Long.parseLong(input.readUTF()))
+                .build();
+
+        assertEquals(123L, serializer.fromByteArray(serializer.toByteArray(123L)));
+        assertEquals(0, legacyReaderCreations.get());
+
+        assertEquals(456L, serializer.fromByteArray(oldSerializer.toByteArray(456)));
+        assertEquals(789L, serializer.fromByteArray(oldSerializer.toByteArray(789)));
+        assertEquals(1, legacyReaderCreations.get());
+
+        assertEquals(1000L, serializer.fromByteArray(olderSerializer.toByteArray("1000")));
+
+        val unknownSerializer = VersionedDataSerializer.builder(3, DataSerializers.longDataSerializer()).build();
+        assertThrows(IOException.class, () -> serializer.fromByteArray(unknownSerializer.toByteArray(1L)));
+    }
+
+    @Test
+    void testInvalidVersions() {
+        assertThrows(IllegalArgumentException.class, () -> VersionedDataSerializer.builder(
+                -1, DataSerializers.intDataSerializer()
+        ));
+        assertThrows(IllegalArgumentException.class, () -> VersionedDataSerializer.builder(
+                1, DataSerializers.intDataSerializer()
+        ).legacyReader(1, () -> input -> 0));
+        assertThrows(IllegalArgumentException.class, () -> VersionedDataSerializer.builder(
+                2, DataSerializers.intDataSerializer()
+        ).legacyReader(1, () -> input -> 0).legacyReader(1, () -> input -> 1));
+    }
+}
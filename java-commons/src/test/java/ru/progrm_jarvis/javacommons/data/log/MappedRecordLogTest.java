@@ -0,0 +1,100 @@
+package ru.progrm_jarvis.javacommons.data.log;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.progrm_jarvis.javacommons.data.DataSerializers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedRecordLogTest {
+
+    @Test
+    void testAppendAndRead(final @TempDir Path directory) throws IOException {
+        try (val log = MappedRecordLog.open(directory, DataSerializers.stringDataSerializer(), 64, 2)) {
+            val offsets = new ArrayList<Long>();
+            for (var i = 0; i < 100; i++) offsets.add(log.append("Record #" + i));
+
+            assertEquals(0L, offsets.get(0));
+            for (var i = 0; i < 100; i++) assertEquals("Record #" + i, log.read(offsets.get(i)));
+
+            assertThrows(IllegalArgumentException.class, () -> log.read(-1));
+            assertThrows(IllegalArgumentException.class, () -> log.read(log.endOffset()));
+        }
+    }
+
+    @Test
+    void testCursor(final @TempDir Path directory) throws IOException {
+        try (val log = MappedRecordLog.open(directory, DataSerializers.intDataSerializer(), 32, 0)) {
+            val cursor = log.cursor();
+            assertFalse(cursor.hasNext());
+
+            for (var i = 0; i < 50; i++) log.append(i);
+
+            for (var i = 0; i < 50; i++) {
+                assertTrue(cursor.hasNext());
+                assertEquals(i, cursor.next());
+            }
+            assertFalse(cursor.hasNext());
+            assertThrows(NoSuchElementException.class, cursor::next);
+
+            log.append(50);
+            assertTrue(cursor.hasNext());
+            assertEquals(50, cursor.next());
+        }
+    }
+
+    @Test
+    void testReopen(final @TempDir Path directory) throws IOException {
+        final long endOffset;
+        try (val log = MappedRecordLog.open(directory, DataSerializers.longDataSerializer(), 48, 1)) {
+            for (var i = 0L; i < 20; i++) log.append(i);
+            endOffset = log.endOffset();
+        }
+
+        try (val log = MappedRecordLog.open(directory, DataSerializers.longDataSerializer(), 48, 1)) {
+            assertEquals(endOffset, log.endOffset());
+            log.append(20L);
+
+            val cursor = log.cursor();
+            for (var i = 0L; i <= 20; i++) assertEquals(i, cursor.next());
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    void testExplicitForceAfterRollover(final @TempDir Path directory) throws IOException {
+        final long endOffset;
+        try (val log = MappedRecordLog.open(directory, DataSerializers.longDataSerializer(), 48, 0)) {
+            // each segment holds 4 records so these span several segments
+            for (var i = 0L; i < 20; i++) log.append(i);
+            log.force();
+
+            log.append(20L);
+            log.force();
+            endOffset = log.endOffset();
+        }
+
+        try (val log = MappedRecordLog.open(directory, DataSerializers.longDataSerializer(), 48, 0)) {
+            assertEquals(endOffset, log.endOffset());
+
+            val cursor = log.cursor();
+            for (var i = 0L; i <= 20; i++) assertEquals(i, cursor.next());
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    void testTooBigRecord(final @TempDir Path directory) throws IOException {
+        try (val log = MappedRecordLog.open(directory, DataSerializers.stringDataSerializer(), 16, 0)) {
+            assertThrows(IOException.class, () -> log.append("This string is too long for a segment"));
+            assertEquals(0L, log.endOffset());
+        }
+    }
+}
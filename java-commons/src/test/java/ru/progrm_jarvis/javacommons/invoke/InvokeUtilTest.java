@@ -6,10 +6,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class InvokeUtilTest {
 
@@ -53,6 +56,27 @@ class InvokeUtilTest {
         );
     }
 
+    @Test
+    void testToBoundSupplierReusesFactory() throws NoSuchMethodException {
+        val first = new TestClass();
+        val second = new TestClass();
+        second.privateIntField = first.privateIntField + 1;
+
+        final Supplier<Integer> firstSupplier = InvokeUtil.toBoundSupplier(
+                TestClass.class.getDeclaredMethod("nonStaticIntMethod"), first
+        ), secondSupplier = InvokeUtil.toBoundSupplier(
+                TestClass.class.getDeclaredMethod("nonStaticIntMethod"), second
+        );
+
+        assertThat(firstSupplier.get(), equalTo(first.privateIntField));
+        assertThat(secondSupplier.get(), equalTo(second.privateIntField));
+        assertSame(firstSupplier.getClass(), secondSupplier.getClass());
+        assertSame(
+                InvokeUtil.toBoundRunnable(TestClass.class.getDeclaredMethod("nonStaticVoidMethod"), first).getClass(),
+                InvokeUtil.toBoundRunnable(TestClass.class.getDeclaredMethod("nonStaticVoidMethod"), second).getClass()
+        );
+    }
+
     @Test
     void testToSupplier() throws NoSuchMethodException {
         assertThat(
@@ -61,6 +85,22 @@ class InvokeUtilTest {
         );
     }
 
+    @Test
+    void testStaticFactoriesAreReused() throws NoSuchMethodException {
+        assertSame(
+                InvokeUtil.toStaticRunnable(TestClass.class.getDeclaredMethod("staticVoidMethod")).getClass(),
+                InvokeUtil.toStaticRunnable(TestClass.class.getDeclaredMethod("staticVoidMethod")).getClass()
+        );
+        assertSame(
+                InvokeUtil.toStaticSupplier(TestClass.class.getDeclaredMethod("staticStringMethod")).getClass(),
+                InvokeUtil.toStaticSupplier(TestClass.class.getDeclaredMethod("staticStringMethod")).getClass()
+        );
+        assertSame(
+                InvokeUtil.toSupplier(TestClass.class.getConstructor()).getClass(),
+                InvokeUtil.toSupplier(TestClass.class.getConstructor()).getClass()
+        );
+    }
+
     @Test
     void testToStaticGetterSupplier() throws NoSuchFieldException {
         assertThat(
@@ -79,6 +119,32 @@ class InvokeUtilTest {
         );
     }
 
+    @Test
+    void testBoundGetterSuppliersShareErasedGetter() throws NoSuchFieldException {
+        val first = new TestClass();
+        val second = new TestClass();
+        second.privateIntField = first.privateIntField + 1;
+
+        final Supplier<Integer> firstGetter = InvokeUtil.toBoundGetterSupplier(
+                TestClass.class.getDeclaredField("privateIntField"), first
+        ), secondGetter = InvokeUtil.toBoundGetterSupplier(
+                TestClass.class.getDeclaredField("privateIntField"), second
+        );
+
+        assertThat(firstGetter.get(), equalTo(first.privateIntField));
+        assertThat(secondGetter.get(), equalTo(second.privateIntField));
+        first.privateIntField = ThreadLocalRandom.current().nextInt();
+        assertThat(firstGetter.get(), equalTo(first.privateIntField));
+        assertThat(secondGetter.get(), equalTo(second.privateIntField));
+    }
+
+    @Test
+    void testToBoundGetterSupplierRejectsForeignTarget() {
+        assertThrows(IllegalArgumentException.class, () -> InvokeUtil.toBoundGetterSupplier(
+                TestClass.class.getDeclaredField("privateIntField"), new Object()
+        ));
+    }
+
     @Test
     void testToGetterFunction() throws NoSuchFieldException {
         val instance = new TestClass();
@@ -104,6 +170,29 @@ class InvokeUtilTest {
         assertThat(instance.privateIntField, equalTo(value));
     }
 
+    @Test
+    void testBoundSetterConsumersShareErasedSetter() throws NoSuchFieldException {
+        val first = new TestClass();
+        val second = new TestClass();
+        val firstValue = ThreadLocalRandom.current().nextInt();
+        val secondValue = firstValue + 1;
+
+        InvokeUtil.toBoundSetterConsumer(TestClass.class.getDeclaredField("privateIntField"), first)
+                .accept(firstValue);
+        InvokeUtil.toBoundSetterConsumer(TestClass.class.getDeclaredField("privateIntField"), second)
+                .accept(secondValue);
+
+        assertThat(first.privateIntField, equalTo(firstValue));
+        assertThat(second.privateIntField, equalTo(secondValue));
+    }
+
+    @Test
+    void testToBoundSetterConsumerRejectsForeignTarget() {
+        assertThrows(IllegalArgumentException.class, () -> InvokeUtil.toBoundSetterConsumer(
+                TestClass.class.getDeclaredField("privateIntField"), new Object()
+        ));
+    }
+
     @Test
     void testToSetterBiConsumer() throws NoSuchFieldException {
         val instance = new TestClass();
@@ -145,6 +234,10 @@ class InvokeUtilTest {
 
         private void nonStaticVoidMethod() {}
 
+        private int nonStaticIntMethod() {
+            return privateIntField;
+        }
+
         @SuppressWarnings({"SameReturnValue", "MethodMayBeStatic"})
         private String nonStaticStringMethod() {
             return "bro";
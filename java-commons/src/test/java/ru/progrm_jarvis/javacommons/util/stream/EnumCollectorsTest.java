@@ -172,6 +172,26 @@ class EnumCollectorsTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("enumNameSets")
+    void toImmutableEnumSet(final @NonNull Stream<@NotNull String> enumNames,
+                            final @NonNull Set<@NotNull MyEnum> result) {
+        assertEquals(
+                enumNames.map(MyEnum::valueOf).collect(EnumCollectors.toImmutableEnumSet(MyEnum.class)),
+                result
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("enumNameSets")
+    void toImmutableEnumSet_parallel(final @NonNull Stream<@NotNull String> enumNames,
+                                     final @NonNull Set<@NotNull MyEnum> result) {
+        assertEquals(
+                enumNames.parallel().map(MyEnum::valueOf).collect(EnumCollectors.toImmutableEnumSet()),
+                result
+        );
+    }
+
     private enum MyEnum {
         A,
         B,
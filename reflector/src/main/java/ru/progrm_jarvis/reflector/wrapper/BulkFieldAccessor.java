@@ -0,0 +1,95 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Accessor of a fixed list of non-static fields of the object accessing all of them at once.
+ * <p>
+ * Fields are always accessed in the order in which they were specified when creating the accessor.
+ * In <i>packed</i> form primitive fields are stored into the {@link ByteBuffer} one after another
+ * while references are stored into the separate array.
+ *
+ * @param <T> type of the object containing the fields
+ */
+public interface BulkFieldAccessor<@NotNull T> {
+
+    /**
+     * Gets the number of the accessed fields.
+     *
+     * @return number of the accessed fields
+     */
+    int getFieldCount();
+
+    /**
+     * Gets the number of bytes occupied by the primitive fields in packed form.
+     *
+     * @return number of bytes occupied by the primitive fields
+     */
+    int getPrimitiveBytes();
+
+    /**
+     * Gets the number of the accessed fields of reference types.
+     *
+     * @return number of the reference fields
+     */
+    int getReferenceCount();
+
+    /**
+     * Reads the values of all fields into the array.
+     *
+     * @param instance instance whose fields should be read
+     * @param values array into which the values of the fields should be stored starting from index {@code 0}
+     */
+    void read(@NotNull T instance, Object @NotNull [] values);
+
+    /**
+     * Reads the values of all fields into the new array.
+     *
+     * @param instance instance whose fields should be read
+     * @return array of the fields' values
+     */
+    default Object @NotNull [] read(final @NotNull T instance) {
+        val values = new Object[getFieldCount()];
+        read(instance, values);
+
+        return values;
+    }
+
+    /**
+     * Writes the values from the array into all fields.
+     *
+     * @param instance instance whose fields should be written
+     * @param values array of the new values of the fields starting from index {@code 0}
+     */
+    void write(@NotNull T instance, Object @NotNull [] values);
+
+    /**
+     * Reads the values of all fields in packed form.
+     *
+     * @param instance instance whose fields should be read
+     * @param primitives buffer to which the values of primitive fields should be put
+     * @param references array into which the values of reference fields should be stored
+     * starting from index {@code 0}
+     */
+    void readPacked(@NotNull T instance, @NotNull ByteBuffer primitives, Object @NotNull [] references);
+
+    /**
+     * Writes the values in packed form into all fields.
+     *
+     * @param instance instance whose fields should be written
+     * @param primitives buffer from which the values of primitive fields should be got
+     * @param references array of the new values of reference fields starting from index {@code 0}
+     */
+    void writePacked(@NotNull T instance, @NotNull ByteBuffer primitives, Object @NotNull [] references);
+
+    /**
+     * Copies the values of all fields from one instance to another.
+     *
+     * @param source instance whose fields should be read
+     * @param target instance whose fields should be written
+     */
+    void copy(@NotNull T source, @NotNull T target);
+}
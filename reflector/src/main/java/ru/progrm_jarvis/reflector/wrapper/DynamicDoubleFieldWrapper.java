@@ -0,0 +1,37 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link DynamicFieldWrapper} of {@code double} field providing access to it without boxing.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+public interface DynamicDoubleFieldWrapper<@NotNull T> extends DynamicFieldWrapper<T, Double> {
+
+    /**
+     * Gets the field's value.
+     *
+     * @param instance instance whose field it is
+     * @return value of the field
+     */
+    double getDouble(@NotNull T instance);
+
+    /**
+     * Sets the field's value.
+     *
+     * @param instance instance whose field it is
+     * @param value new value of the field
+     */
+    void setDouble(@NotNull T instance, double value);
+
+    @Override
+    default Double get(final @NotNull T instance) {
+        return getDouble(instance);
+    }
+
+    @Override
+    default void set(final @NotNull T instance, final Double value) {
+        setDouble(instance, value);
+    }
+}
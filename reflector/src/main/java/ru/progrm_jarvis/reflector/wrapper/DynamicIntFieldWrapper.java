@@ -0,0 +1,37 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link DynamicFieldWrapper} of {@code int} field providing access to it without boxing.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+public interface DynamicIntFieldWrapper<@NotNull T> extends DynamicFieldWrapper<T, Integer> {
+
+    /**
+     * Gets the field's value.
+     *
+     * @param instance instance whose field it is
+     * @return value of the field
+     */
+    int getInt(@NotNull T instance);
+
+    /**
+     * Sets the field's value.
+     *
+     * @param instance instance whose field it is
+     * @param value new value of the field
+     */
+    void setInt(@NotNull T instance, int value);
+
+    @Override
+    default Integer get(final @NotNull T instance) {
+        return getInt(instance);
+    }
+
+    @Override
+    default void set(final @NotNull T instance, final Integer value) {
+        setInt(instance, value);
+    }
+}
@@ -0,0 +1,37 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link DynamicFieldWrapper} of {@code long} field providing access to it without boxing.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+public interface DynamicLongFieldWrapper<@NotNull T> extends DynamicFieldWrapper<T, Long> {
+
+    /**
+     * Gets the field's value.
+     *
+     * @param instance instance whose field it is
+     * @return value of the field
+     */
+    long getLong(@NotNull T instance);
+
+    /**
+     * Sets the field's value.
+     *
+     * @param instance instance whose field it is
+     * @param value new value of the field
+     */
+    void setLong(@NotNull T instance, long value);
+
+    @Override
+    default Long get(final @NotNull T instance) {
+        return getLong(instance);
+    }
+
+    @Override
+    default void set(final @NotNull T instance, final Long value) {
+        setLong(instance, value);
+    }
+}
@@ -0,0 +1,86 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link StaticFieldWrapper} providing access to the field with memory ordering effects
+ * of the corresponding {@code java.lang.invoke.VarHandle} access modes.
+ *
+ * @param <T> type of the object containing the wrapped field
+ * @param <V> type of the field's value
+ *
+ * @apiNote the operations unsupported for the field (such as writes of final fields
+ * or numeric operations on non-numeric fields) throw {@link UnsupportedOperationException}
+ */
+public interface StaticAtomicFieldWrapper<@NotNull T, V> extends StaticFieldWrapper<T, V> {
+
+    /**
+     * Atomically gets the field's value and sets it to the new one.
+     *
+     * @param value new value of the field
+     * @return old value of the field
+     */
+    @Override
+    V getAndSet(V value);
+
+    /**
+     * Gets the field's value with volatile memory semantics.
+     *
+     * @return value of the field
+     */
+    V getVolatile();
+
+    /**
+     * Sets the field's value with volatile memory semantics.
+     *
+     * @param value new value of the field
+     */
+    void setVolatile(V value);
+
+    /**
+     * Gets the field's value with acquire memory semantics.
+     *
+     * @return value of the field
+     */
+    V getAcquire();
+
+    /**
+     * Sets the field's value with release memory semantics.
+     *
+     * @param value new value of the field
+     */
+    void setRelease(V value);
+
+    /**
+     * Gets the field's value in program order without any ordering guarantees for other threads.
+     *
+     * @return value of the field
+     */
+    V getOpaque();
+
+    /**
+     * Sets the field's value in program order without any ordering guarantees for other threads.
+     *
+     * @param value new value of the field
+     */
+    void setOpaque(V value);
+
+    /**
+     * Atomically sets the field's value to the new one if it is equal to the expected one.
+     *
+     * @param expectedValue expected value of the field
+     * @param newValue new value of the field
+     * @return {@code true} if the value was set and {@code false} otherwise
+     *
+     * @apiNote values of primitive fields are compared numerically while references are compared by identity
+     */
+    boolean compareAndSet(V expectedValue, V newValue);
+
+    /**
+     * Atomically adds the given value to the field's value.
+     *
+     * @param delta value to add to the field
+     * @return old value of the field
+     */
+    V getAndAdd(V delta);
+}
@@ -0,0 +1,35 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link StaticFieldWrapper} of {@code double} field providing access to it without boxing.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+public interface StaticDoubleFieldWrapper<@NotNull T> extends StaticFieldWrapper<T, Double> {
+
+    /**
+     * Gets the field's value.
+     *
+     * @return value of the field
+     */
+    double getDouble();
+
+    /**
+     * Sets the field's value.
+     *
+     * @param value new value of the field
+     */
+    void setDouble(double value);
+
+    @Override
+    default Double get() {
+        return getDouble();
+    }
+
+    @Override
+    default void set(final Double value) {
+        setDouble(value);
+    }
+}
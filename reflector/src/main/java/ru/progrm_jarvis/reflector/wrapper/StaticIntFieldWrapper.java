@@ -0,0 +1,35 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link StaticFieldWrapper} of {@code int} field providing access to it without boxing.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+public interface StaticIntFieldWrapper<@NotNull T> extends StaticFieldWrapper<T, Integer> {
+
+    /**
+     * Gets the field's value.
+     *
+     * @return value of the field
+     */
+    int getInt();
+
+    /**
+     * Sets the field's value.
+     *
+     * @param value new value of the field
+     */
+    void setInt(int value);
+
+    @Override
+    default Integer get() {
+        return getInt();
+    }
+
+    @Override
+    default void set(final Integer value) {
+        setInt(value);
+    }
+}
@@ -0,0 +1,35 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link StaticFieldWrapper} of {@code long} field providing access to it without boxing.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+public interface StaticLongFieldWrapper<@NotNull T> extends StaticFieldWrapper<T, Long> {
+
+    /**
+     * Gets the field's value.
+     *
+     * @return value of the field
+     */
+    long getLong();
+
+    /**
+     * Sets the field's value.
+     *
+     * @param value new value of the field
+     */
+    void setLong(long value);
+
+    @Override
+    default Long get() {
+        return getLong();
+    }
+
+    @Override
+    default void set(final Long value) {
+        setLong(value);
+    }
+}
@@ -0,0 +1,778 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.javacommons.bytecode.CommonBytecodeLibrary;
+import ru.progrm_jarvis.javacommons.bytecode.annotation.UsesBytecodeModification;
+import ru.progrm_jarvis.javacommons.bytecode.asm.AsmUtil;
+import ru.progrm_jarvis.javacommons.classloading.ClassUtil;
+import ru.progrm_jarvis.javacommons.classloading.GcClassDefiners;
+import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
+import ru.progrm_jarvis.reflector.wrapper.BulkFieldAccessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.objectweb.asm.Opcodes.*;
+import static org.objectweb.asm.Type.getMethodDescriptor;
+import static org.objectweb.asm.Type.getType;
+
+/**
+ * Generator of invokers calling the methods directly
+ * instead of spreading the parameters via {@link java.lang.invoke.MethodHandle#invokeWithArguments(Object...)}.
+ * <p>
+ * Each generated invoker unpacks the array of parameters, casting and unboxing (possibly widening) them if needed,
+ * invokes the method with the corresponding instruction and boxes its return-value.
+ * Accessors of primitive fields are generated in the same way using the field instructions without any boxing,
+ * bulk field accessors simply access all of their fields one after another.
+ *
+ * @apiNote this class should only be loaded if {@link CommonBytecodeLibrary#ASM ASM} is available
+ */
+@UtilityClass
+@UsesBytecodeModification(CommonBytecodeLibrary.ASM)
+class AsmInvokers {
+
+    /**
+     * Suffix appended to the name of the member's declaring class to form the name of the generated class
+     *
+     * @apiNote the names do not have to be unique as the invokers are defined via {@link GcClassDefiners}
+     */
+    private final @NotNull String INVOKER_CLASS_NAME_SUFFIX = "$$Generated$$Invoker";
+
+    /**
+     * Name of {@link Function#apply(Object)} and {@link BiFunction#apply(Object, Object)} methods
+     */
+    private final @NotNull String APPLY_METHOD_NAME = "apply";
+
+    /**
+     * Internal name of {@link Function}
+     */
+    private final @NotNull String FUNCTION_INTERNAL_NAME = Type.getInternalName(Function.class);
+
+    /**
+     * Internal name of {@link BiFunction}
+     */
+    private final @NotNull String BI_FUNCTION_INTERNAL_NAME = Type.getInternalName(BiFunction.class);
+
+    /**
+     * Descriptor of {@link Function#apply(Object)} method
+     */
+    private final @NotNull String FUNCTION_APPLY_METHOD_DESCRIPTOR
+            = getMethodDescriptor(AsmUtil.OBJECT_TYPE, AsmUtil.OBJECT_TYPE);
+
+    /**
+     * Descriptor of {@link BiFunction#apply(Object, Object)} method
+     */
+    private final @NotNull String BI_FUNCTION_APPLY_METHOD_DESCRIPTOR
+            = getMethodDescriptor(AsmUtil.OBJECT_TYPE, AsmUtil.OBJECT_TYPE, AsmUtil.OBJECT_TYPE);
+
+    /**
+     * Internal name of {@link BulkFieldAccessor}
+     */
+    private final @NotNull String BULK_FIELD_ACCESSOR_INTERNAL_NAME = Type.getInternalName(BulkFieldAccessor.class);
+
+    /**
+     * Internal name of {@link ByteBuffer}
+     */
+    private final @NotNull String BYTE_BUFFER_INTERNAL_NAME = Type.getInternalName(ByteBuffer.class);
+
+    /**
+     * Descriptor of {@link BulkFieldAccessor#read(Object, Object[])}
+     * and {@link BulkFieldAccessor#write(Object, Object[])} methods
+     */
+    private final @NotNull String BULK_ARRAY_METHOD_DESCRIPTOR
+            = getMethodDescriptor(Type.VOID_TYPE, AsmUtil.OBJECT_TYPE, getType(Object[].class));
+
+    /**
+     * Descriptor of {@link BulkFieldAccessor#readPacked(Object, ByteBuffer, Object[])}
+     * and {@link BulkFieldAccessor#writePacked(Object, ByteBuffer, Object[])} methods
+     */
+    private final @NotNull String BULK_PACKED_METHOD_DESCRIPTOR = getMethodDescriptor(
+            Type.VOID_TYPE, AsmUtil.OBJECT_TYPE, getType(ByteBuffer.class), getType(Object[].class)
+    );
+
+    /**
+     * Descriptor of {@link BulkFieldAccessor#copy(Object, Object)} method
+     */
+    private final @NotNull String BULK_COPY_METHOD_DESCRIPTOR
+            = getMethodDescriptor(Type.VOID_TYPE, AsmUtil.OBJECT_TYPE, AsmUtil.OBJECT_TYPE);
+
+    /**
+     * Creates an invoker of the given non-static method
+     * accepting the target object and the array of the parameters.
+     *
+     * @param method non-static method for which to create the invoker
+     * @return created invoker or {@code null} if the generated class could not access the method
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable BiFunction<Object, Object @NotNull [], Object> dynamicInvoker(final @NotNull Method method) {
+        return (BiFunction<Object, Object[], Object>) createInvoker(method, false);
+    }
+
+    /**
+     * Creates an invoker of the given static method accepting the array of the parameters.
+     *
+     * @param method static method for which to create the invoker
+     * @return created invoker or {@code null} if the generated class could not access the method
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable Function<Object @NotNull [], Object> staticInvoker(final @NotNull Method method) {
+        return (Function<Object[], Object>) createInvoker(method, true);
+    }
+
+    /**
+     * Creates an accessor of the given primitive field implementing the given functional interface.
+     * <p>
+     * The functional method should accept the target object unless the field is static
+     * followed by the new value of the field's type for setters, getters should return the field's type.
+     *
+     * @param field primitive field for which to create the accessor
+     * @param setter {@code true} if the accessor should set the field's value
+     * and {@code false} if it should get it
+     * @param functionalType functional interface implemented by the accessor
+     * @param <F> type of the accessor
+     * @return created accessor or {@code null} if the generated class could not access the field
+     */
+    <F> @Nullable F fieldAccessor(final @NotNull Field field,
+                                  final boolean setter,
+                                  final @NotNull Class<F> functionalType) {
+        val modifiers = field.getModifiers();
+        // final fields can only be written by the constructors of their classes
+        if (setter && Modifier.isFinal(modifiers)) return null;
+
+        return functionalType.cast(defineAndInstantiate(
+                field.getDeclaringClass(),
+                className -> generateFieldAccessorClass(className, field, setter, functionalType),
+                Modifier.isPublic(modifiers) && isPublic(field.getDeclaringClass())
+        ));
+    }
+
+    /**
+     * Creates a bulk accessor of the given non-static fields of the given type.
+     *
+     * @param type type whose instances are accessed
+     * @param fields non-static fields of the type in the order in which they should be accessed
+     * @return created accessor or {@code null} if the generated class could not access some of the fields
+     */
+    @Nullable BulkFieldAccessor<?> bulkFieldAccessor(final @NotNull Class<?> type,
+                                                     final @NotNull Field @NotNull [] fields) {
+        // the accessor is defined in the context of the type so the latter should see the implemented interface
+        if (!isVisible(BulkFieldAccessor.class, type.getClassLoader())) return null;
+
+        var publiclyAccessible = isPublic(type);
+        for (val field : fields) {
+            val modifiers = field.getModifiers();
+            // final fields can only be written by the constructors of their classes
+            if (Modifier.isFinal(modifiers)) return null;
+
+            val isPublic = Modifier.isPublic(modifiers) && isPublic(field.getDeclaringClass());
+            // non-public members of the super-classes are not accessible to the nestmates of the type
+            if (!isPublic && field.getDeclaringClass() != type) return null;
+
+            publiclyAccessible &= isPublic && isPublic(field.getType());
+        }
+
+        return (BulkFieldAccessor<?>) defineAndInstantiate(
+                type, className -> generateBulkFieldAccessorClass(className, type, fields), publiclyAccessible
+        );
+    }
+
+    /**
+     * Generates the invoker class for the given method and instantiates it.
+     *
+     * @param method method for which to create the invoker
+     * @param isStatic {@code true} if the method is static and {@code false} otherwise
+     * @return created invoker or {@code null} if the generated class could not access the method
+     */
+    private @Nullable Object createInvoker(final @NotNull Method method, final boolean isStatic) {
+        return defineAndInstantiate(
+                method.getDeclaringClass(),
+                className -> generateInvokerClass(className, method, isStatic),
+                isPubliclyAccessible(method)
+        );
+    }
+
+    /**
+     * Defines the class generated for the member of the given class and instantiates it.
+     *
+     * @param declaringClass class declaring the member used by the generated class
+     * @param generator function generating the bytecode of the class by its name
+     * @param publiclyAccessible flag indicating whether the member and the types it uses are public
+     * @return created instance or {@code null} if the generated class could not access the member
+     */
+    private @Nullable Object defineAndInstantiate(final @NotNull Class<?> declaringClass,
+                                                  final @NotNull Function<String, byte @NotNull []> generator,
+                                                  final boolean publiclyAccessible) {
+        // do not inject anything into the classes of the platform
+        if (declaringClass.getClassLoader() == null) return null;
+
+        val lookup = InvokeUtil.lookup(declaringClass);
+        final Class<?> generatedClass;
+        {
+            val className = declaringClass.getName() + INVOKER_CLASS_NAME_SUFFIX;
+            generatedClass = GcClassDefiners.getDefault().defineClass(lookup, className, generator.apply(className));
+        }
+        // classes defined in a separate class loader cannot use non-public members and types of the original one
+        if (generatedClass.getClassLoader() != declaringClass.getClassLoader() && !publiclyAccessible) return null;
+
+        try {
+            return lookup.findConstructor(generatedClass, methodType(void.class)).invoke();
+        } catch (final Throwable x) {
+            throw new RuntimeException("Cannot instantiate the generated class " + generatedClass, x);
+        }
+    }
+
+    /**
+     * Generates the bytecode of the accessor class for the given field.
+     *
+     * @param className name of the generated class
+     * @param field primitive field for which to generate the accessor
+     * @param setter {@code true} if the accessor should set the field's value
+     * and {@code false} if it should get it
+     * @param functionalType functional interface implemented by the accessor
+     * @return bytecode of the generated class
+     */
+    private byte @NotNull [] generateFieldAccessorClass(final @NotNull String className,
+                                                        final @NotNull Field field,
+                                                        final boolean setter,
+                                                        final @NotNull Class<?> functionalType) {
+        final Method functionalMethod = functionalMethod(functionalType);
+
+        val clazz = new ClassWriter(0);
+        clazz.visit(
+                V1_8, AsmUtil.OPCODES_ACC_PUBLIC_FINAL_SUPER, AsmUtil.classNameToInternalName(className),
+                null /* no generics */, AsmUtil.OBJECT_INTERNAL_NAME,
+                new String[]{Type.getInternalName(functionalType)}
+        );
+        AsmUtil.addEmptyConstructor(clazz);
+
+        final MethodVisitor accessor;
+        (accessor = clazz.visitMethod(
+                ACC_PUBLIC, functionalMethod.getName(), getMethodDescriptor(functionalMethod),
+                null /* no generics */, null /* no exceptions */
+        )).visitCode();
+
+        final String ownerInternalName = Type.getInternalName(field.getDeclaringClass());
+        final Class<?> fieldType = field.getType();
+        final String fieldName = field.getName(), fieldDescriptor = getType(fieldType).getDescriptor();
+        final boolean isStatic;
+        final int valueSlot;
+        if (isStatic = Modifier.isStatic(field.getModifiers())) valueSlot = 1;
+        else {
+            // push the target casted to the field's owner onto the stack
+            accessor.visitVarInsn(ALOAD, 1);
+            accessor.visitTypeInsn(CHECKCAST, ownerInternalName);
+            valueSlot = 2;
+        }
+
+        if (setter) {
+            accessor.visitVarInsn(AsmUtil.loadOpcode(fieldType), valueSlot);
+            accessor.visitFieldInsn(isStatic ? PUTSTATIC : PUTFIELD, ownerInternalName, fieldName, fieldDescriptor);
+            accessor.visitInsn(RETURN);
+        } else {
+            accessor.visitFieldInsn(isStatic ? GETSTATIC : GETFIELD, ownerInternalName, fieldName, fieldDescriptor);
+            accessor.visitInsn(AsmUtil.returnOpcode(fieldType));
+        }
+
+        // target + wide value, this + target + wide value
+        accessor.visitMaxs(3, 4);
+        accessor.visitEnd();
+
+        clazz.visitEnd();
+
+        return clazz.toByteArray();
+    }
+
+    /**
+     * Generates the bytecode of the bulk accessor class for the given fields.
+     *
+     * @param className name of the generated class
+     * @param type type whose instances are accessed
+     * @param fields non-static fields of the type in the order in which they should be accessed
+     * @return bytecode of the generated class
+     */
+    private byte @NotNull [] generateBulkFieldAccessorClass(final @NotNull String className,
+                                                            final @NotNull Class<?> type,
+                                                            final @NotNull Field @NotNull [] fields) {
+        val clazz = new ClassWriter(0);
+        clazz.visit(
+                V1_8, AsmUtil.OPCODES_ACC_PUBLIC_FINAL_SUPER, AsmUtil.classNameToInternalName(className),
+                null /* no generics */, AsmUtil.OBJECT_INTERNAL_NAME,
+                new String[]{BULK_FIELD_ACCESSOR_INTERNAL_NAME}
+        );
+        AsmUtil.addEmptyConstructor(clazz);
+
+        {
+            var primitiveBytes = 0;
+            var referenceCount = 0;
+            for (val field : fields) {
+                final Class<?> fieldType;
+                if ((fieldType = field.getType()).isPrimitive()) {
+                    primitiveBytes += InvokeBulkFieldAccessor.packedSize(fieldType);
+                } else referenceCount++;
+            }
+
+            addConstantGetter(clazz, "getFieldCount", fields.length);
+            addConstantGetter(clazz, "getPrimitiveBytes", primitiveBytes);
+            addConstantGetter(clazz, "getReferenceCount", referenceCount);
+        }
+
+        val ownerInternalName = Type.getInternalName(type);
+        MethodVisitor method;
+
+        // read(instance, values)
+        method = beginBulkMethod(clazz, "read", BULK_ARRAY_METHOD_DESCRIPTOR, ownerInternalName, false);
+        for (var i = 0; i < fields.length; i++) {
+            final Field field;
+            method.visitVarInsn(ALOAD, 2);
+            AsmUtil.pushInt(method, i);
+            method.visitVarInsn(ALOAD, 1);
+            visitFieldInsn(method, GETFIELD, field = fields[i]);
+            box(method, field.getType());
+            method.visitInsn(AASTORE);
+        }
+        endBulkMethod(method);
+
+        // write(instance, values)
+        method = beginBulkMethod(clazz, "write", BULK_ARRAY_METHOD_DESCRIPTOR, ownerInternalName, false);
+        for (var i = 0; i < fields.length; i++) {
+            final Field field;
+            method.visitVarInsn(ALOAD, 1);
+            method.visitVarInsn(ALOAD, 2);
+            AsmUtil.pushInt(method, i);
+            method.visitInsn(AALOAD);
+            unbox(method, (field = fields[i]).getType());
+            visitFieldInsn(method, PUTFIELD, field);
+        }
+        endBulkMethod(method);
+
+        // readPacked(instance, primitives, references)
+        method = beginBulkMethod(clazz, "readPacked", BULK_PACKED_METHOD_DESCRIPTOR, ownerInternalName, false);
+        {
+            var referenceIndex = 0;
+            for (val field : fields) {
+                val fieldType = field.getType();
+                if (fieldType.isPrimitive()) {
+                    method.visitVarInsn(ALOAD, 2);
+                    method.visitVarInsn(ALOAD, 1);
+                    visitFieldInsn(method, GETFIELD, field);
+                    visitByteBufferInsn(method, fieldType, true);
+                    method.visitInsn(POP);
+                } else {
+                    method.visitVarInsn(ALOAD, 3);
+                    AsmUtil.pushInt(method, referenceIndex++);
+                    method.visitVarInsn(ALOAD, 1);
+                    visitFieldInsn(method, GETFIELD, field);
+                    method.visitInsn(AASTORE);
+                }
+            }
+        }
+        endBulkMethod(method);
+
+        // writePacked(instance, primitives, references)
+        method = beginBulkMethod(clazz, "writePacked", BULK_PACKED_METHOD_DESCRIPTOR, ownerInternalName, false);
+        {
+            var referenceIndex = 0;
+            for (val field : fields) {
+                val fieldType = field.getType();
+                method.visitVarInsn(ALOAD, 1);
+                if (fieldType.isPrimitive()) {
+                    method.visitVarInsn(ALOAD, 2);
+                    visitByteBufferInsn(method, fieldType, false);
+                } else {
+                    method.visitVarInsn(ALOAD, 3);
+                    AsmUtil.pushInt(method, referenceIndex++);
+                    method.visitInsn(AALOAD);
+                    unbox(method, fieldType);
+                }
+                visitFieldInsn(method, PUTFIELD, field);
+            }
+        }
+        endBulkMethod(method);
+
+        // copy(source, target)
+        method = beginBulkMethod(clazz, "copy", BULK_COPY_METHOD_DESCRIPTOR, ownerInternalName, true);
+        for (val field : fields) {
+            method.visitVarInsn(ALOAD, 2);
+            method.visitVarInsn(ALOAD, 1);
+            visitFieldInsn(method, GETFIELD, field);
+            visitFieldInsn(method, PUTFIELD, field);
+        }
+        endBulkMethod(method);
+
+        clazz.visitEnd();
+
+        return clazz.toByteArray();
+    }
+
+    /**
+     * Adds a method returning the given constant to the class.
+     *
+     * @param clazz class visitor used for adding the method
+     * @param name name of the method
+     * @param value value returned by the method
+     */
+    private void addConstantGetter(final @NotNull ClassWriter clazz, final @NotNull String name, final int value) {
+        final MethodVisitor method;
+        (method = clazz.visitMethod(
+                ACC_PUBLIC, name, "()I", null /* no generics */, null /* no exceptions */
+        )).visitCode();
+        AsmUtil.pushInt(method, value);
+        method.visitInsn(IRETURN);
+        method.visitMaxs(1, 1);
+        method.visitEnd();
+    }
+
+    /**
+     * Adds a bulk accessor's method to the class and casts its object parameters to the accessed type.
+     *
+     * @param clazz class visitor used for adding the method
+     * @param name name of the method
+     * @param descriptor descriptor of the method
+     * @param ownerInternalName internal name of the accessed type
+     * @param twoInstances {@code true} if the first two parameters are the instances
+     * and {@code false} if only the first one is
+     * @return visitor of the added method
+     */
+    private @NotNull MethodVisitor beginBulkMethod(final @NotNull ClassWriter clazz,
+                                                   final @NotNull String name,
+                                                   final @NotNull String descriptor,
+                                                   final @NotNull String ownerInternalName,
+                                                   final boolean twoInstances) {
+        final MethodVisitor method;
+        (method = clazz.visitMethod(
+                ACC_PUBLIC, name, descriptor, null /* no generics */, null /* no exceptions */
+        )).visitCode();
+
+        for (var slot = twoInstances ? 2 : 1; slot > 0; slot--) {
+            method.visitVarInsn(ALOAD, slot);
+            method.visitTypeInsn(CHECKCAST, ownerInternalName);
+            method.visitVarInsn(ASTORE, slot);
+        }
+
+        return method;
+    }
+
+    /**
+     * Completes the bulk accessor's method.
+     *
+     * @param method visitor of the method
+     */
+    private void endBulkMethod(final @NotNull MethodVisitor method) {
+        method.visitInsn(RETURN);
+        // array + index + wide value, this + three parameters
+        method.visitMaxs(4, 4);
+        method.visitEnd();
+    }
+
+    /**
+     * Adds an instruction accessing the given non-static field to the method.
+     *
+     * @param method method visitor used for appending code to the method
+     * @param opcode {@link org.objectweb.asm.Opcodes#GETFIELD} or {@link org.objectweb.asm.Opcodes#PUTFIELD}
+     * @param field accessed field
+     */
+    private void visitFieldInsn(final @NotNull MethodVisitor method, final int opcode, final @NotNull Field field) {
+        method.visitFieldInsn(
+                opcode, Type.getInternalName(field.getDeclaringClass()),
+                field.getName(), getType(field.getType()).getDescriptor()
+        );
+    }
+
+    /**
+     * Adds an invocation of the relative {@link ByteBuffer} accessor of the given primitive type to the method.
+     *
+     * @param method method visitor used for appending code to the method
+     * @param type primitive type of the value
+     * @param put {@code true} if the value on top of the stack should be put into the buffer
+     * and {@code false} if the value should be got from the buffer
+     */
+    private void visitByteBufferInsn(final @NotNull MethodVisitor method,
+                                     final @NotNull Class<?> type,
+                                     final boolean put) {
+        // booleans are stored as bytes
+        final Type bufferedType = getType(type == boolean.class ? byte.class : type);
+        final String suffix = type == boolean.class || type == byte.class ? "" : bufferedType.getClassName();
+        method.visitMethodInsn(
+                INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME,
+                put ? "put" + capitalize(suffix) : "get" + capitalize(suffix),
+                put ? getMethodDescriptor(getType(ByteBuffer.class), bufferedType) : getMethodDescriptor(bufferedType),
+                false
+        );
+    }
+
+    /**
+     * Capitalizes the first letter of the given string.
+     *
+     * @param string string to capitalize
+     * @return capitalized string
+     */
+    private @NotNull String capitalize(final @NotNull String string) {
+        return string.isEmpty() ? string : Character.toUpperCase(string.charAt(0)) + string.substring(1);
+    }
+
+    /**
+     * Generates the bytecode of the invoker class for the given method.
+     *
+     * @param className name of the generated class
+     * @param method method for which to generate the invoker
+     * @param isStatic {@code true} if the method is static and {@code false} otherwise
+     * @return bytecode of the generated class
+     */
+    private byte @NotNull [] generateInvokerClass(final @NotNull String className,
+                                                  final @NotNull Method method,
+                                                  final boolean isStatic) {
+        // note: the frames are only merged for the identical types thus no classes get loaded to compute them
+        val clazz = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        clazz.visit(
+                V1_8, AsmUtil.OPCODES_ACC_PUBLIC_FINAL_SUPER, AsmUtil.classNameToInternalName(className),
+                null /* no generics */, AsmUtil.OBJECT_INTERNAL_NAME,
+                new String[]{isStatic ? FUNCTION_INTERNAL_NAME : BI_FUNCTION_INTERNAL_NAME}
+        );
+        AsmUtil.addEmptyConstructor(clazz);
+
+        final MethodVisitor apply;
+        (apply = clazz.visitMethod(
+                ACC_PUBLIC, APPLY_METHOD_NAME,
+                isStatic ? FUNCTION_APPLY_METHOD_DESCRIPTOR : BI_FUNCTION_APPLY_METHOD_DESCRIPTOR,
+                null /* no generics */, null /* no exceptions */
+        )).visitCode();
+
+        final Class<?> declaringClass;
+        final String ownerInternalName = Type.getInternalName(declaringClass = method.getDeclaringClass());
+        final int parametersSlot;
+        if (isStatic) parametersSlot = 1;
+        else {
+            // push the target casted to the method's owner onto the stack
+            apply.visitVarInsn(ALOAD, 1);
+            apply.visitTypeInsn(CHECKCAST, ownerInternalName);
+            parametersSlot = 2;
+        }
+        apply.visitVarInsn(ALOAD, parametersSlot);
+        apply.visitTypeInsn(CHECKCAST, AsmUtil.OBJECT_ARRAY_INTERNAL_NAME);
+        apply.visitVarInsn(ASTORE, parametersSlot);
+
+        var stackSize = isStatic ? 0 : 1;
+        {
+            val parameterTypes = method.getParameterTypes();
+            val parameterCount = parameterTypes.length;
+            for (var i = 0; i < parameterCount; i++) {
+                apply.visitVarInsn(ALOAD, parametersSlot);
+                AsmUtil.pushInt(apply, i);
+                apply.visitInsn(AALOAD);
+
+                final Class<?> parameterType;
+                stackSize += unboxWidening(apply, parameterType = parameterTypes[i])
+                        ? (parameterType == long.class || parameterType == double.class ? 2 : 1) : 1;
+            }
+        }
+
+        {
+            val isInterface = declaringClass.isInterface();
+            apply.visitMethodInsn(
+                    isStatic ? INVOKESTATIC : isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                    ownerInternalName, method.getName(), getMethodDescriptor(method), isInterface
+            );
+        }
+        box(apply, method.getReturnType());
+        apply.visitInsn(ARETURN);
+
+        // array and index get pushed on top of the already unpacked parameters, the maximums get recomputed anyway
+        apply.visitMaxs(Math.max(stackSize, 2) + 2, parametersSlot + 1);
+        apply.visitEnd();
+
+        clazz.visitEnd();
+
+        return clazz.toByteArray();
+    }
+
+    /**
+     * Adds code to the method which converts the object on top of the stack to the given type.
+     *
+     * @param method method visitor used for appending code to the method
+     * @param type type to which the value should be converted
+     * @return {@code true} if the value was unboxed into a primitive and {@code false} otherwise
+     */
+    private boolean unbox(final @NotNull MethodVisitor method, final @NotNull Class<?> type) {
+        if (type.isPrimitive()) {
+            final String wrapperInternalName;
+            method.visitTypeInsn(
+                    CHECKCAST, wrapperInternalName = Type.getInternalName(ClassUtil.toPrimitiveWrapper(type))
+            );
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, wrapperInternalName, type.getName() + "Value",
+                    getMethodDescriptor(getType(type)), false
+            );
+
+            return true;
+        }
+
+        if (type != Object.class) method.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+
+        return false;
+    }
+
+    /**
+     * Adds code to the method which converts the object on top of the stack to the given type
+     * also accepting the wrappers of the primitive types which may be widened to it.
+     *
+     * @param method method visitor used for appending code to the method
+     * @param type type to which the value should be converted
+     * @return {@code true} if the value was unboxed into a primitive and {@code false} otherwise
+     *
+     * @apiNote this follows the conversions of
+     * {@link java.lang.invoke.MethodHandle#asType(java.lang.invoke.MethodType)}
+     * so that e.g. an {@link Integer} may be passed as a {@code long} parameter
+     * @implNote the exact wrapper is checked first so that the most common case only pays for a single check
+     */
+    private boolean unboxWidening(final @NotNull MethodVisitor method, final @NotNull Class<?> type) {
+        final Class<?>[] narrowerTypes;
+        if (!type.isPrimitive() || (narrowerTypes = narrowerPrimitiveTypes(type)).length == 0) {
+            return unbox(method, type);
+        }
+
+        val converted = new Label();
+        for (var i = -1; i < narrowerTypes.length; i++) {
+            final Class<?> sourceType = i == -1 ? type : narrowerTypes[i];
+            val nextType = new Label();
+            method.visitInsn(DUP);
+            method.visitTypeInsn(INSTANCEOF, Type.getInternalName(ClassUtil.toPrimitiveWrapper(sourceType)));
+            method.visitJumpInsn(IFEQ, nextType);
+            unbox(method, sourceType);
+            widen(method, sourceType, type);
+            method.visitJumpInsn(GOTO, converted);
+            method.visitLabel(nextType);
+        }
+        // the object is neither of the suitable wrappers thus this fails as the strict conversion would
+        unbox(method, type);
+        method.visitLabel(converted);
+
+        return true;
+    }
+
+    /**
+     * Gets the primitive types which may be widened to the given one.
+     *
+     * @param type primitive type
+     * @return primitive types which may be widened to the given one
+     */
+    private @NotNull Class<?> @NotNull [] narrowerPrimitiveTypes(final @NotNull Class<?> type) {
+        if (type == short.class) return new Class<?>[]{byte.class};
+        if (type == int.class) return new Class<?>[]{char.class, short.class, byte.class};
+        if (type == long.class) return new Class<?>[]{int.class, char.class, short.class, byte.class};
+        if (type == float.class) return new Class<?>[]{long.class, int.class, char.class, short.class, byte.class};
+        if (type == double.class) return new Class<?>[]{
+                float.class, long.class, int.class, char.class, short.class, byte.class
+        };
+
+        return new Class<?>[0];
+    }
+
+    /**
+     * Adds code to the method which widens the primitive value on top of the stack.
+     *
+     * @param method method visitor used for appending code to the method
+     * @param sourceType primitive type of the value
+     * @param targetType primitive type to which the value should be widened
+     */
+    private void widen(final @NotNull MethodVisitor method,
+                       final @NotNull Class<?> sourceType, final @NotNull Class<?> targetType) {
+        if (targetType == long.class) {
+            if (sourceType != long.class) method.visitInsn(I2L);
+        } else if (targetType == float.class) {
+            if (sourceType != float.class) method.visitInsn(sourceType == long.class ? L2F : I2F);
+        } else if (targetType == double.class) {
+            if (sourceType != double.class) method.visitInsn(
+                    sourceType == float.class ? F2D : sourceType == long.class ? L2D : I2D
+            );
+        } // narrower integral types are already represented as ints
+    }
+
+    /**
+     * Adds code to the method which converts the value of the given type on top of the stack to an object.
+     *
+     * @param method method visitor used for appending code to the method
+     * @param type type of the value which should be converted, may be {@code void}
+     */
+    private void box(final @NotNull MethodVisitor method, final @NotNull Class<?> type) {
+        if (type == void.class) method.visitInsn(ACONST_NULL);
+        else if (type.isPrimitive()) {
+            final Class<?> wrapperType;
+            method.visitMethodInsn(
+                    INVOKESTATIC, Type.getInternalName(wrapperType = ClassUtil.toPrimitiveWrapper(type)), "valueOf",
+                    getMethodDescriptor(getType(wrapperType), getType(type)), false
+            );
+        }
+    }
+
+    /**
+     * Finds the single abstract method of the given functional interface.
+     *
+     * @param functionalType functional interface whose method should be found
+     * @return functional method of the given interface
+     *
+     * @throws IllegalArgumentException if the given type is not a functional interface
+     */
+    private @NotNull Method functionalMethod(final @NotNull Class<?> functionalType) {
+        for (val method : functionalType.getMethods()) if (Modifier.isAbstract(method.getModifiers())) return method;
+
+        throw new IllegalArgumentException(functionalType + " is not a functional interface");
+    }
+
+    /**
+     * Checks whether the method and all types used by the invoker are accessible from any class.
+     *
+     * @param method method to check
+     * @return {@code true} if the method can be invoked from an unrelated class and {@code false} otherwise
+     */
+    private boolean isPubliclyAccessible(final @NotNull Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || !isPublic(method.getDeclaringClass())) return false;
+
+        for (val parameterType : method.getParameterTypes()) if (!isPublic(parameterType)) return false;
+
+        return true;
+    }
+
+    /**
+     * Checks whether the given type is visible to the given class loader.
+     *
+     * @param type type to check
+     * @param classLoader class loader which should see the type
+     * @return {@code true} if the type is visible to the class loader and {@code false} otherwise
+     */
+    private boolean isVisible(final @NotNull Class<?> type, final @Nullable ClassLoader classLoader) {
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the given type and all of its enclosing types are public.
+     *
+     * @param type type to check
+     * @return {@code true} if the type is accessible from any class and {@code false} otherwise
+     */
+    private boolean isPublic(@NotNull Class<?> type) {
+        while (type.isArray()) type = type.getComponentType();
+        if (type.isPrimitive()) return true;
+
+        do if (!Modifier.isPublic(type.getModifiers())) return false;
+        while ((type = type.getEnclosingClass()) != null);
+
+        return true;
+    }
+}
@@ -0,0 +1,108 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.DynamicAtomicFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.StaticAtomicFieldWrapper;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link StaticAtomicFieldWrapper} of a non-static field bound to the target
+ * delegating to the {@link DynamicAtomicFieldWrapper dynamic atomic field wrapper} of the field.
+ *
+ * @param <T> type of the object containing the wrapped field
+ * @param <V> type of the field's value
+ *
+ * @see InvokeStaticFieldWrapper#atomic(Field, Object) cached factory of these wrappers
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+final class InvokeBoundAtomicFieldWrapper<T, V>
+        extends AbstractFieldWrapper<T, V> implements StaticAtomicFieldWrapper<T, V> {
+
+    /**
+     * Dynamic wrapper of the field shared by all targets
+     */
+    @NotNull DynamicAtomicFieldWrapper<T, V> dynamicWrapper;
+
+    /**
+     * Object whose field is wrapped
+     */
+    @NotNull T target;
+
+    /**
+     * Creates a new bound atomic field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param dynamicWrapper dynamic wrapper of the field
+     * @param target object whose field is wrapped
+     */
+    InvokeBoundAtomicFieldWrapper(final @NotNull Class<? extends T> containingClass,
+                                  final @NotNull Field wrapped,
+                                  final @NotNull DynamicAtomicFieldWrapper<T, V> dynamicWrapper,
+                                  final @NotNull T target) {
+        super(containingClass, wrapped);
+        this.dynamicWrapper = dynamicWrapper;
+        this.target = target;
+    }
+
+    @Override
+    public V get() {
+        return dynamicWrapper.get(target);
+    }
+
+    @Override
+    public void set(final V value) {
+        dynamicWrapper.set(target, value);
+    }
+
+    @Override
+    public V getAndSet(final V value) {
+        return dynamicWrapper.getAndSet(target, value);
+    }
+
+    @Override
+    public V getVolatile() {
+        return dynamicWrapper.getVolatile(target);
+    }
+
+    @Override
+    public void setVolatile(final V value) {
+        dynamicWrapper.setVolatile(target, value);
+    }
+
+    @Override
+    public V getAcquire() {
+        return dynamicWrapper.getAcquire(target);
+    }
+
+    @Override
+    public void setRelease(final V value) {
+        dynamicWrapper.setRelease(target, value);
+    }
+
+    @Override
+    public V getOpaque() {
+        return dynamicWrapper.getOpaque(target);
+    }
+
+    @Override
+    public void setOpaque(final V value) {
+        dynamicWrapper.setOpaque(target, value);
+    }
+
+    @Override
+    public boolean compareAndSet(final V expectedValue, final V newValue) {
+        return dynamicWrapper.compareAndSet(target, expectedValue, newValue);
+    }
+
+    @Override
+    public V getAndAdd(final V delta) {
+        return dynamicWrapper.getAndAdd(target, delta);
+    }
+}
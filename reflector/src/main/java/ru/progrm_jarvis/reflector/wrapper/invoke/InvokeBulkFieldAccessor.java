@@ -0,0 +1,241 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.javacommons.bytecode.CommonBytecodeLibrary;
+import ru.progrm_jarvis.javacommons.cache.Cache;
+import ru.progrm_jarvis.javacommons.cache.Caches;
+import ru.progrm_jarvis.javacommons.object.Pair;
+import ru.progrm_jarvis.reflector.wrapper.BulkFieldAccessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link BulkFieldAccessor} based on {@link java.lang.invoke Invoke API}.
+ *
+ * @param <T> type of the object containing the fields
+ *
+ * @implNote {@link #from(Class, Field...)} generates a class accessing all fields directly if possible
+ * and only falls back to this implementation using a {@link MethodHandle} per field otherwise
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class InvokeBulkFieldAccessor<T> implements BulkFieldAccessor<T> {
+
+    /**
+     * Weak cache of allocated bulk field accessors
+     */
+    private static final @NotNull Cache<
+            @NotNull Pair<@NotNull Class<?>, @NotNull List<@NotNull Field>>, @NotNull BulkFieldAccessor<?>
+            > CACHE = Caches.weakValuesCache();
+
+    /**
+     * Types of the accessed fields
+     */
+    @NotNull Class<?> @NotNull [] types;
+
+    /**
+     * Method handles getting the values of the accessed fields
+     */
+    @NotNull MethodHandle @NotNull [] getters;
+
+    /**
+     * Method handles setting the values of the accessed fields
+     */
+    @NotNull MethodHandle @NotNull [] setters;
+
+    /**
+     * Number of bytes occupied by the primitive fields in packed form
+     */
+    @Getter int primitiveBytes;
+
+    /**
+     * Number of the accessed fields of reference types
+     */
+    @Getter int referenceCount;
+
+    /**
+     * Creates a new bulk field accessor.
+     *
+     * @param fields non-static fields in the order in which they should be accessed
+     */
+    private InvokeBulkFieldAccessor(final @NotNull Field @NotNull [] fields) {
+        val fieldCount = fields.length;
+        types = new Class<?>[fieldCount];
+        getters = new MethodHandle[fieldCount];
+        setters = new MethodHandle[fieldCount];
+
+        var primitiveBytes = 0;
+        var referenceCount = 0;
+        for (var i = 0; i < fieldCount; i++) {
+            final Field field;
+            final Class<?> type;
+            types[i] = type = (field = fields[i]).getType();
+            getters[i] = PrimitiveFieldAccessors.getter(field, Object.class);
+            setters[i] = PrimitiveFieldAccessors.setter(field, Object.class);
+
+            if (type.isPrimitive()) primitiveBytes += packedSize(type);
+            else referenceCount++;
+        }
+        this.primitiveBytes = primitiveBytes;
+        this.referenceCount = referenceCount;
+    }
+
+    /**
+     * Creates a new cached bulk field accessor for the given non-static fields.
+     *
+     * @param type type whose instances are accessed
+     * @param fields non-static fields of the type or of its super-classes
+     * in the order in which they should be accessed
+     * @param <T> type of the object containing the fields
+     * @return cached bulk field accessor for the given fields
+     *
+     * @throws IllegalArgumentException if any of the fields is static or does not belong to the given type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull BulkFieldAccessor<T> from(final @NonNull Class<T> type,
+                                                        final @NonNull Field... fields) {
+        val checkedFields = fields.clone();
+        for (val field : checkedFields) {
+            if (Modifier.isStatic(field.getModifiers())) throw new IllegalArgumentException(
+                    "Field " + field + " should be non-static"
+            );
+            if (!field.getDeclaringClass().isAssignableFrom(type)) throw new IllegalArgumentException(
+                    "Field " + field + " does not belong to " + type
+            );
+        }
+
+        return (BulkFieldAccessor<T>) CACHE.get(Pair.of(type, Arrays.asList(checkedFields)), key -> {
+            if (CommonBytecodeLibrary.ASM.isAvailable()) {
+                final BulkFieldAccessor<?> generated;
+                if ((generated = AsmInvokers.bulkFieldAccessor(type, checkedFields)) != null) return generated;
+            }
+
+            return new InvokeBulkFieldAccessor<>(checkedFields);
+        });
+    }
+
+    @Override
+    public int getFieldCount() {
+        return types.length;
+    }
+
+    @Override
+    @SneakyThrows
+    public void read(final @NotNull T instance, final Object @NotNull [] values) {
+        val getters = this.getters;
+        for (var i = 0; i < getters.length; i++) values[i] = (Object) getters[i].invokeExact((Object) instance);
+    }
+
+    @Override
+    @SneakyThrows
+    public void write(final @NotNull T instance, final Object @NotNull [] values) {
+        val setters = this.setters;
+        for (var i = 0; i < setters.length; i++) setters[i].invokeExact((Object) instance, values[i]);
+    }
+
+    @Override
+    @SneakyThrows
+    public void readPacked(final @NotNull T instance,
+                           final @NotNull ByteBuffer primitives,
+                           final Object @NotNull [] references) {
+        val types = this.types;
+        val getters = this.getters;
+        var referenceIndex = 0;
+        for (var i = 0; i < types.length; i++) {
+            final Object value = getters[i].invokeExact((Object) instance);
+
+            final Class<?> type;
+            if ((type = types[i]).isPrimitive()) put(primitives, type, value);
+            else references[referenceIndex++] = value;
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public void writePacked(final @NotNull T instance,
+                            final @NotNull ByteBuffer primitives,
+                            final Object @NotNull [] references) {
+        val types = this.types;
+        val setters = this.setters;
+        var referenceIndex = 0;
+        for (var i = 0; i < types.length; i++) {
+            final Class<?> type;
+            setters[i].invokeExact(
+                    (Object) instance,
+                    (type = types[i]).isPrimitive() ? get(primitives, type) : references[referenceIndex++]
+            );
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public void copy(final @NotNull T source, final @NotNull T target) {
+        val getters = this.getters;
+        val setters = this.setters;
+        for (var i = 0; i < getters.length; i++) setters[i].invokeExact(
+                (Object) target, (Object) getters[i].invokeExact((Object) source)
+        );
+    }
+
+    /**
+     * Gets the number of bytes occupied by the value of the given primitive type in packed form.
+     *
+     * @param type primitive type
+     * @return number of bytes occupied by the value of the given type
+     */
+    static int packedSize(final @NotNull Class<?> type) {
+        if (type == long.class || type == double.class) return Long.BYTES;
+        if (type == int.class || type == float.class) return Integer.BYTES;
+        if (type == short.class || type == char.class) return Short.BYTES;
+
+        return Byte.BYTES; // boolean and byte
+    }
+
+    /**
+     * Puts the boxed value of the given primitive type into the buffer.
+     *
+     * @param buffer buffer to which the value should be put
+     * @param type primitive type of the value
+     * @param value boxed value
+     */
+    private static void put(final @NotNull ByteBuffer buffer, final @NotNull Class<?> type, final Object value) {
+        if (type == int.class) buffer.putInt((Integer) value);
+        else if (type == long.class) buffer.putLong((Long) value);
+        else if (type == double.class) buffer.putDouble((Double) value);
+        else if (type == float.class) buffer.putFloat((Float) value);
+        else if (type == short.class) buffer.putShort((Short) value);
+        else if (type == char.class) buffer.putChar((Character) value);
+        else if (type == byte.class) buffer.put((Byte) value);
+        else buffer.put((byte) ((Boolean) value ? 1 : 0)); // booleans are stored as bytes
+    }
+
+    /**
+     * Gets the boxed value of the given primitive type from the buffer.
+     *
+     * @param buffer buffer from which the value should be got
+     * @param type primitive type of the value
+     * @return boxed value
+     */
+    private static @NotNull Object get(final @NotNull ByteBuffer buffer, final @NotNull Class<?> type) {
+        if (type == int.class) return buffer.getInt();
+        if (type == long.class) return buffer.getLong();
+        if (type == double.class) return buffer.getDouble();
+        if (type == float.class) return buffer.getFloat();
+        if (type == short.class) return buffer.getShort();
+        if (type == char.class) return buffer.getChar();
+        if (type == byte.class) return buffer.get();
+
+        return buffer.get() != 0; // booleans are stored as bytes
+    }
+}
@@ -0,0 +1,124 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.DynamicAtomicFieldWrapper;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link DynamicAtomicFieldWrapper} based on {@code java.lang.invoke.VarHandle}.
+ *
+ * @param <T> type of the object containing the wrapped field
+ * @param <V> type of the field's value
+ *
+ * @see InvokeDynamicFieldWrapper#atomic(Field) cached factory of these wrappers
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+final class InvokeDynamicAtomicFieldWrapper<T, V>
+        extends AbstractFieldWrapper<T, V> implements DynamicAtomicFieldWrapper<T, V> {
+
+    /**
+     * Accessors of the field
+     */
+    @NotNull VarHandleAccessors accessors;
+
+    /**
+     * Creates a new dynamic atomic field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param accessors accessors of the field
+     */
+    InvokeDynamicAtomicFieldWrapper(final @NotNull Class<? extends T> containingClass,
+                                    final @NotNull Field wrapped,
+                                    final @NotNull VarHandleAccessors accessors) {
+        super(containingClass, wrapped);
+        this.accessors = accessors;
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V get(final @NotNull T instance) {
+        final Object value = accessors.get.invokeExact((Object) instance);
+        return (V) value;
+    }
+
+    @Override
+    @SneakyThrows
+    public void set(final @NotNull T instance, final V value) {
+        accessors.set.invokeExact((Object) instance, (Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getAndSet(final @NotNull T instance, final V value) {
+        final Object previousValue = accessors.getAndSet.invokeExact((Object) instance, (Object) value);
+        return (V) previousValue;
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getVolatile(final @NotNull T instance) {
+        final Object value = accessors.getVolatile.invokeExact((Object) instance);
+        return (V) value;
+    }
+
+    @Override
+    @SneakyThrows
+    public void setVolatile(final @NotNull T instance, final V value) {
+        accessors.setVolatile.invokeExact((Object) instance, (Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getAcquire(final @NotNull T instance) {
+        final Object value = accessors.getAcquire.invokeExact((Object) instance);
+        return (V) value;
+    }
+
+    @Override
+    @SneakyThrows
+    public void setRelease(final @NotNull T instance, final V value) {
+        accessors.setRelease.invokeExact((Object) instance, (Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getOpaque(final @NotNull T instance) {
+        final Object value = accessors.getOpaque.invokeExact((Object) instance);
+        return (V) value;
+    }
+
+    @Override
+    @SneakyThrows
+    public void setOpaque(final @NotNull T instance, final V value) {
+        accessors.setOpaque.invokeExact((Object) instance, (Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean compareAndSet(final @NotNull T instance, final V expectedValue, final V newValue) {
+        return (boolean) accessors.compareAndSet.invokeExact(
+                (Object) instance, (Object) expectedValue, (Object) newValue
+        );
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getAndAdd(final @NotNull T instance, final V delta) {
+        final Object previousValue = accessors.getAndAdd.invokeExact((Object) instance, (Object) delta);
+        return (V) previousValue;
+    }
+}
@@ -0,0 +1,81 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.DynamicDoubleFieldWrapper;
+
+import java.lang.reflect.Field;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link DynamicDoubleFieldWrapper} based on {@link java.lang.invoke Invoke API}.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+public final class InvokeDynamicDoubleFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Double> implements DynamicDoubleFieldWrapper<T> {
+
+    /**
+     * Function performing the field get operation
+     */
+    @NotNull ToDoubleFunction<Object> getter;
+
+    /**
+     * Consumer performing the field set operation
+     */
+    @NotNull ObjDoubleConsumer<Object> setter;
+
+    /**
+     * Creates a new dynamic {@code double} field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param getter function performing the field get operation
+     * @param setter consumer performing the field set operation
+     */
+    private InvokeDynamicDoubleFieldWrapper(final @NotNull Class<? extends T> containingClass,
+                                            final @NotNull Field wrapped,
+                                            final @NotNull ToDoubleFunction<Object> getter,
+                                            final @NotNull ObjDoubleConsumer<Object> setter) {
+        super(containingClass, wrapped);
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates a new cached dynamic field wrapper for the given non-static {@code double} field.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @return cached dynamic field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull DynamicDoubleFieldWrapper<T> from(
+            final @NonNull Field field
+    ) {
+        return PrimitiveFieldWrappers.dynamicWrapper(field, double.class,
+                checkedField -> new InvokeDynamicDoubleFieldWrapper<>(
+                        (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                        PrimitiveFieldAccessors.doubleGetter(checkedField),
+                        PrimitiveFieldAccessors.doubleSetter(checkedField)
+                )
+        );
+    }
+
+    @Override
+    public double getDouble(final @NotNull T instance) {
+        return getter.applyAsDouble(instance);
+    }
+
+    @Override
+    public void setDouble(final @NotNull T instance, final double value) {
+        setter.accept(instance, value);
+    }
+}
@@ -9,6 +9,7 @@ import ru.progrm_jarvis.javacommons.cache.Cache;
 import ru.progrm_jarvis.javacommons.cache.Caches;
 import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
 import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.DynamicAtomicFieldWrapper;
 import ru.progrm_jarvis.reflector.wrapper.DynamicFieldWrapper;
 
 import java.lang.reflect.Field;
@@ -33,6 +34,12 @@ public final class InvokeDynamicFieldWrapper<T, V>
     private static final @NotNull Cache<@NotNull Field, @NotNull DynamicFieldWrapper<?, ?>> CACHE
             = Caches.weakValuesCache();
 
+    /**
+     * Weak cache of allocated instance of dynamic atomic field wrappers
+     */
+    private static final @NotNull Cache<@NotNull Field, @NotNull DynamicAtomicFieldWrapper<?, ?>> ATOMIC_CACHE
+            = Caches.weakValuesCache();
+
     /**
      * Function performing the field get operation
      */
@@ -80,6 +87,30 @@ public final class InvokeDynamicFieldWrapper<T, V>
         ));
     }
 
+    /**
+     * Creates a new cached dynamic atomic field wrapper for the given non-static field.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return cached dynamic atomic field wrapper for the given field
+     *
+     * @throws UnsupportedOperationException if {@code java.lang.invoke.VarHandle}s are unavailable
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> @NotNull DynamicAtomicFieldWrapper<T, V> atomic(
+            final @NonNull Field field
+    ) {
+        if (Modifier.isStatic(field.getModifiers())) throw new IllegalArgumentException("Field should be non-static");
+
+        return (DynamicAtomicFieldWrapper<T, V>) ATOMIC_CACHE.get(
+                field, checkedField -> new InvokeDynamicAtomicFieldWrapper<>(
+                        (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                        VarHandleAccessors.of(checkedField)
+                )
+        );
+    }
+
     @Override
     public V get(final @NotNull T instance) {
         return getter.apply(instance);
@@ -0,0 +1,81 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.DynamicIntFieldWrapper;
+
+import java.lang.reflect.Field;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link DynamicIntFieldWrapper} based on {@link java.lang.invoke Invoke API}.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+public final class InvokeDynamicIntFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Integer> implements DynamicIntFieldWrapper<T> {
+
+    /**
+     * Function performing the field get operation
+     */
+    @NotNull ToIntFunction<Object> getter;
+
+    /**
+     * Consumer performing the field set operation
+     */
+    @NotNull ObjIntConsumer<Object> setter;
+
+    /**
+     * Creates a new dynamic {@code int} field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param getter function performing the field get operation
+     * @param setter consumer performing the field set operation
+     */
+    private InvokeDynamicIntFieldWrapper(final @NotNull Class<? extends T> containingClass,
+                                         final @NotNull Field wrapped,
+                                         final @NotNull ToIntFunction<Object> getter,
+                                         final @NotNull ObjIntConsumer<Object> setter) {
+        super(containingClass, wrapped);
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates a new cached dynamic field wrapper for the given non-static {@code int} field.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @return cached dynamic field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull DynamicIntFieldWrapper<T> from(
+            final @NonNull Field field
+    ) {
+        return PrimitiveFieldWrappers.dynamicWrapper(field, int.class,
+                checkedField -> new InvokeDynamicIntFieldWrapper<>(
+                        (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                        PrimitiveFieldAccessors.intGetter(checkedField),
+                        PrimitiveFieldAccessors.intSetter(checkedField)
+                )
+        );
+    }
+
+    @Override
+    public int getInt(final @NotNull T instance) {
+        return getter.applyAsInt(instance);
+    }
+
+    @Override
+    public void setInt(final @NotNull T instance, final int value) {
+        setter.accept(instance, value);
+    }
+}
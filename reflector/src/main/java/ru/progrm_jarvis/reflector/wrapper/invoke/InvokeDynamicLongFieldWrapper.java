@@ -0,0 +1,81 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.DynamicLongFieldWrapper;
+
+import java.lang.reflect.Field;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link DynamicLongFieldWrapper} based on {@link java.lang.invoke Invoke API}.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+public final class InvokeDynamicLongFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Long> implements DynamicLongFieldWrapper<T> {
+
+    /**
+     * Function performing the field get operation
+     */
+    @NotNull ToLongFunction<Object> getter;
+
+    /**
+     * Consumer performing the field set operation
+     */
+    @NotNull ObjLongConsumer<Object> setter;
+
+    /**
+     * Creates a new dynamic {@code long} field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param getter function performing the field get operation
+     * @param setter consumer performing the field set operation
+     */
+    private InvokeDynamicLongFieldWrapper(final @NotNull Class<? extends T> containingClass,
+                                          final @NotNull Field wrapped,
+                                          final @NotNull ToLongFunction<Object> getter,
+                                          final @NotNull ObjLongConsumer<Object> setter) {
+        super(containingClass, wrapped);
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates a new cached dynamic field wrapper for the given non-static {@code long} field.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @return cached dynamic field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull DynamicLongFieldWrapper<T> from(
+            final @NonNull Field field
+    ) {
+        return PrimitiveFieldWrappers.dynamicWrapper(field, long.class,
+                checkedField -> new InvokeDynamicLongFieldWrapper<>(
+                        (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                        PrimitiveFieldAccessors.longGetter(checkedField),
+                        PrimitiveFieldAccessors.longSetter(checkedField)
+                )
+        );
+    }
+
+    @Override
+    public long getLong(final @NotNull T instance) {
+        return getter.applyAsLong(instance);
+    }
+
+    @Override
+    public void setLong(final @NotNull T instance, final long value) {
+        setter.accept(instance, value);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 import lombok.val;
 import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.javacommons.bytecode.CommonBytecodeLibrary;
 import ru.progrm_jarvis.javacommons.cache.Cache;
 import ru.progrm_jarvis.javacommons.cache.Caches;
 import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
@@ -82,6 +83,12 @@ public final class InvokeDynamicMethodWrapper<T, R>
                         ? from(checkedMethod, implementFunctionalInterface(BiConsumer.class, checkedMethod))
                         : from(checkedMethod, implementFunctionalInterface(BiFunction.class, checkedMethod));
                 default: {
+                    if (CommonBytecodeLibrary.ASM.isAvailable()) {
+                        final BiFunction<Object, Object[], Object> generatedInvoker;
+                        if ((generatedInvoker = AsmInvokers.dynamicInvoker(checkedMethod)) != null)
+                            return fromGenerated(checkedMethod, generatedInvoker);
+                    }
+
                     final MethodHandle methodHandle;
                     {
                         val lookup = InvokeUtil.lookup(checkedMethod.getDeclaringClass());
@@ -163,6 +170,23 @@ public final class InvokeDynamicMethodWrapper<T, R>
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T, R> @NotNull DynamicMethodWrapper<T, R> fromGenerated(
+            final @NotNull Method method,
+            final @NotNull BiFunction<Object, Object @NotNull [], Object> generatedInvoker
+    ) {
+        val parameterCount = method.getParameterCount();
+
+        return new InvokeDynamicMethodWrapper<>(
+                (Class<? extends T>) method.getDeclaringClass(), method,
+                (target, parameters) -> {
+                    ReflectorWrappers.validateParameterCount(parameterCount, parameters);
+
+                    return (R) generatedInvoker.apply(target, parameters);
+                }
+        );
+    }
+
     @SuppressWarnings("unchecked")
     private static <T, R> @NotNull DynamicMethodWrapper<T, R> from(
             final @NotNull Method method,
@@ -0,0 +1,122 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.StaticAtomicFieldWrapper;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link StaticAtomicFieldWrapper} based on {@code java.lang.invoke.VarHandle}.
+ *
+ * @param <T> type of the object containing the wrapped field
+ * @param <V> type of the field's value
+ *
+ * @see InvokeStaticFieldWrapper#atomic(Field) cached factory of these wrappers
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+final class InvokeStaticAtomicFieldWrapper<T, V>
+        extends AbstractFieldWrapper<T, V> implements StaticAtomicFieldWrapper<T, V> {
+
+    /**
+     * Accessors of the field
+     */
+    @NotNull VarHandleAccessors accessors;
+
+    /**
+     * Creates a new static atomic field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param accessors accessors of the field
+     */
+    InvokeStaticAtomicFieldWrapper(final @NotNull Class<? extends T> containingClass,
+                                   final @NotNull Field wrapped,
+                                   final @NotNull VarHandleAccessors accessors) {
+        super(containingClass, wrapped);
+        this.accessors = accessors;
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V get() {
+        final Object value = accessors.get.invokeExact();
+        return (V) value;
+    }
+
+    @Override
+    @SneakyThrows
+    public void set(final V value) {
+        accessors.set.invokeExact((Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getAndSet(final V value) {
+        final Object previousValue = accessors.getAndSet.invokeExact((Object) value);
+        return (V) previousValue;
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getVolatile() {
+        final Object value = accessors.getVolatile.invokeExact();
+        return (V) value;
+    }
+
+    @Override
+    @SneakyThrows
+    public void setVolatile(final V value) {
+        accessors.setVolatile.invokeExact((Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getAcquire() {
+        final Object value = accessors.getAcquire.invokeExact();
+        return (V) value;
+    }
+
+    @Override
+    @SneakyThrows
+    public void setRelease(final V value) {
+        accessors.setRelease.invokeExact((Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getOpaque() {
+        final Object value = accessors.getOpaque.invokeExact();
+        return (V) value;
+    }
+
+    @Override
+    @SneakyThrows
+    public void setOpaque(final V value) {
+        accessors.setOpaque.invokeExact((Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean compareAndSet(final V expectedValue, final V newValue) {
+        return (boolean) accessors.compareAndSet.invokeExact((Object) expectedValue, (Object) newValue);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getAndAdd(final V delta) {
+        final Object previousValue = accessors.getAndAdd.invokeExact((Object) delta);
+        return (V) previousValue;
+    }
+}
@@ -0,0 +1,105 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.StaticDoubleFieldWrapper;
+
+import java.lang.reflect.Field;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+
+/**
+ * {@link StaticDoubleFieldWrapper} based on {@link java.lang.invoke Invoke API}.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+public final class InvokeStaticDoubleFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Double> implements StaticDoubleFieldWrapper<T> {
+
+    /**
+     * Supplier performing the field get operation
+     */
+    @NonNull DoubleSupplier getter;
+
+    /**
+     * Consumer performing the field set operation
+     */
+    @NonNull DoubleConsumer setter;
+
+    /**
+     * Creates a new static {@code double} field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param getter supplier performing the field get operation
+     * @param setter consumer performing the field set operation
+     */
+    private InvokeStaticDoubleFieldWrapper(final @NotNull Class<? extends T> containingClass,
+                                           final @NotNull Field wrapped,
+                                           final @NotNull DoubleSupplier getter, final @NotNull DoubleConsumer setter) {
+        super(containingClass, wrapped);
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates a new cached static field wrapper for the given static {@code double} field.
+     *
+     * @param field static field to wrap
+     * @param <T> type of the object containing the field
+     * @return cached field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <@NonNull T> @NotNull StaticDoubleFieldWrapper<T> from(
+            final @NonNull Field field
+    ) {
+        return PrimitiveFieldWrappers.staticWrapper(field, double.class,
+                checkedField -> new InvokeStaticDoubleFieldWrapper<>(
+                        (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                        PrimitiveFieldAccessors.staticDoubleGetter(checkedField),
+                        PrimitiveFieldAccessors.staticDoubleSetter(checkedField)
+                )
+        );
+    }
+
+    /**
+     * Creates a new cached static field wrapper for the given non-static {@code double} field bound to the object.
+     *
+     * @param field non-static field to wrap
+     * @param target target object to whom the wrapper should be bound
+     * @param <T> type of the object containing the field
+     * @return cached static field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <@NonNull T> @NotNull StaticDoubleFieldWrapper<T> from(
+            final @NonNull Field field, final @NonNull T target
+    ) {
+        return PrimitiveFieldWrappers.boundWrapper(field, target, double.class, (checkedField, checkedTarget) -> {
+            // the accessors are shared with the dynamic wrapper so that no new classes are defined per target
+            val dynamicWrapper = InvokeDynamicDoubleFieldWrapper.<T>from(checkedField);
+
+            return new InvokeStaticDoubleFieldWrapper<>(
+                    (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                    () -> dynamicWrapper.getDouble(checkedTarget),
+                    value -> dynamicWrapper.setDouble(checkedTarget, value)
+            );
+        });
+    }
+
+    @Override
+    public double getDouble() {
+        return getter.getAsDouble();
+    }
+
+    @Override
+    public void setDouble(final double value) {
+        setter.accept(value);
+    }
+}
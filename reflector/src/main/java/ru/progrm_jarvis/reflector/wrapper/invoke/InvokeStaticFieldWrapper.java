@@ -11,6 +11,7 @@ import ru.progrm_jarvis.javacommons.cache.Caches;
 import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
 import ru.progrm_jarvis.javacommons.object.Pair;
 import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.StaticAtomicFieldWrapper;
 import ru.progrm_jarvis.reflector.wrapper.StaticFieldWrapper;
 
 import java.lang.reflect.Field;
@@ -42,6 +43,20 @@ public final class InvokeStaticFieldWrapper<T, V>
             @NotNull Pair<@NotNull Field, @NotNull ?>, @NotNull StaticFieldWrapper<?, ?>
             > BOUND_WRAPPER_CACHE = Caches.weakValuesCache();
 
+    /**
+     * Weak cache of allocated instance of static atomic field wrappers of static fields
+     */
+    private static final @NotNull Cache<
+            @NotNull Field, @NotNull StaticAtomicFieldWrapper<?, ?>
+            > ATOMIC_STATIC_WRAPPER_CACHE = Caches.weakValuesCache();
+
+    /**
+     * Weak cache of allocated instance of static atomic field wrappers of non-static bound fields
+     */
+    private static final @NotNull Cache<
+            @NotNull Pair<@NotNull Field, @NotNull ?>, @NotNull StaticAtomicFieldWrapper<?, ?>
+            > ATOMIC_BOUND_WRAPPER_CACHE = Caches.weakValuesCache();
+
     /**
      * Supplier performing the field get operation
      */
@@ -120,6 +135,61 @@ public final class InvokeStaticFieldWrapper<T, V>
         });
     }
 
+    /**
+     * Creates a new cached static atomic field wrapper for the given static field.
+     *
+     * @param field static field to wrap
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return cached static atomic field wrapper for the given field
+     *
+     * @throws UnsupportedOperationException if {@code java.lang.invoke.VarHandle}s are unavailable
+     */
+    @SuppressWarnings("unchecked")
+    public static <@NonNull T, V> @NotNull StaticAtomicFieldWrapper<T, V> atomic(
+            final @NonNull Field field
+    ) {
+        if (!Modifier.isStatic(field.getModifiers())) throw new IllegalArgumentException(
+                "Field should be static"
+        );
+
+        return (StaticAtomicFieldWrapper<T, V>) ATOMIC_STATIC_WRAPPER_CACHE.get(field,
+                checkedField -> new InvokeStaticAtomicFieldWrapper<>(
+                        checkedField.getDeclaringClass(), checkedField, VarHandleAccessors.of(checkedField)
+                )
+        );
+    }
+
+    /**
+     * Creates a new cached static atomic field wrapper for the given non-static field bound to the object.
+     *
+     * @param field non-static field to wrap
+     * @param target target object to whom the wrapper should be bound
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return cached static atomic field wrapper for the given field
+     *
+     * @throws UnsupportedOperationException if {@code java.lang.invoke.VarHandle}s are unavailable
+     */
+    @SuppressWarnings("unchecked")
+    public static <@NonNull T, V> @NotNull StaticAtomicFieldWrapper<T, V> atomic(
+            final @NonNull Field field, final @NonNull T target
+    ) {
+        if (Modifier.isStatic(field.getModifiers())) throw new IllegalArgumentException(
+                "Field should be non-static"
+        );
+
+        return (StaticAtomicFieldWrapper<T, V>) ATOMIC_BOUND_WRAPPER_CACHE.get(Pair.of(field, target), pair -> {
+            val checkedField = pair.getFirst();
+            // the accessors are shared with the dynamic wrapper so that no method handles are bound per target
+            val dynamicWrapper = InvokeDynamicFieldWrapper.<T, V>atomic(checkedField);
+
+            return new InvokeBoundAtomicFieldWrapper<>(
+                    (Class<? extends T>) checkedField.getDeclaringClass(), checkedField, dynamicWrapper, target
+            );
+        });
+    }
+
     @Override
     public V get() {
         return getter.get();
@@ -0,0 +1,105 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.StaticIntFieldWrapper;
+
+import java.lang.reflect.Field;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * {@link StaticIntFieldWrapper} based on {@link java.lang.invoke Invoke API}.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+public final class InvokeStaticIntFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Integer> implements StaticIntFieldWrapper<T> {
+
+    /**
+     * Supplier performing the field get operation
+     */
+    @NonNull IntSupplier getter;
+
+    /**
+     * Consumer performing the field set operation
+     */
+    @NonNull IntConsumer setter;
+
+    /**
+     * Creates a new static {@code int} field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param getter supplier performing the field get operation
+     * @param setter consumer performing the field set operation
+     */
+    private InvokeStaticIntFieldWrapper(final @NotNull Class<? extends T> containingClass,
+                                        final @NotNull Field wrapped,
+                                        final @NotNull IntSupplier getter, final @NotNull IntConsumer setter) {
+        super(containingClass, wrapped);
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates a new cached static field wrapper for the given static {@code int} field.
+     *
+     * @param field static field to wrap
+     * @param <T> type of the object containing the field
+     * @return cached field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <@NonNull T> @NotNull StaticIntFieldWrapper<T> from(
+            final @NonNull Field field
+    ) {
+        return PrimitiveFieldWrappers.staticWrapper(field, int.class,
+                checkedField -> new InvokeStaticIntFieldWrapper<>(
+                        (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                        PrimitiveFieldAccessors.staticIntGetter(checkedField),
+                        PrimitiveFieldAccessors.staticIntSetter(checkedField)
+                )
+        );
+    }
+
+    /**
+     * Creates a new cached static field wrapper for the given non-static {@code int} field bound to the object.
+     *
+     * @param field non-static field to wrap
+     * @param target target object to whom the wrapper should be bound
+     * @param <T> type of the object containing the field
+     * @return cached static field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <@NonNull T> @NotNull StaticIntFieldWrapper<T> from(
+            final @NonNull Field field, final @NonNull T target
+    ) {
+        return PrimitiveFieldWrappers.boundWrapper(field, target, int.class, (checkedField, checkedTarget) -> {
+            // the accessors are shared with the dynamic wrapper so that no new classes are defined per target
+            val dynamicWrapper = InvokeDynamicIntFieldWrapper.<T>from(checkedField);
+
+            return new InvokeStaticIntFieldWrapper<>(
+                    (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                    () -> dynamicWrapper.getInt(checkedTarget),
+                    value -> dynamicWrapper.setInt(checkedTarget, value)
+            );
+        });
+    }
+
+    @Override
+    public int getInt() {
+        return getter.getAsInt();
+    }
+
+    @Override
+    public void setInt(final int value) {
+        setter.accept(value);
+    }
+}
@@ -0,0 +1,105 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.StaticLongFieldWrapper;
+
+import java.lang.reflect.Field;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link StaticLongFieldWrapper} based on {@link java.lang.invoke Invoke API}.
+ *
+ * @param <T> type of the object containing the wrapped field
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+public final class InvokeStaticLongFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Long> implements StaticLongFieldWrapper<T> {
+
+    /**
+     * Supplier performing the field get operation
+     */
+    @NonNull LongSupplier getter;
+
+    /**
+     * Consumer performing the field set operation
+     */
+    @NonNull LongConsumer setter;
+
+    /**
+     * Creates a new static {@code long} field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param getter supplier performing the field get operation
+     * @param setter consumer performing the field set operation
+     */
+    private InvokeStaticLongFieldWrapper(final @NotNull Class<? extends T> containingClass,
+                                         final @NotNull Field wrapped,
+                                         final @NotNull LongSupplier getter, final @NotNull LongConsumer setter) {
+        super(containingClass, wrapped);
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates a new cached static field wrapper for the given static {@code long} field.
+     *
+     * @param field static field to wrap
+     * @param <T> type of the object containing the field
+     * @return cached field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <@NonNull T> @NotNull StaticLongFieldWrapper<T> from(
+            final @NonNull Field field
+    ) {
+        return PrimitiveFieldWrappers.staticWrapper(field, long.class,
+                checkedField -> new InvokeStaticLongFieldWrapper<>(
+                        (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                        PrimitiveFieldAccessors.staticLongGetter(checkedField),
+                        PrimitiveFieldAccessors.staticLongSetter(checkedField)
+                )
+        );
+    }
+
+    /**
+     * Creates a new cached static field wrapper for the given non-static {@code long} field bound to the object.
+     *
+     * @param field non-static field to wrap
+     * @param target target object to whom the wrapper should be bound
+     * @param <T> type of the object containing the field
+     * @return cached static field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <@NonNull T> @NotNull StaticLongFieldWrapper<T> from(
+            final @NonNull Field field, final @NonNull T target
+    ) {
+        return PrimitiveFieldWrappers.boundWrapper(field, target, long.class, (checkedField, checkedTarget) -> {
+            // the accessors are shared with the dynamic wrapper so that no new classes are defined per target
+            val dynamicWrapper = InvokeDynamicLongFieldWrapper.<T>from(checkedField);
+
+            return new InvokeStaticLongFieldWrapper<>(
+                    (Class<? extends T>) checkedField.getDeclaringClass(), checkedField,
+                    () -> dynamicWrapper.getLong(checkedTarget),
+                    value -> dynamicWrapper.setLong(checkedTarget, value)
+            );
+        });
+    }
+
+    @Override
+    public long getLong() {
+        return getter.getAsLong();
+    }
+
+    @Override
+    public void setLong(final long value) {
+        setter.accept(value);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 import lombok.val;
 import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.javacommons.bytecode.CommonBytecodeLibrary;
 import ru.progrm_jarvis.javacommons.cache.Cache;
 import ru.progrm_jarvis.javacommons.cache.Caches;
 import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
@@ -93,6 +94,12 @@ public final class InvokeStaticMethodWrapper<T, R>
                         checkedMethod, (BiFunction<Object, Object, R>) implementFunctionalInterface(BiFunction.class, checkedMethod)
                 );
                 default: {
+                    if (CommonBytecodeLibrary.ASM.isAvailable()) {
+                        final Function<Object[], Object> generatedInvoker;
+                        if ((generatedInvoker = AsmInvokers.staticInvoker(checkedMethod)) != null)
+                            return fromGenerated(checkedMethod, generatedInvoker);
+                    }
+
                     final MethodHandle methodHandle;
                     {
                         val lookup = InvokeUtil.lookup(method.getDeclaringClass());
@@ -140,6 +147,14 @@ public final class InvokeStaticMethodWrapper<T, R>
                         ? from(checkedMethod, implementFunctionalInterface(BiConsumer.class, checkedMethod, target))
                         : from(checkedMethod, implementFunctionalInterface(BiFunction.class, checkedMethod, target));
                 default: {
+                    if (CommonBytecodeLibrary.ASM.isAvailable()) {
+                        final BiFunction<Object, Object[], Object> generatedInvoker;
+                        if ((generatedInvoker = AsmInvokers.dynamicInvoker(checkedMethod)) != null)
+                            return fromGenerated(
+                                    checkedMethod, parameters -> generatedInvoker.apply(target, parameters)
+                            );
+                    }
+
                     final MethodHandle methodHandle;
                     {
                         val lookup = InvokeUtil.lookup(method.getDeclaringClass());
@@ -253,6 +268,23 @@ public final class InvokeStaticMethodWrapper<T, R>
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T, R> @NotNull StaticMethodWrapper<T, R> fromGenerated(
+            final @NotNull Method method,
+            final @NotNull Function<Object @NotNull [], Object> generatedInvoker
+    ) {
+        val parameterCount = method.getParameterCount();
+
+        return new InvokeStaticMethodWrapper<>(
+                (Class<? extends T>) method.getDeclaringClass(), method,
+                parameters -> {
+                    ReflectorWrappers.validateParameterCount(parameterCount, parameters);
+
+                    return (R) generatedInvoker.apply(parameters);
+                }
+        );
+    }
+
     @SuppressWarnings("unchecked")
     private static <T, R> @NotNull StaticMethodWrapper<T, R> from(
             final @NotNull Method method,
@@ -0,0 +1,296 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.bytecode.CommonBytecodeLibrary;
+import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.*;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Factories of accessors of primitive fields which do not box the values.
+ *
+ * @implNote the accessors are generated by {@link AsmInvokers} if possible
+ * falling back to exactly typed {@link MethodHandle method handles} otherwise
+ */
+@UtilityClass
+class PrimitiveFieldAccessors {
+
+    /**
+     * Creates a function getting the value of the given non-static {@code int} field.
+     *
+     * @param field non-static {@code int} field
+     * @return function getting the value of the field
+     */
+    @NotNull ToIntFunction<Object> intGetter(final @NotNull Field field) {
+        return accessor(field, false, ToIntFunction.class, int.class, getter -> target -> {
+            try {
+                return (int) getter.invokeExact(target);
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a consumer setting the value of the given non-static {@code int} field.
+     *
+     * @param field non-static {@code int} field
+     * @return consumer setting the value of the field
+     */
+    @NotNull ObjIntConsumer<Object> intSetter(final @NotNull Field field) {
+        return accessor(field, true, ObjIntConsumer.class, int.class, setter -> (target, value) -> {
+            try {
+                setter.invokeExact(target, value);
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a supplier getting the value of the given static {@code int} field.
+     *
+     * @param field static {@code int} field
+     * @return supplier getting the value of the field
+     */
+    @NotNull IntSupplier staticIntGetter(final @NotNull Field field) {
+        return accessor(field, false, IntSupplier.class, int.class, getter -> () -> {
+            try {
+                return (int) getter.invokeExact();
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a consumer setting the value of the given static {@code int} field.
+     *
+     * @param field static {@code int} field
+     * @return consumer setting the value of the field
+     */
+    @NotNull IntConsumer staticIntSetter(final @NotNull Field field) {
+        return accessor(field, true, IntConsumer.class, int.class, setter -> value -> {
+            try {
+                setter.invokeExact(value);
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a function getting the value of the given non-static {@code long} field.
+     *
+     * @param field non-static {@code long} field
+     * @return function getting the value of the field
+     */
+    @NotNull ToLongFunction<Object> longGetter(final @NotNull Field field) {
+        return accessor(field, false, ToLongFunction.class, long.class, getter -> target -> {
+            try {
+                return (long) getter.invokeExact(target);
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a consumer setting the value of the given non-static {@code long} field.
+     *
+     * @param field non-static {@code long} field
+     * @return consumer setting the value of the field
+     */
+    @NotNull ObjLongConsumer<Object> longSetter(final @NotNull Field field) {
+        return accessor(field, true, ObjLongConsumer.class, long.class, setter -> (target, value) -> {
+            try {
+                setter.invokeExact(target, value);
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a supplier getting the value of the given static {@code long} field.
+     *
+     * @param field static {@code long} field
+     * @return supplier getting the value of the field
+     */
+    @NotNull LongSupplier staticLongGetter(final @NotNull Field field) {
+        return accessor(field, false, LongSupplier.class, long.class, getter -> () -> {
+            try {
+                return (long) getter.invokeExact();
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a consumer setting the value of the given static {@code long} field.
+     *
+     * @param field static {@code long} field
+     * @return consumer setting the value of the field
+     */
+    @NotNull LongConsumer staticLongSetter(final @NotNull Field field) {
+        return accessor(field, true, LongConsumer.class, long.class, setter -> value -> {
+            try {
+                setter.invokeExact(value);
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a function getting the value of the given non-static {@code double} field.
+     *
+     * @param field non-static {@code double} field
+     * @return function getting the value of the field
+     */
+    @NotNull ToDoubleFunction<Object> doubleGetter(final @NotNull Field field) {
+        return accessor(field, false, ToDoubleFunction.class, double.class, getter -> target -> {
+            try {
+                return (double) getter.invokeExact(target);
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a consumer setting the value of the given non-static {@code double} field.
+     *
+     * @param field non-static {@code double} field
+     * @return consumer setting the value of the field
+     */
+    @NotNull ObjDoubleConsumer<Object> doubleSetter(final @NotNull Field field) {
+        return accessor(field, true, ObjDoubleConsumer.class, double.class, setter -> (target, value) -> {
+            try {
+                setter.invokeExact(target, value);
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a supplier getting the value of the given static {@code double} field.
+     *
+     * @param field static {@code double} field
+     * @return supplier getting the value of the field
+     */
+    @NotNull DoubleSupplier staticDoubleGetter(final @NotNull Field field) {
+        return accessor(field, false, DoubleSupplier.class, double.class, getter -> () -> {
+            try {
+                return (double) getter.invokeExact();
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Creates a consumer setting the value of the given static {@code double} field.
+     *
+     * @param field static {@code double} field
+     * @return consumer setting the value of the field
+     */
+    @NotNull DoubleConsumer staticDoubleSetter(final @NotNull Field field) {
+        return accessor(field, true, DoubleConsumer.class, double.class, setter -> value -> {
+            try {
+                setter.invokeExact(value);
+            } catch (final Throwable x) {
+                throw new RuntimeException(x);
+            }
+        });
+    }
+
+    /**
+     * Gets the generated accessor of the given field falling back to the one based on its method handle.
+     *
+     * @param field field for which to create the accessor
+     * @param setter {@code true} if the accessor should set the field's value
+     * and {@code false} if it should get it
+     * @param functionalType functional interface implemented by the accessor
+     * @param type type of the field
+     * @param fallback factory of the accessor invoking the given exactly typed method handle
+     * used if the accessor could not be generated
+     * @param <F> type of the accessor
+     * @return created accessor
+     */
+    private <F> @NotNull F accessor(final @NotNull Field field,
+                                    final boolean setter,
+                                    final @NotNull Class<? super F> functionalType,
+                                    final @NotNull Class<?> type,
+                                    final @NotNull Function<MethodHandle, F> fallback) {
+        final F generated;
+        return (generated = generated(field, setter, functionalType)) == null
+                ? fallback.apply(setter ? setter(field, type) : getter(field, type)) : generated;
+    }
+
+    /**
+     * Generates the accessor of the given field if {@link CommonBytecodeLibrary#ASM ASM} is available.
+     *
+     * @param field field for which to generate the accessor
+     * @param setter {@code true} if the accessor should set the field's value
+     * and {@code false} if it should get it
+     * @param functionalType functional interface implemented by the accessor
+     * @param <F> type of the accessor
+     * @return generated accessor or {@code null} if it could not be generated
+     */
+    @SuppressWarnings("unchecked")
+    private <F> @Nullable F generated(final @NotNull Field field,
+                                      final boolean setter,
+                                      final @NotNull Class<? super F> functionalType) {
+        return CommonBytecodeLibrary.ASM.isAvailable()
+                ? (F) AsmInvokers.fieldAccessor(field, setter, functionalType) : null;
+    }
+
+    /**
+     * Creates a getter-{@link MethodHandle} of the given field with its target (if any) erased to {@link Object}.
+     *
+     * @param field field for which to create the method handle
+     * @param type type of the field
+     * @return created method handle
+     */
+    @NotNull MethodHandle getter(final @NotNull Field field, final @NotNull Class<?> type) {
+        return InvokeUtil.toGetterMethodHandle(field).asType(
+                Modifier.isStatic(field.getModifiers()) ? methodType(type) : methodType(type, Object.class)
+        );
+    }
+
+    /**
+     * Creates a setter-{@link MethodHandle} of the given field with its target (if any) erased to {@link Object}.
+     *
+     * @param field field for which to create the method handle
+     * @param type type of the field
+     * @return created method handle
+     */
+    @SuppressWarnings("deprecation") // `Field#isAccessible()` is the only option available in Java 8
+    @NotNull MethodHandle setter(final @NotNull Field field, final @NotNull Class<?> type) {
+        final MethodHandle setter;
+        val accessible = field.isAccessible();
+        field.setAccessible(true); // this allows the final fields to be set
+        try {
+            setter = InvokeUtil.lookup(field.getDeclaringClass()).unreflectSetter(field);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException("Unable to create a MethodHandle for setter of field " + field, e);
+        } finally {
+            field.setAccessible(accessible);
+        }
+
+        return setter.asType(Modifier.isStatic(field.getModifiers())
+                ? methodType(void.class, type) : methodType(void.class, Object.class, type)
+        );
+    }
+}
@@ -0,0 +1,117 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.javacommons.cache.Cache;
+import ru.progrm_jarvis.javacommons.cache.Caches;
+import ru.progrm_jarvis.javacommons.object.Pair;
+import ru.progrm_jarvis.reflector.wrapper.DynamicFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.StaticFieldWrapper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Cached factories of the wrappers of primitive fields shared by their type-specific implementations.
+ *
+ * @implNote as the type of the wrapper is defined by the type of its field
+ * the wrappers of all primitive types are stored in the same caches
+ */
+@UtilityClass
+class PrimitiveFieldWrappers {
+
+    /**
+     * Weak cache of allocated instances of dynamic primitive field wrappers
+     */
+    private final @NotNull Cache<@NotNull Field, @NotNull DynamicFieldWrapper<?, ?>> DYNAMIC_WRAPPER_CACHE
+            = Caches.weakValuesCache();
+
+    /**
+     * Weak cache of allocated instances of static primitive field wrappers of static fields
+     */
+    private final @NotNull Cache<@NotNull Field, @NotNull StaticFieldWrapper<?, ?>> STATIC_WRAPPER_CACHE
+            = Caches.weakValuesCache();
+
+    /**
+     * Weak cache of allocated instances of static primitive field wrappers of non-static bound fields
+     */
+    private final @NotNull Cache<
+            @NotNull Pair<@NotNull Field, @NotNull ?>, @NotNull StaticFieldWrapper<?, ?>
+            > BOUND_WRAPPER_CACHE = Caches.weakValuesCache();
+
+    /**
+     * Gets the cached dynamic wrapper of the given non-static field creating it if needed.
+     *
+     * @param field non-static field to wrap
+     * @param type required type of the field
+     * @param factory factory creating the wrapper of the checked field
+     * @param <W> type of the wrapper
+     * @return cached dynamic wrapper of the given field
+     * @throws IllegalArgumentException if the given field is static or is not of the given type
+     */
+    @SuppressWarnings("unchecked")
+    <W extends DynamicFieldWrapper<?, ?>> @NotNull W dynamicWrapper(final @NotNull Field field,
+                                                                   final @NotNull Class<?> type,
+                                                                   final @NotNull Function<Field, W> factory) {
+        if (Modifier.isStatic(field.getModifiers())) throw new IllegalArgumentException("Field should be non-static");
+        checkType(field, type);
+
+        return (W) DYNAMIC_WRAPPER_CACHE.get(field, factory);
+    }
+
+    /**
+     * Gets the cached static wrapper of the given static field creating it if needed.
+     *
+     * @param field static field to wrap
+     * @param type required type of the field
+     * @param factory factory creating the wrapper of the checked field
+     * @param <W> type of the wrapper
+     * @return cached static wrapper of the given field
+     * @throws IllegalArgumentException if the given field is non-static or is not of the given type
+     */
+    @SuppressWarnings("unchecked")
+    <W extends StaticFieldWrapper<?, ?>> @NotNull W staticWrapper(final @NotNull Field field,
+                                                                 final @NotNull Class<?> type,
+                                                                 final @NotNull Function<Field, W> factory) {
+        if (!Modifier.isStatic(field.getModifiers())) throw new IllegalArgumentException("Field should be static");
+        checkType(field, type);
+
+        return (W) STATIC_WRAPPER_CACHE.get(field, factory);
+    }
+
+    /**
+     * Gets the cached static wrapper of the given non-static field bound to the object creating it if needed.
+     *
+     * @param field non-static field to wrap
+     * @param target target object to whom the wrapper should be bound
+     * @param type required type of the field
+     * @param factory factory creating the wrapper of the checked field bound to the target
+     * @param <T> type of the object containing the field
+     * @param <W> type of the wrapper
+     * @return cached static wrapper of the given field bound to the given object
+     * @throws IllegalArgumentException if the given field is static or is not of the given type
+     */
+    @SuppressWarnings("unchecked")
+    <T, W extends StaticFieldWrapper<?, ?>> @NotNull W boundWrapper(final @NotNull Field field,
+                                                                   final @NotNull T target,
+                                                                   final @NotNull Class<?> type,
+                                                                   final @NotNull BiFunction<Field, T, W> factory) {
+        if (Modifier.isStatic(field.getModifiers())) throw new IllegalArgumentException("Field should be non-static");
+        checkType(field, type);
+
+        return (W) BOUND_WRAPPER_CACHE.get(Pair.of(field, target), pair -> factory.apply(pair.getFirst(), target));
+    }
+
+    /**
+     * Checks that the given field is of the given type.
+     *
+     * @param field field to check
+     * @param type required type of the field
+     * @throws IllegalArgumentException if the given field is not of the given type
+     */
+    private void checkType(final @NotNull Field field, final @NotNull Class<?> type) {
+        if (field.getType() != type) throw new IllegalArgumentException("Field should be of type " + type);
+    }
+}
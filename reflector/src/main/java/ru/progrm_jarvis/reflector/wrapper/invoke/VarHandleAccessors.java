@@ -0,0 +1,202 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.cache.Cache;
+import ru.progrm_jarvis.javacommons.cache.Caches;
+import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Method handles performing the accesses of the field in different {@code java.lang.invoke.VarHandle} access modes.
+ * <p>
+ * All handles have the field's owner (if any) and value types erased to {@link Object}
+ * so that they can be invoked via {@link MethodHandle#invokeExact(Object...)}.
+ *
+ * @implNote as this module targets Java 8 the {@code VarHandle} API is accessed reflectively
+ * and each access mode is converted into a separate method handle via {@code VarHandle#toMethodHandle(AccessMode)}
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PACKAGE, makeFinal = true)
+final class VarHandleAccessors {
+
+    /**
+     * Method handle of {@code Lookup#findVarHandle(Class, String, Class)}
+     * or {@code null} if {@code VarHandle}s are unavailable
+     */
+    private static final @Nullable MethodHandle FIND_VAR_HANDLE;
+
+    /**
+     * Method handle of {@code Lookup#findStaticVarHandle(Class, String, Class)}
+     * or {@code null} if {@code VarHandle}s are unavailable
+     */
+    private static final @Nullable MethodHandle FIND_STATIC_VAR_HANDLE;
+
+    /**
+     * Method handle of {@code VarHandle#toMethodHandle(AccessMode)}
+     * or {@code null} if {@code VarHandle}s are unavailable
+     */
+    private static final @Nullable MethodHandle TO_METHOD_HANDLE;
+
+    /**
+     * Class of {@code VarHandle.AccessMode} or {@code null} if {@code VarHandle}s are unavailable
+     */
+    private static final @Nullable Class<?> ACCESS_MODE_CLASS;
+
+    /**
+     * Unbound accessors by their fields
+     */
+    private static final @NotNull Cache<@NotNull Field, @NotNull VarHandleAccessors> CACHE = Caches.softValuesCache();
+
+    static {
+        MethodHandle findVarHandle, findStaticVarHandle, toMethodHandle;
+        Class<?> accessModeClass;
+        try {
+            val varHandleClass = Class.forName("java.lang.invoke.VarHandle");
+            accessModeClass = Class.forName("java.lang.invoke.VarHandle$AccessMode");
+
+            val lookup = MethodHandles.publicLookup();
+            val findVarHandleType = methodType(varHandleClass, Class.class, String.class, Class.class);
+            findVarHandle = lookup.findVirtual(Lookup.class, "findVarHandle", findVarHandleType);
+            findStaticVarHandle = lookup.findVirtual(Lookup.class, "findStaticVarHandle", findVarHandleType);
+            toMethodHandle = lookup.findVirtual(
+                    varHandleClass, "toMethodHandle", methodType(MethodHandle.class, accessModeClass)
+            );
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            // JRE is older than 9
+            findVarHandle = findStaticVarHandle = toMethodHandle = null;
+            accessModeClass = null;
+        }
+
+        FIND_VAR_HANDLE = findVarHandle;
+        FIND_STATIC_VAR_HANDLE = findStaticVarHandle;
+        TO_METHOD_HANDLE = toMethodHandle;
+        ACCESS_MODE_CLASS = accessModeClass;
+    }
+
+    /**
+     * Handles of {@code GET} and {@code SET} access modes
+     */
+    @NotNull MethodHandle get, set;
+
+    /**
+     * Handles of {@code GET_VOLATILE} and {@code SET_VOLATILE} access modes
+     */
+    @NotNull MethodHandle getVolatile, setVolatile;
+
+    /**
+     * Handles of {@code GET_ACQUIRE} and {@code SET_RELEASE} access modes
+     */
+    @NotNull MethodHandle getAcquire, setRelease;
+
+    /**
+     * Handles of {@code GET_OPAQUE} and {@code SET_OPAQUE} access modes
+     */
+    @NotNull MethodHandle getOpaque, setOpaque;
+
+    /**
+     * Handles of {@code COMPARE_AND_SET}, {@code GET_AND_SET} and {@code GET_AND_ADD} access modes
+     */
+    @NotNull MethodHandle compareAndSet, getAndSet, getAndAdd;
+
+    /**
+     * Gets the cached accessors of the given field.
+     *
+     * @param field field whose accessors should be got
+     * @return accessors of the given field
+     *
+     * @throws UnsupportedOperationException if {@code VarHandle}s are unavailable
+     */
+    static @NotNull VarHandleAccessors of(final @NotNull Field field) {
+        return CACHE.get(field, VarHandleAccessors::create);
+    }
+
+    /**
+     * Creates the accessors of the given field.
+     *
+     * @param field field whose accessors should be created
+     * @return accessors of the given field
+     *
+     * @throws UnsupportedOperationException if {@code VarHandle}s are unavailable
+     */
+    private static @NotNull VarHandleAccessors create(final @NotNull Field field) {
+        final boolean isStatic;
+        final MethodHandle findVarHandle = (isStatic = Modifier.isStatic(field.getModifiers()))
+                ? FIND_STATIC_VAR_HANDLE : FIND_VAR_HANDLE, toMethodHandle = TO_METHOD_HANDLE;
+        if (findVarHandle == null || toMethodHandle == null) throw new UnsupportedOperationException(
+                "VarHandles are only available since Java 9"
+        );
+
+        final Object varHandle;
+        {
+            final Class<?> declaringClass;
+            try {
+                varHandle = findVarHandle.invoke(
+                        InvokeUtil.lookup(declaringClass = field.getDeclaringClass()),
+                        declaringClass, field.getName(), field.getType()
+                );
+            } catch (final Throwable x) {
+                throw new RuntimeException("Unable to create a VarHandle for field " + field, x);
+            }
+        }
+
+        final MethodType getterType = isStatic ? methodType(Object.class) : methodType(Object.class, Object.class),
+                setterType = getterType.changeReturnType(void.class).appendParameterTypes(Object.class),
+                updaterType = getterType.appendParameterTypes(Object.class),
+                compareAndSetType = setterType.changeReturnType(boolean.class).appendParameterTypes(Object.class);
+
+        return new VarHandleAccessors(
+                accessMode(toMethodHandle, varHandle, "GET", getterType),
+                accessMode(toMethodHandle, varHandle, "SET", setterType),
+                accessMode(toMethodHandle, varHandle, "GET_VOLATILE", getterType),
+                accessMode(toMethodHandle, varHandle, "SET_VOLATILE", setterType),
+                accessMode(toMethodHandle, varHandle, "GET_ACQUIRE", getterType),
+                accessMode(toMethodHandle, varHandle, "SET_RELEASE", setterType),
+                accessMode(toMethodHandle, varHandle, "GET_OPAQUE", getterType),
+                accessMode(toMethodHandle, varHandle, "SET_OPAQUE", setterType),
+                accessMode(toMethodHandle, varHandle, "COMPARE_AND_SET", compareAndSetType),
+                accessMode(toMethodHandle, varHandle, "GET_AND_SET", updaterType),
+                accessMode(toMethodHandle, varHandle, "GET_AND_ADD", updaterType)
+        );
+    }
+
+    /**
+     * Converts the access mode of the {@code VarHandle} to a method handle.
+     *
+     * @param toMethodHandle method handle of {@code VarHandle#toMethodHandle(AccessMode)}
+     * @param varHandle {@code VarHandle} whose access mode should be converted
+     * @param accessModeName name of the access mode
+     * @param type type to which the resulting method handle should be adapted
+     * @return method handle performing the access of the given mode
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @NotNull MethodHandle accessMode(final @NotNull MethodHandle toMethodHandle,
+                                                    final @NotNull Object varHandle,
+                                                    final @NotNull String accessModeName,
+                                                    final @NotNull MethodType type) {
+        assert ACCESS_MODE_CLASS != null;
+
+        final MethodHandle methodHandle;
+        try {
+            methodHandle = (MethodHandle) toMethodHandle.invoke(
+                    varHandle, Enum.valueOf((Class<? extends Enum>) ACCESS_MODE_CLASS, accessModeName)
+            );
+        } catch (final Throwable x) {
+            throw new RuntimeException("Unable to get " + accessModeName + " access mode of " + varHandle, x);
+        }
+
+        return methodHandle.asType(type);
+    }
+}
@@ -1,6 +1,9 @@
 module ru.progrm_jarvis.reflector {
     requires transitive ru.progrm_jarvis.javacommons;
 
+    // optional dependencies
+    requires org.objectweb.asm;
+
     requires static lombok;
     requires static org.jetbrains.annotations;
 
@@ -0,0 +1,138 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.reflector.wrapper.BulkFieldAccessor;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvokeBulkFieldAccessorTest {
+
+    private static Field[] fields(final Class<?> type, final String... names) throws NoSuchFieldException {
+        val fields = new Field[names.length];
+        for (var i = 0; i < names.length; i++) fields[i] = type.getDeclaredField(names[i]);
+
+        return fields;
+    }
+
+    private static void assertArbuzEquals(final Arbuz expected, final Arbuz actual) {
+        assertEquals(expected.ripe, actual.ripe);
+        assertEquals(expected.seeds, actual.seeds);
+        assertEquals(expected.grade, actual.grade);
+        assertEquals(expected.stripes, actual.stripes);
+        assertEquals(expected.weight, actual.weight);
+        assertEquals(expected.price, actual.price);
+        assertEquals(expected.volume, actual.volume);
+        assertEquals(expected.mass, actual.mass);
+        assertSame(expected.name, actual.name);
+    }
+
+    @Test
+    void testGeneratedAccessor() throws NoSuchFieldException {
+        val fields = fields(
+                Arbuz.class, "ripe", "seeds", "grade", "stripes", "weight", "price", "volume", "mass", "name"
+        );
+        val accessor = InvokeBulkFieldAccessor.from(Arbuz.class, fields);
+
+        assertFalse(accessor instanceof InvokeBulkFieldAccessor);
+        assertSame(accessor, InvokeBulkFieldAccessor.from(Arbuz.class, fields));
+        testAccessor(accessor, 1 + 1 + 2 + 2 + 4 + 8 + 4 + 8);
+    }
+
+    @Test
+    void testFallbackAccessor() throws NoSuchFieldException {
+        val fields = fields(
+                Arbuz.class, "ripe", "seeds", "grade", "stripes", "weight", "price", "volume", "mass", "name", "id"
+        );
+        val accessor = InvokeBulkFieldAccessor.from(Arbuz.class, fields);
+
+        // final fields cannot be written by the generated accessor
+        assertTrue(accessor instanceof InvokeBulkFieldAccessor);
+        testAccessor(accessor, 1 + 1 + 2 + 2 + 4 + 8 + 4 + 8 + 4);
+    }
+
+    private static void testAccessor(final BulkFieldAccessor<Arbuz> accessor, final int primitiveBytes) {
+        val arbuz = new Arbuz(true, (byte) 1, 'A', (short) 17, 8, 1999L, 3.5F, 7.25, "Astrakhan");
+
+        assertEquals(primitiveBytes, accessor.getPrimitiveBytes());
+
+        val values = accessor.read(arbuz);
+        assertEquals(accessor.getFieldCount(), values.length);
+        assertEquals(true, values[0]);
+        assertEquals((byte) 1, values[1]);
+        assertEquals('A', values[2]);
+        assertEquals(7.25, values[7]);
+        assertSame(arbuz.name, values[8]);
+
+        val copy = new Arbuz();
+        accessor.write(copy, values);
+        assertArbuzEquals(arbuz, copy);
+
+        val packedCopy = new Arbuz();
+        val primitives = ByteBuffer.allocate(accessor.getPrimitiveBytes());
+        val references = new Object[accessor.getReferenceCount()];
+        accessor.readPacked(arbuz, primitives, references);
+        assertFalse(primitives.hasRemaining());
+        assertSame(arbuz.name, references[0]);
+        primitives.flip();
+        accessor.writePacked(packedCopy, primitives, references);
+        assertArbuzEquals(arbuz, packedCopy);
+
+        val directCopy = new Arbuz();
+        accessor.copy(arbuz, directCopy);
+        assertArbuzEquals(arbuz, directCopy);
+    }
+
+    @Test
+    void testSuperClassFields() throws NoSuchFieldException {
+        val accessor = InvokeBulkFieldAccessor.from(
+                Karpuz.class, Arbuz.class.getDeclaredField("name"), Karpuz.class.getDeclaredField("origin")
+        );
+
+        val karpuz = new Karpuz();
+        ((Arbuz) karpuz).name = "Karpuz";
+        karpuz.origin = "Turkey";
+        assertArrayEquals(new Object[]{"Karpuz", "Turkey"}, accessor.read(karpuz));
+
+        accessor.write(karpuz, new Object[]{"Arbuz", "Russia"});
+        assertEquals("Arbuz", ((Arbuz) karpuz).name);
+        assertEquals("Russia", karpuz.origin);
+    }
+
+    @Test
+    void testInvalidFields() {
+        assertThrows(IllegalArgumentException.class, () -> InvokeBulkFieldAccessor.from(
+                Arbuz.class, Arbuz.class.getDeclaredField("count")
+        ));
+        assertThrows(IllegalArgumentException.class, () -> InvokeBulkFieldAccessor.from(
+                Arbuz.class, Karpuz.class.getDeclaredField("origin")
+        ));
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Arbuz {
+        private static int count;
+
+        private boolean ripe;
+        private byte seeds;
+        private char grade;
+        private short stripes;
+        private int weight;
+        private long price;
+        private float volume;
+        private double mass;
+        private String name;
+        @SuppressWarnings("FieldMayBeStatic") private final int id = 127;
+    }
+
+    private static final class Karpuz extends Arbuz {
+        private String origin;
+    }
+}
@@ -10,8 +10,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.equalTo;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class InvokeDynamicFieldWrapperTest {
 
@@ -83,6 +82,59 @@ class InvokeDynamicFieldWrapperTest {
         assertEquals(newName, field.get(instance));
     }
 
+    @Test
+    void testAtomicPrimitiveFieldAccess() throws NoSuchFieldException {
+        val random = ThreadLocalRandom.current();
+
+        val icq = random.nextInt(0, Integer.MAX_VALUE / 2);
+        val instance = new Areg(icq, "Oreshek");
+        val field = InvokeDynamicFieldWrapper.<Areg, Integer>atomic(Areg.class.getDeclaredField("icq"));
+
+        assertEquals(icq, field.getVolatile(instance));
+        assertEquals(icq, field.getAcquire(instance));
+        assertEquals(icq, field.getOpaque(instance));
+
+        field.setRelease(instance, icq + 1);
+        assertEquals(icq + 1, instance.icq);
+        field.setOpaque(instance, icq + 2);
+        assertEquals(icq + 2, field.get(instance));
+        field.setVolatile(instance, icq);
+        assertEquals(icq, instance.icq);
+
+        assertFalse(field.compareAndSet(instance, icq + 1, icq + 2));
+        assertTrue(field.compareAndSet(instance, icq, icq + 3));
+        assertEquals(icq + 3, instance.icq);
+        assertEquals(icq + 3, field.getAndAdd(instance, 2));
+        assertEquals(icq + 5, field.getAndSet(instance, icq));
+        assertEquals(icq, instance.icq);
+
+        assertSame(field, InvokeDynamicFieldWrapper.atomic(Areg.class.getDeclaredField("icq")));
+    }
+
+    @Test
+    void testAtomicObjectFieldAccess() throws NoSuchFieldException {
+        val nut = "Oreshka";
+        val instance = new Areg(1424, nut);
+        val field = InvokeDynamicFieldWrapper.<Areg, String>atomic(Areg.class.getDeclaredField("nut"));
+
+        assertSame(nut, field.getVolatile(instance));
+        assertFalse(field.compareAndSet(instance, "Oreshek", "Oreshishe"));
+        assertTrue(field.compareAndSet(instance, nut, "Oreshishe"));
+        assertEquals("Oreshishe", instance.nut);
+
+        assertThrows(UnsupportedOperationException.class, () -> field.getAndAdd(instance, "!"));
+    }
+
+    @Test
+    void testAtomicFinalFieldAccess() throws NoSuchFieldException {
+        val instance = new Areg(53876, "Oreshishe");
+        val field = InvokeDynamicFieldWrapper.<Areg, String>atomic(Areg.class.getDeclaredField("name"));
+
+        assertEquals("Mr Areshek", field.getAcquire(instance));
+        assertThrows(UnsupportedOperationException.class, () -> field.setVolatile(instance, "Mr. Nut"));
+        assertThrows(UnsupportedOperationException.class, () -> field.compareAndSet(instance, "Mr Areshek", ""));
+    }
+
     @AllArgsConstructor
     private static final class Areg {
         @SuppressWarnings("FieldMayBeFinal") private int icq;
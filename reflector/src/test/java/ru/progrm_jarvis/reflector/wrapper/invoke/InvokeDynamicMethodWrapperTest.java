@@ -143,4 +143,92 @@ class InvokeDynamicMethodWrapperTest {
                 .invoke(instance, val1, val2)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPrimitive4Args() throws NoSuchMethodException {
+        final long val1;
+        final double val2;
+        final char val3;
+        final boolean val4;
+        {
+            val random = ThreadLocalRandom.current();
+            val1 = random.nextLong();
+            val2 = random.nextDouble();
+            val3 = (char) random.nextInt(Character.MAX_VALUE);
+            val4 = random.nextBoolean();
+        }
+
+        final class Petya {
+            private long call(final long arg1, final double arg2, final char arg3, final boolean arg4) {
+                assertEquals(val1, arg1);
+                assertEquals(val2, arg2);
+                assertEquals(val3, arg3);
+                assertEquals(val4, arg4);
+
+                return arg1 ^ arg3;
+            }
+        }
+        val instance = new Petya();
+        val method = Petya.class.getDeclaredMethod("call", long.class, double.class, char.class, boolean.class);
+
+        assertNotNull(AsmInvokers.dynamicInvoker(method));
+        assertEquals(val1 ^ val3, InvokeDynamicMethodWrapper.from(method).invoke(instance, val1, val2, val3, val4));
+    }
+
+    @Test
+    void testPrimitiveParametersAreWidened() throws NoSuchMethodException {
+        final class Petya {
+            private double call(final long arg1, final double arg2, final int arg3, final short arg4) {
+                return arg1 + arg2 + arg3 + arg4;
+            }
+        }
+        val method = Petya.class.getDeclaredMethod("call", long.class, double.class, int.class, short.class);
+
+        assertNotNull(AsmInvokers.dynamicInvoker(method));
+        val wrapper = InvokeDynamicMethodWrapper.<Petya, Double>from(method);
+        assertEquals(10.5, wrapper.invoke(new Petya(), 1L, 2.5, 3, (short) 4));
+        assertEquals(10.0, wrapper.invoke(new Petya(), 1, 2, 'A' - 62, (byte) 4));
+        assertEquals(10.5, wrapper.invoke(new Petya(), (short) 1, 2.5F, (short) 3, (byte) 4));
+        assertThrows(ClassCastException.class, () -> wrapper.invoke(new Petya(), 1.5, 2.5, 3, (short) 4));
+        assertThrows(ClassCastException.class, () -> wrapper.invoke(new Petya(), 1L, 2.5, 3L, (short) 4));
+        assertThrows(ClassCastException.class, () -> wrapper.invoke(new Petya(), 1L, 2.5, 3, 'a'));
+        assertThrows(NullPointerException.class, () -> wrapper.invoke(new Petya(), null, 2.5, 3, (short) 4));
+    }
+
+    @Test
+    void testPublicObject3Args() throws NoSuchMethodException {
+        val wrapper = InvokeDynamicMethodWrapper.<StringBuilder, StringBuilder>from(
+                StringBuilder.class.getMethod("insert", int.class, char[].class)
+        );
+        assertEquals("abcd", wrapper.invoke(new StringBuilder("ad"), 1, new char[]{'b', 'c'}).toString());
+
+        val publicWrapper = InvokeDynamicMethodWrapper.<PublicPetya, String>from(
+                PublicPetya.class.getMethod("join", String.class, int.class, Object.class)
+        );
+        assertEquals("foo:1:bar", publicWrapper.invoke(new PublicPetya(":"), "foo", 1, "bar"));
+        assertThrows(ClassCastException.class, () -> publicWrapper.invoke(new PublicPetya(":"), 1, "foo", "bar"));
+    }
+
+    @Test
+    void testInvalidParameterCount() throws NoSuchMethodException {
+        val wrapper = InvokeDynamicMethodWrapper.<PublicPetya, String>from(
+                PublicPetya.class.getMethod("join", String.class, int.class, Object.class)
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> wrapper.invoke(new PublicPetya(":"), "foo", 1));
+        assertThrows(IllegalArgumentException.class, () -> wrapper.invoke(new PublicPetya(":"), "foo", 1, 2, 3));
+    }
+
+    public static final class PublicPetya {
+
+        private final String separator;
+
+        public PublicPetya(final String separator) {
+            this.separator = separator;
+        }
+
+        public String join(final String first, final int second, final Object third) {
+            return first + separator + second + separator + third;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AllArgsConstructor;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvokePrimitiveFieldWrappersTest {
+
+    @Test
+    void testDynamicPrimitiveFieldAccess() throws NoSuchFieldException {
+        val random = ThreadLocalRandom.current();
+
+        final int icq;
+        final long phone;
+        final double height;
+        val instance = new Areg(icq = random.nextInt(), phone = random.nextLong(), height = random.nextDouble());
+
+        val icqField = InvokeDynamicIntFieldWrapper.<Areg>from(Areg.class.getDeclaredField("icq"));
+        assertEquals(icq, icqField.getInt(instance));
+        icqField.setInt(instance, icq + 1);
+        assertEquals(icq + 1, instance.icq);
+        assertEquals(icq + 1, (int) icqField.get(instance));
+
+        val phoneField = InvokeDynamicLongFieldWrapper.<Areg>from(Areg.class.getDeclaredField("phone"));
+        assertEquals(phone, phoneField.getLong(instance));
+        phoneField.setLong(instance, phone ^ 1L);
+        assertEquals(phone ^ 1L, instance.phone);
+
+        val heightField = InvokeDynamicDoubleFieldWrapper.<Areg>from(Areg.class.getDeclaredField("height"));
+        assertEquals(height, heightField.getDouble(instance));
+        heightField.set(instance, height * 2);
+        assertEquals(height * 2, instance.height);
+
+        assertSame(icqField, InvokeDynamicIntFieldWrapper.from(Areg.class.getDeclaredField("icq")));
+    }
+
+    @Test
+    void testDynamicFinalPrimitiveFieldAccess() throws NoSuchFieldException {
+        val instance = new Areg(1, 2, 3);
+        val idField = InvokeDynamicIntFieldWrapper.<Areg>from(Areg.class.getDeclaredField("id"));
+
+        assertEquals(127, idField.getInt(instance));
+        assertDoesNotThrow(() -> idField.setInt(instance, 128));
+        assertEquals(128, idField.getInt(instance));
+    }
+
+    @Test
+    void testStaticPrimitiveFieldAccess() throws NoSuchFieldException {
+        val counterField = InvokeStaticLongFieldWrapper.<Areg>from(Areg.class.getDeclaredField("counter"));
+
+        counterField.setLong(42L);
+        assertEquals(42L, Areg.counter);
+        assertEquals(42L, counterField.getLong());
+        assertEquals(42L, (long) counterField.getAndSet(43L));
+        assertEquals(43L, counterField.getLong());
+    }
+
+    @Test
+    void testBoundPrimitiveFieldAccess() throws NoSuchFieldException {
+        val instance = new Areg(1, 2, 3);
+        val heightField = InvokeStaticDoubleFieldWrapper.from(Areg.class.getDeclaredField("height"), instance);
+
+        assertEquals(3, heightField.getDouble());
+        heightField.setDouble(4.5);
+        assertEquals(4.5, instance.height);
+    }
+
+    @Test
+    void testInvalidFieldType() {
+        assertThrows(IllegalArgumentException.class,
+                () -> InvokeDynamicLongFieldWrapper.from(Areg.class.getDeclaredField("icq"))
+        );
+        assertThrows(IllegalArgumentException.class,
+                () -> InvokeStaticIntFieldWrapper.from(Areg.class.getDeclaredField("counter"))
+        );
+    }
+
+    @Test
+    void testWrappersAreCached() throws NoSuchFieldException {
+        val instance = new Areg(1, 2, 3);
+        val height = Areg.class.getDeclaredField("height");
+        val counter = Areg.class.getDeclaredField("counter");
+
+        val heightField = InvokeStaticDoubleFieldWrapper.from(height, instance);
+        assertSame(heightField, InvokeStaticDoubleFieldWrapper.from(height, instance));
+        assertNotSame(heightField, InvokeStaticDoubleFieldWrapper.from(height, new Areg(1, 2, 3)));
+        assertSame(InvokeStaticLongFieldWrapper.from(counter), InvokeStaticLongFieldWrapper.from(counter));
+        assertSame(InvokeDynamicDoubleFieldWrapper.from(height), InvokeDynamicDoubleFieldWrapper.from(height));
+    }
+
+    @Test
+    void testInvalidFieldModifiers() {
+        assertThrows(IllegalArgumentException.class,
+                () -> InvokeDynamicLongFieldWrapper.from(Areg.class.getDeclaredField("counter"))
+        );
+        assertThrows(IllegalArgumentException.class,
+                () -> InvokeStaticLongFieldWrapper.from(Areg.class.getDeclaredField("phone"))
+        );
+        assertThrows(IllegalArgumentException.class,
+                () -> InvokeStaticLongFieldWrapper.from(Areg.class.getDeclaredField("counter"), new Areg(1, 2, 3))
+        );
+    }
+
+    @Test
+    void testGeneratedAccessors() throws NoSuchFieldException {
+        val instance = new Areg(1, 2, 3);
+
+        @SuppressWarnings("unchecked") val getter = (ToIntFunction<Object>) AsmInvokers
+                .fieldAccessor(Areg.class.getDeclaredField("icq"), false, ToIntFunction.class);
+        assertNotNull(getter);
+        @SuppressWarnings("unchecked") val setter = (ObjIntConsumer<Object>) AsmInvokers
+                .fieldAccessor(Areg.class.getDeclaredField("icq"), true, ObjIntConsumer.class);
+        assertNotNull(setter);
+
+        setter.accept(instance, 17);
+        assertEquals(17, getter.applyAsInt(instance));
+
+        assertNull(AsmInvokers.fieldAccessor(Areg.class.getDeclaredField("id"), true, ObjIntConsumer.class));
+    }
+
+    @AllArgsConstructor
+    private static final class Areg {
+        private static long counter;
+
+        @SuppressWarnings("FieldMayBeFinal") private int icq;
+        @SuppressWarnings("FieldMayBeFinal") private long phone;
+        @SuppressWarnings("FieldMayBeFinal") private double height;
+        @SuppressWarnings("FieldMayBeStatic") private final int id = 127;
+    }
+}
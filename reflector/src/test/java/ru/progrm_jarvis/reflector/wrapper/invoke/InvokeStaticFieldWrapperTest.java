@@ -12,8 +12,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.equalTo;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class InvokeStaticFieldWrapperTest {
 
@@ -153,6 +152,59 @@ class InvokeStaticFieldWrapperTest {
         assertEquals(newName, field.get());
     }
 
+    @Test
+    void testAtomicStaticFieldAccess() throws NoSuchFieldException {
+        val random = ThreadLocalRandom.current();
+
+        val icq = random.nextInt(0, Integer.MAX_VALUE / 2);
+        val field = InvokeStaticFieldWrapper.<Areg, Integer>atomic(StaticAreg.class.getDeclaredField("icq"));
+
+        field.setVolatile(icq);
+        assertEquals(icq, StaticAreg.icq);
+        assertEquals(icq, field.getAcquire());
+        assertTrue(field.compareAndSet(icq, icq + 1));
+        assertEquals(icq + 1, field.getAndAdd(1));
+        assertEquals(icq + 2, field.getOpaque());
+
+        val idField = InvokeStaticFieldWrapper.<Areg, Integer>atomic(StaticAreg.class.getDeclaredField("id"));
+        assertEquals(127, idField.getVolatile());
+        assertThrows(UnsupportedOperationException.class, () -> idField.setRelease(128));
+
+        assertSame(field, InvokeStaticFieldWrapper.atomic(StaticAreg.class.getDeclaredField("icq")));
+    }
+
+    @Test
+    void testAtomicBoundFieldAccess() throws NoSuchFieldException {
+        val instance = new Areg(1424, "Oreshek");
+        val field = InvokeStaticFieldWrapper.<Areg, String>atomic(Areg.class.getDeclaredField("nut"), instance);
+
+        assertEquals("Oreshek", field.getVolatile());
+        assertTrue(field.compareAndSet("Oreshek", "Oreshishe"));
+        assertEquals("Oreshishe", instance.nut);
+        assertEquals("Oreshishe", field.getAndSet("Oreshka"));
+        field.setRelease("Oreshek");
+        assertEquals("Oreshek", instance.nut);
+
+        assertSame(field, InvokeStaticFieldWrapper.atomic(Areg.class.getDeclaredField("nut"), instance));
+        assertNotSame(field, InvokeStaticFieldWrapper.atomic(
+                Areg.class.getDeclaredField("nut"), new Areg(1424, "Oreshek")
+        ));
+    }
+
+    @Test
+    void testAtomicAccessorsAreSharedByTargets() throws NoSuchFieldException {
+        val nut = Areg.class.getDeclaredField("nut");
+        val accessors = VarHandleAccessors.of(nut);
+
+        val first = InvokeStaticFieldWrapper.atomic(nut, new Areg(1, "Fundyk"));
+        val second = InvokeStaticFieldWrapper.atomic(nut, new Areg(2, "Keshyu"));
+        assertSame(accessors, VarHandleAccessors.of(nut));
+
+        val dynamicWrapper = InvokeDynamicFieldWrapper.atomic(nut);
+        assertSame(dynamicWrapper, ((InvokeBoundAtomicFieldWrapper<?, ?>) first).dynamicWrapper);
+        assertSame(dynamicWrapper, ((InvokeBoundAtomicFieldWrapper<?, ?>) second).dynamicWrapper);
+    }
+
     @AllArgsConstructor
     private static final class Areg {
         @SuppressWarnings("FieldMayBeFinal") private int icq;
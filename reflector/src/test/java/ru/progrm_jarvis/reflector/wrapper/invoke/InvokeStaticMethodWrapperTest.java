@@ -323,6 +323,43 @@ class InvokeStaticMethodWrapperTest {
         );
     }
 
+    @Test
+    void testStaticPrimitive4Args() throws NoSuchMethodException {
+        val wrapper = InvokeStaticMethodWrapper.<PrimitiveStaticPetya, Double>from(
+                PrimitiveStaticPetya.class.getDeclaredMethod(
+                        "call", byte.class, short.class, float.class, double.class
+                )
+        );
+
+        assertEquals(1D + 2D + 3.5D + 4.25D, wrapper.invoke((byte) 1, (short) 2, 3.5F, 4.25D));
+        assertThrows(ClassCastException.class, () -> wrapper.invoke(1, (short) 2, 3.5F, 4.25D));
+        assertThrows(IllegalArgumentException.class, () -> wrapper.invoke((byte) 1, (short) 2, 3.5F));
+    }
+
+    @Test
+    void testBoundPrimitive4Args() throws NoSuchMethodException {
+        final class Petya {
+            private int calls;
+
+            private void call(final long arg1, final int arg2, final char arg3, final boolean arg4) {
+                assertEquals(1L, arg1);
+                assertEquals(2, arg2);
+                assertEquals('3', arg3);
+                assertTrue(arg4);
+
+                calls++;
+            }
+        }
+        val instance = new Petya();
+        val wrapper = InvokeStaticMethodWrapper.<Petya, Void>from(
+                Petya.class.getDeclaredMethod("call", long.class, int.class, char.class, boolean.class), instance
+        );
+
+        assertNull(wrapper.invoke(1L, 2, '3', true));
+        assertNull(wrapper.invoke(1L, 2, '3', true));
+        assertEquals(2, instance.calls);
+    }
+
     @UtilityClass // static (everything) + final (class) + no constructor
     private class Void0StaticPetya {
 
@@ -426,4 +463,12 @@ class InvokeStaticMethodWrapperTest {
             return result;
         }
     }
-}
\ No newline at end of file
+
+    @UtilityClass // static (everything) + final (class) + no constructor
+    private class PrimitiveStaticPetya {
+
+        private double call(final byte arg1, final short arg2, final float arg3, final double arg4) {
+            return arg1 + arg2 + arg3 + arg4;
+        }
+    }
+}